@@ -0,0 +1,90 @@
+package com.softserve.config;
+
+import com.softserve.util.MonitoredTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Background work is split between bounded executors by its kind, so that a long import can not hold up
+ * sending of mails and a bulk mail dispatch can not hold up single mails. A task which does not fit into the queue
+ * is rejected, it is never run by the calling request thread.
+ * Methods annotated with {@code @Async} without the name of the executor run on the mail executor
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+@PropertySource("classpath:async.properties")
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String DISPATCH_EXECUTOR = "dispatchExecutor";
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
+    public static final String WARMUP_EXECUTOR = "warmupExecutor";
+
+    private final Environment environment;
+
+    @Autowired
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public MonitoredTaskExecutor mailExecutor() {
+        return createExecutor("mail");
+    }
+
+    @Bean(name = DISPATCH_EXECUTOR)
+    public MonitoredTaskExecutor dispatchExecutor() {
+        return createExecutor("dispatch");
+    }
+
+    @Bean(name = IMPORT_EXECUTOR)
+    public MonitoredTaskExecutor importExecutor() {
+        return createExecutor("import");
+    }
+
+    @Bean(name = EXPORT_EXECUTOR)
+    public MonitoredTaskExecutor exportExecutor() {
+        return createExecutor("export");
+    }
+
+    @Bean(name = WARMUP_EXECUTOR)
+    public MonitoredTaskExecutor warmupExecutor() {
+        return createExecutor("warmup");
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return mailExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("Error occurred in async method {} with params {}",
+                method.getName(), Arrays.toString(params), e);
+    }
+
+    private MonitoredTaskExecutor createExecutor(String name) {
+        String prefix = "async." + name + ".";
+        int threads = environment.getProperty(prefix + "threads", Integer.class, 1);
+        MonitoredTaskExecutor executor = new MonitoredTaskExecutor(name);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(Math.max(threads, environment.getProperty(prefix + "max-threads", Integer.class, threads)));
+        executor.setQueueCapacity(environment.getProperty(prefix + "queue", Integer.class, 100));
+        //queued tasks are finished before the application context is closed
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(environment.getProperty("async.shutdown.await", Integer.class, 30));
+        return executor;
+    }
+}
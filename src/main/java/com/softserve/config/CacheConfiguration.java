@@ -1,26 +1,55 @@
 package com.softserve.config;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.softserve.dto.snapshot.LessonSnapshot;
+import com.softserve.dto.snapshot.SemesterSnapshot;
+import com.softserve.util.CircuitBreaker;
+import com.softserve.util.CircuitBreakerCacheErrorHandler;
+import com.softserve.util.ResilientCacheManager;
+import com.softserve.util.SnapshotCacheManager;
+import com.softserve.util.TwoTierCacheManager;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.redisson.spring.cache.CacheConfig;
-import org.redisson.spring.cache.RedissonSpringCacheManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 @Configuration
 @EnableCaching
 @PropertySource("classpath:cache.properties")
-public class CacheConfiguration {
+public class CacheConfiguration extends CachingConfigurerSupport {
+
+    private static final String[] CACHE_NAMES = {"map", "semesterList", "lessons", "lessonsByTeacher", "lessonsByGroup",
+            "lessonsBySemester", "schedules", "semesterSchedules", "scheduleList", "markedSemesterIds"};
+
+    //the caches which keep the snapshots instead of the entities, by the type of their values
+    private static final Map<String, TypeReference<?>> SNAPSHOT_TYPES = new HashMap<>();
+
+    static {
+        TypeReference<List<LessonSnapshot>> lessons = new TypeReference<List<LessonSnapshot>>() {
+        };
+        SNAPSHOT_TYPES.put("map", new TypeReference<SemesterSnapshot>() {
+        });
+        SNAPSHOT_TYPES.put("semesterList", new TypeReference<List<SemesterSnapshot>>() {
+        });
+        SNAPSHOT_TYPES.put("lessons", lessons);
+        SNAPSHOT_TYPES.put("lessonsByTeacher", lessons);
+        SNAPSHOT_TYPES.put("lessonsByGroup", lessons);
+        SNAPSHOT_TYPES.put("lessonsBySemester", lessons);
+    }
 
     private final Environment environment;
 
@@ -32,23 +61,50 @@ public class CacheConfiguration {
     @Bean(destroyMethod="shutdown")
     RedissonClient redisson() {
         Config config = new Config();
+        //short timeouts and few retries, so a stalled Redis is noticed quickly and bypassed by the circuit breaker
         config.useSingleServer()
-                .setAddress(environment.getProperty("redis.address", String.class));
+                .setAddress(environment.getProperty("redis.address", String.class))
+                .setConnectTimeout(environment.getProperty("redis.connectTimeout", Integer.class, 1000))
+                .setTimeout(environment.getProperty("redis.timeout", Integer.class, 500))
+                .setRetryAttempts(environment.getProperty("redis.retryAttempts", Integer.class, 1))
+                .setRetryInterval(environment.getProperty("redis.retryInterval", Integer.class, 200));
         return Redisson.create(config);
     }
 
+    @Bean
+    public CircuitBreaker cacheCircuitBreaker() {
+        return new CircuitBreaker("redis",
+                environment.getProperty("cache.circuitBreaker.failureThreshold", Integer.class, 5),
+                environment.getProperty("cache.circuitBreaker.openDuration", Long.class, 30 * 1000L));
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CircuitBreakerCacheErrorHandler(cacheCircuitBreaker());
+    }
+
     @Bean
     CacheManager cacheManager(RedissonClient redissonClient) {
         Map<String, CacheConfig> config = new HashMap<>();
+        Map<String, TwoTierCacheManager.LocalCacheConfig> localConfig = new HashMap<>();
 
         Long ttl = Optional.ofNullable(environment.getProperty("ttl", Long.class)).orElse(60*60*1000L);
         Long maxIdleTime = Optional.ofNullable(environment.getProperty("maxIdleTime", Long.class)).orElse(30*60*1000L);
+        Long localTtl = environment.getProperty("local.ttl", Long.class, 60 * 1000L);
 
-        config.put("map", new CacheConfig(ttl, maxIdleTime));
-        config.put("semesterList", new CacheConfig(ttl, maxIdleTime));
-        config.put("lessons", new CacheConfig(ttl, maxIdleTime));
-        config.put("schedules", new CacheConfig(ttl, maxIdleTime));
-        config.put("semesterSchedules", new CacheConfig(ttl, maxIdleTime));
-        return new RedissonSpringCacheManager(redissonClient, config);
+        for (String name : CACHE_NAMES) {
+            CacheConfig cacheConfig = new CacheConfig(
+                    environment.getProperty("cache." + name + ".ttl", Long.class, ttl),
+                    environment.getProperty("cache." + name + ".maxIdleTime", Long.class, maxIdleTime));
+            cacheConfig.setMaxSize(environment.getProperty("cache." + name + ".maxSize", Integer.class, 0));
+            config.put(name, cacheConfig);
+            localConfig.put(name, new TwoTierCacheManager.LocalCacheConfig(
+                    environment.getProperty("cache." + name + ".local.size", Long.class, 0L),
+                    environment.getProperty("cache." + name + ".local.ttl", Long.class, localTtl)));
+        }
+        CircuitBreaker circuitBreaker = cacheCircuitBreaker();
+        CacheManager remote = new ResilientCacheManager(new SnapshotCacheManager(redissonClient, config, SNAPSHOT_TYPES),
+                circuitBreaker, new CircuitBreakerCacheErrorHandler(circuitBreaker));
+        return new TwoTierCacheManager(remote, redissonClient, localConfig, circuitBreaker);
     }
 }
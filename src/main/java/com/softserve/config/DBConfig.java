@@ -2,7 +2,9 @@ package com.softserve.config;
 
 import com.mchange.v2.c3p0.ComboPooledDataSource;
 import liquibase.integration.spring.SpringLiquibase;
+import com.softserve.util.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,11 +29,17 @@ import static org.hibernate.cfg.Environment.*;
 public class DBConfig {
     private static final String ENTITY_PACKAGE = "hibernate.entity.package";
 
+    private static final String CACHE_TTL = "hibernate.cache.ttl";
+
     private final Environment environment;
+    private final RedissonClient redissonClient;
+    private final CircuitBreaker cacheCircuitBreaker;
 
     @Autowired
-    public DBConfig(Environment environment) {
+    public DBConfig(Environment environment, RedissonClient redissonClient, CircuitBreaker cacheCircuitBreaker) {
         this.environment = environment;
+        this.redissonClient = redissonClient;
+        this.cacheCircuitBreaker = cacheCircuitBreaker;
     }
 
     @Bean
@@ -86,6 +94,8 @@ public class DBConfig {
         properties.put(SHOW_SQL, Objects.requireNonNull(environment.getProperty(SHOW_SQL)));
         properties.put(HBM2DDL_AUTO, Objects.requireNonNull(environment.getProperty(HBM2DDL_AUTO)));
         properties.put(DIALECT, Objects.requireNonNull(environment.getProperty(DIALECT)));
+        properties.put(STATEMENT_BATCH_SIZE, Objects.requireNonNull(environment.getProperty(STATEMENT_BATCH_SIZE)));
+        properties.put(ORDER_INSERTS, Objects.requireNonNull(environment.getProperty(ORDER_INSERTS)));
 
         properties.put(C3P0_MIN_SIZE, Objects.requireNonNull(environment.getProperty(C3P0_MIN_SIZE)));
         properties.put(C3P0_MAX_SIZE, Objects.requireNonNull(environment.getProperty(C3P0_MAX_SIZE)));
@@ -93,6 +103,15 @@ public class DBConfig {
         properties.put(C3P0_TIMEOUT, Objects.requireNonNull(environment.getProperty(C3P0_TIMEOUT)));
         properties.put(C3P0_MAX_STATEMENTS, Objects.requireNonNull(environment.getProperty(C3P0_MAX_STATEMENTS)));
 
+        boolean secondLevelCache = environment.getProperty(USE_SECOND_LEVEL_CACHE, Boolean.class, Boolean.FALSE);
+        properties.put(USE_SECOND_LEVEL_CACHE, secondLevelCache);
+        if (secondLevelCache) {
+            properties.put(CACHE_REGION_FACTORY, new RedissonCacheRegionFactory(redissonClient,
+                    environment.getProperty(CACHE_TTL, Long.class, 24 * 60 * 60 * 1000L), cacheCircuitBreaker));
+            properties.put(CACHE_REGION_PREFIX, Objects.requireNonNull(environment.getProperty(CACHE_REGION_PREFIX)));
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+        }
+
         sessionFactoryBean.setHibernateProperties(properties);
         sessionFactoryBean.setPackagesToScan(environment.getProperty(ENTITY_PACKAGE));
 
@@ -0,0 +1,77 @@
+package com.softserve.config;
+
+import com.softserve.util.CircuitBreaker;
+import com.softserve.util.ResilientStorageAccess;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.redisson.api.RedissonClient;
+import org.redisson.jcache.JCacheManager;
+import org.redisson.jcache.JCachingProvider;
+import org.redisson.jcache.configuration.RedissonConfiguration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.net.URI;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Region factory of the Hibernate second-level cache which keeps the regions in Redis
+ * through the Redisson client of the application, so that all instances share the same cache.
+ * The regions are guarded by the circuit breaker of the cache: while Redis is not available
+ * the entities are loaded from the database, see {@link ResilientStorageAccess}
+ */
+public class RedissonCacheRegionFactory extends JCacheRegionFactory {
+
+    private final RedissonClient redissonClient;
+    private final long ttl;
+    private final CircuitBreaker circuitBreaker;
+
+    public RedissonCacheRegionFactory(RedissonClient redissonClient, long ttl, CircuitBreaker circuitBreaker) {
+        this.redissonClient = redissonClient;
+        this.ttl = ttl;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    //the manager doesn't own the client, so closing the session factory doesn't shut the client down
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map properties) {
+        return new JCacheManager(null, getClass().getClassLoader(), new JCachingProvider(),
+                new Properties(), URI.create("hibernate-second-level-cache"));
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        MutableConfiguration<Object, Object> configuration = new MutableConfiguration<>()
+                .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, ttl)));
+        return getCacheManager().createCache(regionName, RedissonConfiguration.fromInstance(redissonClient, configuration));
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new ResilientStorageAccess(regionConfig.getRegionName(),
+                super.createDomainDataStorageAccess(regionConfig, buildingContext), circuitBreaker);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new ResilientStorageAccess(regionName,
+                super.createQueryResultsRegionStorageAccess(regionName, sessionFactory), circuitBreaker);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new ResilientStorageAccess(regionName,
+                super.createTimestampsRegionStorageAccess(regionName, sessionFactory), circuitBreaker);
+    }
+}
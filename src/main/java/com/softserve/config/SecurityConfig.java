@@ -66,8 +66,13 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private static final String SEMESTERS_ENDPOINT = "/semesters/**";
     private static final String ROOM_TYPES_ENDPOINT = "/room-types/**";
     private static final String DEPARTMENTS_ENDPOINT = "/departments/**";
+    private static final String JOBS_ENDPOINT = "/jobs/**";
+    private static final String CACHE_ENDPOINT = "/cache/**";
+    private static final String CACHE_WARM_UP_PUBLIC_ENDPOINT = "/cache/warm-up";
+    private static final String DOWNLOAD_ALL_SCHEDULES_ENDPOINT = "/download/semester-schedules-in-zip";
     //PUBLIC
     private static final String SCHEDULE_FOR_USERS_ENDPOINT = "/schedules/full/*";
+    private static final String SCHEDULE_STREAM_FOR_USERS_ENDPOINT = "/schedules/full/*/stream";
     private static final String GROUPS_BY_SEMESTER_ID_PUBLIC_ENDPOINT = "/semesters/{semesterId}/groups";
     private static final String GROUPS_FOR_CURRENT_SEMESTER_PUBLIC_ENDPOINT = "/semesters/current/groups";
     private static final String GROUPS_FOR_DEFAULT_SEMESTER_PUBLIC_ENDPOINT = "/semesters/default/groups";
@@ -110,16 +115,18 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authorizeRequests()
+                .antMatchers(DOWNLOAD_ALL_SCHEDULES_ENDPOINT).hasRole("MANAGER")
                 .antMatchers(FRONTEND_ACTIVATION_PAGE_ENDPOINT, DOWNLOAD_SCHEDULE_ENDPOINT,
-                        AUTH_ENDPOINT, SCHEDULE_FOR_USERS_ENDPOINT, GROUPS_BY_SEMESTER_ID_PUBLIC_ENDPOINT,
+                        AUTH_ENDPOINT, SCHEDULE_FOR_USERS_ENDPOINT, SCHEDULE_STREAM_FOR_USERS_ENDPOINT,
+                        GROUPS_BY_SEMESTER_ID_PUBLIC_ENDPOINT,
                         ALL_TEACHERS_PUBLIC_ENDPOINT, HOME_ENDPOINT,LOGIN_ENDPOINT,ADMIN_ENDPOINT,
                         FRONTEND_SCHEDULE_ENDPOINT, ALL_CLASSES_PUBLIC_ENDPOINT, ALL_SEMESTERS_PUBLIC_ENDPOINT,
                         GROUPS_FOR_DEFAULT_SEMESTER_PUBLIC_ENDPOINT, GROUPS_FOR_CURRENT_SEMESTER_PUBLIC_ENDPOINT,
-                        DEFAULT_SEMESTER_PUBLIC_ENDPOINT).permitAll()
+                        DEFAULT_SEMESTER_PUBLIC_ENDPOINT, CACHE_WARM_UP_PUBLIC_ENDPOINT).permitAll()
                 .antMatchers(GROUPS_BY_TEACHER_ID_ENDPOINT, GROUP_WITH_STUDENTS).hasAnyRole("MANAGER", "TEACHER")
                 .antMatchers(MANAGER_ENDPOINT, CLASSES_ENDPOINT, GROUPS_ENDPOINT, LESSONS_ENDPOINT,
                         ROOMS_ENDPOINT, SUBJECTS_ENDPOINT, TEACHERS_ENDPOINT, SEMESTERS_ENDPOINT, ROOM_TYPES_ENDPOINT,
-                        DEPARTMENTS_ENDPOINT).hasRole("MANAGER")
+                        DEPARTMENTS_ENDPOINT, JOBS_ENDPOINT, CACHE_ENDPOINT).hasRole("MANAGER")
                 .anyRequest().authenticated()
                 .and()
                 .oauth2Login()
@@ -0,0 +1,46 @@
+package com.softserve.controller;
+
+import com.softserve.dto.CacheWarmUpStatusDTO;
+import com.softserve.dto.CircuitBreakerStatsDTO;
+import com.softserve.service.CacheWarmUpService;
+import com.softserve.util.CircuitBreaker;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Api(tags = "Cache API")
+@RequestMapping("/cache")
+@Slf4j
+public class CacheController {
+
+    private final CircuitBreaker cacheCircuitBreaker;
+    private final CacheWarmUpService cacheWarmUpService;
+
+    @Autowired
+    public CacheController(CircuitBreaker cacheCircuitBreaker, CacheWarmUpService cacheWarmUpService) {
+        this.cacheCircuitBreaker = cacheCircuitBreaker;
+        this.cacheWarmUpService = cacheWarmUpService;
+    }
+
+    @GetMapping("/circuit-breaker")
+    @ApiOperation(value = "Get the state of the circuit breaker of the cache and the number of failed and bypassed calls")
+    public ResponseEntity<CircuitBreakerStatsDTO> getCircuitBreakerStats() {
+        log.info("In getCircuitBreakerStats()");
+        return ResponseEntity.status(HttpStatus.OK).body(cacheCircuitBreaker.getStats());
+    }
+
+    @GetMapping("/warm-up")
+    @ApiOperation(value = "Get the progress of the warm-up of the caches, the status is 503 until the warm-up is over")
+    public ResponseEntity<CacheWarmUpStatusDTO> getWarmUpStatus() {
+        log.info("In getWarmUpStatus()");
+        CacheWarmUpStatusDTO status = cacheWarmUpService.getStatus();
+        return ResponseEntity.status(status.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(status);
+    }
+}
@@ -3,22 +3,21 @@ package com.softserve.controller;
 import com.softserve.dto.ScheduleForGroupDTO;
 import com.softserve.dto.ScheduleForTeacherDTO;
 import com.softserve.mapper.TeacherMapper;
+import com.softserve.service.ScheduleExportService;
 import com.softserve.service.ScheduleService;
 import com.softserve.util.PdfReportGenerator;
 import io.swagger.annotations.Api;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 
@@ -30,43 +29,48 @@ import java.util.Locale;
 public class DownloadFileController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
 
     @GetMapping(value = "/schedule-for-teacher-in-pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<InputStreamResource> teacherSchedulesReport(@RequestParam Long teacherId, @RequestParam Long semesterId, @RequestParam Locale language) {
+    public void teacherSchedulesReport(@RequestParam Long teacherId, @RequestParam Long semesterId,
+                                       @RequestParam Locale language, HttpServletResponse response) throws IOException {
         ScheduleForTeacherDTO schedule = scheduleService.getScheduleForTeacher(semesterId, teacherId);
 
-        PdfReportGenerator generatePdfReport = new PdfReportGenerator();
-        ByteArrayOutputStream bis = generatePdfReport.teacherScheduleReport(schedule, language);
-
-        HttpHeaders headers = new HttpHeaders();
         String fileName = "schedule for "
                 .concat(TeacherMapper.teacherDTOToTeacherForSite(schedule.getTeacher()));
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=".concat(fileName).concat(".pdf"));
+        preparePdfResponse(response, fileName);
 
-        return ResponseEntity
-                .ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(new ByteArrayInputStream(bis.toByteArray())));
+        new PdfReportGenerator().teacherScheduleReport(schedule, language, response.getOutputStream());
+        response.flushBuffer();
     }
 
     @GetMapping(value = "/schedule-for-group-in-pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<InputStreamResource> groupSchedulesReport(@RequestParam Long groupId, @RequestParam Long semesterId, @RequestParam Locale language) {
+    public void groupSchedulesReport(@RequestParam Long groupId, @RequestParam Long semesterId,
+                                     @RequestParam Locale language, HttpServletResponse response) throws IOException {
         List<ScheduleForGroupDTO> schedules = scheduleService.getFullScheduleForGroup(semesterId, groupId);
         ScheduleForGroupDTO schedule = schedules.get(0);
-        PdfReportGenerator generatePdfReport = new PdfReportGenerator();
-        ByteArrayOutputStream bis = generatePdfReport.groupScheduleReport(schedule, language);
 
-        HttpHeaders headers = new HttpHeaders();
         String fileName = "schedule for "
                 .concat(schedule.getGroup().getTitle())
                 .concat(" group");
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=".concat(fileName).concat(".pdf"));
+        preparePdfResponse(response, fileName);
+
+        new PdfReportGenerator().groupScheduleReport(schedule, language, response.getOutputStream());
+        response.flushBuffer();
+    }
+
+    @GetMapping(value = "/semester-schedules-in-zip", produces = "application/zip")
+    public void semesterSchedulesReport(@RequestParam Long semesterId, @RequestParam Locale language,
+                                        HttpServletResponse response) throws IOException {
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=schedules.zip");
+
+        scheduleExportService.writeSemesterSchedulesToZip(semesterId, language, response.getOutputStream());
+        response.flushBuffer();
+    }
 
-        return ResponseEntity
-                .ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(new ByteArrayInputStream(bis.toByteArray())));
+    private void preparePdfResponse(HttpServletResponse response, String fileName) {
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=".concat(fileName).concat(".pdf"));
     }
 }
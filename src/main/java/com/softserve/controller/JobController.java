@@ -0,0 +1,44 @@
+package com.softserve.controller;
+
+import com.softserve.dto.ExecutorStatsDTO;
+import com.softserve.dto.JobStatusDTO;
+import com.softserve.service.JobService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Api(tags = "Background Job API")
+@RequestMapping("/jobs")
+@Slf4j
+public class JobController {
+
+    private final JobService jobService;
+
+    @Autowired
+    public JobController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    @GetMapping("/{id}")
+    @ApiOperation(value = "Get status and result of the background job")
+    public ResponseEntity<JobStatusDTO> getStatus(@PathVariable("id") String id) {
+        log.info("In getStatus(id = [{}])", id);
+        return jobService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/executors")
+    @ApiOperation(value = "Get the load of background executors")
+    public ResponseEntity<List<ExecutorStatsDTO>> getExecutorsStats() {
+        log.info("In getExecutorsStats()");
+        return ResponseEntity.status(HttpStatus.OK).body(jobService.getExecutorsStats());
+    }
+}
@@ -11,16 +11,22 @@ import io.swagger.annotations.ApiOperation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @Api(tags = "Schedule API")
@@ -40,6 +46,9 @@ public class ScheduleController {
     private final LessonsInScheduleMapper lessonsInScheduleMapper;
     private final LessonService lessonService;
     private final RoomService roomService;
+    private final GroupService groupService;
+    private final ResourceVersionService resourceVersionService;
+    private final ScheduleStreamService scheduleStreamService;
     private final ConverterToSchedulesInRoom converterToSchedulesInRoom;
 
     @Autowired
@@ -54,6 +63,9 @@ public class ScheduleController {
                               LessonService lessonService,
                               LessonsInScheduleMapper lessonsInScheduleMapper,
                               RoomService roomService,
+                              GroupService groupService,
+                              ResourceVersionService resourceVersionService,
+                              ScheduleStreamService scheduleStreamService,
                               ConverterToSchedulesInRoom converterToSchedulesInRoom) {
         this.scheduleService = scheduleService;
         this.semesterService = semesterService;
@@ -67,6 +79,9 @@ public class ScheduleController {
         this.lessonService = lessonService;
         this.lessonsInScheduleMapper = lessonsInScheduleMapper;
         this.roomService = roomService;
+        this.groupService = groupService;
+        this.resourceVersionService = resourceVersionService;
+        this.scheduleStreamService = scheduleStreamService;
         this.converterToSchedulesInRoom = converterToSchedulesInRoom;
     }
 
@@ -104,27 +119,41 @@ public class ScheduleController {
     @GetMapping("/full/groups")
     @ApiOperation(value = "Get full schedule for groupId in some semester")
     public ResponseEntity<ScheduleFullDTO> getFullScheduleForGroup(@RequestParam Long semesterId,
-                                                                   @RequestParam Long groupId) {
+                                                                   @RequestParam Long groupId,
+                                                                   WebRequest webRequest) {
         log.info("In, getFullScheduleForGroup (semesterId = [{}], groupId = [{}]) ", semesterId, groupId);
+        Optional<String> eTag = resourceVersionService.getScheduleETag(semesterId, "group:" + groupId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
         ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
         scheduleFullDTO.setSemester(semesterMapper.semesterToSemesterDTO(semesterService.getById(semesterId)));
         scheduleFullDTO.setSchedule(scheduleService.getFullScheduleForGroup(semesterId, groupId));
-        return ResponseEntity.status(HttpStatus.OK).body(scheduleFullDTO);
+        return withETag(eTag).body(scheduleFullDTO);
     }
 
     @GetMapping("/full/semester")
     @ApiOperation(value = "Get full schedule for semester")
-    public ResponseEntity<ScheduleFullDTO> getFullScheduleForSemester(@RequestParam Long semesterId) {
+    public ResponseEntity<ScheduleFullDTO> getFullScheduleForSemester(@RequestParam Long semesterId, WebRequest webRequest) {
         log.info("In, getFullScheduleForGroup (semesterId = [{}]) ", semesterId);
-        return ResponseEntity.status(HttpStatus.OK).body(scheduleService.getFullScheduleForSemester(semesterId));
+        Optional<String> eTag = resourceVersionService.getScheduleETag(semesterId, "full");
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
+        return withETag(eTag).body(scheduleService.getFullScheduleForSemester(semesterId));
     }
 
     @GetMapping("/full/teachers")
     @ApiOperation(value = "Get full schedule for teacher by semester")
     public ResponseEntity<ScheduleForTeacherDTO> getFullScheduleForTeacher(@RequestParam Long semesterId,
-                                                                           @RequestParam Long teacherId) {
+                                                                           @RequestParam Long teacherId,
+                                                                           WebRequest webRequest) {
         log.info("In, getFullScheduleForTeacher (semesterId = [{}], teacherId = [{}]) ", semesterId, teacherId);
-        return ResponseEntity.status(HttpStatus.OK).body(scheduleService.getScheduleForTeacher(semesterId, teacherId));
+        Optional<String> eTag = resourceVersionService.getScheduleETag(semesterId, "teacher:" + teacherId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
+        return withETag(eTag).body(scheduleService.getScheduleForTeacher(semesterId, teacherId));
     }
 
     @GetMapping("/full/rooms")
@@ -139,6 +168,31 @@ public class ScheduleController {
         return ResponseEntity.status(HttpStatus.OK).body(scheduleForRoomDTOS);
     }
 
+    @GetMapping(value = "/full/semester/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get full schedule for semester. The schedule of each group is written as soon as it is built")
+    public void streamFullScheduleForSemester(@RequestParam Long semesterId, WebRequest webRequest,
+                                              HttpServletResponse response) throws IOException {
+        log.info("In, streamFullScheduleForSemester (semesterId = [{}]) ", semesterId);
+        Optional<String> eTag = resourceVersionService.getScheduleETag(semesterId, "full");
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        scheduleStreamService.writeFullScheduleForSemester(semesterId, response.getOutputStream());
+        response.flushBuffer();
+    }
+
+    @GetMapping(value = "/full/rooms/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Get full schedule for semester. Returns schedule for rooms, each room is written as soon as it is built")
+    public void streamFullScheduleForRoom(@RequestParam Long semesterId, HttpServletResponse response) throws IOException {
+        log.info("In, streamFullScheduleForRoom (semesterId = [{}]) ", semesterId);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        scheduleStreamService.writeFullScheduleForRooms(semesterId, response.getOutputStream());
+        response.flushBuffer();
+    }
+
 
     @PostMapping
     @ApiOperation(value = "Create new schedules")
@@ -185,7 +239,7 @@ public class ScheduleController {
         LocalDate fromDate = LocalDate.parse(LocalDate.parse(from, formatter).toString(), currentFormatter);
         LocalDate toDate = LocalDate.parse(LocalDate.parse(to, formatter).toString(), currentFormatter);
         Teacher teacher = teacherService.findByUserId(jwtUser.getId());
-        List<ScheduleForTemporaryDateRangeDTO> dto = fullDTOForTemporaryScheduleByTeacherDateRange(scheduleService.temporaryScheduleByDateRangeForTeacher(fromDate, toDate, teacher.getId()));
+        List<ScheduleForTemporaryDateRangeDTO> dto = fullDTOForTemporaryScheduleByDateRange(scheduleService.temporaryScheduleByDateRangeForTeacher(fromDate, toDate, teacher.getId()));
         return ResponseEntity.status(HttpStatus.OK).body(dto);
     }
 
@@ -203,10 +257,36 @@ public class ScheduleController {
         teacherService.getById(teacherId);
         Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> mapSchedules = scheduleService.temporaryScheduleByDateRangeForTeacher(fromDate, toDate, teacherId);
 
-        List<ScheduleForTemporaryDateRangeDTO> dto = fullDTOForTemporaryScheduleByTeacherDateRange(mapSchedules);
+        List<ScheduleForTemporaryDateRangeDTO> dto = fullDTOForTemporaryScheduleByDateRange(mapSchedules);
         return ResponseEntity.status(HttpStatus.OK).body(dto);
     }
 
+    @GetMapping("/full/groups/date-range")
+    @ApiOperation(value = "Get full schedule for group by date range")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<List<ScheduleForTemporaryDateRangeDTO>> getScheduleByDateRangeForGroup(@RequestParam String from,
+                                                                                                 @RequestParam String to,
+                                                                                                 @RequestParam Long groupId) {
+        log.info("In getScheduleByDateRangeForGroup with from = {}, to={}, groupId = {}", from, to, groupId);
+        groupService.getById(groupId);
+        Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> mapSchedules =
+                scheduleService.temporaryScheduleByDateRangeForGroup(parseDate(from), parseDate(to), groupId);
+        return ResponseEntity.status(HttpStatus.OK).body(fullDTOForTemporaryScheduleByDateRange(mapSchedules));
+    }
+
+    @GetMapping("/full/rooms/date-range")
+    @ApiOperation(value = "Get full schedule for room by date range")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<List<ScheduleForTemporaryDateRangeDTO>> getScheduleByDateRangeForRoom(@RequestParam String from,
+                                                                                                @RequestParam String to,
+                                                                                                @RequestParam Long roomId) {
+        log.info("In getScheduleByDateRangeForRoom with from = {}, to={}, roomId = {}", from, to, roomId);
+        roomService.getById(roomId);
+        Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> mapSchedules =
+                scheduleService.temporaryScheduleByDateRangeForRoom(parseDate(from), parseDate(to), roomId);
+        return ResponseEntity.status(HttpStatus.OK).body(fullDTOForTemporaryScheduleByDateRange(mapSchedules));
+    }
+
     @DeleteMapping("/delete-schedules")
     @ApiOperation(value = "Delete all schedules by semester id")
     @PreAuthorize("hasRole('MANAGER')")
@@ -232,7 +312,12 @@ public class ScheduleController {
         return ResponseEntity.ok().body(scheduleMapper.scheduleToScheduleDTO(updateSchedule));
     }
 
-    private List<ScheduleForTemporaryDateRangeDTO> fullDTOForTemporaryScheduleByTeacherDateRange(Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> map) {
+    //parse date of the date range in dd-MM-yyyy format
+    private LocalDate parseDate(String date) {
+        return LocalDate.parse(date, DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+    }
+
+    private List<ScheduleForTemporaryDateRangeDTO> fullDTOForTemporaryScheduleByDateRange(Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> map) {
         List<ScheduleForTemporaryDateRangeDTO> fullDTO = new ArrayList<>();
 
         for (Map.Entry<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> itr : map.entrySet()) {
@@ -275,4 +360,11 @@ public class ScheduleController {
         }
         return fullDTO;
     }
+
+    //the response isn't conditional if the entity tag is not available
+    private static ResponseEntity.BodyBuilder withETag(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        eTag.ifPresent(response::eTag);
+        return response;
+    }
 }
@@ -13,6 +13,7 @@ import com.softserve.mapper.SemesterMapper;
 import com.softserve.repository.GroupRepository;
 import com.softserve.service.GroupService;
 import com.softserve.service.LessonService;
+import com.softserve.service.ResourceVersionService;
 import com.softserve.service.ScheduleService;
 import com.softserve.service.SemesterService;
 import io.swagger.annotations.Api;
@@ -23,8 +24,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @RestController
@@ -36,21 +39,30 @@ public class SemesterController {
     private final SemesterMapper semesterMapper;
     private final GroupMapper groupMapper;
     private final GroupService groupService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public SemesterController(SemesterService semesterService, SemesterMapper semesterMapper, GroupMapper groupMapper, GroupService groupService) {
+    public SemesterController(SemesterService semesterService, SemesterMapper semesterMapper, GroupMapper groupMapper, GroupService groupService,
+                              ResourceVersionService resourceVersionService) {
         this.semesterService = semesterService;
         this.semesterMapper = semesterMapper;
         this.groupMapper = groupMapper;
         this.groupService = groupService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping(path = {"/semesters", "/public/semesters"})
     @ApiOperation(value = "Get the list of all semesters")
-    public ResponseEntity<List<SemesterWithGroupsDTO>> list() {
+    public ResponseEntity<List<SemesterWithGroupsDTO>> list(WebRequest webRequest) {
         log.info("In list ()");
+        Optional<String> eTag = resourceVersionService.getETag(ResourceVersionService.SEMESTERS);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
         List<Semester> semesters = semesterService.getAll();
-        return ResponseEntity.status(HttpStatus.OK).body(semesterMapper.semestersToSemesterWithGroupsDTOs(semesters));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        eTag.ifPresent(response::eTag);
+        return response.body(semesterMapper.semestersToSemesterWithGroupsDTOs(semesters));
     }
 
     @GetMapping("/semesters/{id}")
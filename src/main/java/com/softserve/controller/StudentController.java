@@ -1,9 +1,12 @@
 package com.softserve.controller;
 
+import com.softserve.dto.JobStatusDTO;
 import com.softserve.dto.StudentDTO;
 import com.softserve.dto.StudentImportDTO;
 import com.softserve.mapper.StudentMapper;
+import com.softserve.service.JobService;
 import com.softserve.service.StudentService;
+import com.softserve.util.InMemoryMultipartFile;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -15,8 +18,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
@@ -26,11 +30,13 @@ public class StudentController {
 
     private final StudentService studentService;
     private final StudentMapper studentMapper;
+    private final JobService jobService;
 
     @Autowired
-    public StudentController(StudentService studentService, StudentMapper studentMapper) {
+    public StudentController(StudentService studentService, StudentMapper studentMapper, JobService jobService) {
         this.studentService = studentService;
         this.studentMapper = studentMapper;
+        this.jobService = jobService;
     }
 
     @GetMapping
@@ -78,7 +84,23 @@ public class StudentController {
     @ApiOperation(value = "import students from file to database")
     public ResponseEntity<List<StudentImportDTO>> importFromCsv(@ApiParam(value = "csv format is required")
             @RequestParam("file") MultipartFile file, @RequestParam Long groupId) {
-        return ResponseEntity.ok(studentService.saveFromFile(file, groupId)
-                .getNow(new ArrayList<>()));
+        log.info("Enter into importFromCsv of StudentController with groupId {}", groupId);
+        try {
+            return ResponseEntity.ok(studentService.saveFromFile(file, groupId).join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @PostMapping("/import/job")
+    @ApiOperation(value = "import students from file to database in background, the result is got by id of the job")
+    public ResponseEntity<JobStatusDTO> importFromCsvInBackground(@ApiParam(value = "csv format is required")
+            @RequestParam("file") MultipartFile file, @RequestParam Long groupId) throws IOException {
+        log.info("Enter into importFromCsvInBackground of StudentController with groupId {}", groupId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(jobService.track("students import", studentService.saveFromFile(new InMemoryMultipartFile(file), groupId)));
     }
 }
@@ -1,10 +1,13 @@
 package com.softserve.controller;
 
+import com.softserve.dto.MailDispatchStatusDTO;
 import com.softserve.dto.TeacherDTO;
 import com.softserve.dto.TeacherForUpdateDTO;
 import com.softserve.dto.TeacherImportDTO;
 import com.softserve.entity.Teacher;
 import com.softserve.mapper.TeacherMapper;
+import com.softserve.service.MailDispatchService;
+import com.softserve.service.ResourceVersionService;
 import com.softserve.service.ScheduleService;
 import com.softserve.service.TeacherService;
 import io.swagger.annotations.Api;
@@ -22,11 +25,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 @RestController
 @Api(tags = "Teacher API")
@@ -35,19 +40,30 @@ public class TeacherController {
     private final TeacherService teacherService;
     private final TeacherMapper teacherMapper;
     private final ScheduleService scheduleService;
+    private final MailDispatchService mailDispatchService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public TeacherController(TeacherService teacherService, TeacherMapper teacherMapper, ScheduleService scheduleService) {
+    public TeacherController(TeacherService teacherService, TeacherMapper teacherMapper, ScheduleService scheduleService,
+                             MailDispatchService mailDispatchService, ResourceVersionService resourceVersionService) {
         this.teacherService = teacherService;
         this.teacherMapper = teacherMapper;
         this.scheduleService = scheduleService;
+        this.mailDispatchService = mailDispatchService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @GetMapping(path = {"/teachers", "/public/teachers"})
     @ApiOperation(value = "Get the list of all teachers")
-    public ResponseEntity<List<TeacherDTO>> getAll() {
+    public ResponseEntity<List<TeacherDTO>> getAll(WebRequest webRequest) {
         log.info("Enter into list method");
-        return ResponseEntity.ok(teacherMapper.teachersToTeacherDTOs(teacherService.getAll()));
+        Optional<String> eTag = resourceVersionService.getETag(ResourceVersionService.TEACHERS);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(teacherMapper.teachersToTeacherDTOs(teacherService.getAll()));
     }
 
     @GetMapping("/teachers/{id}")
@@ -99,10 +115,18 @@ public class TeacherController {
 
     @GetMapping("/send-pdf-to-email/semester/{id}")
     @ApiOperation(value = "Send pdf with schedule to teachers emails")
-    public ResponseEntity sendSchedulesToEmail(@PathVariable("id") Long semesterId, @RequestParam Long[] teachersId, @RequestParam Locale language) {
+    public ResponseEntity<MailDispatchStatusDTO> sendSchedulesToEmail(@PathVariable("id") Long semesterId, @RequestParam Long[] teachersId, @RequestParam Locale language) {
         log.info("Enter into sendPDFToEmail method with teachers id: {} and semester id: {}", teachersId, semesterId);
-        scheduleService.sendScheduleToTeachers(semesterId, teachersId, language);
-        return ResponseEntity.status(HttpStatus.OK).build();
+        return ResponseEntity.status(HttpStatus.OK).body(scheduleService.sendScheduleToTeachers(semesterId, teachersId, language));
+    }
+
+    @GetMapping("/send-pdf-to-email/status/{id}")
+    @ApiOperation(value = "Get status of sending pdf with schedule to teachers emails")
+    public ResponseEntity<MailDispatchStatusDTO> getSendSchedulesStatus(@PathVariable("id") String id) {
+        log.info("Enter into getSendSchedulesStatus method with id: {}", id);
+        return mailDispatchService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PostMapping("/teachers/import")
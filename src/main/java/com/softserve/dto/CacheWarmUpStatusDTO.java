@@ -0,0 +1,19 @@
+package com.softserve.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class CacheWarmUpStatusDTO {
+    private String state;
+    private boolean ready;
+    private int totalTasks;
+    private int completedTasks;
+    private int failedTasks;
+    private int skippedTasks;
+    private long durationMillis;
+}
@@ -0,0 +1,18 @@
+package com.softserve.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class CircuitBreakerStatsDTO {
+    private String name;
+    private String state;
+    private int consecutiveFailures;
+    private long failures;
+    private long bypassedCalls;
+    private long timesOpened;
+}
@@ -0,0 +1,19 @@
+package com.softserve.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class ExecutorStatsDTO {
+    private String name;
+    private int poolSize;
+    private int activeCount;
+    private int queueSize;
+    private int queueCapacity;
+    private long completedTasks;
+    private long rejectedTasks;
+}
@@ -0,0 +1,18 @@
+package com.softserve.dto;
+
+import com.softserve.dto.enums.JobStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class JobStatusDTO {
+    private String id;
+    private String name;
+    private JobStatus status;
+    private Object result;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.softserve.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class MailDispatchStatusDTO {
+    private String id;
+    private List<MailRecipientStatusDTO> recipients;
+}
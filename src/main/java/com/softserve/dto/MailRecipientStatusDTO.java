@@ -0,0 +1,17 @@
+package com.softserve.dto;
+
+import com.softserve.dto.enums.MailStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class MailRecipientStatusDTO {
+    private String receiver;
+    private MailStatus status;
+    private int attempts;
+    private String error;
+}
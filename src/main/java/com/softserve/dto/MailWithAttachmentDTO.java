@@ -0,0 +1,20 @@
+package com.softserve.dto;
+
+import lombok.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Supplier;
+
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class MailWithAttachmentDTO {
+    private String receiver;
+    private String subject;
+    private String text;
+    private String fileName;
+    //the attachment is created by the worker which sends the mail
+    private Supplier<ByteArrayOutputStream> attachment;
+}
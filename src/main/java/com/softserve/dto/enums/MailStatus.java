@@ -0,0 +1,5 @@
+package com.softserve.dto.enums;
+
+public enum MailStatus {
+    QUEUED, SENDING, RETRYING, SENT, FAILED
+}
@@ -0,0 +1,49 @@
+package com.softserve.dto.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.softserve.entity.Group;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable cached form of the Group, the students of the group are not cached
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "title", "disable", "sortingOrder"})
+public final class GroupSnapshot {
+    private final Long id;
+    private final String title;
+    private final boolean disable;
+    private final Integer sortingOrder;
+
+    @JsonCreator
+    public GroupSnapshot(@JsonProperty("id") Long id,
+                         @JsonProperty("title") String title,
+                         @JsonProperty("disable") boolean disable,
+                         @JsonProperty("sortingOrder") Integer sortingOrder) {
+        this.id = id;
+        this.title = title;
+        this.disable = disable;
+        this.sortingOrder = sortingOrder;
+    }
+
+    public static GroupSnapshot of(Group group) {
+        return new GroupSnapshot(group.getId(), group.getTitle(), group.isDisable(), group.getSortingOrder());
+    }
+
+    public Group toGroup() {
+        return Group.builder()
+                .id(id)
+                .title(title)
+                .disable(disable)
+                .sortingOrder(sortingOrder)
+                .build();
+    }
+}
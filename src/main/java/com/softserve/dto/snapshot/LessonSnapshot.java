@@ -0,0 +1,112 @@
+package com.softserve.dto.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.softserve.entity.Lesson;
+import com.softserve.entity.Semester;
+import com.softserve.entity.enums.LessonType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable cached form of the Lesson. Only the id of the semester is kept,
+ * the semester is cached on its own and is resolved when the lesson is restored
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "hours", "linkToMeeting", "subjectForSite", "lessonType", "grouped",
+        "teacher", "subject", "group", "semesterId"})
+public final class LessonSnapshot {
+    private final Long id;
+    private final int hours;
+    private final String linkToMeeting;
+    private final String subjectForSite;
+    private final LessonType lessonType;
+    private final boolean grouped;
+    private final TeacherSnapshot teacher;
+    private final SubjectSnapshot subject;
+    private final GroupSnapshot group;
+    private final Long semesterId;
+
+    @JsonCreator
+    public LessonSnapshot(@JsonProperty("id") Long id,
+                          @JsonProperty("hours") int hours,
+                          @JsonProperty("linkToMeeting") String linkToMeeting,
+                          @JsonProperty("subjectForSite") String subjectForSite,
+                          @JsonProperty("lessonType") LessonType lessonType,
+                          @JsonProperty("grouped") boolean grouped,
+                          @JsonProperty("teacher") TeacherSnapshot teacher,
+                          @JsonProperty("subject") SubjectSnapshot subject,
+                          @JsonProperty("group") GroupSnapshot group,
+                          @JsonProperty("semesterId") Long semesterId) {
+        this.id = id;
+        this.hours = hours;
+        this.linkToMeeting = linkToMeeting;
+        this.subjectForSite = subjectForSite;
+        this.lessonType = lessonType;
+        this.grouped = grouped;
+        this.teacher = teacher;
+        this.subject = subject;
+        this.group = group;
+        this.semesterId = semesterId;
+    }
+
+    public static LessonSnapshot of(Lesson lesson) {
+        return new LessonSnapshot(lesson.getId(), lesson.getHours(), lesson.getLinkToMeeting(),
+                lesson.getSubjectForSite(), lesson.getLessonType(), lesson.isGrouped(),
+                lesson.getTeacher() == null ? null : TeacherSnapshot.of(lesson.getTeacher()),
+                lesson.getSubject() == null ? null : SubjectSnapshot.of(lesson.getSubject()),
+                lesson.getGroup() == null ? null : GroupSnapshot.of(lesson.getGroup()),
+                lesson.getSemester() == null ? null : lesson.getSemester().getId());
+    }
+
+    public static List<LessonSnapshot> of(List<Lesson> lessons) {
+        return lessons.stream().map(LessonSnapshot::of).collect(Collectors.toList());
+    }
+
+    /**
+     * Method creates new detached Lesson from the snapshot
+     *
+     * @param semesters resolves the semester of the lesson by its id
+     * @return Lesson entity
+     */
+    public Lesson toLesson(Function<Long, Semester> semesters) {
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setHours(hours);
+        lesson.setLinkToMeeting(linkToMeeting);
+        lesson.setSubjectForSite(subjectForSite);
+        lesson.setLessonType(lessonType);
+        lesson.setGrouped(grouped);
+        lesson.setTeacher(teacher == null ? null : teacher.toTeacher());
+        lesson.setSubject(subject == null ? null : subject.toSubject());
+        lesson.setGroup(group == null ? null : group.toGroup());
+        lesson.setSemester(semesterId == null ? null : semesters.apply(semesterId));
+        return lesson;
+    }
+
+    /**
+     * Method restores the lessons, the semester of the lessons is resolved once per semester
+     *
+     * @param snapshots cached lessons
+     * @param semesters resolves the semester of the lessons by its id
+     * @return List of Lesson entities
+     */
+    public static List<Lesson> toLessons(List<LessonSnapshot> snapshots, Function<Long, Semester> semesters) {
+        Map<Long, Semester> resolved = new HashMap<>();
+        return snapshots.stream()
+                .map(snapshot -> snapshot.toLesson(semesterId -> resolved.computeIfAbsent(semesterId, semesters)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,46 @@
+package com.softserve.dto.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.softserve.entity.Period;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalTime;
+
+/**
+ * Immutable cached form of the Period
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "name", "startTime", "endTime"})
+public final class PeriodSnapshot {
+    private final Long id;
+    private final String name;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    @JsonCreator
+    public PeriodSnapshot(@JsonProperty("id") Long id,
+                          @JsonProperty("name") String name,
+                          @JsonProperty("startTime") LocalTime startTime,
+                          @JsonProperty("endTime") LocalTime endTime) {
+        this.id = id;
+        this.name = name;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static PeriodSnapshot of(Period period) {
+        return new PeriodSnapshot(period.getId(), period.getName(), period.getStartTime(), period.getEndTime());
+    }
+
+    public Period toPeriod() {
+        return new Period(id, startTime, endTime, name);
+    }
+}
@@ -0,0 +1,121 @@
+package com.softserve.dto.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.softserve.entity.Semester;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable cached form of the Semester with its days, periods and groups.
+ * The periods and groups are kept in the order in which they were loaded.
+ * Collections which were not initialized by Hibernate are cached as null and restored as null
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "description", "year", "startDay", "endDay", "currentSemester", "defaultSemester", "disable",
+        "daysOfWeek", "periods", "groups"})
+public final class SemesterSnapshot {
+    private final Long id;
+    private final String description;
+    private final int year;
+    private final LocalDate startDay;
+    private final LocalDate endDay;
+    private final boolean currentSemester;
+    private final boolean defaultSemester;
+    private final boolean disable;
+    private final List<DayOfWeek> daysOfWeek;
+    private final List<PeriodSnapshot> periods;
+    private final List<GroupSnapshot> groups;
+
+    @JsonCreator
+    public SemesterSnapshot(@JsonProperty("id") Long id,
+                            @JsonProperty("description") String description,
+                            @JsonProperty("year") int year,
+                            @JsonProperty("startDay") LocalDate startDay,
+                            @JsonProperty("endDay") LocalDate endDay,
+                            @JsonProperty("currentSemester") boolean currentSemester,
+                            @JsonProperty("defaultSemester") boolean defaultSemester,
+                            @JsonProperty("disable") boolean disable,
+                            @JsonProperty("daysOfWeek") List<DayOfWeek> daysOfWeek,
+                            @JsonProperty("periods") List<PeriodSnapshot> periods,
+                            @JsonProperty("groups") List<GroupSnapshot> groups) {
+        this.id = id;
+        this.description = description;
+        this.year = year;
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.currentSemester = currentSemester;
+        this.defaultSemester = defaultSemester;
+        this.disable = disable;
+        this.daysOfWeek = unmodifiable(daysOfWeek);
+        this.periods = unmodifiable(periods);
+        this.groups = unmodifiable(groups);
+    }
+
+    public static SemesterSnapshot of(Semester semester) {
+        return new SemesterSnapshot(semester.getId(), semester.getDescription(), semester.getYear(),
+                semester.getStartDay(), semester.getEndDay(), semester.isCurrentSemester(),
+                semester.isDefaultSemester(), semester.isDisable(),
+                map(semester.getDaysOfWeek(), Function.identity()),
+                map(semester.getPeriods(), PeriodSnapshot::of),
+                map(semester.getGroups(), GroupSnapshot::of));
+    }
+
+    public static List<SemesterSnapshot> of(List<Semester> semesters) {
+        return semesters.stream().map(SemesterSnapshot::of).collect(Collectors.toList());
+    }
+
+    /**
+     * Method creates new detached Semester from the snapshot, so the caller is free to change it
+     *
+     * @return Semester entity
+     */
+    public Semester toSemester() {
+        Semester semester = new Semester();
+        semester.setId(id);
+        semester.setDescription(description);
+        semester.setYear(year);
+        semester.setStartDay(startDay);
+        semester.setEndDay(endDay);
+        semester.setCurrentSemester(currentSemester);
+        semester.setDefaultSemester(defaultSemester);
+        semester.setDisable(disable);
+        semester.setDaysOfWeek(restore(daysOfWeek, Function.identity()));
+        semester.setPeriods(restore(periods, PeriodSnapshot::toPeriod));
+        semester.setGroups(restore(groups, GroupSnapshot::toGroup));
+        return semester;
+    }
+
+    public static List<Semester> toSemesters(List<SemesterSnapshot> snapshots) {
+        return snapshots.stream().map(SemesterSnapshot::toSemester).collect(Collectors.toList());
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    //lazy collections which were not loaded are not touched, so the snapshot can be taken outside of the session
+    private static <E, S> List<S> map(Collection<E> collection, Function<E, S> mapper) {
+        if (collection == null || !Hibernate.isInitialized(collection)) {
+            return null;
+        }
+        return collection.stream().map(mapper).collect(Collectors.toList());
+    }
+
+    private static <S, E> Set<E> restore(List<S> list, Function<S, E> mapper) {
+        return list == null ? null : list.stream().map(mapper).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,45 @@
+package com.softserve.dto.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.softserve.entity.Subject;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable cached form of the Subject
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "name", "disable"})
+public final class SubjectSnapshot {
+    private final Long id;
+    private final String name;
+    private final boolean disable;
+
+    @JsonCreator
+    public SubjectSnapshot(@JsonProperty("id") Long id,
+                           @JsonProperty("name") String name,
+                           @JsonProperty("disable") boolean disable) {
+        this.id = id;
+        this.name = name;
+        this.disable = disable;
+    }
+
+    public static SubjectSnapshot of(Subject subject) {
+        return new SubjectSnapshot(subject.getId(), subject.getName(), subject.isDisable());
+    }
+
+    public Subject toSubject() {
+        Subject subject = new Subject();
+        subject.setId(id);
+        subject.setName(name);
+        subject.setDisable(disable);
+        return subject;
+    }
+}
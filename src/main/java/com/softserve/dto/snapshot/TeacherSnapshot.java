@@ -0,0 +1,80 @@
+package com.softserve.dto.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.softserve.entity.Department;
+import com.softserve.entity.Teacher;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable cached form of the Teacher, the department is flattened into the snapshot
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"id", "name", "surname", "patronymic", "position", "userId", "disable",
+        "departmentId", "departmentName", "departmentDisable"})
+public final class TeacherSnapshot {
+    private final Long id;
+    private final String name;
+    private final String surname;
+    private final String patronymic;
+    private final String position;
+    private final Long userId;
+    private final boolean disable;
+    private final Long departmentId;
+    private final String departmentName;
+    private final boolean departmentDisable;
+
+    @JsonCreator
+    public TeacherSnapshot(@JsonProperty("id") Long id,
+                           @JsonProperty("name") String name,
+                           @JsonProperty("surname") String surname,
+                           @JsonProperty("patronymic") String patronymic,
+                           @JsonProperty("position") String position,
+                           @JsonProperty("userId") Long userId,
+                           @JsonProperty("disable") boolean disable,
+                           @JsonProperty("departmentId") Long departmentId,
+                           @JsonProperty("departmentName") String departmentName,
+                           @JsonProperty("departmentDisable") boolean departmentDisable) {
+        this.id = id;
+        this.name = name;
+        this.surname = surname;
+        this.patronymic = patronymic;
+        this.position = position;
+        this.userId = userId;
+        this.disable = disable;
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.departmentDisable = departmentDisable;
+    }
+
+    public static TeacherSnapshot of(Teacher teacher) {
+        Department department = teacher.getDepartment();
+        return new TeacherSnapshot(teacher.getId(), teacher.getName(), teacher.getSurname(), teacher.getPatronymic(),
+                teacher.getPosition(), teacher.getUserId(), teacher.isDisable(),
+                department == null ? null : department.getId(),
+                department == null ? null : department.getName(),
+                department != null && department.isDisable());
+    }
+
+    public Teacher toTeacher() {
+        Teacher teacher = new Teacher();
+        teacher.setId(id);
+        teacher.setName(name);
+        teacher.setSurname(surname);
+        teacher.setPatronymic(patronymic);
+        teacher.setPosition(position);
+        teacher.setUserId(userId);
+        teacher.setDisable(disable);
+        if (departmentId != null) {
+            teacher.setDepartment(new Department(departmentId, departmentName, departmentDisable));
+        }
+        return teacher;
+    }
+}
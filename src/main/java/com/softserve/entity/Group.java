@@ -2,6 +2,8 @@ package com.softserve.entity;
 
 import com.opencsv.bean.CsvBindByName;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.OrderBy;
@@ -27,6 +29,7 @@ import java.util.List;
 @Setter
 @Entity
 @Table(name = "groups")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Builder(toBuilder = true)
 @FilterDef(name="groupDisableFilter", parameters={
         @ParamDef( name="disable", type="boolean" ),
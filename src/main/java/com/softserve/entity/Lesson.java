@@ -17,10 +17,14 @@ import java.io.Serializable;
 @NoArgsConstructor
 @ToString
 @Entity
-@Table(name = "lessons")
+@Table(name = "lessons", indexes = {
+        @Index(name = "idx_lessons_semester_group", columnList = "semester_id, group_id"),
+        @Index(name = "idx_lessons_semester_teacher", columnList = "semester_id, teacher_id")
+})
 public class Lesson implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lessons_id_seq")
+    @SequenceGenerator(name = "lessons_id_seq", sequenceName = "lessons_id_seq", allocationSize = 50)
     private Long id;
 
     @Min(1)
@@ -1,6 +1,8 @@
 package com.softserve.entity;
 import lombok.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -20,6 +22,7 @@ import java.util.Objects;
 @ToString
 @Entity
 @Table(name = "periods")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Period implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
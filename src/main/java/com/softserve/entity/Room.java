@@ -3,6 +3,8 @@ package com.softserve.entity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.Filters;
@@ -19,6 +21,7 @@ import java.io.Serializable;
 @Getter
 @Entity
 @Table(name = "rooms")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 
 @FilterDef(name = "roomDisableFilter", parameters = {
         @ParamDef(name = "disable", type = "boolean"),
@@ -2,6 +2,8 @@ package com.softserve.entity;
 
 import lombok.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -14,6 +16,7 @@ import java.io.Serializable;
 @Setter
 @Entity
 @Table(name = "room_types")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class RoomType implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -16,10 +16,15 @@ import java.time.DayOfWeek;
 @AllArgsConstructor
 @ToString
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        @Index(name = "idx_schedules_period_day_evenodd", columnList = "period_id, day_of_week, evenOdd"),
+        @Index(name = "idx_schedules_lesson_day", columnList = "lesson_id, day_of_week"),
+        @Index(name = "idx_schedules_room_day_period", columnList = "room_id, day_of_week, period_id")
+})
 public class Schedule implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedules_id_seq")
+    @SequenceGenerator(name = "schedules_id_seq", sequenceName = "schedules_id_seq", allocationSize = 50)
     private Long id;
 
 
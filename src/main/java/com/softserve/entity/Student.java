@@ -18,7 +18,8 @@ import java.io.Serializable;
 @Table(name = "students")
 public class Student implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_seq")
+    @SequenceGenerator(name = "students_id_seq", sequenceName = "students_id_seq", allocationSize = 50)
     private Long id;
 
     @NotEmpty(message = "Name cannot be empty")
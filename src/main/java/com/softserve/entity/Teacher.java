@@ -3,6 +3,8 @@ package com.softserve.entity;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
@@ -17,6 +19,7 @@ import java.io.Serializable;
 @ToString
 @Entity
 @Table(name = "teachers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @FilterDef(name = "teachersDisableFilter", parameters = {
         @ParamDef(name = "disable", type = "boolean"),
 })
@@ -17,10 +17,14 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @ToString
 @Entity
-@Table(name = "temporary_schedule")
+@Table(name = "temporary_schedule", indexes = {
+        @Index(name = "idx_temporary_schedule_semester_date", columnList = "semester_id, date"),
+        @Index(name = "idx_temporary_schedule_teacher_date", columnList = "teacher_id, date")
+})
 public class TemporarySchedule implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "temporary_schedule_id_seq")
+    @SequenceGenerator(name = "temporary_schedule_id_seq", sequenceName = "temporary_schedule_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Schedule date cannot be empty")
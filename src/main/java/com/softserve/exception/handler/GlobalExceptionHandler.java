@@ -26,6 +26,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -257,6 +258,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildResponseEntity(apiError);
     }
 
+    //Handles RejectedExecutionException. Triggered when the queue of a background executor is full.
+    @ExceptionHandler(RejectedExecutionException.class)
+    protected ResponseEntity<Object> handleRejectedExecutionException(RejectedExecutionException ex) {
+        ApiError apiError = new ApiError(SERVICE_UNAVAILABLE);
+        apiError.setMessage("Server is busy, please try again later");
+        apiError.setDebugMessage(ex.getMessage());
+        log.error(ex.getMessage());
+        return buildResponseEntity(apiError);
+    }
+
     // Handle Exception in case, other handlers dod not handle it
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<Object> handleOtherExceptions(Exception ex) {
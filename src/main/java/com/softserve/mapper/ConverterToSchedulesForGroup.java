@@ -0,0 +1,143 @@
+package com.softserve.mapper;
+
+import com.softserve.dto.*;
+import com.softserve.entity.*;
+import com.softserve.entity.enums.EvenOdd;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+public class ConverterToSchedulesForGroup {
+
+    private static final Comparator<Group> GROUP_ORDER = Comparator
+            .comparing(Group::getSortingOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Group::getId);
+
+    private final GroupMapper groupMapper;
+    private final PeriodMapper periodMapper;
+    private final LessonsInScheduleMapper lessonsInScheduleMapper;
+    private final RoomForScheduleMapper roomForScheduleMapper;
+
+    public ConverterToSchedulesForGroup(GroupMapper groupMapper, PeriodMapper periodMapper,
+                                        LessonsInScheduleMapper lessonsInScheduleMapper,
+                                        RoomForScheduleMapper roomForScheduleMapper) {
+        this.groupMapper = groupMapper;
+        this.periodMapper = periodMapper;
+        this.lessonsInScheduleMapper = lessonsInScheduleMapper;
+        this.roomForScheduleMapper = roomForScheduleMapper;
+    }
+
+    /**
+     * Method builds schedules of the groups only with days and periods in which groups have classes
+     *
+     * @param schedules list of schedules of the semester
+     * @return list of schedules for groups ordered by group sorting order
+     */
+    public List<ScheduleForGroupDTO> getWithClassesOnly(List<Schedule> schedules) {
+        List<ScheduleForGroupDTO> scheduleForGroupDTOS = new ArrayList<>();
+        for (var groupSchedules : groupByGroup(schedules).entrySet()) {
+            Map<DayOfWeek, List<Schedule>> daySchedules = groupSchedules.getValue().stream()
+                    .collect(Collectors.groupingBy(Schedule::getDayOfWeek, TreeMap::new, Collectors.toList()));
+            List<DaysOfWeekWithClassesForGroupDTO> days = new ArrayList<>();
+            for (var daySchedule : daySchedules.entrySet()) {
+                Map<Period, List<Schedule>> periodSchedules = daySchedule.getValue().stream()
+                        .collect(Collectors.groupingBy(Schedule::getPeriod));
+                List<Period> periods = periodSchedules.keySet().stream()
+                        .sorted(Comparator.comparing(Period::getStartTime))
+                        .collect(Collectors.toList());
+                days.add(getDay(daySchedule.getKey(), periods, periodSchedules));
+            }
+            scheduleForGroupDTOS.add(getScheduleForGroup(groupSchedules.getKey(), days));
+        }
+        return scheduleForGroupDTOS;
+    }
+
+    /**
+     * Method builds schedules of the groups with all days and periods of the semester
+     *
+     * @param semester  semester of the schedules
+     * @param schedules list of schedules of the semester
+     * @return list of schedules for groups ordered by group sorting order
+     */
+    public List<ScheduleForGroupDTO> getBySemester(Semester semester, List<Schedule> schedules) {
+        List<ScheduleForGroupDTO> scheduleForGroupDTOS = new ArrayList<>();
+        forEachBySemester(semester, schedules, scheduleForGroupDTOS::add);
+        return scheduleForGroupDTOS;
+    }
+
+    /**
+     * Method builds schedules of the groups with all days and periods of the semester one by one
+     * and passes each of them to the consumer as soon as it is built
+     *
+     * @param semester  semester of the schedules
+     * @param schedules list of schedules of the semester
+     * @param consumer  consumer of the schedules, it is called in the group sorting order
+     */
+    public void forEachBySemester(Semester semester, List<Schedule> schedules, Consumer<ScheduleForGroupDTO> consumer) {
+        Set<DayOfWeek> semesterDays = new TreeSet<>(semester.getDaysOfWeek());
+        for (var groupSchedules : groupByGroup(schedules).entrySet()) {
+            Map<DayOfWeek, List<Schedule>> daySchedules = groupSchedules.getValue().stream()
+                    .collect(Collectors.groupingBy(Schedule::getDayOfWeek));
+            List<DaysOfWeekWithClassesForGroupDTO> days = new ArrayList<>();
+            for (var day : semesterDays) {
+                Map<Period, List<Schedule>> periodSchedules = daySchedules.getOrDefault(day, Collections.emptyList())
+                        .stream()
+                        .collect(Collectors.groupingBy(Schedule::getPeriod));
+                days.add(getDay(day, semester.getPeriods(), periodSchedules));
+            }
+            consumer.accept(getScheduleForGroup(groupSchedules.getKey(), days));
+        }
+    }
+
+    private Map<Group, List<Schedule>> groupByGroup(List<Schedule> schedules) {
+        return schedules.stream()
+                .collect(Collectors.groupingBy(s -> s.getLesson().getGroup(),
+                        () -> new TreeMap<>(GROUP_ORDER), Collectors.toList()));
+    }
+
+    private ScheduleForGroupDTO getScheduleForGroup(Group group, List<DaysOfWeekWithClassesForGroupDTO> days) {
+        ScheduleForGroupDTO scheduleForGroupDTO = new ScheduleForGroupDTO();
+        scheduleForGroupDTO.setGroup(groupMapper.groupToGroupDTO(group));
+        scheduleForGroupDTO.setDays(days);
+        return scheduleForGroupDTO;
+    }
+
+    private DaysOfWeekWithClassesForGroupDTO getDay(DayOfWeek day, Collection<Period> periods,
+                                                    Map<Period, List<Schedule>> periodSchedules) {
+        List<ClassesInScheduleForGroupDTO> classes = new ArrayList<>();
+        for (var period : periods) {
+            ClassesInScheduleForGroupDTO classesInScheduleForGroupDTO = new ClassesInScheduleForGroupDTO();
+            classesInScheduleForGroupDTO.setPeriod(periodMapper.convertToDto(period));
+            classesInScheduleForGroupDTO.setWeeks(
+                    getWeeks(periodSchedules.getOrDefault(period, Collections.emptyList())));
+            classes.add(classesInScheduleForGroupDTO);
+        }
+        DaysOfWeekWithClassesForGroupDTO daysOfWeekWithClassesForGroupDTO = new DaysOfWeekWithClassesForGroupDTO();
+        daysOfWeekWithClassesForGroupDTO.setDay(day);
+        daysOfWeekWithClassesForGroupDTO.setClasses(classes);
+        return daysOfWeekWithClassesForGroupDTO;
+    }
+
+    private LessonInScheduleByWeekDTO getWeeks(List<Schedule> schedules) {
+        LessonInScheduleByWeekDTO lessonInScheduleByWeekDTO = new LessonInScheduleByWeekDTO();
+        for (var schedule : schedules) {
+            if (schedule.getEvenOdd() != EvenOdd.ODD) {
+                lessonInScheduleByWeekDTO.setEven(getLesson(schedule));
+            }
+            if (schedule.getEvenOdd() != EvenOdd.EVEN) {
+                lessonInScheduleByWeekDTO.setOdd(getLesson(schedule));
+            }
+        }
+        return lessonInScheduleByWeekDTO;
+    }
+
+    private LessonsInScheduleDTO getLesson(Schedule schedule) {
+        LessonsInScheduleDTO lessonsInScheduleDTO = lessonsInScheduleMapper.lessonToLessonsInScheduleDTO(schedule.getLesson());
+        lessonsInScheduleDTO.setRoom(roomForScheduleMapper.roomToRoomForScheduleDTO(schedule.getRoom()));
+        return lessonsInScheduleDTO;
+    }
+}
@@ -0,0 +1,81 @@
+package com.softserve.mapper;
+
+import com.softserve.dto.*;
+import com.softserve.entity.Lesson;
+import com.softserve.entity.Period;
+import com.softserve.entity.Schedule;
+import com.softserve.entity.enums.EvenOdd;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+public class ConverterToSchedulesForTeacher {
+
+    private static final Comparator<Period> PERIOD_ORDER = Comparator
+            .comparing(Period::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Period::getId);
+
+    private final PeriodMapper periodMapper;
+    private final LessonForTeacherScheduleMapper lessonForTeacherScheduleMapper;
+
+    public ConverterToSchedulesForTeacher(PeriodMapper periodMapper,
+                                          LessonForTeacherScheduleMapper lessonForTeacherScheduleMapper) {
+        this.periodMapper = periodMapper;
+        this.lessonForTeacherScheduleMapper = lessonForTeacherScheduleMapper;
+    }
+
+    /**
+     * Method builds days of the teacher schedule only with days and periods in which the teacher has classes
+     *
+     * @param schedules list of schedules of the teacher in the semester
+     * @return list of days ordered by day of week, each with classes of even and odd weeks
+     */
+    public List<DaysOfWeekWithClassesForTeacherDTO> getDays(List<Schedule> schedules) {
+        Map<DayOfWeek, List<Schedule>> daySchedules = schedules.stream()
+                .collect(Collectors.groupingBy(Schedule::getDayOfWeek, TreeMap::new, Collectors.toList()));
+        List<DaysOfWeekWithClassesForTeacherDTO> days = new ArrayList<>();
+        for (var daySchedule : daySchedules.entrySet()) {
+            DaysOfWeekWithClassesForTeacherDTO daysOfWeekWithClassesForTeacherDTO = new DaysOfWeekWithClassesForTeacherDTO();
+            daysOfWeekWithClassesForTeacherDTO.setDay(daySchedule.getKey());
+            daysOfWeekWithClassesForTeacherDTO.setEvenWeek(getWeek(daySchedule.getValue(), EvenOdd.EVEN));
+            daysOfWeekWithClassesForTeacherDTO.setOddWeek(getWeek(daySchedule.getValue(), EvenOdd.ODD));
+            days.add(daysOfWeekWithClassesForTeacherDTO);
+        }
+        return days;
+    }
+
+    private ClassesInScheduleForTeacherDTO getWeek(List<Schedule> schedules, EvenOdd week) {
+        Map<Period, List<Schedule>> periodSchedules = schedules.stream()
+                .filter(schedule -> schedule.getEvenOdd() == week || schedule.getEvenOdd() == EvenOdd.WEEKLY)
+                .collect(Collectors.groupingBy(Schedule::getPeriod, () -> new TreeMap<>(PERIOD_ORDER), Collectors.toList()));
+        List<ClassForTeacherScheduleDTO> classes = new ArrayList<>();
+        for (var periodSchedule : periodSchedules.entrySet()) {
+            ClassForTeacherScheduleDTO classForTeacherScheduleDTO = new ClassForTeacherScheduleDTO();
+            classForTeacherScheduleDTO.setPeriod(periodMapper.convertToDto(periodSchedule.getKey()));
+            classForTeacherScheduleDTO.setLessons(getLessons(periodSchedule.getValue()));
+            classes.add(classForTeacherScheduleDTO);
+        }
+        ClassesInScheduleForTeacherDTO classesInScheduleForTeacherDTO = new ClassesInScheduleForTeacherDTO();
+        classesInScheduleForTeacherDTO.setPeriods(classes);
+        return classesInScheduleForTeacherDTO;
+    }
+
+    //grouped lessons are taught at the same period, each lesson is shown once with the room of its schedule
+    private List<LessonForTeacherScheduleDTO> getLessons(List<Schedule> schedules) {
+        Map<Lesson, Schedule> lessonSchedules = new TreeMap<>(Comparator.comparing(Lesson::getId));
+        for (var schedule : schedules) {
+            lessonSchedules.putIfAbsent(schedule.getLesson(), schedule);
+        }
+        List<LessonForTeacherScheduleDTO> lessons = new ArrayList<>();
+        for (var lessonSchedule : lessonSchedules.entrySet()) {
+            LessonForTeacherScheduleDTO lessonForTeacherScheduleDTO =
+                    lessonForTeacherScheduleMapper.lessonToLessonForTeacherScheduleDTO(lessonSchedule.getKey());
+            lessonForTeacherScheduleDTO.setRoom(lessonSchedule.getValue().getRoom().getName());
+            lessons.add(lessonForTeacherScheduleDTO);
+        }
+        return lessons;
+    }
+}
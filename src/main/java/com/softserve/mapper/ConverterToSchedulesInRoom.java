@@ -37,25 +37,36 @@ public class ConverterToSchedulesInRoom {
     public List<ScheduleForRoomDTO> getBySemester(List<Room> rooms, Semester semester,
                                                   Map<Room, List<Schedule>> roomSchedules) {
         List<ScheduleForRoomDTO> schedulesInRoomDTOS = new ArrayList<>();
-        Set<Room> roomsScheduled = roomSchedules.keySet();
-        for (var roomSchedule: rooms) {
-            ScheduleForRoomDTO schedule = new ScheduleForRoomDTO();
-            schedule.setRoomId(roomSchedule.getId());
-            schedule.setRoomName(roomSchedule.getName());
-            schedule.setRoomType(roomSchedule.getType().getDescription());
-            if (roomsScheduled.contains(roomSchedule)) {
-                schedule.setSchedules(
-                        concatDaySchedules(semester, roomSchedules.get(roomSchedule).stream()
-                                .collect(Collectors.groupingBy(Schedule::getDayOfWeek, LinkedHashMap::new, Collectors.toList()))
-                ));
-            } else {
-                schedule.setSchedules(getEmptyDays(semester));
-            }
-            schedulesInRoomDTOS.add(schedule);
+        for (var room: rooms) {
+            schedulesInRoomDTOS.add(getForRoom(room, semester, roomSchedules.get(room)));
         }
         return schedulesInRoomDTOS;
     }
 
+    /**
+     * Method builds schedule of one room with all days and periods of the semester
+     *
+     * @param room      room of the schedule
+     * @param semester  semester of the schedules
+     * @param schedules schedules in the room ordered by days, or null if the room is not used in the semester
+     * @return schedule for the room
+     */
+    public ScheduleForRoomDTO getForRoom(Room room, Semester semester, List<Schedule> schedules) {
+        ScheduleForRoomDTO schedule = new ScheduleForRoomDTO();
+        schedule.setRoomId(room.getId());
+        schedule.setRoomName(room.getName());
+        schedule.setRoomType(room.getType().getDescription());
+        if (schedules != null) {
+            schedule.setSchedules(
+                    concatDaySchedules(semester, schedules.stream()
+                            .collect(Collectors.groupingBy(Schedule::getDayOfWeek, LinkedHashMap::new, Collectors.toList()))
+            ));
+        } else {
+            schedule.setSchedules(getEmptyDays(semester));
+        }
+        return schedule;
+    }
+
     public List<DaysOfWeekWithClassesForRoomDTO> concatDaySchedules(Semester semester,
                                                                     Map<DayOfWeek, List<Schedule>> daySchedules) {
         List<DaysOfWeekWithClassesForRoomDTO> days = new ArrayList<>();
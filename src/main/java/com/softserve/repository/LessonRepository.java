@@ -2,6 +2,7 @@ package com.softserve.repository;
 
 import com.softserve.entity.Lesson;
 import java.util.List;
+import java.util.Optional;
 
 public interface LessonRepository extends BasicRepository <Lesson, Long>  {
     List <Lesson> getAllForGroup(Long groupId, Long semesterId);
@@ -16,4 +17,6 @@ public interface LessonRepository extends BasicRepository <Lesson, Long>  {
     Lesson updateGrouped(Lesson oldLesson,Lesson updatedLesson, boolean isTeacherOrSubjectUpdated);
     Lesson deleteGrouped(Lesson lesson);
     int setGrouped(Long lessonId);
+    Optional<Long> getTeacherIdById(Long id);
+    Optional<Long> getGroupIdById(Long id);
 }
@@ -33,6 +33,14 @@ public interface ScheduleRepository extends BasicRepository<Schedule, Long> {
 
     List<Schedule> getAllSchedulesByTeacherIdAndSemesterId(Long teacherId, Long semesterId);
 
+    List<Schedule> getSchedulesForGroupsBySemester(Long semesterId);
+
+    List<Schedule> getSchedulesForGroupBySemester(Long semesterId, Long groupId);
+
+    List<Schedule> getSchedulesForTeacherBySemester(Long semesterId, Long teacherId);
+
+    List<Schedule> getAllSchedulesWithDetailsBySemester(Long semesterId);
+
     Schedule getScheduleByObject(Schedule schedule);
     //rooms
     List<Schedule> getScheduleBySemester(Long semesterId);
@@ -40,6 +48,8 @@ public interface ScheduleRepository extends BasicRepository<Schedule, Long> {
     List<Schedule> scheduleForRoomBySemester(Long semesterId, Long roomId);
 
     List<Schedule> scheduleByDateRangeForTeacher(LocalDate fromDate, LocalDate toDate, Long teacherId);
+    List<Schedule> scheduleByDateRangeForGroup(LocalDate fromDate, LocalDate toDate, Long groupId);
+    List<Schedule> scheduleByDateRangeForRoom(LocalDate fromDate, LocalDate toDate, Long roomId);
 
     void deleteSchedulesBySemesterId(Long semesterId);
 
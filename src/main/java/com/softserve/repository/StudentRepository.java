@@ -2,6 +2,7 @@ package com.softserve.repository;
 
 import com.softserve.entity.Student;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends BasicRepository <Student, Long> {
@@ -9,5 +10,7 @@ public interface StudentRepository extends BasicRepository <Student, Long> {
     boolean isEmailInUse(String email);
     boolean isEmailForThisStudent(String email, Long id);
     boolean isIdPresent(Long id);
+    List<Student> getStudentsBySurnames(List<String> surnames);
+    List<String> getEmailsInUse(List<String> emails);
 
 }
@@ -13,8 +13,13 @@ public interface TemporaryScheduleRepository extends BasicRepository<TemporarySc
     Long isExistTemporaryScheduleByDateAndScheduleId(TemporarySchedule object, boolean vacation);
     Long isExistTemporaryScheduleByDateAndScheduleIdWithIgnoreId(TemporarySchedule object, boolean vacation);
     Long isExistTemporaryScheduleWithIgnoreId(TemporarySchedule object);
+    List<LocalDate> getDatesOfVacationByDateRange(LocalDate fromDate, LocalDate toDate, Long semesterId, boolean vacation);
+    List<LocalDate> getDatesOfVacationWithoutPeriodByDateRange(LocalDate fromDate, LocalDate toDate, Long semesterId, boolean vacation);
+    List<LocalDate> getDatesOfTemporarySchedule(TemporarySchedule object, LocalDate fromDate, LocalDate toDate);
+    List<LocalDate> getDatesOfTemporaryScheduleByScheduleId(TemporarySchedule object, LocalDate fromDate, LocalDate toDate, boolean vacation);
     List<TemporarySchedule> temporaryScheduleByDateRangeForTeacher(LocalDate fromDate, LocalDate toDate, Long teacherId);
     List<TemporarySchedule> getAllBySemesterAndRange(Long semesterId, LocalDate fromDate, LocalDate toDate);
+    List<TemporarySchedule> getAllByScheduleIdsAndRange(List<Long> scheduleIds, LocalDate fromDate, LocalDate toDate);
     List<TemporarySchedule> getAllByTeacherAndRange(LocalDate fromDate, LocalDate toDate, Long teacherId);
     List<TemporarySchedule> getAllBySemester(Long semesterId);
     List<TemporarySchedule> getAllByRange(LocalDate fromDate, LocalDate toDate);
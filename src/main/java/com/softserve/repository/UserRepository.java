@@ -9,4 +9,6 @@ public interface UserRepository extends BasicRepository <User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByToken(String token);
     List<User> getAllUsersWithRoleUser();
+    List<User> getUsersByIds(List<Long> ids);
+    List<User> getUsersByEmails(List<String> emails);
 }
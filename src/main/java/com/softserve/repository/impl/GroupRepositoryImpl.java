@@ -137,7 +137,9 @@ public class GroupRepositoryImpl extends BasicRepositoryImpl<Group, Long> implem
     }
 
     /**
-     * The method is used to change group's sorting order
+     * The method is used to change group's sorting order.
+     * As the bulk update bypasses the session, Hibernate evicts the groups from the second-level cache
+     * before the update and once more when the transaction completes
      *
      * @param lowerBound the lower bound of sorting order
      * @param upperBound the upper bound of sorting order
@@ -11,6 +11,7 @@ import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @Slf4j
@@ -88,6 +89,12 @@ public class LessonRepositoryImpl extends BasicRepositoryImpl<Lesson, Long> impl
             "and l.lessonType= :lessonType " +
             "and l.id != :lessonId";
 
+    private static final String GET_TEACHER_ID_BY_ID
+            = "select l.teacher.id from Lesson l where l.id = :id";
+
+    private static final String GET_GROUP_ID_BY_ID
+            = "select l.group.id from Lesson l where l.id = :id";
+
     private static final String DELETE_BY_SEMESTER_ID
             = "delete from Lesson l " +
             "where l.id " +
@@ -297,6 +304,36 @@ public class LessonRepositoryImpl extends BasicRepositoryImpl<Lesson, Long> impl
         return count != 0;
     }
 
+    /**
+     * The method used for getting id of the teacher of the lesson as it is stored in the database,
+     * without loading the lesson into the session
+     *
+     * @param id id of the lesson
+     * @return id of the teacher or empty optional if there is no such lesson
+     */
+    @Override
+    public Optional<Long> getTeacherIdById(Long id) {
+        log.info("In getTeacherIdById(id = [{}])", id);
+        return sessionFactory.getCurrentSession().createQuery(GET_TEACHER_ID_BY_ID, Long.class)
+                .setParameter("id", id)
+                .uniqueResultOptional();
+    }
+
+    /**
+     * The method used for getting id of the group of the lesson as it is stored in the database,
+     * without loading the lesson into the session
+     *
+     * @param id id of the lesson
+     * @return id of the group or empty optional if there is no such lesson
+     */
+    @Override
+    public Optional<Long> getGroupIdById(Long id) {
+        log.info("In getGroupIdById(id = [{}])", id);
+        return sessionFactory.getCurrentSession().createQuery(GET_GROUP_ID_BY_ID, Long.class)
+                .setParameter("id", id)
+                .uniqueResultOptional();
+    }
+
     /**
      * The method used for updating links to meeting for lessons.
      * By default, link to meeting is updated by semester id and teacher id
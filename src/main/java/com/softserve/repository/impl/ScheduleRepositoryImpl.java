@@ -30,6 +30,18 @@ public class ScheduleRepositoryImpl extends BasicRepositoryImpl<Schedule, Long>
     private static final String GET_BY_ALL_PARAMETERS = "FROM Schedule s where s.period.id = :periodId " +
             "and s.lesson.id = :lessonId and s.dayOfWeek = :dayOfWeek and s.evenOdd = :evenOdd and s.room.id = :roomId";
 
+    private static final String SELECT_WITH_DETAILS = "select s from Schedule s " +
+            "join fetch s.lesson l " +
+            "join fetch l.semester " +
+            "join fetch l.group " +
+            "join fetch l.subject " +
+            "join fetch l.teacher t " +
+            "left join fetch t.department " +
+            "join fetch s.room r " +
+            "left join fetch r.type " +
+            "join fetch s.period " +
+            "where l.semester.id = :semesterId ";
+
     private static final String GET_ALL_ORDERED_BY_ROOMS_DAYS_PERIODS
             = "SELECT s "
             + "FROM Schedule s "
@@ -314,6 +326,74 @@ public class ScheduleRepositoryImpl extends BasicRepositoryImpl<Schedule, Long>
                 .getResultList();
     }
 
+    /**
+     * Method gets all schedules of the semester with their lesson, teacher, subject, group, room and period
+     * fetched in one query, so that the schedules can be assembled for all groups without further requests to db
+     *
+     * @param semesterId id of the semester
+     * @return list of schedules
+     */
+    @Override
+    public List<Schedule> getSchedulesForGroupsBySemester(Long semesterId) {
+        log.info("In getSchedulesForGroupsBySemester(semesterId = [{}])", semesterId);
+        return sessionFactory.getCurrentSession()
+                .createQuery(SELECT_WITH_DETAILS + NOT_DISABLED_SQL, Schedule.class)
+                .setParameter("semesterId", semesterId)
+                .getResultList();
+    }
+
+    /**
+     * Method gets all schedules of the group in the semester with their lesson, teacher, subject, group, room and period
+     * fetched in one query
+     *
+     * @param semesterId id of the semester
+     * @param groupId    id of the group
+     * @return list of schedules
+     */
+    @Override
+    public List<Schedule> getSchedulesForGroupBySemester(Long semesterId, Long groupId) {
+        log.info("In getSchedulesForGroupBySemester(semesterId = [{}], groupId = [{}])", semesterId, groupId);
+        return sessionFactory.getCurrentSession()
+                .createQuery(SELECT_WITH_DETAILS + "and l.group.id = :groupId " + NOT_DISABLED_SQL, Schedule.class)
+                .setParameter("semesterId", semesterId)
+                .setParameter("groupId", groupId)
+                .getResultList();
+    }
+
+    /**
+     * Method gets all schedules of the teacher in the semester with their lesson, teacher, subject, group, room and period
+     * fetched in one query
+     *
+     * @param semesterId id of the semester
+     * @param teacherId  id of the teacher
+     * @return list of schedules
+     */
+    @Override
+    public List<Schedule> getSchedulesForTeacherBySemester(Long semesterId, Long teacherId) {
+        log.info("In getSchedulesForTeacherBySemester(semesterId = [{}], teacherId = [{}])", semesterId, teacherId);
+        return sessionFactory.getCurrentSession()
+                .createQuery(SELECT_WITH_DETAILS + "and t.id = :teacherId " + NOT_DISABLED_SQL, Schedule.class)
+                .setParameter("semesterId", semesterId)
+                .setParameter("teacherId", teacherId)
+                .getResultList();
+    }
+
+    /**
+     * Method gets all schedules of the semester, including schedules of disabled entities,
+     * with their lesson, teacher, subject, group, room and period fetched in one query
+     *
+     * @param semesterId id of the semester
+     * @return list of schedules
+     */
+    @Override
+    public List<Schedule> getAllSchedulesWithDetailsBySemester(Long semesterId) {
+        log.info("In getAllSchedulesWithDetailsBySemester(semesterId = [{}])", semesterId);
+        return sessionFactory.getCurrentSession()
+                .createQuery(SELECT_WITH_DETAILS, Schedule.class)
+                .setParameter("semesterId", semesterId)
+                .getResultList();
+    }
+
     /**
      * Method gets schedule by schedule all schedule parameters
      *
@@ -398,6 +478,44 @@ public class ScheduleRepositoryImpl extends BasicRepositoryImpl<Schedule, Long>
                 .getResultList();
     }
 
+    /**
+     * Method scheduleByDateRangeForGroup get all schedules of the group from db in particular date range
+     *
+     * @param fromDate LocalDate from
+     * @param toDate   LocalDate to
+     * @param groupId  id group
+     * @return list of schedules
+     */
+    @Override
+    public List<Schedule> scheduleByDateRangeForGroup(LocalDate fromDate, LocalDate toDate, Long groupId) {
+        log.info("In scheduleByDateRangeForGroup with fromDate = {} and toDate = {} and groupId = {}", fromDate, toDate, groupId);
+        return sessionFactory.getCurrentSession().createQuery("SELECT s from Schedule s " +
+                "where s.lesson.semester.startDay <= :toDate  and s.lesson.semester.endDay >= :fromDate and s.lesson.group.id = :groupId")
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("groupId", groupId)
+                .getResultList();
+    }
+
+    /**
+     * Method scheduleByDateRangeForRoom get all schedules in the room from db in particular date range
+     *
+     * @param fromDate LocalDate from
+     * @param toDate   LocalDate to
+     * @param roomId   id room
+     * @return list of schedules
+     */
+    @Override
+    public List<Schedule> scheduleByDateRangeForRoom(LocalDate fromDate, LocalDate toDate, Long roomId) {
+        log.info("In scheduleByDateRangeForRoom with fromDate = {} and toDate = {} and roomId = {}", fromDate, toDate, roomId);
+        return sessionFactory.getCurrentSession().createQuery("SELECT s from Schedule s " +
+                "where s.lesson.semester.startDay <= :toDate  and s.lesson.semester.endDay >= :fromDate and s.room.id = :roomId")
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("roomId", roomId)
+                .getResultList();
+    }
+
     /**
      * Method scheduleForRoomBySemester get all schedules for specific  room and  semester
      *
@@ -5,6 +5,7 @@ import com.softserve.repository.StudentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -75,4 +76,37 @@ public class StudentRepositoryImpl extends BasicRepositoryImpl<Student, Long> im
                 .getSingleResult();
     }
 
+    /**
+     * The method used for getting students with given surnames together with their users and groups
+     *
+     * @param surnames surnames of the students
+     * @return list of students
+     */
+    @Override
+    public List<Student> getStudentsBySurnames(List<String> surnames) {
+        log.info("Enter into getStudentsBySurnames of StudentRepositoryImpl with {} surnames", surnames.size());
+        return sessionFactory.getCurrentSession().createQuery(
+                "select s from Student s " +
+                        "left join fetch s.user " +
+                        "left join fetch s.group " +
+                        "where s.surname in (:surnames)", Student.class)
+                .setParameterList("surnames", surnames)
+                .getResultList();
+    }
+
+    /**
+     * The method used for getting emails from the given list, which are already used by students
+     *
+     * @param emails emails to check
+     * @return list of emails in use
+     */
+    @Override
+    public List<String> getEmailsInUse(List<String> emails) {
+        log.info("Enter into getEmailsInUse of StudentRepositoryImpl with {} emails", emails.size());
+        return sessionFactory.getCurrentSession().createQuery(
+                "select s.user.email from Student s " +
+                        "where s.user.email in (:emails)", String.class)
+                .setParameterList("emails", emails)
+                .getResultList();
+    }
 }
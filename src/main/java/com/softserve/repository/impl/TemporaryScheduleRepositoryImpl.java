@@ -169,6 +169,104 @@ public class TemporaryScheduleRepositoryImpl extends BasicRepositoryImpl<Tempora
     }
 
 
+    /**
+     * Method gets dates in the range which have temporary schedule for the whole semester day,
+     * the same records as isExistTemporaryScheduleByVacationByDate counts for one date
+     *
+     * @param fromDate   first date of the range
+     * @param toDate     last date of the range
+     * @param semesterId id of the semester
+     * @param vacation   whether the records are vacations
+     * @return list of dates
+     */
+    @Override
+    public List<LocalDate> getDatesOfVacationByDateRange(LocalDate fromDate, LocalDate toDate, Long semesterId, boolean vacation) {
+        log.info("In getDatesOfVacationByDateRange(semesterId = [{}], fromDate = [{}], toDate = [{}], vacation = [{}])", semesterId, fromDate, toDate, vacation);
+        return sessionFactory.getCurrentSession().createQuery("select distinct t.date from TemporarySchedule t " +
+                "where t.date between :fromDate and :toDate and t.vacation = :vacation and t.semester.id = :semesterId " +
+                "and t.scheduleId = null and t.teacher = null and t.period = null", LocalDate.class)
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("semesterId", semesterId)
+                .setParameter("vacation", vacation)
+                .getResultList();
+    }
+
+    /**
+     * Method gets dates in the range which have temporary schedule for the whole day,
+     * the same records as isExistTemporaryScheduleByVacationByDateAndTeacher counts for one date
+     *
+     * @param fromDate   first date of the range
+     * @param toDate     last date of the range
+     * @param semesterId id of the semester
+     * @param vacation   whether the records are vacations
+     * @return list of dates
+     */
+    @Override
+    public List<LocalDate> getDatesOfVacationWithoutPeriodByDateRange(LocalDate fromDate, LocalDate toDate, Long semesterId, boolean vacation) {
+        log.info("In getDatesOfVacationWithoutPeriodByDateRange(semesterId = [{}], fromDate = [{}], toDate = [{}], vacation = [{}])", semesterId, fromDate, toDate, vacation);
+        return sessionFactory.getCurrentSession().createQuery("select distinct t.date from TemporarySchedule t " +
+                "where t.date between :fromDate and :toDate and t.vacation = :vacation and t.semester.id = :semesterId " +
+                "and t.scheduleId = null and t.period.id = null", LocalDate.class)
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("semesterId", semesterId)
+                .setParameter("vacation", vacation)
+                .getResultList();
+    }
+
+    /**
+     * Method gets dates in the range which already have the same temporary schedule,
+     * the same records as isExistTemporarySchedule counts for one date
+     *
+     * @param object   temporary schedule
+     * @param fromDate first date of the range
+     * @param toDate   last date of the range
+     * @return list of dates
+     */
+    @Override
+    public List<LocalDate> getDatesOfTemporarySchedule(TemporarySchedule object, LocalDate fromDate, LocalDate toDate) {
+        log.info("In getDatesOfTemporarySchedule(object = [{}], fromDate = [{}], toDate = [{}])", object, fromDate, toDate);
+        return sessionFactory.getCurrentSession().createQuery("select distinct s.date from TemporarySchedule s " +
+                "where s.date between :fromDate and :toDate and s.vacation = false " +
+                "and s.room.id=:roomId and s.group.id=:groupId and s.period.id = :periodId and s.subject.id = :subjectId " +
+                "and s.scheduleId = :scheduleId and s.lessonType=:lessonType and s.semester.id = :semesterId", LocalDate.class)
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("roomId", object.getRoom().getId())
+                .setParameter("groupId", object.getGroup().getId())
+                .setParameter("periodId", object.getPeriod().getId())
+                .setParameter("subjectId", object.getSubject().getId())
+                .setParameter("scheduleId", object.getScheduleId())
+                .setParameter("lessonType", object.getLessonType())
+                .setParameter("semesterId", object.getSemester().getId())
+                .getResultList();
+    }
+
+    /**
+     * Method gets dates in the range which have temporary schedule for the schedule,
+     * the same records as isExistTemporaryScheduleByDateAndScheduleId counts for one date
+     *
+     * @param object   temporary schedule
+     * @param fromDate first date of the range
+     * @param toDate   last date of the range
+     * @param vacation whether the records are vacations
+     * @return list of dates
+     */
+    @Override
+    public List<LocalDate> getDatesOfTemporaryScheduleByScheduleId(TemporarySchedule object, LocalDate fromDate, LocalDate toDate, boolean vacation) {
+        log.info("In getDatesOfTemporaryScheduleByScheduleId(object = [{}], fromDate = [{}], toDate = [{}])", object, fromDate, toDate);
+        return sessionFactory.getCurrentSession().createQuery("select distinct t.date from TemporarySchedule t " +
+                "where t.date between :fromDate and :toDate and t.vacation = false " +
+                "and t.scheduleId = :scheduleId and t.semester.id = :semesterId and t.vacation = :vacation", LocalDate.class)
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameter("scheduleId", object.getScheduleId())
+                .setParameter("semesterId", object.getSemester().getId())
+                .setParameter("vacation", vacation)
+                .getResultList();
+    }
+
     /**
      * Method scheduleByDateRangeForTeacher get all schedules from db in particular date range
      * @param fromDate LocalDate from
@@ -255,6 +353,25 @@ public class TemporaryScheduleRepositoryImpl extends BasicRepositoryImpl<Tempora
                 .getResultList();
     }
 
+    /**
+     * Method gets temporary schedules of the schedules in the date range
+     *
+     * @param scheduleIds ids of the schedules
+     * @param fromDate    first date of the range
+     * @param toDate      last date of the range
+     * @return list of temporary schedules
+     */
+    @Override
+    public List<TemporarySchedule> getAllByScheduleIdsAndRange(List<Long> scheduleIds, LocalDate fromDate, LocalDate toDate) {
+        log.info("In getAllByScheduleIdsAndRange(fromDate = [{}], toDate = [{}])", fromDate, toDate);
+        return sessionFactory.getCurrentSession().createQuery("SELECT t from TemporarySchedule t " +
+                "where t.date <= :toDate  and t.date >= :fromDate and t.scheduleId in (:scheduleIds)  ORDER BY t.date asc ")
+                .setParameter("fromDate", fromDate)
+                .setParameter("toDate", toDate)
+                .setParameterList("scheduleIds", scheduleIds)
+                .getResultList();
+    }
+
     /**
      * Method counts schedule records in db for group in the semester
      *
@@ -63,6 +63,38 @@ public class UserRepositoryImpl extends BasicRepositoryImpl<User, Long> implemen
                 .getResultList();
     }
 
+    /**
+     * The method used for getting list of users with given ids from database
+     *
+     * @param ids ids of the users that need to be retrieved
+     * @return list of entities User
+     */
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        log.info("Enter into getUsersByIds of UserRepositoryImpl with ids = {}", ids);
+        return sessionFactory.getCurrentSession().createQuery(
+                "select u from User u " +
+                        " where u.id in (:ids)", User.class)
+                .setParameterList("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * The method used for getting list of users with given emails from database
+     *
+     * @param emails emails of the users
+     * @return list of entities User
+     */
+    @Override
+    public List<User> getUsersByEmails(List<String> emails) {
+        log.info("Enter into getUsersByEmails of UserRepositoryImpl with {} emails", emails.size());
+        return sessionFactory.getCurrentSession().createQuery(
+                "select u from User u " +
+                        " where u.email in (:emails)", User.class)
+                .setParameterList("emails", emails)
+                .getResultList();
+    }
+
 
     /**
      * Modified update method, which merge entity before updating it
@@ -0,0 +1,123 @@
+package com.softserve.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Short living cache of the principals of authenticated users, so that the user is not read from database
+ * on every request. Principals are kept in memory for a few seconds and in Redis for a few minutes
+ */
+@Slf4j
+@Component
+@PropertySource("classpath:jwt.properties")
+public class JwtPrincipalCache {
+    private static final String CACHE_NAME = "jwtPrincipals";
+
+    private final RedissonClient redissonClient;
+    private final long localTtl;
+    private final long ttl;
+    private final Map<String, Entry> principals = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JwtPrincipalCache(RedissonClient redissonClient, Environment environment) {
+        this.redissonClient = redissonClient;
+        this.localTtl = environment.getProperty("jwt.principal.local.ttl", Long.class, 10_000L);
+        this.ttl = environment.getProperty("jwt.principal.ttl", Long.class, 300_000L);
+    }
+
+    /**
+     * Method gets principal of the user from the cache or loads it if it is not cached
+     *
+     * @param username email of the user, the subject of the token
+     * @param loader   function that loads principal by username
+     * @return principal of the user
+     */
+    public JwtUser get(String username, Function<String, JwtUser> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = principals.get(username);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.user;
+        }
+        JwtUser user = getFromRedis(username);
+        if (user == null) {
+            user = loader.apply(username);
+            putToRedis(username, user);
+        }
+        principals.put(username, new Entry(user, now + localTtl));
+        return user;
+    }
+
+    /**
+     * Method removes principal of the user from the cache. If the method is called in transaction
+     * the principal is removed once more after commit, so that it is not cached again with the old data
+     *
+     * @param username email of the user
+     */
+    public void evict(String username) {
+        log.info("In evict(username = [{}])", username);
+        if (username == null) {
+            return;
+        }
+        remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    remove(username);
+                }
+            });
+        }
+    }
+
+    private void remove(String username) {
+        principals.remove(username);
+        try {
+            getRedisCache().fastRemove(username);
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove principal {} from redis", username, e);
+        }
+    }
+
+    private JwtUser getFromRedis(String username) {
+        try {
+            return getRedisCache().get(username);
+        } catch (RuntimeException e) {
+            log.warn("Failed to get principal {} from redis", username, e);
+            return null;
+        }
+    }
+
+    private void putToRedis(String username, JwtUser user) {
+        try {
+            getRedisCache().fastPut(username, user, ttl, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("Failed to put principal {} to redis", username, e);
+        }
+    }
+
+    private RMapCache<String, JwtUser> getRedisCache() {
+        return redissonClient.getMapCache(CACHE_NAME);
+    }
+
+    private static class Entry {
+        private final JwtUser user;
+        private final long expiresAt;
+
+        private Entry(JwtUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -32,12 +32,9 @@ public class JwtTokenFilter extends GenericFilterBean {
             throws IOException, ServletException {
         HttpServletResponse response = (HttpServletResponse) res;
         String token = jwtTokenProvider.resolveToken((HttpServletRequest) req);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-
-            if (auth != null) {
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+        Authentication auth = token != null ? jwtTokenProvider.getValidAuthentication(token) : null;
+        if (auth != null) {
+            SecurityContextHolder.getContext().setAuthentication(auth);
         } else {
             Map<String, String> map = new HashMap<>();
             Enumeration<String> headerNames = ((HttpServletRequest) req).getHeaderNames();
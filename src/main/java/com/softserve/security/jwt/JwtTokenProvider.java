@@ -32,6 +32,9 @@ public class JwtTokenProvider {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private JwtPrincipalCache jwtPrincipalCache;
+
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -63,6 +66,22 @@ public class JwtTokenProvider {
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /**
+     * Method parses the token only once and builds authentication from the cached principal of the user
+     *
+     * @param token the token from the request
+     * @return authentication of the user or null if the token is invalid or expired
+     */
+    public Authentication getValidAuthentication(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        UserDetails userDetails = jwtPrincipalCache.get(claims.getSubject(),
+                username -> (JwtUser) this.userDetailsService.loadUserByUsername(username));
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
     public String getUsername(String token) {
         return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().getSubject();
     }
@@ -76,13 +95,17 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
+            Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
 
-            return !claims.getBody().getExpiration().before(new Date());
+            return claims.getExpiration().before(new Date()) ? null : claims;
         } catch (ExpiredJwtException | MalformedJwtException | SignatureException
                 | UnsupportedJwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 }
@@ -4,9 +4,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.Serializable;
 import java.util.Collection;
 
-public class JwtUser implements UserDetails {
+public class JwtUser implements UserDetails, Serializable {
 
     private final Long id;
     private final String email;
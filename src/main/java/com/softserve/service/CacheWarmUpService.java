@@ -0,0 +1,12 @@
+package com.softserve.service;
+
+import com.softserve.dto.CacheWarmUpStatusDTO;
+
+public interface CacheWarmUpService {
+
+    void warmUp();
+
+    boolean isReady();
+
+    CacheWarmUpStatusDTO getStatus();
+}
@@ -0,0 +1,17 @@
+package com.softserve.service;
+
+import com.softserve.dto.ExecutorStatsDTO;
+import com.softserve.dto.JobStatusDTO;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface JobService {
+
+    JobStatusDTO track(String name, CompletableFuture<?> job);
+
+    Optional<JobStatusDTO> getStatus(String id);
+
+    List<ExecutorStatsDTO> getExecutorsStats();
+}
@@ -4,6 +4,7 @@ import com.softserve.entity.Lesson;
 import com.softserve.entity.Semester;
 import com.softserve.entity.enums.LessonType;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LessonService extends BasicService <Lesson, Long> {
@@ -20,4 +21,5 @@ public interface LessonService extends BasicService <Lesson, Long> {
     List<Lesson> getLessonsBySubjectIdTeacherIdSemesterIdLessonTypeAndExcludeCurrentLessonId(Lesson lesson);
     List<Lesson> getAllGroupedLessonsByLesson(Lesson lesson);
     Integer updateLinkToMeeting(Lesson lesson);
+    void evictLessons(Long semesterId, Collection<Lesson> lessons);
 }
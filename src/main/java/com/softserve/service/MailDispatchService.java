@@ -0,0 +1,17 @@
+package com.softserve.service;
+
+import com.softserve.dto.MailDispatchStatusDTO;
+import com.softserve.dto.MailWithAttachmentDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface MailDispatchService {
+
+    MailDispatchStatusDTO dispatch(List<MailWithAttachmentDTO> mails);
+
+    MailDispatchStatusDTO dispatch(List<MailWithAttachmentDTO> mails, Map<String, String> failedReceivers);
+
+    Optional<MailDispatchStatusDTO> getStatus(String id);
+}
@@ -0,0 +1,16 @@
+package com.softserve.service;
+
+import java.util.Optional;
+
+public interface ResourceVersionService {
+    String TEACHERS = "teachers";
+    String SEMESTERS = "semesters";
+
+    Optional<Long> getVersion(String resource);
+
+    void bumpVersion(String resource);
+
+    Optional<String> getETag(String resource);
+
+    Optional<String> getScheduleETag(Long semesterId, String slice);
+}
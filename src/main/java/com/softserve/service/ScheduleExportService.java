@@ -0,0 +1,9 @@
+package com.softserve.service;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+public interface ScheduleExportService {
+
+    void writeSemesterSchedulesToZip(Long semesterId, Locale language, OutputStream out);
+}
@@ -0,0 +1,14 @@
+package com.softserve.service;
+
+import com.softserve.entity.enums.EvenOdd;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+
+public interface ScheduleOccupancyService {
+    boolean isGroupBusy(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId, Long groupId);
+
+    boolean isTeacherBusy(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId, Long teacherId);
+
+    Set<Long> getBusyRoomIds(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId);
+}
@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ScheduleService extends BasicService<Schedule, Long> {
     List<Schedule> schedulesForGroupedLessons(Schedule schedule);
@@ -28,13 +29,19 @@ public interface ScheduleService extends BasicService<Schedule, Long> {
 
     ScheduleFullDTO getFullScheduleForSemester(Long semesterId);
 
+    void forEachScheduleForGroupInSemester(Long semesterId, Consumer<ScheduleForGroupDTO> consumer);
+
     ScheduleForTeacherDTO getScheduleForTeacher(Long semesterId, Long teacherId);
 
+    List<ScheduleForTeacherDTO> getAllSchedulesForTeachers(Long semesterId);
+
     List<Schedule> getAllSchedulesByTeacherIdAndSemesterId(Long teacherId, Long semesterId);
 
     List<Schedule> getSchedulesBySemester(Long semesterId);
 
     Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>>  temporaryScheduleByDateRangeForTeacher(LocalDate fromDate, LocalDate toDate, Long teacherId);
+    Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> temporaryScheduleByDateRangeForGroup(LocalDate fromDate, LocalDate toDate, Long groupId);
+    Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> temporaryScheduleByDateRangeForRoom(LocalDate fromDate, LocalDate toDate, Long roomId);
 
     void deleteSchedulesBySemesterId(Long semesterId);
 
@@ -46,7 +53,7 @@ public interface ScheduleService extends BasicService<Schedule, Long> {
 
     boolean isLessonInScheduleByLessonIdPeriodIdEvenOddDayOfWeek(Long lessonId, Long periodId, EvenOdd evenOdd, DayOfWeek day);
 
-    void sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language);
+    MailDispatchStatusDTO sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language);
 
     void sendScheduleToTeacher(Long semesterId, Long teacherId, Locale language) throws MessagingException;
 
@@ -0,0 +1,16 @@
+package com.softserve.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface ScheduleSnapshotService {
+    <T> T get(Long semesterId, String slice, TypeReference<T> type, Supplier<T> loader);
+
+    Optional<Long> getVersion(Long semesterId);
+
+    void bumpVersion(Long semesterId);
+
+    void bumpAllVersions();
+}
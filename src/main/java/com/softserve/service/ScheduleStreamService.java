@@ -0,0 +1,11 @@
+package com.softserve.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ScheduleStreamService {
+
+    void writeFullScheduleForSemester(Long semesterId, OutputStream out) throws IOException;
+
+    void writeFullScheduleForRooms(Long semesterId, OutputStream out) throws IOException;
+}
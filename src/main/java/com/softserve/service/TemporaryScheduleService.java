@@ -16,6 +16,7 @@ public interface TemporaryScheduleService extends BasicService<TemporarySchedule
     List<TemporarySchedule> getAllBySemesterId(Long semesterId);
     List<TemporarySchedule> getAllByRange(LocalDate fromDate, LocalDate toDate);
     List<TemporarySchedule> getAllBySemesterAndRange(Long semesterId, LocalDate fromDate, LocalDate toDate);
+    List<TemporarySchedule> getAllByScheduleIdsAndRange(List<Long> scheduleIds, LocalDate fromDate, LocalDate toDate);
     List<TemporarySchedule> vacationByDateRange(LocalDate fromDate, LocalDate toDate);
     List<String> addRange(LocalDate from, LocalDate to, TemporarySchedule object);
     void deleteTemporarySchedulesBySemesterId(Long semesterId);
@@ -21,6 +21,10 @@ public interface UserService extends BasicService <User, Long> {
 
     List<User> getAllUsersWithRoleUser();
 
+    List<User> getUsersByIds(List<Long> ids);
+
+    List<User> getUsersByEmails(List<String> emails);
+
     String changePasswordForCurrentUser(User user, String oldPassword, String newPassword);
 
     User automaticRegistration(String email, Role role);
@@ -0,0 +1,206 @@
+package com.softserve.service.impl;
+
+import com.softserve.config.AsyncConfig;
+import com.softserve.dto.CacheWarmUpStatusDTO;
+import com.softserve.entity.Group;
+import com.softserve.entity.Semester;
+import com.softserve.service.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preloads the caches which are read by the first requests after the start: semesters, the current and
+ * the default semester with their groups, lessons and schedules, and rooms. The warm-up runs in the background
+ * on its own bounded executor and is stopped when its time is over, the tasks which haven't started by then are skipped
+ */
+@Service
+@Slf4j
+public class CacheWarmUpServiceImpl implements CacheWarmUpService {
+
+    public enum State {
+        DISABLED, NOT_STARTED, RUNNING, COMPLETED, TIMED_OUT, FAILED
+    }
+
+    private final SemesterService semesterService;
+    private final GroupService groupService;
+    private final LessonService lessonService;
+    private final RoomService roomService;
+    private final ScheduleService scheduleService;
+    private final Executor executor;
+    private final boolean enabled;
+    private final long timeout;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicInteger totalTasks = new AtomicInteger();
+    private final AtomicInteger completedTasks = new AtomicInteger();
+    private final AtomicInteger failedTasks = new AtomicInteger();
+    private final AtomicInteger skippedTasks = new AtomicInteger();
+    private volatile State state;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    @Autowired
+    public CacheWarmUpServiceImpl(SemesterService semesterService, GroupService groupService,
+                                  LessonService lessonService, RoomService roomService,
+                                  ScheduleService scheduleService,
+                                  @Qualifier(AsyncConfig.WARMUP_EXECUTOR) Executor executor,
+                                  Environment environment) {
+        this.semesterService = semesterService;
+        this.groupService = groupService;
+        this.lessonService = lessonService;
+        this.roomService = roomService;
+        this.scheduleService = scheduleService;
+        this.executor = executor;
+        this.enabled = environment.getProperty("cache.warmup.enabled", Boolean.class, true);
+        this.timeout = environment.getProperty("cache.warmup.timeout", Long.class, 2 * 60 * 1000L);
+        this.state = enabled ? State.NOT_STARTED : State.DISABLED;
+    }
+
+    /**
+     * Method starts the warm-up when the application context is refreshed.
+     * The event is published by the root and the servlet contexts, the warm-up is started only once
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        warmUp();
+    }
+
+    /**
+     * Method starts the warm-up in the background if it is enabled and hasn't been started yet
+     */
+    @Override
+    public void warmUp() {
+        if (!enabled || !started.compareAndSet(false, true)) {
+            return;
+        }
+        log.info("In warmUp(), timeout = [{}] ms", timeout);
+        startedAt = System.currentTimeMillis();
+        state = State.RUNNING;
+        long deadline = startedAt + timeout;
+        CompletableFuture<Void> warmUp;
+        try {
+            warmUp = CompletableFuture.supplyAsync(this::createTasks, executor)
+                    .thenCompose(tasks -> runAll(tasks, deadline));
+        } catch (RejectedExecutionException e) {
+            warmUp = new CompletableFuture<>();
+            warmUp.completeExceptionally(e);
+        }
+        warmUp.orTimeout(timeout, TimeUnit.MILLISECONDS).whenComplete((result, e) -> finish(e));
+    }
+
+    /**
+     * Method checks if the warm-up is over, it is true also if the warm-up is disabled, timed out or failed
+     *
+     * @return true if the warm-up is over
+     */
+    @Override
+    public boolean isReady() {
+        return state == State.DISABLED || state == State.COMPLETED || state == State.TIMED_OUT || state == State.FAILED;
+    }
+
+    @Override
+    public CacheWarmUpStatusDTO getStatus() {
+        long duration = startedAt == 0 ? 0 : (finishedAt == 0 ? System.currentTimeMillis() : finishedAt) - startedAt;
+        return new CacheWarmUpStatusDTO(state.name(), isReady(), totalTasks.get(), completedTasks.get(),
+                failedTasks.get(), skippedTasks.get(), duration);
+    }
+
+    //the semesters are read first, as the other tasks depend on them
+    private Map<String, Runnable> createTasks() {
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        timed("semesters", semesterService::getAll);
+        Set<Semester> semesters = new LinkedHashSet<>();
+        timed("current semester", () -> semesters.add(semesterService.getCurrentSemester()));
+        timed("default semester", () -> semesters.add(semesterService.getDefaultSemester()));
+        tasks.put("groups of current semester", groupService::getGroupsForCurrentSemester);
+        tasks.put("groups of default semester", groupService::getGroupsForDefaultSemester);
+        tasks.put("rooms", roomService::getAll);
+        Set<Long> semesterIds = new LinkedHashSet<>();
+        for (Semester semester : semesters) {
+            Long semesterId = semester.getId();
+            if (!semesterIds.add(semesterId)) {
+                continue;
+            }
+            tasks.put("lessons of semester " + semesterId, () -> lessonService.getLessonsBySemester(semesterId));
+            tasks.put("schedule of semester " + semesterId, () -> scheduleService.getFullScheduleForSemester(semesterId));
+            tasks.put("schedules of groups of semester " + semesterId,
+                    () -> scheduleService.getFullScheduleForGroup(semesterId, null));
+            tasks.put("schedules of teachers of semester " + semesterId,
+                    () -> scheduleService.getAllSchedulesForTeachers(semesterId));
+            if (semester.getGroups() != null) {
+                for (Group group : semester.getGroups()) {
+                    tasks.put("schedule of group " + group.getId() + " in semester " + semesterId,
+                            () -> scheduleService.getFullScheduleForGroup(semesterId, group.getId()));
+                }
+            }
+        }
+        return tasks;
+    }
+
+    private CompletableFuture<Void> runAll(Map<String, Runnable> tasks, long deadline) {
+        totalTasks.addAndGet(tasks.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        tasks.forEach((name, task) -> {
+            try {
+                futures.add(CompletableFuture.runAsync(() -> run(name, task, deadline), executor));
+            } catch (RejectedExecutionException e) {
+                log.warn("Warm-up of [{}] is skipped, the executor is full", name);
+                skippedTasks.incrementAndGet();
+            }
+        });
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private void run(String name, Runnable task, long deadline) {
+        if (System.currentTimeMillis() > deadline) {
+            skippedTasks.incrementAndGet();
+            return;
+        }
+        if (timed(name, task)) {
+            completedTasks.incrementAndGet();
+        } else {
+            failedTasks.incrementAndGet();
+        }
+    }
+
+    private boolean timed(String name, Runnable task) {
+        long start = System.currentTimeMillis();
+        try {
+            task.run();
+            log.info("Warm-up of [{}] took {} ms", name, System.currentTimeMillis() - start);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Warm-up of [{}] failed after {} ms: {}", name, System.currentTimeMillis() - start, e.toString());
+            return false;
+        }
+    }
+
+    //the warm-up which is not timed out fails only if it couldn't be started or its tasks couldn't be queued
+    private void finish(Throwable e) {
+        finishedAt = System.currentTimeMillis();
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause == null) {
+            state = State.COMPLETED;
+        } else {
+            state = cause instanceof TimeoutException ? State.TIMED_OUT : State.FAILED;
+            log.warn("Warm-up of caches is stopped after {} ms: {}", finishedAt - startedAt, cause.toString());
+        }
+        log.info("Warm-up of caches finished in {} ms: {} of {} tasks completed, {} failed, {} skipped",
+                finishedAt - startedAt, completedTasks.get(), totalTasks.get(), failedTasks.get(), skippedTasks.get());
+    }
+}
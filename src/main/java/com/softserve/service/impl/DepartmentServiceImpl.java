@@ -6,6 +6,7 @@ import com.softserve.exception.EntityNotFoundException;
 import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.repository.DepartmentRepository;
 import com.softserve.service.DepartmentService;
+import com.softserve.service.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import java.util.List;
 @Slf4j
 public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository repository;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * The method returns information from Repository for particular department with id parameter
@@ -62,6 +64,8 @@ public class DepartmentServiceImpl implements DepartmentService {
     public Department update(Department object) {
         log.info("In update(entity = [{}]", object);
         checkNameForUniquenessIgnoringId(object);
+        //the department is shown as a part of its teachers
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
         return repository.update(object);
     }
 
@@ -73,6 +77,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Override
     public Department delete(Department object) {
         log.info("In delete(entity = [{}])",  object);
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
         return repository.delete(object);
     }
 
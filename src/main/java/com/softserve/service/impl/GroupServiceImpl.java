@@ -6,9 +6,13 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.exception.SortingOrderNotExistsException;
 import com.softserve.repository.GroupRepository;
 import com.softserve.service.GroupService;
+import com.softserve.service.ResourceVersionService;
+import com.softserve.service.ScheduleSnapshotService;
 import com.softserve.service.SemesterService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.Arrays;
@@ -22,11 +26,17 @@ import java.util.stream.Collectors;
 public class GroupServiceImpl  implements GroupService {
     private final GroupRepository groupRepository;
     private final SemesterService semesterService;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public GroupServiceImpl(GroupRepository groupRepository, SemesterService semesterService) {
+    public GroupServiceImpl(GroupRepository groupRepository, SemesterService semesterService,
+                            ScheduleSnapshotService scheduleSnapshotService,
+                            ResourceVersionService resourceVersionService) {
         this.groupRepository = groupRepository;
         this.semesterService = semesterService;
+        this.scheduleSnapshotService = scheduleSnapshotService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
@@ -102,6 +112,8 @@ public class GroupServiceImpl  implements GroupService {
      * @return saved group with set order and id
      */
     @Transactional
+    @Caching(evict = {@CacheEvict(value = SemesterServiceImpl.ALL_SEMESTERS, allEntries = true),
+            @CacheEvict(value = SemesterServiceImpl.SEMESTER_BY_ID, allEntries = true)})
     @Override
     public Group saveAfterOrder(Group group, Long afterId) {
         log.info("Entered getAllBySortingOrder({},{})", afterId, group);
@@ -115,6 +127,7 @@ public class GroupServiceImpl  implements GroupService {
             group.setSortingOrder(1);
             groupRepository.changeGroupOrderOffset(0, maxOrder+1);
         }
+        outdateSchedulesAndSemesters();
         return groupRepository.save(group);
     }
 
@@ -125,6 +138,8 @@ public class GroupServiceImpl  implements GroupService {
      * @return group with new position
      */
     @Transactional
+    @Caching(evict = {@CacheEvict(value = SemesterServiceImpl.ALL_SEMESTERS, allEntries = true),
+            @CacheEvict(value = SemesterServiceImpl.SEMESTER_BY_ID, allEntries = true)})
     @Override
     public Group updateGroupOrder(Group group, Long afterId) {
         log.info("Entered updateGroupOrder({}, {})", group, afterId);
@@ -141,6 +156,7 @@ public class GroupServiceImpl  implements GroupService {
             group.setSortingOrder(1);
             groupRepository.changeGroupOrderOffset(0, maxOrder+1);
         }
+        outdateSchedulesAndSemesters();
         return groupRepository.update(group);
     }
 
@@ -171,11 +187,14 @@ public class GroupServiceImpl  implements GroupService {
      * @return updated Group entity
      */
     @Transactional
+    @Caching(evict = {@CacheEvict(value = SemesterServiceImpl.ALL_SEMESTERS, allEntries = true),
+            @CacheEvict(value = SemesterServiceImpl.SEMESTER_BY_ID, allEntries = true)})
     @Override
     public Group update(Group group) {
         log.info("In update(entity = [{}]", group);
         checkTitleForUniquenessIgnoringId(group.getTitle(), group.getId());
         group.setSortingOrder(groupRepository.getSortingOrderById(group.getId()).orElse(null));
+        outdateSchedulesAndSemesters();
         return groupRepository.update(group);
     }
 
@@ -185,9 +204,12 @@ public class GroupServiceImpl  implements GroupService {
      * @return deleted Group entity
      */
     @Transactional
+    @Caching(evict = {@CacheEvict(value = SemesterServiceImpl.ALL_SEMESTERS, allEntries = true),
+            @CacheEvict(value = SemesterServiceImpl.SEMESTER_BY_ID, allEntries = true)})
     @Override
     public Group delete(Group group) {
         log.info("In delete(entity = [{}])",  group);
+        outdateSchedulesAndSemesters();
         return groupRepository.delete(group);
     }
 
@@ -271,4 +293,10 @@ public class GroupServiceImpl  implements GroupService {
             throw new FieldAlreadyExistsException(Group.class, "title", title);
         }
     }
+
+    //the groups are shown in the schedules and in the list of semesters with their groups
+    private void outdateSchedulesAndSemesters() {
+        scheduleSnapshotService.bumpAllVersions();
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
+    }
 }
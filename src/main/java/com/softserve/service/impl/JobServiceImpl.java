@@ -0,0 +1,85 @@
+package com.softserve.service.impl;
+
+import com.softserve.dto.ExecutorStatsDTO;
+import com.softserve.dto.JobStatusDTO;
+import com.softserve.dto.enums.JobStatus;
+import com.softserve.service.JobService;
+import com.softserve.util.MonitoredTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class JobServiceImpl implements JobService {
+
+    private static final int KEPT_JOBS = 100;
+
+    private final Map<String, MonitoredTaskExecutor> executors;
+    private final Map<String, JobStatusDTO> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JobStatusDTO> eldest) {
+                    return size() > KEPT_JOBS;
+                }
+            });
+
+    @Autowired
+    public JobServiceImpl(Map<String, MonitoredTaskExecutor> executors) {
+        this.executors = new TreeMap<>(executors);
+    }
+
+    /**
+     * Method registers the job which runs in background, so that its state can be requested later
+     *
+     * @param name name of the job
+     * @param job  the running job
+     * @return status of the job
+     */
+    @Override
+    public JobStatusDTO track(String name, CompletableFuture<?> job) {
+        log.info("In track(name = [{}])", name);
+        String id = UUID.randomUUID().toString();
+        jobs.put(id, new JobStatusDTO(id, name, JobStatus.RUNNING, null, null));
+        job.whenComplete((result, e) -> {
+            if (e == null) {
+                jobs.computeIfPresent(id, (key, status) -> new JobStatusDTO(id, name, JobStatus.DONE, result, null));
+            } else {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Job {} with id {} failed", name, id, cause);
+                jobs.computeIfPresent(id, (key, status) -> new JobStatusDTO(id, name, JobStatus.FAILED, null, cause.getMessage()));
+            }
+        });
+        return getStatus(id).orElseThrow();
+    }
+
+    /**
+     * Method gets the state of the job
+     *
+     * @param id id of the job
+     * @return status of the job with its result if it is done, or empty Optional if the job is unknown or too old
+     */
+    @Override
+    public Optional<JobStatusDTO> getStatus(String id) {
+        log.info("In getStatus(id = [{}])", id);
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Method gets the load of every background executor
+     *
+     * @return list of executors stats ordered by name
+     */
+    @Override
+    public List<ExecutorStatsDTO> getExecutorsStats() {
+        log.info("In getExecutorsStats()");
+        return executors.values().stream()
+                .map(MonitoredTaskExecutor::getStats)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,7 @@
 package com.softserve.service.impl;
 
+import com.softserve.dto.snapshot.LessonSnapshot;
+import com.softserve.entity.Group;
 import com.softserve.entity.Lesson;
 import com.softserve.entity.Semester;
 import com.softserve.entity.Subject;
@@ -8,33 +10,47 @@ import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.repository.LessonRepository;
 import com.softserve.service.LessonService;
+import com.softserve.service.ScheduleSnapshotService;
 import com.softserve.service.SemesterService;
 import com.softserve.service.SubjectService;
+import com.softserve.util.CachedSnapshots;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class LessonServiceImpl implements LessonService {
 
+    public static final String ALL_LESSONS = "lessons";
+    public static final String LESSONS_BY_TEACHER = "lessonsByTeacher";
+    public static final String LESSONS_BY_GROUP = "lessonsByGroup";
+    public static final String LESSONS_BY_SEMESTER = "lessonsBySemester";
+
     private final LessonRepository lessonRepository;
     private final SubjectService subjectService;
     private final SemesterService semesterService;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final CacheManager cacheManager;
 
     @Autowired
-    public LessonServiceImpl(LessonRepository lessonRepository, SubjectService subjectService, SemesterService semesterService) {
+    public LessonServiceImpl(LessonRepository lessonRepository, SubjectService subjectService, SemesterService semesterService,
+                             ScheduleSnapshotService scheduleSnapshotService, CacheManager cacheManager) {
         this.lessonRepository = lessonRepository;
         this.subjectService = subjectService;
         this.semesterService = semesterService;
+        this.scheduleSnapshotService = scheduleSnapshotService;
+        this.cacheManager = cacheManager;
     }
 
     /**
@@ -61,33 +77,38 @@ public class LessonServiceImpl implements LessonService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable("lessons")
     public List<Lesson> getAll() {
         log.info("In getAll()");
-        List<Lesson> lessons = lessonRepository.getAll();
-        lessons.forEach(e -> {
-            Hibernate.initialize(e.getSemester().getPeriods());
-            Hibernate.initialize(e.getSemester().getGroups());
+        return getLessons(ALL_LESSONS, SimpleKey.EMPTY, () -> {
+            List<Lesson> lessons = lessonRepository.getAll();
+            lessons.forEach(e -> {
+                Hibernate.initialize(e.getSemester().getPeriods());
+                Hibernate.initialize(e.getSemester().getGroups());
+            });
+            return lessons;
         });
-        return lessonRepository.getAll();
     }
 
     /**
-     * Method gets information about all lessons from Repository
+     * Method gets information about all lessons of the teacher in the current semester from Repository.
+     * The lessons are cached by semester and teacher
      *
-     * @return List of all lessons
+     * @param teacherId id of the teacher
+     * @return List of the lessons of the teacher
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "lessons", key = "#teacherId")
     public List<Lesson> getLessonByTeacher(Long teacherId) {
         log.info("In getLessonByTeacher()");
-        List<Lesson> lessons = lessonRepository.getLessonByTeacher(teacherId, semesterService.getCurrentSemester().getId());
-        lessons.forEach(e -> {
-            Hibernate.initialize(e.getSemester().getPeriods());
-            Hibernate.initialize(e.getSemester().getGroups());
+        Long semesterId = semesterService.getCurrentSemester().getId();
+        return getLessons(LESSONS_BY_TEACHER, key(semesterId, teacherId), () -> {
+            List<Lesson> lessons = lessonRepository.getLessonByTeacher(teacherId, semesterId);
+            lessons.forEach(e -> {
+                Hibernate.initialize(e.getSemester().getPeriods());
+                Hibernate.initialize(e.getSemester().getGroups());
+            });
+            return lessons;
         });
-        return lessons;
     }
 
     /**
@@ -100,7 +121,6 @@ public class LessonServiceImpl implements LessonService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "lessons", allEntries = true)
     public Lesson save(Lesson object) {
         object.setSemester(semesterService.getCurrentSemester());
         log.info("In save(entity = [{}]", object);
@@ -112,6 +132,7 @@ public class LessonServiceImpl implements LessonService {
                 Subject subject = subjectService.getById(object.getSubject().getId());
                 object.setSubjectForSite(subject.getName());
             }
+            evictLessons(object.getSemester().getId(), Collections.singleton(object));
             return lessonRepository.save(object);
         }
     }
@@ -125,7 +146,6 @@ public class LessonServiceImpl implements LessonService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "lessons", allEntries = true)
     public List<Lesson> save(List<Lesson> lessons) {
         log.info("In save(lessons = [{}])", lessons);
         List<Lesson> lessonsList = new ArrayList<>();
@@ -143,22 +163,34 @@ public class LessonServiceImpl implements LessonService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "lessons", allEntries = true)
     public Lesson update(Lesson lesson) {
         lesson.setSemester(semesterService.getCurrentSemester());
         log.info("In update(entity = [{}]", lesson);
         if (isLessonForGroupExistsAndIgnoreWithId(lesson)) {
             throw new EntityAlreadyExistsException("Lesson with this parameters already exists");
         }
+        scheduleSnapshotService.bumpVersion(lesson.getSemester().getId());
+        Set<Long> teacherIds = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        teacherIds.add(lesson.getTeacher().getId());
+        groupIds.add(lesson.getGroup().getId());
         if (lesson.isGrouped()) {
             Lesson oldLesson = getById(lesson.getId());
             if (!oldLesson.isGrouped()) {
                 lessonRepository.setGrouped(lesson.getId());
             }
+            teacherIds.add(oldLesson.getTeacher().getId());
+            groupIds.add(oldLesson.getGroup().getId());
+            lessonRepository.getGroupedLessonsByLesson(oldLesson).forEach(grouped -> groupIds.add(grouped.getGroup().getId()));
+            evictLessons(lesson.getSemester().getId(), teacherIds, groupIds);
             boolean isSubjectUpdated = oldLesson.getSubject().getId().longValue() != lesson.getSubject().getId().longValue();
             boolean isTeacherUpdated = oldLesson.getTeacher().getId() != lesson.getTeacher().getId();
             lesson = lessonRepository.updateGrouped(oldLesson, lesson, isSubjectUpdated || isTeacherUpdated);
         } else {
+            //the lesson is not loaded into the session, as the detached one is reattached by the update
+            lessonRepository.getTeacherIdById(lesson.getId()).ifPresent(teacherIds::add);
+            lessonRepository.getGroupIdById(lesson.getId()).ifPresent(groupIds::add);
+            evictLessons(lesson.getSemester().getId(), teacherIds, groupIds);
             lesson = lessonRepository.update(lesson);
         }
         return lesson;
@@ -172,33 +204,40 @@ public class LessonServiceImpl implements LessonService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "lessons", allEntries = true)
     public Lesson delete(Lesson object) {
         log.info("In delete(object = [{}])", object);
+        scheduleSnapshotService.bumpVersion(object.getSemester().getId());
         if (object.isGrouped()) {
+            List<Lesson> groupedLessons = new ArrayList<>(lessonRepository.getGroupedLessonsByLesson(object));
+            groupedLessons.add(object);
+            evictLessons(object.getSemester().getId(), groupedLessons);
             return lessonRepository.deleteGrouped(object);
         }
+        evictLessons(object.getSemester().getId(), Collections.singleton(object));
         return lessonRepository.delete(object);
 
     }
 
     /**
-     * Method gets information about all lessons for particular group from Repository
+     * Method gets information about all lessons for particular group in the current semester from Repository.
+     * The lessons are cached by semester and group
      *
      * @param groupId Identity number of the group for which need to find all lessons
      * @return List of filtered lessons
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "lessons", key = "#groupId")
     public List<Lesson> getAllForGroup(Long groupId) {
         log.info("In getAllForGroup(groupId = [{}])", groupId);
-        List<Lesson> lessons = lessonRepository.getAllForGroup(groupId, semesterService.getCurrentSemester().getId());
-        lessons.forEach(e -> {
-            Hibernate.initialize(e.getSemester().getPeriods());
-            Hibernate.initialize(e.getSemester().getGroups());
+        Long semesterId = semesterService.getCurrentSemester().getId();
+        return getLessons(LESSONS_BY_GROUP, key(semesterId, groupId), () -> {
+            List<Lesson> lessons = lessonRepository.getAllForGroup(groupId, semesterId);
+            lessons.forEach(e -> {
+                Hibernate.initialize(e.getSemester().getPeriods());
+                Hibernate.initialize(e.getSemester().getGroups());
+            });
+            return lessons;
         });
-        return lessons;
     }
 
     /**
@@ -247,15 +286,16 @@ public class LessonServiceImpl implements LessonService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "lessons", key = "#semesterId")
     public List<Lesson> getLessonsBySemester(Long semesterId) {
         log.info("In getLessonsBySemester(semesterId = [{}])", semesterId);
-        List<Lesson> lessons = lessonRepository.getLessonsBySemester(semesterId);
-        lessons.forEach(e -> {
-            Hibernate.initialize(e.getSemester().getPeriods());
-            Hibernate.initialize(e.getSemester().getGroups());
+        return getLessons(LESSONS_BY_SEMESTER, semesterId, () -> {
+            List<Lesson> lessons = lessonRepository.getLessonsBySemester(semesterId);
+            lessons.forEach(e -> {
+                Hibernate.initialize(e.getSemester().getPeriods());
+                Hibernate.initialize(e.getSemester().getGroups());
+            });
+            return lessons;
         });
-        return lessons;
     }
 
     /**
@@ -274,6 +314,7 @@ public class LessonServiceImpl implements LessonService {
             lesson.setSemester(toSemester);
             toLessons.add(lessonRepository.save(lesson));
         }
+        evictLessons(toSemester.getId(), toLessons);
         return toLessons;
     }
 
@@ -287,14 +328,18 @@ public class LessonServiceImpl implements LessonService {
     @Transactional
     public Lesson saveLessonDuringCopy(Lesson lesson) {
         log.info("In method saveLessonDuringCopy with lesson = {}", lesson);
+        evictLessons(lesson.getSemester().getId(), Collections.singleton(lesson));
         return lessonRepository.save(lesson);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "lessons", allEntries = true)
     public void deleteLessonBySemesterId(Long semesterId) {
         log.info("In method deleteLessonBySemesterId with semesterId = {}", semesterId);
+        scheduleSnapshotService.bumpVersion(semesterId);
+        //the teachers of the deleted lessons aren't known without loading them, so the lessons of all teachers are evicted
+        evictLessons(semesterId, Collections.emptySet(), getGroupIds(semesterId));
+        getCache(LESSONS_BY_TEACHER).clear();
         lessonRepository.deleteLessonBySemesterId(semesterId);
     }
 
@@ -338,6 +383,62 @@ public class LessonServiceImpl implements LessonService {
     @Transactional
     public Integer updateLinkToMeeting(Lesson lesson) {
         log.info("In service updateLinkToMeeting lesson = [{}]", lesson);
+        if (lesson.getSemester() != null) {
+            Long semesterId = lesson.getSemester().getId();
+            scheduleSnapshotService.bumpVersion(semesterId);
+            evictLessons(semesterId, Collections.singleton(lesson.getTeacher().getId()), getGroupIds(semesterId));
+        }
         return lessonRepository.updateLinkToMeeting(lesson);
     }
+
+    /**
+     * Method evicts the cached lists of lessons which can contain the lessons, when the transaction is committed.
+     * It is used when the lessons are saved bypassing this service
+     *
+     * @param semesterId id of the semester of the lessons
+     * @param lessons    the changed lessons
+     */
+    @Override
+    public void evictLessons(Long semesterId, Collection<Lesson> lessons) {
+        Set<Long> teacherIds = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            teacherIds.add(lesson.getTeacher().getId());
+            groupIds.add(lesson.getGroup().getId());
+        }
+        evictLessons(semesterId, teacherIds, groupIds);
+    }
+
+    //the groups of the semester are taken from the cache of semesters, so no lessons are loaded just to evict them
+    private Set<Long> getGroupIds(Long semesterId) {
+        Set<Group> groups = semesterService.getById(semesterId).getGroups();
+        return groups == null ? Collections.emptySet()
+                : groups.stream().map(Group::getId).collect(Collectors.toSet());
+    }
+
+    //only the lists which can contain the changed lessons are evicted, when the transaction is committed
+    private void evictLessons(Long semesterId, Collection<Long> teacherIds, Collection<Long> groupIds) {
+        log.debug("Evicting lessons of semester {}, teachers {} and groups {}", semesterId, teacherIds, groupIds);
+        getCache(ALL_LESSONS).clear();
+        getCache(LESSONS_BY_SEMESTER).evict(semesterId);
+        Cache byTeacher = getCache(LESSONS_BY_TEACHER);
+        teacherIds.forEach(teacherId -> byTeacher.evict(key(semesterId, teacherId)));
+        Cache byGroup = getCache(LESSONS_BY_GROUP);
+        groupIds.forEach(groupId -> byGroup.evict(key(semesterId, groupId)));
+    }
+
+    //the snapshots of the lessons are cached, the semester of the cached lessons is taken from the cache of semesters
+    private List<Lesson> getLessons(String cacheName, Object key, Supplier<List<Lesson>> loader) {
+        return CachedSnapshots.get(getCache(cacheName), key,
+                (List<LessonSnapshot> snapshots) -> LessonSnapshot.toLessons(snapshots, semesterService::getById),
+                loader, LessonSnapshot::of);
+    }
+
+    private Cache getCache(String name) {
+        return new TransactionAwareCacheDecorator(Objects.requireNonNull(cacheManager.getCache(name)));
+    }
+
+    private static String key(Long semesterId, Long id) {
+        return semesterId + ":" + id;
+    }
 }
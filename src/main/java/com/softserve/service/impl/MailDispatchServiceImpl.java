@@ -0,0 +1,201 @@
+package com.softserve.service.impl;
+
+import com.softserve.config.AsyncConfig;
+import com.softserve.dto.MailDispatchStatusDTO;
+import com.softserve.dto.MailRecipientStatusDTO;
+import com.softserve.dto.MailWithAttachmentDTO;
+import com.softserve.dto.enums.MailStatus;
+import com.softserve.service.MailDispatchService;
+import com.softserve.service.MailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@PropertySource("classpath:mail.properties")
+public class MailDispatchServiceImpl implements MailDispatchService {
+
+    private static final int KEPT_DISPATCHES = 100;
+
+    private final MailService mailService;
+    private final Executor executor;
+    private final String host;
+    private final long interval;
+    private final int attempts;
+    private final long backoff;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, List<RecipientStatus>> dispatches = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<RecipientStatus>> eldest) {
+                    return size() > KEPT_DISPATCHES;
+                }
+            });
+
+    @Autowired
+    public MailDispatchServiceImpl(MailService mailService, @Qualifier(AsyncConfig.DISPATCH_EXECUTOR) Executor executor,
+                                   Environment environment) {
+        this.mailService = mailService;
+        this.executor = executor;
+        this.host = environment.getProperty("spring.mail.host", "");
+        int rate = environment.getProperty("mail.dispatch.rate", Integer.class, 5);
+        this.interval = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        this.attempts = Math.max(1, environment.getProperty("mail.dispatch.attempts", Integer.class, 3));
+        this.backoff = environment.getProperty("mail.dispatch.backoff", Long.class, 1000L);
+    }
+
+    /**
+     * Method puts the mails into the dispatch queue and returns without waiting for them to be sent.
+     * The mails which do not fit into the queue are not sent and are reported as FAILED
+     *
+     * @param mails the mails to send
+     * @return status of the dispatch with every queued mail in QUEUED state
+     */
+    @Override
+    public MailDispatchStatusDTO dispatch(List<MailWithAttachmentDTO> mails) {
+        return dispatch(mails, Collections.emptyMap());
+    }
+
+    /**
+     * Method puts the mails into the dispatch queue and returns without waiting for them to be sent.
+     * The receivers whose mails can't be made are reported as FAILED after the mails, as well as
+     * the mails which do not fit into the queue
+     *
+     * @param mails           the mails to send
+     * @param failedReceivers reasons why the mails are not made, by the receivers
+     * @return status of the dispatch with every queued mail in QUEUED state
+     */
+    @Override
+    public MailDispatchStatusDTO dispatch(List<MailWithAttachmentDTO> mails, Map<String, String> failedReceivers) {
+        log.info("In dispatch(mails = [{}], failedReceivers = [{}])", mails.size(), failedReceivers.size());
+        String id = UUID.randomUUID().toString();
+        List<RecipientStatus> statuses = new ArrayList<>();
+        for (MailWithAttachmentDTO mail : mails) {
+            statuses.add(new RecipientStatus(mail.getReceiver()));
+        }
+        for (Map.Entry<String, String> failedReceiver : failedReceivers.entrySet()) {
+            RecipientStatus status = new RecipientStatus(failedReceiver.getKey());
+            status.update(MailStatus.FAILED, 0, failedReceiver.getValue());
+            statuses.add(status);
+        }
+        dispatches.put(id, statuses);
+        for (int i = 0; i < mails.size(); i++) {
+            MailWithAttachmentDTO mail = mails.get(i);
+            RecipientStatus status = statuses.get(i);
+            try {
+                executor.execute(() -> send(mail, status));
+            } catch (RejectedExecutionException e) {
+                log.warn("Mail to {} is dropped, dispatch queue is full", mail.getReceiver());
+                status.update(MailStatus.FAILED, 0, "Dispatch queue is full");
+            }
+        }
+        return toDTO(id, statuses);
+    }
+
+    /**
+     * Method gets the state of every mail of the dispatch
+     *
+     * @param id id of the dispatch
+     * @return status of the dispatch or empty Optional if the dispatch is unknown or too old
+     */
+    @Override
+    public Optional<MailDispatchStatusDTO> getStatus(String id) {
+        log.info("In getStatus(id = [{}])", id);
+        return Optional.ofNullable(dispatches.get(id)).map(statuses -> toDTO(id, statuses));
+    }
+
+    private void send(MailWithAttachmentDTO mail, RecipientStatus status) {
+        long delay = backoff;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                status.update(MailStatus.SENDING, attempt, null);
+                rateLimiters.computeIfAbsent(host, key -> new RateLimiter(interval)).acquire();
+                mailService.send(mail.getFileName(), mail.getReceiver(), mail.getSubject(), mail.getText(),
+                        mail.getAttachment().get());
+                status.update(MailStatus.SENT, attempt, null);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                status.update(MailStatus.FAILED, attempt, e.getMessage());
+                return;
+            } catch (Exception e) {
+                log.warn("Attempt {} to send mail to {} failed", attempt, mail.getReceiver(), e);
+                if (attempt == attempts) {
+                    status.update(MailStatus.FAILED, attempt, e.getMessage());
+                    return;
+                }
+                status.update(MailStatus.RETRYING, attempt, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    status.update(MailStatus.FAILED, attempt, e.getMessage());
+                    return;
+                }
+                delay *= 2;
+            }
+        }
+    }
+
+    private MailDispatchStatusDTO toDTO(String id, List<RecipientStatus> statuses) {
+        return new MailDispatchStatusDTO(id, statuses.stream()
+                .map(RecipientStatus::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    private static class RecipientStatus {
+        private final String receiver;
+        private MailStatus status = MailStatus.QUEUED;
+        private int attempts;
+        private String error;
+
+        private RecipientStatus(String receiver) {
+            this.receiver = receiver;
+        }
+
+        private synchronized void update(MailStatus status, int attempts, String error) {
+            this.status = status;
+            this.attempts = attempts;
+            this.error = error;
+        }
+
+        private synchronized MailRecipientStatusDTO toDTO() {
+            return new MailRecipientStatusDTO(receiver, status, attempts, error);
+        }
+    }
+
+    //spreads the mails sent through one smtp host evenly over time
+    private static class RateLimiter {
+        private final long interval;
+        private long next;
+
+        private RateLimiter(long interval) {
+            this.interval = interval;
+            this.next = System.nanoTime();
+        }
+
+        private void acquire() throws InterruptedException {
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, next);
+                next = start + interval;
+                wait = start - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.softserve.service.impl;
 
+import com.softserve.config.AsyncConfig;
 import com.softserve.dto.EmailMessageDTO;
 import com.softserve.entity.TemporarySchedule;
 import com.softserve.exception.MessageNotSendException;
@@ -74,7 +75,7 @@ public class MailServiceImpl implements MailService {
      * @param subject the subject of the message
      * @param message message from the letter
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void send(String emailTo, String subject, String message) {
         log.info("Enter into send method with emailTo {}, subject {}", emailTo, subject);
@@ -148,7 +149,7 @@ public class MailServiceImpl implements MailService {
         this.mailSender.send(mimeMessage);
     }
 
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     @Override
     public void send(final String emailTo, final String subject, TemporarySchedule temporarySchedule, final String emailTemplate) throws MessagingException
     {
@@ -6,8 +6,12 @@ import com.softserve.exception.IncorrectTimeException;
 import com.softserve.exception.PeriodConflictException;
 import com.softserve.repository.PeriodRepository;
 import com.softserve.service.PeriodService;
+import com.softserve.service.ResourceVersionService;
+import com.softserve.service.ScheduleSnapshotService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,10 +24,15 @@ import java.util.stream.Collectors;
 public class PeriodServiceImpl implements PeriodService {
 
     private final PeriodRepository periodRepository;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
-    public PeriodServiceImpl(PeriodRepository periodRepository) {
+    public PeriodServiceImpl(PeriodRepository periodRepository, ScheduleSnapshotService scheduleSnapshotService,
+                             ResourceVersionService resourceVersionService) {
         this.periodRepository = periodRepository;
+        this.scheduleSnapshotService = scheduleSnapshotService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
@@ -106,6 +115,8 @@ public class PeriodServiceImpl implements PeriodService {
      * @return updated period
      * @throws FieldAlreadyExistsException when periods name already exists
      */
+    @Caching(evict = {@CacheEvict(value = SemesterServiceImpl.ALL_SEMESTERS, allEntries = true),
+            @CacheEvict(value = SemesterServiceImpl.SEMESTER_BY_ID, allEntries = true)})
     @Override
     public Period update(Period object) {
         log.info("Enter into update of PeriodServiceImpl with entity:{}", object);
@@ -118,6 +129,7 @@ public class PeriodServiceImpl implements PeriodService {
                     periodRepository.findByName(object.getName()).get().getId() != object.getId()) {
                 throw new FieldAlreadyExistsException(Period.class, "name", object.getName());
             }
+            outdateSchedulesAndSemesters();
             return periodRepository.update(object);
         } else {
             throw new PeriodConflictException("your period has conflict with already existed periods");
@@ -130,9 +142,12 @@ public class PeriodServiceImpl implements PeriodService {
      * @param object object is going to be deleted
      * @return deleted object
      */
+    @Caching(evict = {@CacheEvict(value = SemesterServiceImpl.ALL_SEMESTERS, allEntries = true),
+            @CacheEvict(value = SemesterServiceImpl.SEMESTER_BY_ID, allEntries = true)})
     @Override
     public Period delete(Period object) {
         log.info("Enter into delete of PeriodServiceImpl with entity:{}", object);
+        outdateSchedulesAndSemesters();
         return periodRepository.delete(object);
     }
 
@@ -190,6 +205,10 @@ public class PeriodServiceImpl implements PeriodService {
     public List<Period> getFirstFourPeriods() {
         return periodRepository.getFistFourPeriods();
     }
-}
-
 
+    //the periods are shown in the schedules and in the list of semesters with their periods
+    private void outdateSchedulesAndSemesters() {
+        scheduleSnapshotService.bumpAllVersions();
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
+    }
+}
@@ -0,0 +1,96 @@
+package com.softserve.service.impl;
+
+import com.softserve.service.ResourceVersionService;
+import com.softserve.service.ScheduleSnapshotService;
+import com.softserve.util.CircuitBreaker;
+import com.softserve.util.VersionCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.temporal.TemporalAdjusters.previousOrSame;
+
+@Service
+@Slf4j
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private static final String VERSION_KEY = "resourceVersion:";
+
+    private final VersionCounters versions;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+
+    @Autowired
+    public ResourceVersionServiceImpl(RedissonClient redissonClient, ScheduleSnapshotService scheduleSnapshotService,
+                                      CircuitBreaker cacheCircuitBreaker) {
+        this.versions = new VersionCounters(redissonClient, cacheCircuitBreaker);
+        this.scheduleSnapshotService = scheduleSnapshotService;
+    }
+
+    /**
+     * Method gets current version of the resource
+     *
+     * @param resource name of the resource, e.g. TEACHERS
+     * @return version of the resource or empty if Redis is not available
+     */
+    @Override
+    public Optional<Long> getVersion(String resource) {
+        return versions.get(VERSION_KEY + resource);
+    }
+
+    /**
+     * Method increments version of the resource, so that the clients which have the resource reload it.
+     * Inside of a transaction the version is incremented after commit, so that the clients
+     * can't get the data which is not committed yet with the new version
+     *
+     * @param resource name of the resource, e.g. TEACHERS
+     */
+    @Override
+    public void bumpVersion(String resource) {
+        log.info("In bumpVersion(resource = [{}])", resource);
+        //teachers are shown in the schedules, so the schedule snapshots of all semesters become outdated
+        if (TEACHERS.equals(resource)) {
+            scheduleSnapshotService.bumpAllVersions();
+        }
+        versions.increment(VERSION_KEY + resource);
+    }
+
+    /**
+     * Method gets strong entity tag of the current version of the resource
+     *
+     * @param resource name of the resource, e.g. TEACHERS
+     * @return entity tag or empty if the version is not available, then the response must not be conditional
+     */
+    @Override
+    public Optional<String> getETag(String resource) {
+        return getVersion(resource).map(version -> "\"" + resource + "-" + version + "\"");
+    }
+
+    /**
+     * Method gets strong entity tag of the part of the semester schedule. The tag changes when the schedule
+     * of the semester, the teachers (with their emails and departments), the groups, rooms, subjects, periods
+     * or the semesters are changed and every week, because the schedule shows temporary schedules
+     * of the current and the next weeks. Changes of the groups, rooms, subjects and periods are counted
+     * in the version of the schedule, see {@link ScheduleSnapshotService#getVersion(Long)}
+     *
+     * @param semesterId id of the semester
+     * @param slice      name of the part of the semester schedule, e.g. "full", "group:1", "teacher:1"
+     * @return entity tag or empty if any of the versions is not available, then the response must not be conditional
+     */
+    @Override
+    public Optional<String> getScheduleETag(Long semesterId, String slice) {
+        LocalDate week = LocalDate.now().with(previousOrSame(MONDAY));
+        Optional<Long> scheduleVersion = scheduleSnapshotService.getVersion(semesterId);
+        Optional<Long> teachersVersion = getVersion(TEACHERS);
+        Optional<Long> semestersVersion = getVersion(SEMESTERS);
+        if (!scheduleVersion.isPresent() || !teachersVersion.isPresent() || !semestersVersion.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of("\"schedule-" + semesterId + "-" + scheduleVersion.get() + "-" + teachersVersion.get()
+                + "-" + semestersVersion.get() + "-" + week + "-" + slice + "\"");
+    }
+}
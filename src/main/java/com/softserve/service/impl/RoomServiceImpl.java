@@ -7,6 +7,8 @@ import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.repository.RoomRepository;
 import com.softserve.service.RoomService;
+import com.softserve.service.ScheduleOccupancyService;
+import com.softserve.service.ScheduleSnapshotService;
 import com.softserve.mapper.RoomForScheduleInfoMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Transactional
 @Service
@@ -23,11 +28,17 @@ public class RoomServiceImpl implements RoomService {
 
     private final RoomRepository roomRepository;
     private final RoomForScheduleInfoMapper roomForScheduleInfoMapper;
+    private final ScheduleOccupancyService scheduleOccupancyService;
+    private final ScheduleSnapshotService scheduleSnapshotService;
 
     @Autowired
-    public RoomServiceImpl(RoomRepository roomRepository, RoomForScheduleInfoMapper roomForScheduleInfoMapper) {
+    public RoomServiceImpl(RoomRepository roomRepository, RoomForScheduleInfoMapper roomForScheduleInfoMapper,
+                           ScheduleOccupancyService scheduleOccupancyService,
+                           ScheduleSnapshotService scheduleSnapshotService) {
         this.roomRepository = roomRepository;
         this.roomForScheduleInfoMapper = roomForScheduleInfoMapper;
+        this.scheduleOccupancyService = scheduleOccupancyService;
+        this.scheduleSnapshotService = scheduleSnapshotService;
     }
 
     /**
@@ -96,6 +107,7 @@ public class RoomServiceImpl implements RoomService {
         if (isRoomExists(object)) {
             throw new EntityAlreadyExistsException("Room with this parameters already exists");
         } else {
+            scheduleSnapshotService.bumpAllVersions();
             return roomRepository.update(object);
         }
     }
@@ -109,6 +121,7 @@ public class RoomServiceImpl implements RoomService {
     @Override
     public Room delete(Room object) {
         log.info("Enter into delete of RoomServiceImpl with entity:{}", object);
+        scheduleSnapshotService.bumpAllVersions();
         return roomRepository.delete(object);
     }
 
@@ -139,9 +152,12 @@ public class RoomServiceImpl implements RoomService {
 
     @Override
     public List<RoomForScheduleInfoDTO> getAllRoomsForCreatingSchedule(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId) {
-        List<RoomForScheduleInfoDTO> rooms = roomForScheduleInfoMapper.toRoomForScheduleDTOList(getAvailableRoomsForSchedule(semesterId, dayOfWeek, evenOdd, classId));
+        Set<Long> busyRoomIds = scheduleOccupancyService.getBusyRoomIds(semesterId, dayOfWeek, evenOdd, classId);
+        Map<Boolean, List<Room>> availableRooms = roomRepository.getAll().stream()
+                .collect(Collectors.partitioningBy(room -> !busyRoomIds.contains(room.getId())));
+        List<RoomForScheduleInfoDTO> rooms = roomForScheduleInfoMapper.toRoomForScheduleDTOList(availableRooms.get(true));
         rooms.forEach(roomForScheduleDTO -> roomForScheduleDTO.setAvailable(true));
-        rooms.addAll(roomForScheduleInfoMapper.toRoomForScheduleDTOList(getNotAvailableRoomsForSchedule(semesterId, dayOfWeek, evenOdd, classId)));
+        rooms.addAll(roomForScheduleInfoMapper.toRoomForScheduleDTOList(availableRooms.get(false)));
         return rooms;
     }
 
@@ -216,6 +232,7 @@ public class RoomServiceImpl implements RoomService {
         }else {
             room.setSortOrder(1.0);
         }
+        scheduleSnapshotService.bumpAllVersions();
         return roomRepository.update(room);
     }
 
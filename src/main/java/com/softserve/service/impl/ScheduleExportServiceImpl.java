@@ -0,0 +1,132 @@
+package com.softserve.service.impl;
+
+import com.softserve.config.AsyncConfig;
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.dto.ScheduleForTeacherDTO;
+import com.softserve.exception.FileDownloadException;
+import com.softserve.service.ScheduleExportService;
+import com.softserve.service.ScheduleService;
+import com.softserve.util.PdfReportGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
+@Service
+@PropertySource("classpath:export.properties")
+public class ScheduleExportServiceImpl implements ScheduleExportService {
+
+    private final ScheduleService scheduleService;
+    private final PdfReportGenerator pdfReportGenerator = new PdfReportGenerator();
+    private final AsyncTaskExecutor executor;
+    private final int window;
+
+    @Autowired
+    public ScheduleExportServiceImpl(ScheduleService scheduleService,
+                                     @Qualifier(AsyncConfig.EXPORT_EXECUTOR) AsyncTaskExecutor executor,
+                                     Environment environment) {
+        this.scheduleService = scheduleService;
+        this.executor = executor;
+        this.window = environment.getProperty("export.pdf.window", Integer.class, 8);
+    }
+
+    /**
+     * Method writes pdf schedules of all groups and teachers of the semester into zip archive.
+     * Documents are rendered in parallel, but only a limited number of them is kept in memory
+     * until it is written into the archive
+     *
+     * @param semesterId id of the semester
+     * @param language   language of the documents
+     * @param out        the stream the archive is written to, it is not closed by the method
+     */
+    @Override
+    public void writeSemesterSchedulesToZip(Long semesterId, Locale language, OutputStream out) {
+        log.info("In writeSemesterSchedulesToZip(semesterId = [{}], language = [{}])", semesterId, language);
+        long start = System.currentTimeMillis();
+        List<ScheduleForGroupDTO> groupSchedules = scheduleService.getFullScheduleForGroup(semesterId, null);
+        List<ScheduleForTeacherDTO> teacherSchedules = scheduleService.getAllSchedulesForTeachers(semesterId);
+
+        List<Callable<RenderedDocument>> tasks = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (ScheduleForGroupDTO schedule : groupSchedules) {
+            String name = uniqueName(names, "groups/", schedule.getGroup().getTitle(), schedule.getGroup().getId());
+            tasks.add(() -> new RenderedDocument(name, pdfReportGenerator.groupScheduleReport(schedule, language).toByteArray()));
+        }
+        for (ScheduleForTeacherDTO schedule : teacherSchedules) {
+            String teacher = String.join(" ", Objects.toString(schedule.getTeacher().getSurname(), ""),
+                    Objects.toString(schedule.getTeacher().getName(), ""),
+                    Objects.toString(schedule.getTeacher().getPatronymic(), "")).trim();
+            String name = uniqueName(names, "teachers/", teacher, schedule.getTeacher().getId());
+            tasks.add(() -> new RenderedDocument(name, pdfReportGenerator.teacherScheduleReport(schedule, language).toByteArray()));
+        }
+
+        Deque<Future<RenderedDocument>> rendering = new ArrayDeque<>();
+        try {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            for (Callable<RenderedDocument> task : tasks) {
+                if (rendering.size() >= window) {
+                    write(zip, rendering.poll().get());
+                }
+                rendering.add(executor.submit(task));
+            }
+            while (!rendering.isEmpty()) {
+                write(zip, rendering.poll().get());
+            }
+            zip.finish();
+            zip.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw exportFailed(rendering, e);
+        } catch (ExecutionException | IOException e) {
+            throw exportFailed(rendering, e);
+        } catch (RejectedExecutionException e) {
+            log.warn("Export of semester {} is rejected, export executor is full", semesterId);
+            rendering.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        log.info("Exported {} group and {} teacher schedules of semester {} in {} ms", groupSchedules.size(),
+                teacherSchedules.size(), semesterId, System.currentTimeMillis() - start);
+    }
+
+    private String uniqueName(Set<String> names, String folder, String title, Long id) {
+        String name = folder + title.replaceAll("[\\\\/:*?\"<>|]", "_") + ".pdf";
+        if (!names.add(name)) {
+            name = folder + title.replaceAll("[\\\\/:*?\"<>|]", "_") + "_" + id + ".pdf";
+            names.add(name);
+        }
+        return name;
+    }
+
+    private void write(ZipOutputStream zip, RenderedDocument document) throws IOException {
+        zip.putNextEntry(new ZipEntry(document.name));
+        zip.write(document.content);
+        zip.closeEntry();
+    }
+
+    private FileDownloadException exportFailed(Deque<Future<RenderedDocument>> rendering, Exception e) {
+        log.error("Failed to export schedules", e);
+        rendering.forEach(future -> future.cancel(true));
+        return new FileDownloadException("Failed to download file");
+    }
+
+    private static class RenderedDocument {
+        private final String name;
+        private final byte[] content;
+
+        private RenderedDocument(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.softserve.service.impl;
+
+import com.softserve.entity.Lesson;
+import com.softserve.entity.Room;
+import com.softserve.entity.Schedule;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.repository.RoomRepository;
+import com.softserve.repository.ScheduleRepository;
+import com.softserve.service.ScheduleOccupancyService;
+import com.softserve.service.ScheduleSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps in memory which groups, teachers and rooms are busy in the semester, so that the checks
+ * made while creating a schedule don't need to query the database.
+ * The index of the semester is built with one query and is rebuilt when the schedule version of the semester
+ * is changed, i.e. after any write to schedules, lessons or temporary schedules of the semester on any node
+ */
+@Transactional(readOnly = true)
+@Service
+@Slf4j
+public class ScheduleOccupancyServiceImpl implements ScheduleOccupancyService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final RoomRepository roomRepository;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final boolean verify;
+
+    private final Map<Long, SemesterOccupancy> semesters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ScheduleOccupancyServiceImpl(ScheduleRepository scheduleRepository, RoomRepository roomRepository,
+                                        ScheduleSnapshotService scheduleSnapshotService, Environment environment) {
+        this.scheduleRepository = scheduleRepository;
+        this.roomRepository = roomRepository;
+        this.scheduleSnapshotService = scheduleSnapshotService;
+        this.verify = Optional.ofNullable(environment.getProperty("schedule.occupancy.verify", Boolean.class)).orElse(false);
+    }
+
+    /**
+     * Method checks if group already has a class at that time
+     *
+     * @param semesterId id of the semester
+     * @param dayOfWeek  day of the week
+     * @param evenOdd    even/odd/weekly
+     * @param classId    id of the period
+     * @param groupId    id of the group
+     * @return true if group has a class at that time
+     */
+    @Override
+    public boolean isGroupBusy(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId, Long groupId) {
+        log.info("In isGroupBusy(semesterId = [{}], dayOfWeek = [{}], evenOdd = [{}], classId = [{}], groupId = [{}])", semesterId, dayOfWeek, evenOdd, classId, groupId);
+        return answer(semesterId, "group " + groupId,
+                occupancy -> occupancy.isBusy(occupancy.groups, groupId, dayOfWeek, evenOdd, classId),
+                () -> scheduleRepository.conflictForGroupInSchedule(semesterId, dayOfWeek, evenOdd, classId, groupId) != 0);
+    }
+
+    /**
+     * Method checks if teacher already has a class at that time
+     *
+     * @param semesterId id of the semester
+     * @param dayOfWeek  day of the week
+     * @param evenOdd    even/odd/weekly
+     * @param classId    id of the period
+     * @param teacherId  id of the teacher
+     * @return true if teacher has a class at that time
+     */
+    @Override
+    public boolean isTeacherBusy(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId, Long teacherId) {
+        log.info("In isTeacherBusy(semesterId = [{}], dayOfWeek = [{}], evenOdd = [{}], classId = [{}], teacherId = [{}])", semesterId, dayOfWeek, evenOdd, classId, teacherId);
+        return answer(semesterId, "teacher " + teacherId,
+                occupancy -> occupancy.isBusy(occupancy.teachers, teacherId, dayOfWeek, evenOdd, classId),
+                () -> scheduleRepository.conflictForTeacherInSchedule(semesterId, dayOfWeek, evenOdd, classId, teacherId) != 0);
+    }
+
+    /**
+     * Method gets ids of the rooms which are already taken at that time
+     *
+     * @param semesterId id of the semester
+     * @param dayOfWeek  day of the week
+     * @param evenOdd    even/odd/weekly
+     * @param classId    id of the period
+     * @return set of ids of the rooms
+     */
+    @Override
+    public Set<Long> getBusyRoomIds(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId) {
+        log.info("In getBusyRoomIds(semesterId = [{}], dayOfWeek = [{}], evenOdd = [{}], classId = [{}])", semesterId, dayOfWeek, evenOdd, classId);
+        return answer(semesterId, "rooms",
+                occupancy -> occupancy.getBusy(occupancy.rooms, dayOfWeek, evenOdd, classId),
+                () -> roomRepository.getNotAvailableRoomsForSchedule(semesterId, dayOfWeek, evenOdd, classId).stream()
+                        .map(Room::getId)
+                        .collect(Collectors.toSet()));
+    }
+
+    private <T> T answer(Long semesterId, String subject, Function<SemesterOccupancy, T> fromIndex, Supplier<T> fromDb) {
+        T result;
+        try {
+            result = fromIndex.apply(getOccupancy(semesterId));
+        } catch (RuntimeException e) {
+            log.warn("Occupancy index of semester [{}] is not available, the database is used", semesterId, e);
+            return fromDb.get();
+        }
+        if (verify) {
+            T expected = fromDb.get();
+            if (!expected.equals(result)) {
+                log.warn("Occupancy index of semester [{}] differs from the database for {}: [{}] instead of [{}]",
+                        semesterId, subject, result, expected);
+                semesters.remove(semesterId);
+                return expected;
+            }
+        }
+        return result;
+    }
+
+    private SemesterOccupancy getOccupancy(Long semesterId) {
+        long version = scheduleSnapshotService.getVersion(semesterId).orElseThrow(
+                () -> new IllegalStateException("Schedule version of semester " + semesterId + " is not available"));
+        SemesterOccupancy occupancy = semesters.get(semesterId);
+        if (occupancy == null || occupancy.version != version) {
+            occupancy = new SemesterOccupancy(version, scheduleRepository.getAllSchedulesWithDetailsBySemester(semesterId));
+            semesters.put(semesterId, occupancy);
+        }
+        return occupancy;
+    }
+
+    /**
+     * Occupancy of the semester: for every group, teacher and room a bitset with a bit
+     * for every day of the week, period and half of the week (even/odd)
+     */
+    static class SemesterOccupancy {
+        private static final int WEEK_BITS = DayOfWeek.values().length * 2;
+
+        private final long version;
+        private final Map<Long, Integer> periods = new HashMap<>();
+        private final Map<Long, BitSet> groups = new HashMap<>();
+        private final Map<Long, BitSet> teachers = new HashMap<>();
+        private final Map<Long, BitSet> rooms = new HashMap<>();
+
+        SemesterOccupancy(long version, List<Schedule> schedules) {
+            this.version = version;
+            for (Schedule schedule : schedules) {
+                Lesson lesson = schedule.getLesson();
+                Long periodId = schedule.getPeriod().getId();
+                periods.putIfAbsent(periodId, periods.size());
+                //rooms are taken by schedules of disabled entities as well, groups and teachers are not
+                mark(rooms, schedule.getRoom().getId(), schedule.getDayOfWeek(), schedule.getEvenOdd(), periodId);
+                if (!schedule.getRoom().isDisable() && !lesson.getSemester().isDisable() && !lesson.getGroup().isDisable()
+                        && !lesson.getTeacher().isDisable() && !lesson.getSubject().isDisable()) {
+                    mark(groups, lesson.getGroup().getId(), schedule.getDayOfWeek(), schedule.getEvenOdd(), periodId);
+                    mark(teachers, lesson.getTeacher().getId(), schedule.getDayOfWeek(), schedule.getEvenOdd(), periodId);
+                }
+            }
+        }
+
+        private void mark(Map<Long, BitSet> index, Long id, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long periodId) {
+            BitSet bits = index.computeIfAbsent(id, key -> new BitSet());
+            int bit = bit(dayOfWeek, periodId);
+            if (evenOdd != EvenOdd.ODD) {
+                bits.set(bit);
+            }
+            if (evenOdd != EvenOdd.EVEN) {
+                bits.set(bit + 1);
+            }
+        }
+
+        boolean isBusy(Map<Long, BitSet> index, Long id, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long periodId) {
+            BitSet bits = index.get(id);
+            if (bits == null || !periods.containsKey(periodId)) {
+                return false;
+            }
+            int bit = bit(dayOfWeek, periodId);
+            return (evenOdd != EvenOdd.ODD && bits.get(bit)) || (evenOdd != EvenOdd.EVEN && bits.get(bit + 1));
+        }
+
+        Set<Long> getBusy(Map<Long, BitSet> index, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long periodId) {
+            return index.keySet().stream()
+                    .filter(id -> isBusy(index, id, dayOfWeek, evenOdd, periodId))
+                    .collect(Collectors.toSet());
+        }
+
+        private int bit(DayOfWeek dayOfWeek, Long periodId) {
+            return periods.get(periodId) * WEEK_BITS + (dayOfWeek.getValue() - 1) * 2;
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package com.softserve.service.impl;
 
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.softserve.dto.*;
 import com.softserve.entity.*;
 import com.softserve.entity.enums.EvenOdd;
 import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
-import com.softserve.exception.MessageNotSendException;
 import com.softserve.exception.ScheduleConflictException;
 import com.softserve.mapper.*;
 import com.softserve.repository.ScheduleRepository;
 import com.softserve.service.*;
 import com.softserve.util.PdfReportGenerator;
+import com.softserve.util.ScheduleOccurrenceExpander;
+import com.softserve.util.TemporaryScheduleOverlay;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,8 +27,9 @@ import javax.mail.MessagingException;
 import java.io.ByteArrayOutputStream;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Transactional
@@ -44,6 +47,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final TemporaryScheduleService temporaryScheduleService;
     private final UserService userService;
     private final MailService mailService;
+    private final MailDispatchService mailDispatchService;
 
     private final GroupMapper groupMapper;
     private final PeriodMapper periodMapper;
@@ -52,15 +56,23 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final TeacherMapper teacherMapper;
     private final LessonForTeacherScheduleMapper lessonForTeacherScheduleMapper;
     private final TemporaryScheduleMapper temporaryScheduleMapper;
+    private final ConverterToSchedulesForGroup converterToSchedulesForGroup;
+    private final ConverterToSchedulesForTeacher converterToSchedulesForTeacher;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final ScheduleOccupancyService scheduleOccupancyService;
 
 
     @Autowired
     public ScheduleServiceImpl(ScheduleRepository scheduleRepository, LessonService lessonService, RoomService roomService,
                                GroupService groupService, TeacherService teacherService,
-                               SemesterService semesterService, UserService userService, MailService mailService, GroupMapper groupMapper, PeriodMapper periodMapper,
+                               SemesterService semesterService, UserService userService, MailService mailService,
+                               MailDispatchService mailDispatchService, GroupMapper groupMapper, PeriodMapper periodMapper,
                                LessonsInScheduleMapper lessonsInScheduleMapper, RoomForScheduleMapper roomForScheduleMapper,
                                TeacherMapper teacherMapper, LessonForTeacherScheduleMapper lessonForTeacherScheduleMapper,
-                               TemporaryScheduleService temporaryScheduleService, TemporaryScheduleMapper temporaryScheduleMapper) {
+                               TemporaryScheduleService temporaryScheduleService, TemporaryScheduleMapper temporaryScheduleMapper,
+                               ConverterToSchedulesForGroup converterToSchedulesForGroup,
+                               ConverterToSchedulesForTeacher converterToSchedulesForTeacher,
+                               ScheduleSnapshotService scheduleSnapshotService, ScheduleOccupancyService scheduleOccupancyService) {
         this.scheduleRepository = scheduleRepository;
         this.lessonService = lessonService;
         this.roomService = roomService;
@@ -69,6 +81,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         this.semesterService = semesterService;
         this.userService = userService;
         this.mailService = mailService;
+        this.mailDispatchService = mailDispatchService;
         this.temporaryScheduleService = temporaryScheduleService;
         this.groupMapper = groupMapper;
         this.periodMapper = periodMapper;
@@ -77,6 +90,10 @@ public class ScheduleServiceImpl implements ScheduleService {
         this.teacherMapper = teacherMapper;
         this.lessonForTeacherScheduleMapper = lessonForTeacherScheduleMapper;
         this.temporaryScheduleMapper = temporaryScheduleMapper;
+        this.converterToSchedulesForGroup = converterToSchedulesForGroup;
+        this.converterToSchedulesForTeacher = converterToSchedulesForTeacher;
+        this.scheduleSnapshotService = scheduleSnapshotService;
+        this.scheduleOccupancyService = scheduleOccupancyService;
     }
 
     /**
@@ -128,6 +145,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             log.error("Schedule for group with id [{}] has conflict with already existing", schedule.getLesson().getGroup().getId());
             throw new ScheduleConflictException("You can't create schedule item for this group, because one already exists");
         } else {
+            scheduleSnapshotService.bumpVersion(schedule.getLesson().getSemester().getId());
             return scheduleRepository.save(schedule);
         }
     }
@@ -191,6 +209,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         if (isConflictForGroupInSchedule(object.getLesson().getSemester().getId(), object.getDayOfWeek(), object.getEvenOdd(), object.getPeriod().getId(), object.getLesson().getId())) {
             throw new ScheduleConflictException("You can't update schedule item for this group, because it violates already existing");
         } else {
+            scheduleSnapshotService.bumpVersion(object.getLesson().getSemester().getId());
             return scheduleRepository.update(object);
         }
     }
@@ -204,6 +223,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     @CacheEvict(value = "scheduleList", allEntries = true)
     public Schedule delete(Schedule object) {
+        scheduleSnapshotService.bumpVersion(object.getLesson().getSemester().getId());
         return scheduleRepository.delete(object);
     }
 
@@ -239,8 +259,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         log.info("In isConflictForGroupInSchedule(semesterId = [{}], dayOfWeek = [{}], evenOdd = [{}], classId = [{}], lessonId = [{}])", semesterId, dayOfWeek, evenOdd, classId, lessonId);
         //Get group ID from Lesson by lesson ID to search further by group ID
         Long groupId = lessonService.getById(lessonId).getGroup().getId();
-        //If Repository doesn't count any records that means there are no conflicts for this group at that point of time
-        return scheduleRepository.conflictForGroupInSchedule(semesterId, dayOfWeek, evenOdd, classId, groupId) != 0;
+        return scheduleOccupancyService.isGroupBusy(semesterId, dayOfWeek, evenOdd, classId, groupId);
     }
 
     //verifies if teacher already has another schedule at  at some semester (by semester id) at some day for some period(by classId)
@@ -248,7 +267,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         log.info("In isTeacherAvailable (semesterId = [{}], dayOfWeek = [{}], evenOdd = [{}], classId = [{}], lessonId = [{}]", semesterId, dayOfWeek, evenOdd, classId, lessonId);
         //Get teacher ID from Lesson by lesson ID to search further by teacher ID
         Long teacherId = lessonService.getById(lessonId).getTeacher().getId();
-        return scheduleRepository.conflictForTeacherInSchedule(semesterId, dayOfWeek, evenOdd, classId, teacherId) == 0;
+        return !scheduleOccupancyService.isTeacherBusy(semesterId, dayOfWeek, evenOdd, classId, teacherId);
     }
 
     /**
@@ -261,89 +280,33 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public List<ScheduleForGroupDTO> getFullScheduleForGroup(Long semesterId, Long groupId) {
         log.info("In getFullSchedule(semesterId = [{}], groupId[{}])", semesterId, groupId);
-        List<ScheduleForGroupDTO> scheduleForGroupDTOList = new ArrayList<>();
-        List<Group> groupsForSchedule = new ArrayList<>();
-        if (semesterId != null && groupId != null) {
-            if (groupHasScheduleInSemester(semesterId, groupId)) {
-                groupsForSchedule.add(groupService.getById(groupId));
-                ScheduleForGroupDTO scheduleForGroupDTO = new ScheduleForGroupDTO();
-                scheduleForGroupDTO.setGroup(groupMapper.groupToGroupDTO(groupsForSchedule.get(0)));
-                scheduleForGroupDTO.setDays(getDaysWhenGroupHasClassesBySemester(semesterId, groupId));
-                scheduleForGroupDTOList.add(scheduleForGroupDTO);
-            }
-            return addTemporaryScheduleToScheduleForGroup(semesterId, scheduleForGroupDTOList);
-        } else {
-            groupsForSchedule.addAll(scheduleRepository.uniqueGroupsInScheduleBySemester(semesterId));
-            for (Group group : groupsForSchedule) {
-                ScheduleForGroupDTO scheduleForGroupDTO = new ScheduleForGroupDTO();
-                scheduleForGroupDTO.setGroup(groupMapper.groupToGroupDTO(group));
-                scheduleForGroupDTO.setDays(getDaysWhenGroupHasClassesBySemester(semesterId, group.getId()));
-                scheduleForGroupDTOList.add(scheduleForGroupDTO);
-            }
-            return addTemporaryScheduleToScheduleForGroup(semesterId, scheduleForGroupDTOList);
-        }
+        String slice = groupId != null ? "group:" + groupId : "groups";
+        return scheduleSnapshotService.get(semesterId, withCurrentWeek(slice),
+                new TypeReference<List<ScheduleForGroupDTO>>() {}, () -> buildFullScheduleForGroup(semesterId, groupId));
     }
 
-    //gets days when group has schedule and fill days by classes
-    private List<DaysOfWeekWithClassesForGroupDTO> getDaysWhenGroupHasClassesBySemester(Long semesterId, Long groupId) {
-        log.info("In getDaysWhenGroupHasClassesBySemester(semesterId = [{}], groupId = [{}])", semesterId, groupId);
-        List<DaysOfWeekWithClassesForGroupDTO> daysOfWeekWithClassesForGroupDTOList = new ArrayList<>();
-        List<DayOfWeek> weekList = scheduleRepository.getDaysWhenGroupHasClassesBySemester(semesterId, groupId);
-        weekList.sort(Comparator.comparingInt(DayOfWeek::getValue));
-        for (DayOfWeek day : weekList) {
-            DaysOfWeekWithClassesForGroupDTO daysOfWeekWithClassesForGroupDTO = new DaysOfWeekWithClassesForGroupDTO();
-            daysOfWeekWithClassesForGroupDTO.setDay(day);
-            daysOfWeekWithClassesForGroupDTO.setClasses(getClassesForGroupBySemesterByDayOfWeek(semesterId, groupId, day));
-            daysOfWeekWithClassesForGroupDTOList.add(daysOfWeekWithClassesForGroupDTO);
-
-        }
-
-        return daysOfWeekWithClassesForGroupDTOList;
+    private List<ScheduleForGroupDTO> buildFullScheduleForGroup(Long semesterId, Long groupId) {
+        List<Schedule> schedules = groupId != null
+                ? scheduleRepository.getSchedulesForGroupBySemester(semesterId, groupId)
+                : scheduleRepository.getSchedulesForGroupsBySemester(semesterId);
+        loadTeacherUsers(schedules);
+        List<ScheduleForGroupDTO> scheduleForGroupDTOList = converterToSchedulesForGroup.getWithClassesOnly(schedules);
+        return addTemporaryScheduleToScheduleForGroup(semesterId, scheduleForGroupDTOList);
     }
 
-    //get classes in Day when group has schedule and fill classes by even/odd lessons
-    private List<ClassesInScheduleForGroupDTO> getClassesForGroupBySemesterByDayOfWeek(Long semesterId, Long groupId, DayOfWeek day) {
-        log.info("In getClassesForGroupBySemesterByDayOfWeek(semesterId = [{}], groupId = [{}], day = [{}])", semesterId, groupId, day);
-        //get Classes in that Day for group
-        List<Period> uniquePeriods = scheduleRepository.periodsForGroupByDayBySemester(semesterId, groupId, day);
-        List<ClassesInScheduleForGroupDTO> classesInScheduleForGroupDTOList = new ArrayList<>();
-
-        for (Period period : uniquePeriods) {
-            ClassesInScheduleForGroupDTO classesInScheduleForGroupDTO = new ClassesInScheduleForGroupDTO();
-            classesInScheduleForGroupDTO.setPeriod(periodMapper.convertToDto(period));
-            classesInScheduleForGroupDTO.setWeeks(getLessonsForGroupForPeriodBySemesterAndDay(semesterId, groupId, period.getId(), day));
-            classesInScheduleForGroupDTOList.add(classesInScheduleForGroupDTO);
-        }
-
-        return classesInScheduleForGroupDTOList;
+    //temporary schedules are added only for the current and the next weeks, so the snapshots are kept per week
+    private String withCurrentWeek(String slice) {
+        return slice + ":" + LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
     }
 
-    //get and fill even and odd lessons for group at some semester (by semester id) at some day for some period(by periodId)
-    private LessonInScheduleByWeekDTO getLessonsForGroupForPeriodBySemesterAndDay(Long semesterId, Long groupId, Long periodId, DayOfWeek day) {
-        log.info("In getLessonsForGroupForPeriodBySemesterAndDay(semesterId = [{}], groupId = [{}], periodId = [{}], day = [{}])", semesterId, groupId, periodId, day);
-        LessonInScheduleByWeekDTO lessonInScheduleByWeekDTO = new LessonInScheduleByWeekDTO();
-        Lesson lesson = scheduleRepository.lessonForGroupByDayBySemesterByPeriodByWeek(semesterId, groupId, periodId, day, EvenOdd.EVEN).orElse(null);
-        LessonsInScheduleDTO even = lessonsInScheduleMapper.lessonToLessonsInScheduleDTO(lesson);
-
-        if (lesson != null) {
-            even.setRoom(roomForScheduleMapper.roomToRoomForScheduleDTO(scheduleRepository.getRoomForLesson(semesterId, periodId, lesson.getId(), day, EvenOdd.EVEN)));
-            lessonInScheduleByWeekDTO.setEven(even);
-        }
-
-        Lesson lesson2 = scheduleRepository.lessonForGroupByDayBySemesterByPeriodByWeek(semesterId, groupId, periodId, day, EvenOdd.ODD).orElse(null);
-        LessonsInScheduleDTO odd = lessonsInScheduleMapper.lessonToLessonsInScheduleDTO(lesson2);
-        if (lesson2 != null) {
-            odd.setRoom(roomForScheduleMapper.roomToRoomForScheduleDTO(scheduleRepository.getRoomForLesson(semesterId, periodId, lesson2.getId(), day, EvenOdd.ODD)));
-            lessonInScheduleByWeekDTO.setOdd(odd);
-        }
-
-        return lessonInScheduleByWeekDTO;
-    }
-
-    //verifies if group with groupId has Schedule in semester with semesterId
-    private boolean groupHasScheduleInSemester(Long semesterId, Long groupId) {
-        log.info("In groupHasScheduleInSemester(semesterId = [{}], groupId = [{}])", semesterId, groupId);
-        return scheduleRepository.countSchedulesForGroupInSemester(semesterId, groupId) != 0;
+    //loads users of the teachers in one query, so that the emails are taken from the session while mapping the lessons
+    private void loadTeacherUsers(List<Schedule> schedules) {
+        List<Long> userIds = schedules.stream()
+                .map(schedule -> schedule.getLesson().getTeacher().getUserId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        userService.getUsersByIds(userIds);
     }
 
     /**
@@ -354,28 +317,47 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public ScheduleFullDTO getFullScheduleForSemester(Long semesterId) {
+        log.info("In getFullScheduleForSemester(semesterId = [{}])", semesterId);
+        return scheduleSnapshotService.get(semesterId, withCurrentWeek("full"),
+                new TypeReference<ScheduleFullDTO>() {}, () -> buildFullScheduleForSemester(semesterId));
+    }
+
+    private ScheduleFullDTO buildFullScheduleForSemester(Long semesterId) {
         ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
         SemesterMapper semesterMapper = new SemesterMapperImpl();
-        scheduleFullDTO.setSemester(semesterMapper.semesterToSemesterDTO(semesterService.getById(semesterId)));
+        Semester semester = semesterService.getById(semesterId);
+        scheduleFullDTO.setSemester(semesterMapper.semesterToSemesterDTO(semester));
 
-        List<ScheduleForGroupDTO> scheduleForGroupDTOList = new ArrayList<>();
-        List<Group> groupsForSchedule = new ArrayList<>();
-
-        groupsForSchedule.addAll(scheduleRepository.uniqueGroupsInScheduleBySemester(semesterId));
-        for (Group group : groupsForSchedule) {
-            ScheduleForGroupDTO scheduleForGroupDTO = new ScheduleForGroupDTO();
-            scheduleForGroupDTO.setGroup(groupMapper.groupToGroupDTO(group));
-            scheduleForGroupDTO.setDays(getDaysForSemester(semesterId, group.getId()));
-            scheduleForGroupDTOList.add(scheduleForGroupDTO);
-
-        }
-        scheduleFullDTO.setSchedule(scheduleForGroupDTOList);
+        List<Schedule> schedules = scheduleRepository.getSchedulesForGroupsBySemester(semesterId);
+        loadTeacherUsers(schedules);
+        scheduleFullDTO.setSchedule(converterToSchedulesForGroup.getBySemester(semester, schedules));
         return addTemporaryScheduleToScheduleForSemester(semesterId, scheduleFullDTO);
 
     }
 
+    /**
+     * Method builds full schedules of the groups in particular semester one by one, so that only one of them
+     * is kept in memory while it is passed to the consumer. The snapshot cache is not used
+     *
+     * @param semesterId id of semester
+     * @param consumer   consumer of the schedules, it is called in the group sorting order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachScheduleForGroupInSemester(Long semesterId, Consumer<ScheduleForGroupDTO> consumer) {
+        log.info("In forEachScheduleForGroupInSemester(semesterId = [{}])", semesterId);
+        Semester semester = semesterService.getById(semesterId);
+        List<Schedule> schedules = scheduleRepository.getSchedulesForGroupsBySemester(semesterId);
+        loadTeacherUsers(schedules);
+        Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> temporarySchedules = getTemporaryScheduleOverlays(semesterId);
+        converterToSchedulesForGroup.forEachBySemester(semester, schedules, scheduleForGroupDTO -> {
+            setTemporaryScheduleInEvenOdd(temporarySchedules, scheduleForGroupDTO);
+            consumer.accept(scheduleForGroupDTO);
+        });
+    }
+
     private ScheduleFullDTO addTemporaryScheduleToScheduleForSemester(Long semesterId, ScheduleFullDTO scheduleFullDTO) {
-        Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> temporarySchedules = temporaryScheduleService.getTemporaryScheduleForEvenOddWeeks(semesterId);
+        Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> temporarySchedules = getTemporaryScheduleOverlays(semesterId);
 
         for (ScheduleForGroupDTO scheduleForGroupDTO : scheduleFullDTO.getSchedule()) {
             setTemporaryScheduleInEvenOdd(temporarySchedules, scheduleForGroupDTO);
@@ -383,38 +365,29 @@ public class ScheduleServiceImpl implements ScheduleService {
         return scheduleFullDTO;
     }
 
-    private void setTemporaryScheduleInEvenOdd(Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> temporarySchedules, ScheduleForGroupDTO scheduleForGroupDTO) {
+    private void setTemporaryScheduleInEvenOdd(Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> temporarySchedules, ScheduleForGroupDTO scheduleForGroupDTO) {
         for (DaysOfWeekWithClassesForGroupDTO daysOfWeekWithClassesForGroupDTO : scheduleForGroupDTO.getDays()) {
+            TemporaryScheduleOverlay evenOverlay = temporarySchedules.get(EvenOdd.EVEN).get(daysOfWeekWithClassesForGroupDTO.getDay());
+            TemporaryScheduleOverlay oddOverlay = temporarySchedules.get(EvenOdd.ODD).get(daysOfWeekWithClassesForGroupDTO.getDay());
             for (ClassesInScheduleForGroupDTO classesInScheduleForGroupDTO : daysOfWeekWithClassesForGroupDTO.getClasses()) {
                 LessonInScheduleByWeekDTO lessonInScheduleByWeekDTO = classesInScheduleForGroupDTO.getWeeks();
                 LessonsInScheduleDTO even = lessonInScheduleByWeekDTO.getEven();
                 LessonsInScheduleDTO odd = lessonInScheduleByWeekDTO.getOdd();
-                if (even != null && !temporarySchedules.get(EvenOdd.EVEN).isEmpty()) {
-                    if (temporarySchedules.get(EvenOdd.EVEN).get(daysOfWeekWithClassesForGroupDTO.getDay()) != null) {
-                        TemporaryScheduleDTOForDashboard temporaryScheduleDTO = compareScheduleWithTemporarySchedule(temporarySchedules.get(EvenOdd.EVEN).get(daysOfWeekWithClassesForGroupDTO.getDay()),
-                                scheduleForGroupDTO.getGroup().getId(), classesInScheduleForGroupDTO.getPeriod().getId(), classesInScheduleForGroupDTO.getWeeks().getEven().getTeacher().getId());
-                        if (temporaryScheduleDTO != null) {
-                            even.setTemporaryScheduleDTO(temporaryScheduleDTO);
-                        }
-                    }
+                if (even != null && evenOverlay != null) {
+                    even.setTemporaryScheduleDTO(compareScheduleWithTemporarySchedule(evenOverlay,
+                            scheduleForGroupDTO.getGroup().getId(), classesInScheduleForGroupDTO.getPeriod().getId(), even.getTeacher().getId()));
                 }
-                if (odd != null && !temporarySchedules.get(EvenOdd.ODD).isEmpty()) {
-                    if (temporarySchedules.get(EvenOdd.ODD).get(daysOfWeekWithClassesForGroupDTO.getDay()) != null) {
-                        TemporaryScheduleDTOForDashboard temporaryScheduleDTO = compareScheduleWithTemporarySchedule(temporarySchedules.get(EvenOdd.ODD).get(daysOfWeekWithClassesForGroupDTO.getDay()),
-                                scheduleForGroupDTO.getGroup().getId(), classesInScheduleForGroupDTO.getPeriod().getId(), classesInScheduleForGroupDTO.getWeeks().getOdd().getTeacher().getId());
-                        if (temporaryScheduleDTO != null) {
-                            odd.setTemporaryScheduleDTO(temporaryScheduleDTO);
-                        }
-                    }
+                if (odd != null && oddOverlay != null) {
+                    odd.setTemporaryScheduleDTO(compareScheduleWithTemporarySchedule(oddOverlay,
+                            scheduleForGroupDTO.getGroup().getId(), classesInScheduleForGroupDTO.getPeriod().getId(), odd.getTeacher().getId()));
                 }
-
             }
         }
     }
 
 
     private List<ScheduleForGroupDTO> addTemporaryScheduleToScheduleForGroup(Long semesterId, List<ScheduleForGroupDTO> scheduleForGroupDTOList) {
-        Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> temporarySchedules = temporaryScheduleService.getTemporaryScheduleForEvenOddWeeks(semesterId);
+        Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> temporarySchedules = getTemporaryScheduleOverlays(semesterId);
         for (ScheduleForGroupDTO scheduleForGroupDTO : scheduleForGroupDTOList) {
             setTemporaryScheduleInEvenOdd(temporarySchedules, scheduleForGroupDTO);
         }
@@ -422,63 +395,27 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
 
-    private TemporaryScheduleDTOForDashboard compareScheduleWithTemporarySchedule(List<TemporarySchedule> temporarySchedules, Long groupId, Long periodId, Long teacherId) {
-        TemporaryScheduleDTOForDashboard temporaryScheduleDTO = new TemporaryScheduleDTOForDashboard();
-        TemporarySchedule temporarySchedule = temporarySchedules.stream().filter(temporarySchedule1 ->
-                !temporarySchedule1.isVacation() && temporarySchedule1.getScheduleId() != null
-                        && temporarySchedule1.getPeriod().getId() == periodId
-                        && temporarySchedule1.getGroup().getId().equals(groupId)
-        )
-                .findFirst().orElse(temporarySchedules.stream().filter(temporarySchedule1 ->
-                        temporarySchedule1.getScheduleId() != null &&
-                                temporarySchedule1.getPeriod().getId() == periodId
-                                && temporarySchedule1.getGroup().getId().equals(groupId) &&
-                                temporarySchedule1.isVacation()
-                ).findFirst().orElse(temporarySchedules.stream().filter(temporarySchedule1 ->
-                        temporarySchedule1.getPeriod() == null &&
-                                temporarySchedule1.getScheduleId() == null &&
-                                temporarySchedule1.getTeacher() != null
-                                && temporarySchedule1.getTeacher().getId() == teacherId
-                                && temporarySchedule1.isVacation()
-                ).findFirst().orElse(temporarySchedules.stream().filter(temporarySchedule1 ->
-                        temporarySchedule1.getScheduleId() == null && temporarySchedule1.isVacation()
-                ).findFirst().orElse(new TemporarySchedule()))));
-        temporaryScheduleDTO = temporaryScheduleMapper.convertToDtoForDashboard(temporarySchedule);
-        return temporaryScheduleDTO;
-    }
-
-
-    private List<DaysOfWeekWithClassesForGroupDTO> getDaysForSemester(Long semesterId, Long groupId) {
-        log.info("In getDaysForSemester(semesterId = [{}])", semesterId);
-        List<DaysOfWeekWithClassesForGroupDTO> daysOfWeekWithClassesForGroupDTOList = new ArrayList<>();
-        Set<DayOfWeek> weekList = semesterService.getById(semesterId).getDaysOfWeek();
-        TreeSet<DayOfWeek> dayOfWeeks = new TreeSet<>(weekList);
-        for (DayOfWeek day : dayOfWeeks) {
-            DaysOfWeekWithClassesForGroupDTO daysOfWeekWithClassesForGroupDTO = new DaysOfWeekWithClassesForGroupDTO();
-            daysOfWeekWithClassesForGroupDTO.setDay(day);
-            daysOfWeekWithClassesForGroupDTO.setClasses(getClassesForSemesterByDay(semesterId, day, groupId));
-            daysOfWeekWithClassesForGroupDTOList.add(daysOfWeekWithClassesForGroupDTO);
-
-        }
-
-        return daysOfWeekWithClassesForGroupDTOList;
+    //builds the index of temporary schedules once, so that every cell of the schedule is looked up without scanning them
+    private Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> getTemporaryScheduleOverlays(Long semesterId) {
+        Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> overlays = new EnumMap<>(EvenOdd.class);
+        overlays.put(EvenOdd.EVEN, new EnumMap<>(DayOfWeek.class));
+        overlays.put(EvenOdd.ODD, new EnumMap<>(DayOfWeek.class));
+        temporaryScheduleService.getTemporaryScheduleForEvenOddWeeks(semesterId).forEach((evenOdd, days) ->
+                days.forEach((day, temporarySchedules) -> overlays.computeIfAbsent(evenOdd, key -> new EnumMap<>(DayOfWeek.class))
+                        .put(day, TemporaryScheduleOverlay.of(temporarySchedules))));
+        return overlays;
     }
 
-    private List<ClassesInScheduleForGroupDTO> getClassesForSemesterByDay(Long semesterId, DayOfWeek day, Long groupId) {
-        log.info("In getClassesForSemester(semesterId = [{}])", semesterId);
-        //get Classes in that Day for group
-        Set<Period> semesterPeriods = semesterService.getById(semesterId).getPeriods();
-        List<ClassesInScheduleForGroupDTO> classesInScheduleForGroupDTOList = new ArrayList<>();
-        for (Period period : semesterPeriods) {
-            ClassesInScheduleForGroupDTO classesInScheduleForGroupDTO = new ClassesInScheduleForGroupDTO();
-            classesInScheduleForGroupDTO.setPeriod(periodMapper.convertToDto(period));
-            classesInScheduleForGroupDTO.setWeeks(getLessonsForGroupForPeriodBySemesterAndDay(semesterId, groupId, period.getId(), day));
-            classesInScheduleForGroupDTOList.add(classesInScheduleForGroupDTO);
-        }
-
-        return classesInScheduleForGroupDTOList;
+    private TemporaryScheduleDTOForDashboard compareScheduleWithTemporarySchedule(TemporaryScheduleOverlay temporarySchedules, Long groupId, Long periodId, Long teacherId) {
+        TemporarySchedule temporarySchedule = temporarySchedules.findByGroupAndPeriod(groupId, periodId, false)
+                .or(() -> temporarySchedules.findByGroupAndPeriod(groupId, periodId, true))
+                .or(() -> temporarySchedules.findTeacherVacation(teacherId))
+                .or(temporarySchedules::findSemesterVacation)
+                .orElseGet(TemporarySchedule::new);
+        return temporaryScheduleMapper.convertToDtoForDashboard(temporarySchedule);
     }
 
+
     /**
      * Method gets full schedule for teacher in particular semester
      *
@@ -489,91 +426,88 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public ScheduleForTeacherDTO getScheduleForTeacher(Long semesterId, Long teacherId) {
         log.info("In getScheduleForTeacher(semesterId = [{}], teacherId[{}])", semesterId, teacherId);
+        return scheduleSnapshotService.get(semesterId, withCurrentWeek("teacher:" + teacherId),
+                new TypeReference<ScheduleForTeacherDTO>() {}, () -> buildScheduleForTeacher(semesterId, teacherId));
+    }
+
+    private ScheduleForTeacherDTO buildScheduleForTeacher(Long semesterId, Long teacherId) {
         ScheduleForTeacherDTO scheduleForTeacherDTO = new ScheduleForTeacherDTO();
         SemesterMapper semesterMapper = new SemesterMapperImpl();
         scheduleForTeacherDTO.setSemester(semesterMapper.semesterToSemesterDTO(semesterService.getById(semesterId)));
         //get Teacher Info
         scheduleForTeacherDTO.setTeacher(teacherMapper.teacherToTeacherDTO(teacherService.getById(teacherId)));
 
-        List<DayOfWeek> weekList = scheduleRepository.getDaysWhenTeacherHasClassesBySemester(semesterId, teacherId);
-        weekList.sort(Comparator.comparingInt(DayOfWeek::getValue));
+        //all schedules of the teacher are read in one query and split by days, weeks and periods in memory
+        List<Schedule> schedules = scheduleRepository.getSchedulesForTeacherBySemester(semesterId, teacherId);
+        scheduleForTeacherDTO.setDays(converterToSchedulesForTeacher.getDays(schedules));
+        return addTemporaryScheduleToScheduleForTeacher(semesterId, scheduleForTeacherDTO);
+    }
 
-        List<DaysOfWeekWithClassesForTeacherDTO> daysOfWeekWithClassesForTeacherDTOList = new ArrayList<>();
-        for (DayOfWeek day : weekList) {
-            DaysOfWeekWithClassesForTeacherDTO daysOfWeekWithClassesForTeacherDTO = new DaysOfWeekWithClassesForTeacherDTO();
-            daysOfWeekWithClassesForTeacherDTO.setDay(day);
-            daysOfWeekWithClassesForTeacherDTO.setEvenWeek(getInfoForTeacherScheduleByWeek(semesterId, teacherId, day, EvenOdd.EVEN));
-            daysOfWeekWithClassesForTeacherDTO.setOddWeek(getInfoForTeacherScheduleByWeek(semesterId, teacherId, day, EvenOdd.ODD));
-            daysOfWeekWithClassesForTeacherDTOList.add(daysOfWeekWithClassesForTeacherDTO);
+    /**
+     * Method gets schedules of all teachers that have classes in particular semester
+     *
+     * @param semesterId id of semester
+     * @return list of filled schedules for teachers ordered by surname and name
+     */
+    @Override
+    public List<ScheduleForTeacherDTO> getAllSchedulesForTeachers(Long semesterId) {
+        log.info("In getAllSchedulesForTeachers(semesterId = [{}])", semesterId);
+        return scheduleSnapshotService.get(semesterId, withCurrentWeek("teachers"),
+                new TypeReference<List<ScheduleForTeacherDTO>>() {}, () -> buildAllSchedulesForTeachers(semesterId));
+    }
+
+    private List<ScheduleForTeacherDTO> buildAllSchedulesForTeachers(Long semesterId) {
+        SemesterDTO semesterDTO = new SemesterMapperImpl().semesterToSemesterDTO(semesterService.getById(semesterId));
+        List<Schedule> schedules = scheduleRepository.getSchedulesForGroupsBySemester(semesterId);
+        loadTeacherUsers(schedules);
+        Map<Teacher, List<Schedule>> teacherSchedules = schedules.stream()
+                .collect(Collectors.groupingBy(schedule -> schedule.getLesson().getTeacher(),
+                        () -> new TreeMap<>(Comparator.comparing(Teacher::getSurname)
+                                .thenComparing(Teacher::getName)
+                                .thenComparing(Teacher::getId)),
+                        Collectors.toList()));
+        Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> temporarySchedules = getTemporaryScheduleOverlays(semesterId);
+
+        List<ScheduleForTeacherDTO> scheduleForTeacherDTOList = new ArrayList<>();
+        for (var teacherSchedule : teacherSchedules.entrySet()) {
+            ScheduleForTeacherDTO scheduleForTeacherDTO = new ScheduleForTeacherDTO();
+            scheduleForTeacherDTO.setSemester(semesterDTO);
+            scheduleForTeacherDTO.setTeacher(teacherMapper.teacherToTeacherDTO(teacherSchedule.getKey()));
+            scheduleForTeacherDTO.setDays(converterToSchedulesForTeacher.getDays(teacherSchedule.getValue()));
+            scheduleForTeacherDTOList.add(addTemporaryScheduleToScheduleForTeacher(temporarySchedules, scheduleForTeacherDTO));
         }
-        scheduleForTeacherDTO.setDays(daysOfWeekWithClassesForTeacherDTOList);
-        return addTemporaryScheduleToScheduleForTeacher(semesterId, scheduleForTeacherDTO);
+        return scheduleForTeacherDTOList;
     }
 
     private ScheduleForTeacherDTO addTemporaryScheduleToScheduleForTeacher(Long semesterId, ScheduleForTeacherDTO scheduleForTeacherDTO) {
-        Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> temporarySchedules = temporaryScheduleService.getTemporaryScheduleForEvenOddWeeks(semesterId);
+        return addTemporaryScheduleToScheduleForTeacher(getTemporaryScheduleOverlays(semesterId), scheduleForTeacherDTO);
+    }
+
+    private ScheduleForTeacherDTO addTemporaryScheduleToScheduleForTeacher(Map<EvenOdd, Map<DayOfWeek, TemporaryScheduleOverlay>> temporarySchedules,
+                                                                           ScheduleForTeacherDTO scheduleForTeacherDTO) {
         for (DaysOfWeekWithClassesForTeacherDTO daysOfWeekWithClassesForTeacherDTOList : scheduleForTeacherDTO.getDays()) {
-            for (ClassForTeacherScheduleDTO classForTeacherScheduleDTO : daysOfWeekWithClassesForTeacherDTOList.getEvenWeek().getPeriods()) {
-                for (LessonForTeacherScheduleDTO lessonForTeacherScheduleDTO : classForTeacherScheduleDTO.getLessons()) {
-                    if (lessonForTeacherScheduleDTO != null && !temporarySchedules.get(EvenOdd.EVEN).isEmpty()) {
-                        if (temporarySchedules.get(EvenOdd.EVEN).get(daysOfWeekWithClassesForTeacherDTOList.getDay()) != null) {
-                            TemporaryScheduleDTOForDashboard temporaryScheduleDTO = compareScheduleWithTemporarySchedule(temporarySchedules.get(EvenOdd.EVEN).get(daysOfWeekWithClassesForTeacherDTOList.getDay()),
-                                    lessonForTeacherScheduleDTO.getGroup().getId(), classForTeacherScheduleDTO.getPeriod().getId(), scheduleForTeacherDTO.getTeacher().getId());
-                            if (temporaryScheduleDTO != null) {
-                                lessonForTeacherScheduleDTO.setTemporaryScheduleDTO(temporaryScheduleDTO);
-                            }
-                        }
-                    }
-                }
-            }
-            for (ClassForTeacherScheduleDTO classForTeacherScheduleDTO : daysOfWeekWithClassesForTeacherDTOList.getOddWeek().getPeriods()) {
-                for (LessonForTeacherScheduleDTO lessonForTeacherScheduleDTO : classForTeacherScheduleDTO.getLessons()) {
-                    if (lessonForTeacherScheduleDTO != null && !temporarySchedules.get(EvenOdd.ODD).isEmpty()) {
-                        if (temporarySchedules.get(EvenOdd.ODD).get(daysOfWeekWithClassesForTeacherDTOList.getDay()) != null) {
-                            TemporaryScheduleDTOForDashboard temporaryScheduleDTO = compareScheduleWithTemporarySchedule(temporarySchedules.get(EvenOdd.ODD).get(daysOfWeekWithClassesForTeacherDTOList.getDay()),
-                                    lessonForTeacherScheduleDTO.getGroup().getId(), classForTeacherScheduleDTO.getPeriod().getId(), scheduleForTeacherDTO.getTeacher().getId());
-                            if (temporaryScheduleDTO != null) {
-                                lessonForTeacherScheduleDTO.setTemporaryScheduleDTO(temporaryScheduleDTO);
-                            }
-                        }
-                    }
-                }
-            }
+            setTemporaryScheduleForTeacher(temporarySchedules.get(EvenOdd.EVEN).get(daysOfWeekWithClassesForTeacherDTOList.getDay()),
+                    daysOfWeekWithClassesForTeacherDTOList.getEvenWeek(), scheduleForTeacherDTO.getTeacher().getId());
+            setTemporaryScheduleForTeacher(temporarySchedules.get(EvenOdd.ODD).get(daysOfWeekWithClassesForTeacherDTOList.getDay()),
+                    daysOfWeekWithClassesForTeacherDTOList.getOddWeek(), scheduleForTeacherDTO.getTeacher().getId());
         }
         return scheduleForTeacherDTO;
     }
 
-
-    private ClassesInScheduleForTeacherDTO getInfoForTeacherScheduleByWeek(Long semesterId, Long teacherId, DayOfWeek day, EvenOdd evenOdd) {
-        List<ClassForTeacherScheduleDTO> classForTeacherScheduleDTOList = new ArrayList<>();
-
-        ClassesInScheduleForTeacherDTO classesInScheduleForTeacherDTO = new ClassesInScheduleForTeacherDTO();
-
-        List<Period> periodList = scheduleRepository.periodsForTeacherBySemesterByDayByWeek(semesterId, teacherId, day, evenOdd);
-
-        if (!periodList.isEmpty()) {
-            for (Period period : periodList) {
-                ClassForTeacherScheduleDTO classForTeacherScheduleDTO = new ClassForTeacherScheduleDTO();
-                classForTeacherScheduleDTO.setPeriod(periodMapper.convertToDto(period));
-                classForTeacherScheduleDTO.setLessons(getLessonsForTeacherBySemesterByDayByWeekByPeriod(semesterId, teacherId, day, evenOdd, period.getId()));
-                classForTeacherScheduleDTOList.add(classForTeacherScheduleDTO);
-
+    private void setTemporaryScheduleForTeacher(TemporaryScheduleOverlay temporarySchedules, ClassesInScheduleForTeacherDTO week, Long teacherId) {
+        if (temporarySchedules == null) {
+            return;
+        }
+        for (ClassForTeacherScheduleDTO classForTeacherScheduleDTO : week.getPeriods()) {
+            for (LessonForTeacherScheduleDTO lessonForTeacherScheduleDTO : classForTeacherScheduleDTO.getLessons()) {
+                if (lessonForTeacherScheduleDTO != null) {
+                    lessonForTeacherScheduleDTO.setTemporaryScheduleDTO(compareScheduleWithTemporarySchedule(temporarySchedules,
+                            lessonForTeacherScheduleDTO.getGroup().getId(), classForTeacherScheduleDTO.getPeriod().getId(), teacherId));
+                }
             }
         }
-        classesInScheduleForTeacherDTO.setPeriods(classForTeacherScheduleDTOList);
-        return classesInScheduleForTeacherDTO;
     }
 
-    private List<LessonForTeacherScheduleDTO> getLessonsForTeacherBySemesterByDayByWeekByPeriod(Long semesterId, Long teacherId, DayOfWeek day, EvenOdd evenOdd, Long periodId) {
-        List<LessonForTeacherScheduleDTO> lessonForTeacherScheduleDTOList = new ArrayList<>();
-        List<Lesson> lessons = scheduleRepository.lessonsForTeacherBySemesterByDayByPeriodByWeek(semesterId, teacherId, periodId, day, evenOdd);
-        for (Lesson lesson : lessons) {
-            LessonForTeacherScheduleDTO lessonForTeacherScheduleDTO = lessonForTeacherScheduleMapper.lessonToLessonForTeacherScheduleDTO(lesson);
-            lessonForTeacherScheduleDTO.setRoom(scheduleRepository.getRoomForLesson(semesterId, periodId, lessonForTeacherScheduleDTO.getId(), day, evenOdd).getName());
-            lessonForTeacherScheduleDTOList.add(lessonForTeacherScheduleDTO);
-        }
-        return lessonForTeacherScheduleDTOList;
-    }
 
     @Override
     public List<Schedule> getAllSchedulesByTeacherIdAndSemesterId(Long teacherId, Long semesterId) {
@@ -603,18 +537,54 @@ public class ScheduleServiceImpl implements ScheduleService {
         log.info("In temporaryScheduleByDateRangeForTeacher with fromDate = {} and toDate = {} and teacher = {}", fromDate, toDate, teacherId);
         List<Schedule> schedules = scheduleRepository.scheduleByDateRangeForTeacher(fromDate, toDate, teacherId);
         List<TemporarySchedule> temporarySchedules = temporaryScheduleService.getAllByTeacherAndRange(fromDate, toDate, teacherId);
-        List<TemporarySchedule> vacationByDateRange = temporaryScheduleService.vacationByDateRange(fromDate, toDate);
+        return expandByDateRange(schedules, temporarySchedules, fromDate, toDate);
+    }
 
-        List<Schedule> dateRangeSchedule = new ArrayList<>();
+    /**
+     * Method temporaryScheduleByDateRangeForGroup get all schedules and temporary schedules of the group from db in particular date range
+     *
+     * @param fromDate LocalDate from
+     * @param toDate   LocalDate to
+     * @param groupId  id group
+     * @return list of schedules and temporary schedules
+     */
+    @Override
+    public Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> temporaryScheduleByDateRangeForGroup(LocalDate fromDate, LocalDate toDate, Long groupId) {
+        log.info("In temporaryScheduleByDateRangeForGroup with fromDate = {} and toDate = {} and group = {}", fromDate, toDate, groupId);
+        List<Schedule> schedules = scheduleRepository.scheduleByDateRangeForGroup(fromDate, toDate, groupId);
+        return expandByDateRange(schedules, getTemporarySchedulesByDateRange(schedules, fromDate, toDate), fromDate, toDate);
+    }
+
+    /**
+     * Method temporaryScheduleByDateRangeForRoom get all schedules and temporary schedules in the room from db in particular date range
+     *
+     * @param fromDate LocalDate from
+     * @param toDate   LocalDate to
+     * @param roomId   id room
+     * @return list of schedules and temporary schedules
+     */
+    @Override
+    public Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> temporaryScheduleByDateRangeForRoom(LocalDate fromDate, LocalDate toDate, Long roomId) {
+        log.info("In temporaryScheduleByDateRangeForRoom with fromDate = {} and toDate = {} and room = {}", fromDate, toDate, roomId);
+        List<Schedule> schedules = scheduleRepository.scheduleByDateRangeForRoom(fromDate, toDate, roomId);
+        return expandByDateRange(schedules, getTemporarySchedulesByDateRange(schedules, fromDate, toDate), fromDate, toDate);
+    }
+
+    //get temporary schedules which replace provided schedules in the date range
+    private List<TemporarySchedule> getTemporarySchedulesByDateRange(List<Schedule> schedules, LocalDate fromDate, LocalDate toDate) {
+        List<Long> scheduleIds = schedules.stream().map(Schedule::getId).collect(Collectors.toList());
+        return temporaryScheduleService.getAllByScheduleIdsAndRange(scheduleIds, fromDate, toDate);
+    }
+
+    //expand schedules into the dates of the range with provided temporary schedules and the vacations of the range
+    private Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> expandByDateRange(List<Schedule> schedules, List<TemporarySchedule> temporarySchedules,
+                                                                                            LocalDate fromDate, LocalDate toDate) {
+        List<TemporarySchedule> vacationByDateRange = temporaryScheduleService.vacationByDateRange(fromDate, toDate);
         for (Schedule schedule : schedules) {
             Hibernate.initialize(schedule.getLesson().getSemester().getPeriods());
             Hibernate.initialize(schedule.getLesson().getSemester().getGroups());
-            if (isDateInSemesterDateRange(schedule, toDate)) {
-                dateRangeSchedule.add(schedule);
-            }
         }
-
-        return convertToMapTemporaryScheduleDateRange(fullScheduleForTeacherByDateRange(dateRangeSchedule, fromDate, toDate), temporarySchedules, vacationByDateRange);
+        return ScheduleOccurrenceExpander.of(temporarySchedules, vacationByDateRange).expand(schedules, fromDate, toDate);
     }
 
     /**
@@ -625,6 +595,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public void deleteSchedulesBySemesterId(Long semesterId) {
         log.info("In deleteSchedulesBySemesterId with semesterId = {}", semesterId);
+        scheduleSnapshotService.bumpVersion(semesterId);
         scheduleRepository.deleteSchedulesBySemesterId(semesterId);
     }
 
@@ -649,6 +620,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public Schedule updateWithoutChecks(Schedule schedule) {
         log.info("In updateWithoutChecks with schedule = {}", schedule);
+        scheduleSnapshotService.bumpVersion(schedule.getLesson().getSemester().getId());
         return scheduleRepository.update(schedule);
     }
 
@@ -679,169 +651,55 @@ public class ScheduleServiceImpl implements ScheduleService {
         return scheduleRepository.countByLessonIdPeriodIdEvenOddDayOfWeek(lessonId, periodId, evenOdd, day) != 0;
     }
 
-    //check date in semester date range, if yes return - true, else - false
-    private boolean isDateInSemesterDateRange(Schedule schedule, LocalDate toDate) {
-        DayOfWeek startSemester = schedule.getLesson().getSemester().getStartDay().getDayOfWeek();
-
-        if (schedule.getEvenOdd() == EvenOdd.ODD) {
-            if (startSemester.getValue() > schedule.getDayOfWeek().getValue()) {
-                int i = startSemester.getValue() - schedule.getDayOfWeek().getValue();
-                LocalDate firstCaseDate = schedule.getLesson().getSemester().getStartDay().plusDays(14 - i);
-
-                return checkDateRangeForReturn(firstCaseDate, schedule.getLesson().getSemester().getEndDay(), toDate);
-            }
-            int k = schedule.getDayOfWeek().getValue() - startSemester.getValue();
-            LocalDate secondCaseDate = schedule.getLesson().getSemester().getStartDay().plusDays(k);
-
-            return checkDateRangeForReturn(secondCaseDate, schedule.getLesson().getSemester().getEndDay(), toDate);
-        }
-
-        if (schedule.getEvenOdd() == EvenOdd.EVEN || schedule.getEvenOdd() == EvenOdd.WEEKLY) {
-            if (startSemester.getValue() > schedule.getDayOfWeek().getValue()) {
-                int i = startSemester.getValue() - schedule.getDayOfWeek().getValue();
-                LocalDate firstCaseDate = schedule.getLesson().getSemester().getStartDay().plusDays(7 - i);
-
-                return checkDateRangeForReturn(firstCaseDate, schedule.getLesson().getSemester().getEndDay(), toDate);
-            }
-            int k = schedule.getDayOfWeek().getValue() - startSemester.getValue();
-            if (schedule.getEvenOdd() == EvenOdd.WEEKLY) {
-                LocalDate secondCaseDate = schedule.getLesson().getSemester().getStartDay().plusDays(k);
-                return checkDateRangeForReturn(secondCaseDate, schedule.getLesson().getSemester().getEndDay(), toDate);
-            }
-            LocalDate thirdCaseDate = schedule.getLesson().getSemester().getStartDay().plusDays(7 + k);
-            return checkDateRangeForReturn(thirdCaseDate, schedule.getLesson().getSemester().getEndDay(), toDate);
-        }
-        return false;
-    }
-
-    //this method use for don't duplicate code
-    private boolean checkDateRangeForReturn(LocalDate dateForCheck, LocalDate semesterEndDate, LocalDate toDate) {
-        return (dateForCheck.isBefore(semesterEndDate) || dateForCheck.isEqual(semesterEndDate)) &&
-                (dateForCheck.isBefore(toDate) || dateForCheck.isEqual(toDate));
-    }
-
-    //check dates(even/odd/weekly) for distribution in baskets and create Map<LocalDate, Map<Period, List<Schedule>>>
-    private Map<LocalDate, Map<Period, List<Schedule>>> fullScheduleForTeacherByDateRange(List<Schedule> schedules, LocalDate fromDate, LocalDate toDate) {
-        Map<LocalDate, List<Schedule>> scheduleByDateRange = new LinkedHashMap<>();
-
-        for (LocalDate date = fromDate; date.isBefore(toDate.plusDays(1)); date = date.plusDays(1)) {
-            List<Schedule> scheduleList = new ArrayList<>();
-            for (Schedule schedule : schedules) {
-                if (date.getDayOfWeek() == schedule.getDayOfWeek() && (date.isBefore(schedule.getLesson().getSemester().getEndDay()) ||
-                        date.isEqual(schedule.getLesson().getSemester().getEndDay())) && (date.isAfter(schedule.getLesson().getSemester().getStartDay())
-                        || date.isEqual(schedule.getLesson().getSemester().getStartDay()))) {
-                    int countStartDate = schedule.getLesson().getSemester().getStartDay().getDayOfWeek().getValue();
-                    int countEndDate = date.getDayOfWeek().getValue();
-                    int countDays = Integer.parseInt(String.valueOf(ChronoUnit.DAYS.between(
-                            schedule.getLesson().getSemester().getStartDay().minusDays(countStartDate), date.plusDays(7 - countEndDate))));
-
-                    switch (schedule.getEvenOdd()) {
-                        case ODD:
-                            if ((countDays / 7) % 2 != 0) {
-                                scheduleList.add(schedule);
-                            }
-                            break;
-                        case EVEN:
-                            if ((countDays / 7) % 2 == 0) {
-                                scheduleList.add(schedule);
-                            }
-                            break;
-                        case WEEKLY:
-                            scheduleList.add(schedule);
-                            break;
-                    }
-                }
-            }
-            if (!scheduleList.isEmpty()) {
-                scheduleByDateRange.put(date, scheduleList);
-            }
-        }
-        return convertToMapScheduleDateRange(scheduleByDateRange);
-    }
-
-    //convert from Map<LocalDate, List<Schedule>> to Map<LocalDate, Map<Period, List<Schedule>>> for easy way to convert dto in future
-    private Map<LocalDate, Map<Period, List<Schedule>>> convertToMapScheduleDateRange(Map<LocalDate, List<Schedule>> scheduleByDateRange) {
-        Map<LocalDate, Map<Period, List<Schedule>>> map = new LinkedHashMap<>();
-
-        for (Map.Entry<LocalDate, List<Schedule>> itr : scheduleByDateRange.entrySet()) {
-            Map<Period, List<Schedule>> collect = itr.getValue().stream()
-                    .collect(Collectors.groupingBy(Schedule::getPeriod));
-
-            /*Map<Period, List<Schedule>> sorted = collect.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(Period::getName)))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
-                            (oldValue, newValue) -> oldValue, LinkedHashMap::new));*/
-            Map<Period, List<Schedule>> sorted = new LinkedHashMap<>();
-            collect.entrySet().stream().sorted(Map.Entry.comparingByKey(Comparator.comparing(Period::getName)))
-                    .forEachOrdered(x -> sorted.put(x.getKey(), x.getValue()));
-            map.put(itr.getKey(), sorted);
-        }
-        return map;
-    }
-
-
-    private Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> convertToMapTemporaryScheduleDateRange(Map<LocalDate, Map<Period, List<Schedule>>> scheduleByDateRange,
-                                                                                                                 List<TemporarySchedule> temporarySchedules,
-                                                                                                                 List<TemporarySchedule> vacationByDateRangeForTeacher) {
-        Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> map = new LinkedHashMap<>();
-        for (Map.Entry<LocalDate, Map<Period, List<Schedule>>> itr : scheduleByDateRange.entrySet()) {
-            Map<Period, Map<Schedule, TemporarySchedule>> periodListHashMap = new HashMap<>();
-
-            for (Map.Entry<Period, List<Schedule>> entry : itr.getValue().entrySet()) {
-                //HashMap<Schedule, TemporarySchedule> hashMap = new HashMap<>();
-                Map<Schedule, TemporarySchedule> temporaryScheduleMap = new LinkedHashMap<>();
-
-                for (Schedule schedule : entry.getValue()) {
-                    TemporarySchedule temporarySchedule = temporarySchedules.stream().filter(temporarySchedule1 ->
-                            temporarySchedule1.getScheduleId() == schedule.getId() &&
-                                    temporarySchedule1.getSemester().getId() == schedule.getLesson().getSemester().getId()
-                                    && temporarySchedule1.getDate().equals(itr.getKey())
-
-                    ).findFirst().orElse(vacationByDateRangeForTeacher.stream().filter(temporarySchedule1 ->
-                            temporarySchedule1.getScheduleId() != null &&
-                                    temporarySchedule1.getScheduleId() == schedule.getId() &&
-                                    temporarySchedule1.getDate().equals(itr.getKey()) &&
-                                    temporarySchedule1.getSemester().getId() == schedule.getLesson().getSemester().getId()
-
-                    ).findFirst().orElse(vacationByDateRangeForTeacher.stream().filter(temporarySchedule1 ->
-                            temporarySchedule1.getPeriod() == null &&
-                                    temporarySchedule1.getScheduleId() == null &&
-                                    temporarySchedule1.getTeacher() != null &&
-                                    temporarySchedule1.getTeacher().getId() == schedule.getLesson().getTeacher().getId() &&
-                                    temporarySchedule1.getDate().equals(itr.getKey()) &&
-                                    temporarySchedule1.getSemester().getId() == schedule.getLesson().getSemester().getId()
-
-                    ).findFirst().orElse(vacationByDateRangeForTeacher.stream().filter(temporarySchedule1 ->
-                            temporarySchedule1.getScheduleId() == null &&
-                                    temporarySchedule1.getDate().equals(itr.getKey()) &&
-                                    temporarySchedule1.getSemester().getId() == schedule.getLesson().getSemester().getId()
-
-                    ).findFirst().orElse(new TemporarySchedule()))));
-                    temporaryScheduleMap.put(schedule, temporarySchedule);
-                }
-                periodListHashMap.put(entry.getKey(), temporaryScheduleMap);
-            }
-            map.put(itr.getKey(), periodListHashMap);
-        }
-        return map;
-    }
-
     /**
-     * The method used for sending schedules to teachers
+     * The method used for sending schedules to teachers. The teachers, the emails and the schedules are read
+     * for all teachers at once. The teachers which don't exist or don't have an account are reported as FAILED
      *
      * @param semesterId semester for schedule
      * @param teachersId id of teachers to whom we need to send the schedule
+     * @param language   language of the schedule
+     * @return status of the mails, which are sent in background
      */
     @Override
-    public void sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language) {
+    public MailDispatchStatusDTO sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language) {
         log.info("Enter into sendScheduleToTeachers of TeacherServiceImpl");
-        Arrays.stream(teachersId).forEach(teacherId -> {
-            try {
-                sendScheduleToTeacher(semesterId, teacherId, language);
-            } catch (MessagingException e) {
-                throw new MessageNotSendException(e.getMessage());
+        String semesterDescription = semesterService.getById(semesterId).getDescription();
+        Set<Long> requestedIds = new HashSet<>(Arrays.asList(teachersId));
+        Map<Long, Teacher> teachers = teacherService.getAll().stream()
+                .filter(teacher -> requestedIds.contains(teacher.getId()))
+                .collect(Collectors.toMap(Teacher::getId, teacher -> teacher));
+        Map<Long, String> emails = userService.getUsersByIds(teachers.values().stream()
+                        .map(Teacher::getUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getEmail));
+        Map<Long, ScheduleForTeacherDTO> schedules = getAllSchedulesForTeachers(semesterId).stream()
+                .collect(Collectors.toMap(schedule -> schedule.getTeacher().getId(), schedule -> schedule));
+
+        List<MailWithAttachmentDTO> mails = new ArrayList<>();
+        Map<String, String> failedReceivers = new LinkedHashMap<>();
+        for (Long teacherId : teachersId) {
+            Teacher teacher = teachers.get(teacherId);
+            String email = teacher != null && teacher.getUserId() != null ? emails.get(teacher.getUserId()) : null;
+            if (email == null) {
+                String reason = teacher == null ? "Teacher doesn't exist" : "Teacher doesn't have an account";
+                log.warn("Schedule is not sent to teacher with id {}, {}", teacherId, reason);
+                failedReceivers.put("teacher " + teacherId, reason);
+                continue;
             }
-        });
+            //the teachers without classes in the semester are not among all schedules
+            ScheduleForTeacherDTO schedule = schedules.containsKey(teacherId)
+                    ? schedules.get(teacherId) : getScheduleForTeacher(semesterId, teacherId);
+            mails.add(MailWithAttachmentDTO.builder()
+                    .receiver(email)
+                    .subject("Schedule")
+                    .text(getScheduleMailText(teacher))
+                    .fileName(getScheduleFileName(semesterDescription, teacher))
+                    .attachment(() -> new PdfReportGenerator().teacherScheduleReport(schedule, language))
+                    .build());
+        }
+        return mailDispatchService.dispatch(mails, failedReceivers);
     }
 
     /**
@@ -858,13 +716,21 @@ public class ScheduleServiceImpl implements ScheduleService {
         PdfReportGenerator generatePdfReport = new PdfReportGenerator();
         ByteArrayOutputStream bos = generatePdfReport.teacherScheduleReport(schedule, language);
         String teacherEmail = userService.getById(Long.valueOf(teacher.getUserId())).getEmail();
-        mailService.send(String.format("%s_%s_%s_%s.pdf", semesterService.getById(semesterId).getDescription(), teacher.getSurname(), teacher.getName(), teacher.getPatronymic()),
+        mailService.send(getScheduleFileName(semesterService.getById(semesterId).getDescription(), teacher),
                 teacherEmail,
                 "Schedule",
-                String.format("Schedule for %s %s %s", teacher.getSurname(), teacher.getName(), teacher.getPatronymic()),
+                getScheduleMailText(teacher),
                 bos);
     }
 
+    private String getScheduleFileName(String semesterDescription, Teacher teacher) {
+        return String.format("%s_%s_%s_%s.pdf", semesterDescription, teacher.getSurname(), teacher.getName(), teacher.getPatronymic());
+    }
+
+    private String getScheduleMailText(Teacher teacher) {
+        return String.format("Schedule for %s %s %s", teacher.getSurname(), teacher.getName(), teacher.getPatronymic());
+    }
+
     /**
      * The method is used for getting list of schedules grouped by rooms
      * @param semesterId Id of Semester
@@ -0,0 +1,211 @@
+package com.softserve.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.softserve.service.ScheduleSnapshotService;
+import com.softserve.util.CircuitBreaker;
+import com.softserve.util.SingleFlight;
+import com.softserve.util.VersionCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class ScheduleSnapshotServiceImpl implements ScheduleSnapshotService {
+
+    private static final String VERSION_KEY = "scheduleSnapshot:version:";
+    private static final String SNAPSHOT_KEY = "scheduleSnapshot:";
+    private static final String ALL_SEMESTERS = "all";
+
+    private final RedissonClient redissonClient;
+    private final CircuitBreaker circuitBreaker;
+    private final VersionCounters versions;
+    private final ObjectMapper objectMapper;
+    private final long ttl;
+    private final double refreshBeta;
+    private final SingleFlight<String, String> builds = new SingleFlight<>();
+
+    @Autowired
+    public ScheduleSnapshotServiceImpl(RedissonClient redissonClient, Environment environment,
+                                       CircuitBreaker cacheCircuitBreaker) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = cacheCircuitBreaker;
+        this.versions = new VersionCounters(redissonClient, cacheCircuitBreaker);
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.ttl = Optional.ofNullable(environment.getProperty("ttl", Long.class)).orElse(60 * 60 * 1000L);
+        this.refreshBeta = Optional.ofNullable(environment.getProperty("schedule.snapshot.refreshBeta", Double.class)).orElse(1.0);
+    }
+
+    /**
+     * Method gets snapshot of the schedule for the current version of the semester.
+     * If there is no such snapshot, it is built by loader and stored in the cache.
+     * Concurrent requests of the same missing snapshot wait for the one which builds it.
+     * A snapshot which is close to expiry is rebuilt by one of its readers before it expires,
+     * the closer to expiry and the longer it takes to build, the more likely (probabilistic early expiration).
+     * While Redis is not available the snapshot is built from the database and is not cached
+     *
+     * @param semesterId id of the semester
+     * @param slice      name of the part of the semester schedule, e.g. "full", "group:1", "teacher:1"
+     * @param type       type of the snapshot
+     * @param loader     function that builds the snapshot from the database
+     * @return snapshot of the schedule
+     */
+    @Override
+    public <T> T get(Long semesterId, String slice, TypeReference<T> type, Supplier<T> loader) {
+        log.info("In get(semesterId = [{}], slice = [{}])", semesterId, slice);
+        Optional<Long> version = getVersion(semesterId);
+        if (!version.isPresent()) {
+            log.warn("Snapshot [{}] of semester [{}] is built without the cache, its version is not available", slice, semesterId);
+            return loader.get();
+        }
+        String key = SNAPSHOT_KEY + semesterId + ":" + version.get() + ":" + slice;
+        RBucket<String> bucket = redissonClient.getBucket(key, StringCodec.INSTANCE);
+        CachedSnapshot cached = CachedSnapshot.parse(circuitBreaker.call(bucket::get).orElse(null));
+        T cachedSnapshot = cached == null ? null : read(cached.json, type, semesterId, slice);
+        if (cachedSnapshot != null && (!isExpiring(cached) || builds.isInFlight(key))) {
+            return cachedSnapshot;
+        }
+        AtomicReference<T> built = new AtomicReference<>();
+        String json;
+        try {
+            json = builds.execute(key, () -> {
+                long start = System.currentTimeMillis();
+                T snapshot = loader.get();
+                built.set(snapshot);
+                return store(bucket, snapshot, System.currentTimeMillis() - start, semesterId, slice);
+            });
+        } catch (RuntimeException e) {
+            if (cachedSnapshot == null) {
+                throw e;
+            }
+            log.warn("Snapshot [{}] of semester [{}] can't be refreshed, the cached one is used", slice, semesterId, e);
+            return cachedSnapshot;
+        }
+        if (built.get() != null) {
+            return built.get();
+        }
+        T snapshot = json == null ? null : read(json, type, semesterId, slice);
+        return snapshot != null ? snapshot : loader.get();
+    }
+
+    //XFetch: now - delta * beta * ln(random) >= expiry, where delta is the time the snapshot took to build
+    private boolean isExpiring(CachedSnapshot cached) {
+        double random = 1 - ThreadLocalRandom.current().nextDouble();
+        return System.currentTimeMillis() - cached.buildTime * refreshBeta * Math.log(random) >= cached.expiry;
+    }
+
+    private <T> T read(String json, TypeReference<T> type, Long semesterId, String slice) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Snapshot [{}] of semester [{}] can't be read, it will be rebuilt", slice, semesterId, e);
+            return null;
+        }
+    }
+
+    //the built snapshot is returned even if it can't be stored
+    private String store(RBucket<String> bucket, Object snapshot, long buildTime, Long semesterId, String slice) {
+        try {
+            String json = objectMapper.writeValueAsString(snapshot);
+            String value = new CachedSnapshot(System.currentTimeMillis() + ttl, Math.max(buildTime, 1), json).format();
+            circuitBreaker.run(() -> bucket.set(value, ttl, TimeUnit.MILLISECONDS));
+            return json;
+        } catch (JsonProcessingException e) {
+            log.warn("Snapshot [{}] of semester [{}] can't be stored", slice, semesterId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Method gets current version of the schedule of the semester. It changes when the schedule of the semester
+     * or the data shown in the schedules of all semesters is changed (both versions only grow, so does their sum)
+     *
+     * @param semesterId id of the semester
+     * @return version of the schedule or empty if Redis is not available
+     */
+    @Override
+    public Optional<Long> getVersion(Long semesterId) {
+        return versions.get(VERSION_KEY + semesterId, VERSION_KEY + ALL_SEMESTERS);
+    }
+
+    /**
+     * Method increments version of the schedule of the semester, so that all its snapshots become outdated.
+     * Inside of a transaction the version is incremented after commit, so that no snapshot
+     * can be built from the data which is not committed yet
+     *
+     * @param semesterId id of the semester
+     */
+    @Override
+    public void bumpVersion(Long semesterId) {
+        log.info("In bumpVersion(semesterId = [{}])", semesterId);
+        if (semesterId == null) {
+            return;
+        }
+        versions.increment(VERSION_KEY + semesterId);
+    }
+
+    /**
+     * Method increments version of the schedules of all semesters, it is used when the data which is shown
+     * in the schedules is changed: teachers, groups, rooms, subjects or periods
+     */
+    @Override
+    public void bumpAllVersions() {
+        log.info("In bumpAllVersions()");
+        versions.increment(VERSION_KEY + ALL_SEMESTERS);
+    }
+
+    /**
+     * Cached snapshot with the time of its expiry and the time it took to build, stored as "expiry;buildTime;json"
+     */
+    private static class CachedSnapshot {
+        private static final char SEPARATOR = ';';
+
+        private final long expiry;
+        private final long buildTime;
+        private final String json;
+
+        private CachedSnapshot(long expiry, long buildTime, String json) {
+            this.expiry = expiry;
+            this.buildTime = buildTime;
+            this.json = json;
+        }
+
+        private String format() {
+            return String.valueOf(expiry) + SEPARATOR + buildTime + SEPARATOR + json;
+        }
+
+        //the value is not read if it isn't in the expected format, so it is rebuilt
+        private static CachedSnapshot parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            int first = value.indexOf(SEPARATOR);
+            int second = first < 0 ? -1 : value.indexOf(SEPARATOR, first + 1);
+            if (second < 0) {
+                return null;
+            }
+            try {
+                return new CachedSnapshot(Long.parseLong(value.substring(0, first)),
+                        Long.parseLong(value.substring(first + 1, second)), value.substring(second + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.softserve.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.dto.SemesterDTO;
+import com.softserve.entity.Room;
+import com.softserve.entity.Schedule;
+import com.softserve.entity.Semester;
+import com.softserve.mapper.ConverterToSchedulesInRoom;
+import com.softserve.mapper.SemesterMapper;
+import com.softserve.service.RoomService;
+import com.softserve.service.ScheduleService;
+import com.softserve.service.ScheduleStreamService;
+import com.softserve.service.SemesterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class ScheduleStreamServiceImpl implements ScheduleStreamService {
+
+    private final ScheduleService scheduleService;
+    private final SemesterService semesterService;
+    private final RoomService roomService;
+    private final SemesterMapper semesterMapper;
+    private final ConverterToSchedulesInRoom converterToSchedulesInRoom;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ScheduleStreamServiceImpl(ScheduleService scheduleService, SemesterService semesterService,
+                                     RoomService roomService, SemesterMapper semesterMapper,
+                                     ConverterToSchedulesInRoom converterToSchedulesInRoom) {
+        this.scheduleService = scheduleService;
+        this.semesterService = semesterService;
+        this.roomService = roomService;
+        this.semesterMapper = semesterMapper;
+        this.converterToSchedulesInRoom = converterToSchedulesInRoom;
+        //the same settings as the message converter of the application, so that the json is the same as without streaming
+        this.objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+    }
+
+    /**
+     * Method writes full schedule of the semester as json of ScheduleFullDTO. The schedule of each group
+     * is serialized as soon as it is built, so only one of them is kept in memory as objects. The json is written
+     * to the stream after the transaction, so that a slow client doesn't hold the database connection
+     *
+     * @param semesterId id of the semester
+     * @param out        the stream the json is written to, it is not closed by the method
+     * @throws IOException if the json can't be written to the stream
+     */
+    @Override
+    public void writeFullScheduleForSemester(Long semesterId, OutputStream out) throws IOException {
+        log.info("In writeFullScheduleForSemester(semesterId = [{}])", semesterId);
+        SemesterDTO semester = semesterMapper.semesterToSemesterDTO(semesterService.getById(semesterId));
+        //the teachers' emails are read while building the schedules, so they are built in the transaction
+        List<String> schedules = new ArrayList<>();
+        try {
+            scheduleService.forEachScheduleForGroupInSemester(semesterId, schedule -> schedules.add(toJson(schedule)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeObjectField("semester", semester);
+            generator.writeArrayFieldStart("schedule");
+            for (String schedule : schedules) {
+                generator.writeRawValue(schedule);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Method writes schedules of all rooms in the semester as json array of ScheduleForRoomDTO.
+     * The schedule of each room is written and flushed as soon as it is built. The rooms are converted
+     * without a transaction, so a slow client doesn't hold the database connection
+     *
+     * @param semesterId id of the semester
+     * @param out        the stream the json is written to, it is not closed by the method
+     * @throws IOException if the json can't be written to the stream
+     */
+    @Override
+    public void writeFullScheduleForRooms(Long semesterId, OutputStream out) throws IOException {
+        log.info("In writeFullScheduleForRooms(semesterId = [{}])", semesterId);
+        Semester semester = semesterService.getById(semesterId);
+        List<Room> rooms = roomService.getAllOrdered();
+        Map<Room, List<Schedule>> roomSchedules = scheduleService.getAllOrdered(semesterId);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (Room room : rooms) {
+                write(generator, converterToSchedulesInRoom.getForRoom(room, semester, roomSchedules.get(room)));
+            }
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.softserve.service.impl;
 
+import com.softserve.dto.snapshot.SemesterSnapshot;
 import com.softserve.entity.*;
 import com.softserve.exception.*;
 import com.softserve.repository.LessonRepository;
@@ -9,20 +10,28 @@ import com.softserve.repository.SemesterRepository;
 import com.softserve.service.LessonService;
 import com.softserve.service.GroupService;
 import com.softserve.service.PeriodService;
+import com.softserve.service.ResourceVersionService;
+import com.softserve.service.ScheduleSnapshotService;
 import com.softserve.service.SemesterService;
+import com.softserve.util.CachedSnapshots;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +39,12 @@ import java.util.stream.Collectors;
 @Service
 public class SemesterServiceImpl implements SemesterService {
 
+    public static final String SEMESTER_BY_ID = "map";
+    public static final String ALL_SEMESTERS = "semesterList";
+    public static final String MARKED_SEMESTER_IDS = "markedSemesterIds";
+    private static final String CURRENT = "current";
+    private static final String DEFAULT = "default";
+
     private final SemesterRepository semesterRepository;
     private final PeriodService periodService;
     private final ScheduleRepository scheduleRepository;
@@ -37,49 +52,67 @@ public class SemesterServiceImpl implements SemesterService {
     private final List<DayOfWeek> workDaysList = Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.TUESDAY,
             DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
     private final GroupRepository groupRepository;
+    private final ScheduleSnapshotService scheduleSnapshotService;
+    private final ResourceVersionService resourceVersionService;
+    private final CacheManager cacheManager;
+    private final LessonService lessonService;
 
     @Autowired
     public SemesterServiceImpl(SemesterRepository semesterRepository,
                                PeriodService periodService,
                                GroupRepository groupRepository,
                                ScheduleRepository scheduleService,
-                               LessonRepository lessonRepository) {
+                               LessonRepository lessonRepository,
+                               ScheduleSnapshotService scheduleSnapshotService,
+                               ResourceVersionService resourceVersionService,
+                               CacheManager cacheManager,
+                               @Lazy LessonService lessonService) {
         this.semesterRepository = semesterRepository;
         this.periodService = periodService;
         this.groupRepository = groupRepository;
         this.scheduleRepository = scheduleService;
         this.lessonRepository = lessonRepository;
+        this.scheduleSnapshotService = scheduleSnapshotService;
+        this.resourceVersionService = resourceVersionService;
+        this.cacheManager = cacheManager;
+        this.lessonService = lessonService;
     }
 
     /**
-     * Method gets information from Repository for particular Semester with id parameter
+     * Method gets information from Repository for particular Semester with id parameter.
+     * The snapshot of the semester is cached, a cached semester is returned as a new detached entity
      *
      * @param id Identity number of the Semester
      * @return Semester entity
      */
-    @Cacheable(value = "map", key = "#id")
     @Override
     public Semester getById(Long id) {
         log.info("In getById(id = [{}])", id);
-        Semester semester = semesterRepository.findById(id).orElseThrow(
-                () -> new EntityNotFoundException(Semester.class, "id", id.toString()));
-        Hibernate.initialize(semester.getDaysOfWeek());
-        Hibernate.initialize(semester.getPeriods());
-        Hibernate.initialize(semester.getGroups());
-        return semester;
+        return CachedSnapshots.get(getCache(SEMESTER_BY_ID), id, SemesterSnapshot::toSemester, () -> {
+            Semester semester = semesterRepository.findById(id).orElseThrow(
+                    () -> new EntityNotFoundException(Semester.class, "id", id.toString()));
+            Hibernate.initialize(semester.getDaysOfWeek());
+            Hibernate.initialize(semester.getPeriods());
+            Hibernate.initialize(semester.getGroups());
+            return semester;
+        }, SemesterSnapshot::of);
     }
 
     /**
-     * Method gets information about all semesters from Repository
+     * Method gets information about all semesters from Repository.
+     * The snapshots of the semesters are cached
      *
      * @return List of all semesters
      */
-    @Cacheable(value = "semesterList")
     @Override
     public List<Semester> getAll() {
         log.debug("In getAll()");
-        List<Semester> semesters = semesterRepository.getAll();
-        return semesters;
+        return CachedSnapshots.get(getCache(ALL_SEMESTERS), SimpleKey.EMPTY, SemesterSnapshot::toSemesters,
+                semesterRepository::getAll, SemesterSnapshot::of);
+    }
+
+    private Cache getCache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
     }
 
     /**
@@ -88,7 +121,8 @@ public class SemesterServiceImpl implements SemesterService {
      * @param semester Semester entity to be saved
      * @return saved Semester entity
      */
-    @CacheEvict(value = "semesterList", allEntries = true)
+    @Caching(evict = {@CacheEvict(value = "semesterList", allEntries = true),
+            @CacheEvict(value = MARKED_SEMESTER_IDS, allEntries = true)})
     @Override
     public Semester save(Semester semester) {
         log.info("In save(entity = [{}]", semester);
@@ -96,6 +130,7 @@ public class SemesterServiceImpl implements SemesterService {
         fillDefaultValues(semester);
         setCurrentToFalse(semester);
         setDefaultToFalse(semester);
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
         return semesterRepository.save(semester);
     }
 
@@ -160,14 +195,17 @@ public class SemesterServiceImpl implements SemesterService {
      * @param semester Semester entity with updated fields
      * @return updated Semester entity
      */
-    @Caching(put = {@CachePut(value = "map", key = "#semester.id")},
-            evict = {@CacheEvict(value = "semesterList", allEntries = true)})
+    @Caching(evict = {@CacheEvict(value = "semesterList", allEntries = true),
+            @CacheEvict(value = "map", key = "#semester.id"),
+            @CacheEvict(value = MARKED_SEMESTER_IDS, allEntries = true)})
     @Override
     public Semester update(Semester semester) {
         log.debug("In update(entity = [{}]", semester);
         checkUpdateConstraints(semester);
         setCurrentToFalse(semester);
         setDefaultToFalse(semester);
+        scheduleSnapshotService.bumpVersion(semester.getId());
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
         return semesterRepository.update(semester);
     }
 
@@ -177,10 +215,13 @@ public class SemesterServiceImpl implements SemesterService {
      * @param object Semester entity to be deleted
      * @return deleted Semester entity
      */
-    @CacheEvict(value = "map", key = "#object.id")
+    @Caching(evict = {@CacheEvict(value = "map", key = "#object.id"),
+            @CacheEvict(value = MARKED_SEMESTER_IDS, allEntries = true)})
     @Override
     public Semester delete(Semester object) {
         log.debug("In delete(object = [{}])", object);
+        scheduleSnapshotService.bumpVersion(object.getId());
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
         return semesterRepository.delete(object);
     }
 
@@ -193,12 +234,8 @@ public class SemesterServiceImpl implements SemesterService {
     @Override
     public Semester getCurrentSemester() {
         log.debug("In getCurrentSemester");
-        Semester semester = semesterRepository.getCurrentSemester().orElseThrow(
-                () -> new ScheduleConflictException("Current semester for managers work isn't specified"));
-        Hibernate.initialize(semester.getDaysOfWeek());
-        Hibernate.initialize(semester.getPeriods());
-        Hibernate.initialize(semester.getGroups());
-        return semester;
+        return getMarkedSemester(CURRENT, () -> semesterRepository.getCurrentSemester().orElseThrow(
+                () -> new ScheduleConflictException("Current semester for managers work isn't specified")));
     }
 
     /**
@@ -209,11 +246,24 @@ public class SemesterServiceImpl implements SemesterService {
     @Override
     public Semester getDefaultSemester() {
         log.debug("In getDefaultSemester");
-        Semester semester = semesterRepository.getDefaultSemester().orElseThrow(
-                () -> new ScheduleConflictException("Default semester isn't specified"));
+        return getMarkedSemester(DEFAULT, () -> semesterRepository.getDefaultSemester().orElseThrow(
+                () -> new ScheduleConflictException("Default semester isn't specified")));
+    }
+
+    //only the id of the current or default semester is cached, the semester itself is taken from the cache by id,
+    //so the changes of the semester are seen without evicting the marks
+    private Semester getMarkedSemester(String mark, Supplier<Semester> finder) {
+        Cache ids = getCache(MARKED_SEMESTER_IDS);
+        Long id = ids.get(mark, Long.class);
+        if (id != null) {
+            return getById(id);
+        }
+        Semester semester = finder.get();
         Hibernate.initialize(semester.getDaysOfWeek());
         Hibernate.initialize(semester.getPeriods());
         Hibernate.initialize(semester.getGroups());
+        getCache(SEMESTER_BY_ID).put(semester.getId(), SemesterSnapshot.of(semester));
+        ids.put(mark, semester.getId());
         return semester;
     }
 
@@ -295,12 +345,15 @@ public class SemesterServiceImpl implements SemesterService {
      * @param semesterId id of the semester that needs to be current
      * @return changed Semester
      */
-    @CacheEvict(value = "semesterList", allEntries = true)
+    @Caching(evict = {@CacheEvict(value = "semesterList", allEntries = true),
+            @CacheEvict(value = "map", allEntries = true),
+            @CacheEvict(value = MARKED_SEMESTER_IDS, allEntries = true)})
     @Override
     public Semester changeCurrentSemester(Long semesterId) {
         log.debug("In changeCurrentSemester(Long semesterId = [{}])", semesterId);
         semesterRepository.updateAllSemesterCurrentToFalse();
         semesterRepository.setCurrentSemester(semesterId);
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
         return getById(semesterId);
     }
 
@@ -310,12 +363,15 @@ public class SemesterServiceImpl implements SemesterService {
      * @param semesterId id of the semester that needs to be current
      * @return changed Semester
      */
-    @CacheEvict(value = "semesterList", allEntries = true)
+    @Caching(evict = {@CacheEvict(value = "semesterList", allEntries = true),
+            @CacheEvict(value = "map", allEntries = true),
+            @CacheEvict(value = MARKED_SEMESTER_IDS, allEntries = true)})
     @Override
     public Semester changeDefaultSemester(Long semesterId) {
         log.debug("In changeDefaultSemester(Long semesterId = [{}])", semesterId);
         semesterRepository.updateAllSemesterDefaultToFalse();
         semesterRepository.setDefaultSemester(semesterId);
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
         return getById(semesterId);
     }
 
@@ -326,7 +382,8 @@ public class SemesterServiceImpl implements SemesterService {
      * @param group    group to add
      * @return changed Semester
      */
-    @CacheEvict(value = "semesterList", allEntries = true)
+    @Caching(evict = {@CacheEvict(value = "semesterList", allEntries = true),
+            @CacheEvict(value = "map", key = "#semester.id")})
     @Override
     public Semester addGroupToSemester(Semester semester, Group group) {
         log.debug("In addGroupToSemester (semester = [{}], group = [{}])", semester, group);
@@ -347,7 +404,8 @@ public class SemesterServiceImpl implements SemesterService {
      * @param groupIds groups to add
      * @return changed Semester
      */
-    @CacheEvict(value = "semesterList", allEntries = true)
+    @Caching(evict = {@CacheEvict(value = "semesterList", allEntries = true),
+            @CacheEvict(value = "map", key = "#semester.id")})
     @Override
     public Semester addGroupsToSemester(Semester semester, List<Long> groupIds) {
         log.info("In addGroupsToSemester (semester = [{}], groupIds = [{}])", semester, groupIds);
@@ -355,6 +413,7 @@ public class SemesterServiceImpl implements SemesterService {
         Set<Group> groupSet = new HashSet<>(groups);
         semester.setGroups(groupSet);
         semesterRepository.update(semester);
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
         log.debug("Semester groups has been updated");
         return semester;
     }
@@ -473,11 +532,29 @@ public class SemesterServiceImpl implements SemesterService {
 
         Set<Lesson> lessonSet = schedules.stream().map(Schedule::getLesson).collect(Collectors.toSet());
 
-        copySchedules(schedules, copyLessons(lessonSet, toSemester));
+        long start = System.currentTimeMillis();
+        Map<Long, Lesson> copiedLessons = copyLessons(lessonSet, toSemester);
+        List<Schedule> copiedSchedules = copySchedules(schedules, copiedLessons);
+        logCopyResult(fromSemesterId, toSemesterId, copiedLessons.size(), copiedSchedules.size(), start);
 
         return update(toSemester);
     }
 
+    private void logCopyResult(Long fromSemesterId, Long toSemesterId, int lessons, int schedules, long start) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    log.info("Copied {} lessons and {} schedules from semester {} to semester {} in {} ms",
+                            lessons, schedules, fromSemesterId, toSemesterId, System.currentTimeMillis() - start);
+                }
+            });
+        } else {
+            log.info("Copied {} lessons and {} schedules from semester {} to semester {} in {} ms",
+                    lessons, schedules, fromSemesterId, toSemesterId, System.currentTimeMillis() - start);
+        }
+    }
+
     private boolean shouldClearSemesterContent(Semester semester) {
         return CollectionUtils.isNotEmpty(semester.getGroups())
                 || CollectionUtils.isNotEmpty(semester.getPeriods())
@@ -502,6 +579,7 @@ public class SemesterServiceImpl implements SemesterService {
             Lesson lessonNewSaved = lessonRepository.save(lessonNew);
             oldToNewLessonMap.put(lesson.getId(), lessonNewSaved);
         }
+        lessonService.evictLessons(toSemester.getId(), oldToNewLessonMap.values());
         return oldToNewLessonMap;
     }
 
@@ -1,5 +1,6 @@
 package com.softserve.service.impl;
 
+import com.softserve.config.AsyncConfig;
 import com.softserve.dto.StudentDTO;
 import com.softserve.dto.StudentImportDTO;
 import com.softserve.dto.enums.ImportSaveStatus;
@@ -23,15 +24,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class StudentServiceImpl implements StudentService {
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
     private final GroupService groupService;
@@ -185,42 +191,76 @@ public class StudentServiceImpl implements StudentService {
      */
     @Override
     @Transactional
-    @Async
+    @Async(AsyncConfig.IMPORT_EXECUTOR)
     public CompletableFuture<List<StudentImportDTO>> saveFromFile(MultipartFile file, Long groupId) {
         log.info("Enter into saveFromFile of StudentServiceImpl with groupId {}", groupId);
+        long start = System.currentTimeMillis();
 
-        List<StudentImportDTO> students = CsvFileParser.getStudentsFromFile(file);
-
+        Group group = groupService.getById(groupId);
         List<StudentImportDTO> savedStudents = new ArrayList<>();
+        CsvFileParser.readStudentsInChunks(file, IMPORT_CHUNK_SIZE,
+                students -> savedStudents.addAll(saveStudentsFromFile(group, students)));
+
+        log.info("Imported {} students into group {} in {} ms", savedStudents.size(), groupId,
+                System.currentTimeMillis() - start);
+        return CompletableFuture.completedFuture(savedStudents);
+    }
+
+    /**
+     * The method used for saving a chunk of students from file. Users and students which may already exist
+     * are read for the whole chunk at once instead of querying them for every student
+     *
+     * @param group    group which provided from server
+     * @param students students from file
+     * @return list of students with the status of saving
+     */
+    private List<StudentImportDTO> saveStudentsFromFile(Group group, List<StudentImportDTO> students) {
+        List<String> emails = students.stream()
+                .map(StudentImportDTO::getEmail)
+                .filter(email -> !isEmailNullOrEmpty(email))
+                .distinct()
+                .collect(Collectors.toList());
+        List<String> surnames = students.stream()
+                .map(StudentImportDTO::getSurname)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
 
+        ImportChunk chunk = new ImportChunk();
+        userService.getUsersByEmails(emails).forEach(user -> chunk.users.putIfAbsent(user.getEmail(), user));
+        if (!emails.isEmpty()) {
+            chunk.emailsInUse.addAll(studentRepository.getEmailsInUse(emails));
+        }
+        if (!surnames.isEmpty()) {
+            studentRepository.getStudentsBySurnames(surnames).forEach(chunk::addStudent);
+        }
+
+        List<StudentImportDTO> savedStudents = new ArrayList<>();
         for (StudentImportDTO student : students) {
-            StudentImportDTO test = saveStudentFromFile(groupId, student);
-            savedStudents.add(test);
+            savedStudents.add(saveStudentFromFile(group, student, chunk));
         }
-        return CompletableFuture.completedFuture(savedStudents);
+        return savedStudents;
     }
 
-    public StudentImportDTO saveStudentFromFile(Long groupId, StudentImportDTO student) {
+    private StudentImportDTO saveStudentFromFile(Group group, StudentImportDTO student, ImportChunk chunk) {
         try {
-            if(student.getEmail() == null || student.getEmail().isEmpty()){
+            if (isEmailNullOrEmpty(student.getEmail())) {
                 log.error("Empty or null email: {}", student.getEmail());
                 student.setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
                 return student;
             }
 
-            Optional<User> userOptional = userService.findSocialUser(student.getEmail());
+            Optional<User> userOptional = Optional.ofNullable(chunk.users.get(student.getEmail()));
             Student newStudent = studentMapper.studentImportDTOToStudent(student);
-            Optional<Student> studentFromBase = studentRepository.getExistingStudent(newStudent);
-
-            Group group = groupService.getById(groupId);
+            Optional<Student> studentFromBase = chunk.getStudent(newStudent);
 
             if (userOptional.isEmpty() && studentFromBase.isEmpty()) {
-                return registerAndSaveNewStudent(student, newStudent, group);
+                return registerAndSaveNewStudent(student, newStudent, group, chunk);
             }
             if (studentFromBase.isEmpty()) {
-                return assignUserToNewStudent(student, userOptional, newStudent, group);
+                return assignUserToNewStudent(student, userOptional, newStudent, group, chunk);
             }
-                return checkForEmptyFieldsOfExistingStudent(student, userOptional, studentFromBase);
+            return checkForEmptyFieldsOfExistingStudent(student, userOptional, studentFromBase);
         } catch (ConstraintViolationException e) {
             student.setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
             log.error("VALIDATION_ERROR while saving student with email {}", student.getEmail(), e);
@@ -238,12 +278,17 @@ public class StudentServiceImpl implements StudentService {
      * @param student    our student from file
      * @param newStudent our student which we will save to database
      * @param group      group which provided from server
+     * @param chunk      users and students already known in the current chunk of the file
      */
-    private StudentImportDTO registerAndSaveNewStudent(StudentImportDTO student, Student newStudent, Group group) {
+    private StudentImportDTO registerAndSaveNewStudent(StudentImportDTO student, Student newStudent, Group group,
+                                                       ImportChunk chunk) {
         log.debug("Enter to method if email and student DONT EXIST");
 
+        newStudent.setGroup(group);
+        validate(newStudent);
         Student registeredStudent = registerStudent(newStudent, student.getEmail());
-        return saveStudentAndSetEmailGroupStatus(student, group, registeredStudent);
+        chunk.users.put(student.getEmail(), registeredStudent.getUser());
+        return saveStudentAndSetEmailGroupStatus(student, group, registeredStudent, chunk);
     }
 
     /**
@@ -253,18 +298,22 @@ public class StudentServiceImpl implements StudentService {
      * @param userOptional our user from database
      * @param newStudent   our student which we will save to database
      * @param group        group which provided from server
+     * @param chunk        users and students already known in the current chunk of the file
      */
-    private StudentImportDTO assignUserToNewStudent(StudentImportDTO student, Optional<User> userOptional, Student newStudent, Group group) {
+    private StudentImportDTO assignUserToNewStudent(StudentImportDTO student, Optional<User> userOptional, Student newStudent,
+                                                    Group group, ImportChunk chunk) {
         log.debug("Enter to method if email EXIST and student DONT EXIST");
         if (userOptional.isPresent() && userOptional.get().getRole() == Role.ROLE_STUDENT) {
-            if(isEmailInUse(student.getEmail())){
+            if(chunk.emailsInUse.contains(student.getEmail())){
                 log.error("Student with current email exist ",
                         new FieldAlreadyExistsException(Student.class, "email", student.getEmail()));
                student.setImportSaveStatus(ImportSaveStatus.ALREADY_EXIST);
                return student;
             }
             newStudent.setUser(userOptional.get());
-            return saveStudentAndSetEmailGroupStatus(student, group, newStudent);
+            newStudent.setGroup(group);
+            validate(newStudent);
+            return saveStudentAndSetEmailGroupStatus(student, group, newStudent, chunk);
         } else {
             throw new ImportRoleConflictException("User with current Email has another ROLE");
         }
@@ -282,7 +331,7 @@ public class StudentServiceImpl implements StudentService {
                                                                   Optional<Student> studentFromBase) {
         log.debug("Enter to method if email EXIST and student EXIST");
         if (userOptional.isPresent() && studentFromBase.isPresent() && userOptional.get().getRole() == Role.ROLE_STUDENT) {
-            Student ourStudentFromBase = getById(studentFromBase.get().getId());
+            Student ourStudentFromBase = studentFromBase.get();
             StudentImportDTO existedStudent = studentMapper.studentToStudentImportDTO(ourStudentFromBase);
             existedStudent.setImportSaveStatus(ImportSaveStatus.ALREADY_EXIST);
             existedStudent.setEmail(student.getEmail());
@@ -313,6 +362,20 @@ public class StudentServiceImpl implements StudentService {
         return studentRepository.isEmailInUse(email);
     }
 
+    /**
+     * The method used for checking the student before it is saved. Students are inserted in batches
+     * when the session is flushed, so constraints have to be checked before saving to report the student
+     * which breaks them instead of failing the whole import
+     *
+     * @param student student which is going to be saved
+     */
+    private void validate(Student student) {
+        Set<ConstraintViolation<Student>> violations = VALIDATOR.validate(student);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
     /**
      * The method for register new user with provided email and set user_id to provided student
      *
@@ -332,11 +395,14 @@ public class StudentServiceImpl implements StudentService {
      * @param student           is provided studentImportDTO from file
      * @param group             is provided group from server
      * @param registeredStudent is our student that we're going to save
+     * @param chunk             users and students already known in the current chunk of the file
      */
     private StudentImportDTO saveStudentAndSetEmailGroupStatus(StudentImportDTO student,
-                                                               Group group, Student registeredStudent) {
+                                                               Group group, Student registeredStudent, ImportChunk chunk) {
         registeredStudent.setGroup(group);
         studentRepository.save(registeredStudent);
+        chunk.addStudent(registeredStudent);
+        chunk.emailsInUse.add(student.getEmail());
         StudentImportDTO savedStudent = studentMapper.studentToStudentImportDTO(registeredStudent);
         savedStudent.setEmail(student.getEmail());
         savedStudent.setGroupDTO(groupMapper.groupToGroupDTO(registeredStudent.getGroup()));
@@ -344,4 +410,20 @@ public class StudentServiceImpl implements StudentService {
         return savedStudent;
     }
 
+    //users and students of one chunk of the imported file, updated as the students of the chunk are saved
+    private static class ImportChunk {
+        private final Map<String, User> users = new HashMap<>();
+        private final Map<List<String>, Student> students = new HashMap<>();
+        private final Set<String> emailsInUse = new HashSet<>();
+
+        private void addStudent(Student student) {
+            if (student.getName() != null && student.getSurname() != null && student.getPatronymic() != null) {
+                students.putIfAbsent(Arrays.asList(student.getName(), student.getSurname(), student.getPatronymic()), student);
+            }
+        }
+
+        private Optional<Student> getStudent(Student student) {
+            return Optional.ofNullable(students.get(Arrays.asList(student.getName(), student.getSurname(), student.getPatronymic())));
+        }
+    }
 }
@@ -6,6 +6,7 @@ import com.softserve.entity.Subject;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.repository.SubjectRepository;
+import com.softserve.service.ScheduleSnapshotService;
 import com.softserve.service.SubjectService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,11 +21,13 @@ import java.util.List;
 public class SubjectServiceImpl implements SubjectService {
 
     private final SubjectRepository subjectRepository;
+    private final ScheduleSnapshotService scheduleSnapshotService;
 
 
     @Autowired
-    public SubjectServiceImpl(SubjectRepository subjectRepository) {
+    public SubjectServiceImpl(SubjectRepository subjectRepository, ScheduleSnapshotService scheduleSnapshotService) {
         this.subjectRepository = subjectRepository;
+        this.scheduleSnapshotService = scheduleSnapshotService;
     }
 
     /**
@@ -77,6 +80,7 @@ public class SubjectServiceImpl implements SubjectService {
                 log.error("Subject with name [{}] already exists", object.getName());
                 throw new FieldAlreadyExistsException(Subject.class, "name", object.getName());
             }
+            scheduleSnapshotService.bumpAllVersions();
             return subjectRepository.update(object);
         }
         else {
@@ -92,6 +96,7 @@ public class SubjectServiceImpl implements SubjectService {
     @Override
     public Subject delete(Subject object) {
         log.info("In delete(object = [{}])",  object);
+        scheduleSnapshotService.bumpAllVersions();
         return subjectRepository.delete(object);
     }
 
@@ -16,6 +16,7 @@ import com.softserve.mapper.TeacherMapper;
 import com.softserve.repository.TeacherRepository;
 import com.softserve.service.DepartmentService;
 import com.softserve.service.MailService;
+import com.softserve.service.ResourceVersionService;
 import com.softserve.service.TeacherService;
 import com.softserve.service.UserService;
 import com.softserve.util.CsvFileParser;
@@ -39,15 +40,18 @@ public class TeacherServiceImpl implements TeacherService {
     private final MailService mailService;
     private final TeacherMapper teacherMapper;
     private final DepartmentService departmentService;
+    private final ResourceVersionService resourceVersionService;
 
     @Autowired
     public TeacherServiceImpl(TeacherRepository teacherRepository, UserService userService, MailService mailService,
-                              TeacherMapper teacherMapper, DepartmentService departmentService ) {
+                              TeacherMapper teacherMapper, DepartmentService departmentService,
+                              ResourceVersionService resourceVersionService) {
         this.teacherRepository = teacherRepository;
         this.userService = userService;
         this.mailService = mailService;
         this.teacherMapper = teacherMapper;
         this.departmentService = departmentService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
@@ -81,6 +85,7 @@ public class TeacherServiceImpl implements TeacherService {
     @Override
     public Teacher save(Teacher teacher) {
         log.info("Enter into save method with entity:{}", teacher);
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
         return teacherRepository.save(teacher);
     }
 
@@ -129,6 +134,7 @@ public class TeacherServiceImpl implements TeacherService {
     public Teacher update(Teacher teacher)
     {
         log.info("Enter into update method with entity:{}", teacher);
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
         return teacherRepository.update(teacher);
     }
 
@@ -145,6 +151,7 @@ public class TeacherServiceImpl implements TeacherService {
             user.setRole(Role.ROLE_USER);
             userService.update(user);
         }
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
         return teacherRepository.delete(teacher);
     }
 
@@ -253,6 +260,7 @@ public class TeacherServiceImpl implements TeacherService {
         log.info("Enter into saveFromFile of TeacherServiceImpl with departmentId {}", departmentId);
 
         List<TeacherImportDTO> teachers = CsvFileParser.getTeachersFromFile(file);
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
 
        return teachers.stream().map(teacher -> saveTeacher(departmentId, teacher)).collect(Collectors.toList());
     }
@@ -6,6 +6,7 @@ import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.repository.TemporaryScheduleRepository;
 import com.softserve.service.*;
+import com.softserve.util.AcademicCalendar;
 import com.softserve.util.temporary_notification.DeletePeriodVacationNotify;
 import com.softserve.util.temporary_notification.DeleteTeacherVacationNotify;
 import com.softserve.util.temporary_notification.DeleteVacationNotify;
@@ -20,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.mail.MessagingException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 import static java.time.DayOfWeek.MONDAY;
@@ -44,12 +44,14 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
     private final DeleteVacationNotify deleteVacationNotify;
     private final DeleteTeacherVacationNotify deleteTeacherVacationNotify;
     private final DeletePeriodVacationNotify deletePeriodVacationNotify;
+    private final ScheduleSnapshotService scheduleSnapshotService;
 
 
     @Autowired
     public TemporaryScheduleServiceImpl(TemporaryScheduleRepository temporaryScheduleRepository, SemesterService semesterService, GroupService groupService,
                                         RoomService roomService, PeriodService periodService, SubjectService subjectService, TeacherService teacherService, @Lazy ScheduleService scheduleService,
-                                        UserService userService, DeleteVacationNotify deleteVacationNotify, DeleteTeacherVacationNotify deleteTeacherVacationNotify, DeletePeriodVacationNotify deletePeriodVacationNotify) {
+                                        UserService userService, DeleteVacationNotify deleteVacationNotify, DeleteTeacherVacationNotify deleteTeacherVacationNotify, DeletePeriodVacationNotify deletePeriodVacationNotify,
+                                        ScheduleSnapshotService scheduleSnapshotService) {
         this.temporaryScheduleRepository = temporaryScheduleRepository;
         this.semesterService = semesterService;
         this.groupService = groupService;
@@ -62,6 +64,7 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
         this.deleteVacationNotify = deleteVacationNotify;
         this.deleteTeacherVacationNotify = deleteTeacherVacationNotify;
         this.deletePeriodVacationNotify = deletePeriodVacationNotify;
+        this.scheduleSnapshotService = scheduleSnapshotService;
     }
 
     /**
@@ -135,6 +138,23 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
         return temporaryScheduleRepository.getAllBySemesterAndRange(semesterId, fromDate, toDate);
     }
 
+    /**
+     * The method used for getting temporary schedules of the schedules in the date range
+     *
+     * @param scheduleIds ids of the schedules
+     * @param fromDate    first date of the range
+     * @param toDate      last date of the range
+     * @return list of temporary schedules
+     */
+    @Override
+    public List<TemporarySchedule> getAllByScheduleIdsAndRange(List<Long> scheduleIds, LocalDate fromDate, LocalDate toDate) {
+        log.info("Enter into getAllByScheduleIdsAndRange of TemporaryScheduleServiceImpl");
+        if (scheduleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return temporaryScheduleRepository.getAllByScheduleIdsAndRange(scheduleIds, fromDate, toDate);
+    }
+
     /**
      * The method used for getting all temporary schedules
      *
@@ -201,75 +221,124 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
     @Override
     public void deleteTemporarySchedulesBySemesterId(Long semesterId) {
         log.info("In deleteTemporarySchedulesBySemesterId with semesterId = {}", semesterId);
+        scheduleSnapshotService.bumpVersion(semesterId);
         temporaryScheduleRepository.deleteTemporarySchedulesBySemesterId(semesterId);
     }
 
+    /**
+     * The method used for getting temporary schedules of the current and the next weeks by the parity of the weeks
+     *
+     * @param semesterId id of the semester
+     * @return temporary schedules by the day of week for the parity of the current and the next weeks
+     */
     @Override
     public Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> getTemporaryScheduleForEvenOddWeeks(Long semesterId) {
         log.info("In getTemporaryScheduleForEvenOddWeeks with semesterId = {}", semesterId);
         Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> evenOddListMap = new HashMap<>();
-        Semester semester = semesterService.getById(semesterId);
-        LocalDate today = LocalDate.now();
-        LocalDate from = today.with(previousOrSame(MONDAY));
-        int countStartDate = semester.getStartDay().getDayOfWeek().getValue();
-        int countEndDate = today.getDayOfWeek().getValue();
-        int countDays = Integer.parseInt(String.valueOf(ChronoUnit.DAYS.between(
-                semester.getStartDay().minusDays(countStartDate), today.plusDays(7 - countEndDate))));
-
-        EvenOdd keyOne = (countDays / 7) % 2 != 0?EvenOdd.EVEN:EvenOdd.ODD;
-        EvenOdd keyTwo = keyOne.equals(EvenOdd.EVEN)?EvenOdd.ODD:EvenOdd.EVEN;
-        try {
-            List<TemporarySchedule> one = getAllBySemesterAndRange(semesterId, from, from.plusDays(7));
-            List<TemporarySchedule> two = getAllBySemesterAndRange(semesterId, from.plusDays(8), from.plusDays(14));
+        AcademicCalendar calendar = AcademicCalendar.of(semesterService.getById(semesterId));
+        LocalDate from = LocalDate.now().with(previousOrSame(MONDAY));
 
-            Map<DayOfWeek, List<TemporarySchedule>> oneMap = new HashMap<>();
-            Map<DayOfWeek, List<TemporarySchedule>> twoMap = new HashMap<>();
-
-
-            for (TemporarySchedule temporarySchedule : one) {
-                oneMap.computeIfAbsent(temporarySchedule.getDate().getDayOfWeek(), k -> new ArrayList<>()).add(temporarySchedule);
+        for (LocalDate monday = from; monday.isBefore(from.plusWeeks(2)); monday = monday.plusWeeks(1)) {
+            Map<DayOfWeek, List<TemporarySchedule>> dayMap = new HashMap<>();
+            for (TemporarySchedule temporarySchedule : getAllBySemesterAndRange(semesterId, monday, monday.plusDays(6))) {
+                dayMap.computeIfAbsent(temporarySchedule.getDate().getDayOfWeek(), k -> new ArrayList<>()).add(temporarySchedule);
             }
-
-            for (TemporarySchedule temporarySchedule : two) {
-                twoMap.computeIfAbsent(temporarySchedule.getDate().getDayOfWeek(), k -> new ArrayList<>()).add(temporarySchedule);
-            }
-            evenOddListMap.put(keyOne, oneMap);
-            evenOddListMap.put(keyTwo, twoMap);
-        }catch (NullPointerException e){
-        e.printStackTrace();
-    }
-
-
+            evenOddListMap.put(calendar.getEvenOdd(monday), dayMap);
+        }
         return evenOddListMap;
     }
 
     /**
-     * The method used for saving temporary schedule in database
+     * The method used for saving temporary schedule for every date of the range in database.
+     * Conflicts are checked for the whole range at once and the dates without conflicts are saved together
      *
+     * @param from   first date of the range
+     * @param to     last date of the range
      * @param object temporary schedule
-     * @return save temporary schedule
+     * @return list of messages for the skipped dates
      */
     @Override
     public List<String> addRange(LocalDate from, LocalDate to, TemporarySchedule object) {
         log.info("Enter into addRange of TemporaryScheduleServiceImpl with entity:{}", object );
-        List<String> messagesList = new ArrayList<>();
         if(object.getSemester() == null) {
             Semester semester = new Semester();
             semester.setId(semesterService.getCurrentSemester().getId());
             object.setSemester(semester);
         }
-        for (LocalDate date = from; date.isBefore(to.plusDays(1)); date = date.plusDays(1))
-        {
-            TemporarySchedule temporarySchedule =  SerializationUtils.clone(object);
-            temporarySchedule.setDate(date);
+        Map<LocalDate, String> skippedDates = getConflictsByDateRange(from, to, object);
+        List<TemporarySchedule> temporarySchedules = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!skippedDates.containsKey(date)) {
+                TemporarySchedule temporarySchedule = SerializationUtils.clone(object);
+                temporarySchedule.setDate(date);
+                temporarySchedules.add(temporarySchedule);
+            }
+        }
+        if (!temporarySchedules.isEmpty()) {
+            scheduleSnapshotService.bumpVersion(object.getSemester().getId());
+            temporarySchedules.forEach(temporaryScheduleRepository::save);
+        }
+        List<String> messagesList = new ArrayList<>();
+        skippedDates.forEach((date, message) -> messagesList.add(date + " " + message));
+        log.debug("Saved {} temporary schedules, skipped {} dates", temporarySchedules.size(), skippedDates.size());
+        return messagesList;
+    }
+
+    /**
+     * The method used for getting the dates of the range which can't be saved. The rules are the same as in save,
+     * every rule is checked with one query for the whole range and the first broken rule gives the message for the date
+     *
+     * @param from   first date of the range
+     * @param to     last date of the range
+     * @param object temporary schedule
+     * @return map of skipped dates ordered by date with the messages
+     */
+    private Map<LocalDate, String> getConflictsByDateRange(LocalDate from, LocalDate to, TemporarySchedule object) {
+        Long semesterId = object.getSemester().getId();
+        Map<LocalDate, String> conflicts = new TreeMap<>();
+        if(object.isVacation()){
+            if(object.getTeacher()!=null && object.getScheduleId()!=null){
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfTemporaryScheduleByScheduleId(object, from, to, false),
+                        "Please remove temporary schedule before add vacation by class");
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfTemporaryScheduleByScheduleId(object, from, to, true),
+                        "Vacation by class already exist");
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationWithoutPeriodByDateRange(from, to, semesterId, true),
+                        "Added vacation  for this teacher by date. We can't add vacation by class");
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationByDateRange(from, to, semesterId, true),
+                        "Added vacation by date. We can't add vacation by class");
+            }else if(object.getTeacher()!=null){
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationWithoutPeriodByDateRange(from, to, semesterId, false),
+                        "Please remove temporary schedule for this teacher  before add vacation");
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationWithoutPeriodByDateRange(from, to, semesterId, true),
+                        "Vacation for this teacher  already exists");
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationByDateRange(from, to, semesterId, true),
+                        "Added vacation by date. We can't add vacation by teacher");
+            }else{
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationByDateRange(from, to, semesterId, false),
+                        "Please remove temporary schedule before add vacation");
+                addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationByDateRange(from, to, semesterId, true),
+                        "Vacation with this date already exists");
+            }
+        }else {
+            addConflicts(conflicts, temporaryScheduleRepository.getDatesOfVacationByDateRange(from, to, semesterId, true),
+                    "Please remove vacation before");
+            addConflicts(conflicts, temporaryScheduleRepository.getDatesOfTemporarySchedule(object, from, to),
+                    "Entity with this parameters already exists");
             try {
-                this.save(temporarySchedule);
-            }catch (EntityAlreadyExistsException | EntityNotFoundException  e){
-                messagesList.add(temporarySchedule.getDate() + " " + e.getMessage());
+                checkReferencedElement(object);
+            } catch (EntityNotFoundException e) {
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    conflicts.putIfAbsent(date, e.getMessage());
+                }
             }
         }
-            return messagesList;
+        return conflicts;
+    }
+
+    private void addConflicts(Map<LocalDate, String> conflicts, List<LocalDate> dates, String message) {
+        dates.forEach(date -> conflicts.putIfAbsent(date, message));
     }
+
     /**
      * The method used for saving temporary schedule in database
      *
@@ -296,6 +365,7 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
                 checkReferencedElement(object);
             }
         }
+        scheduleSnapshotService.bumpVersion(object.getSemester().getId());
         TemporarySchedule temporarySchedule = temporaryScheduleRepository.save(object);
 //        if(temporarySchedule.isNotification()){
 //            try {
@@ -334,6 +404,7 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
                 checkReferencedElement(object);
             }
         }
+        scheduleSnapshotService.bumpVersion(object.getSemester().getId());
         TemporarySchedule entity = temporaryScheduleRepository.update(object);
         return this.getById(entity.getId());
     }
@@ -427,6 +498,9 @@ public class TemporaryScheduleServiceImpl implements TemporaryScheduleService {
     @Override
     public TemporarySchedule delete(TemporarySchedule object) {
         log.info("Enter into delete of TemporaryScheduleServiceImpl with entity:{}", object);
+        if (object.getSemester() != null) {
+            scheduleSnapshotService.bumpVersion(object.getSemester().getId());
+        }
         TemporarySchedule temporarySchedule = temporaryScheduleRepository.delete(object);
         try {
             deleteVacationNotify.linkWith(deleteTeacherVacationNotify).linkWith(deletePeriodVacationNotify).check(object);
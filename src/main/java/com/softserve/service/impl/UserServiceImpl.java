@@ -7,7 +7,9 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.exception.IncorrectEmailException;
 import com.softserve.exception.IncorrectPasswordException;
 import com.softserve.repository.UserRepository;
+import com.softserve.security.jwt.JwtPrincipalCache;
 import com.softserve.service.MailService;
+import com.softserve.service.ResourceVersionService;
 import com.softserve.service.UserService;
 import com.softserve.util.PasswordGeneratingUtil;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -59,11 +62,18 @@ public class UserServiceImpl implements UserService {
     
     private final MailService mailService;
 
+    private final JwtPrincipalCache jwtPrincipalCache;
+
+    private final ResourceVersionService resourceVersionService;
+
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, MailService mailService) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, MailService mailService,
+                           JwtPrincipalCache jwtPrincipalCache, ResourceVersionService resourceVersionService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.mailService = mailService;
+        this.jwtPrincipalCache = jwtPrincipalCache;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
@@ -119,11 +129,16 @@ public class UserServiceImpl implements UserService {
     @Override
     public User update(User object) {
         log.info("Enter into update method with entity:{}", object);
-        getById(object.getId());
+        jwtPrincipalCache.evict(getById(object.getId()).getEmail());
+        jwtPrincipalCache.evict(object.getEmail());
         if (userRepository.findByEmail(object.getEmail()).isPresent() &&
                 !Objects.equals(userRepository.findByEmail(object.getEmail()).get().getId(), object.getId())) {
             throw new FieldAlreadyExistsException(User.class, "email", object.getEmail());
         }
+        //the email of the user is shown as the email of the teacher
+        if (object.getRole() == Role.ROLE_TEACHER) {
+            resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
+        }
         return userRepository.update(object);
     }
 
@@ -136,6 +151,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public User delete(User object) {
         log.info("Enter into delete method with entity:{}", object);
+        jwtPrincipalCache.evict(object.getEmail());
+        if (object.getRole() == Role.ROLE_TEACHER) {
+            resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
+        }
         return userRepository.delete(object);
     }
 
@@ -215,6 +234,7 @@ public class UserServiceImpl implements UserService {
             String password = PasswordGeneratingUtil.generatePassword();
             user.setPassword(passwordEncoder.encode(password));
             userRepository.update(user);
+            jwtPrincipalCache.evict(user.getEmail());
 
             String message = "Hello, " + user.getEmail() + ".\n" +
                     "You received this email because you requested to reset your password.\n" +
@@ -261,6 +281,36 @@ public class UserServiceImpl implements UserService {
         return userRepository.getAllUsersWithRoleUser();
     }
 
+    /**
+     * The method used for getting list of users with given ids from database
+     *
+     * @param ids ids of the users
+     * @return list of entities User
+     */
+    @Override
+    public List<User> getUsersByIds(List<Long> ids) {
+        log.info("Enter into getUsersByIds method with ids = {}", ids);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return userRepository.getUsersByIds(ids);
+    }
+
+    /**
+     * The method used for getting list of users with given emails from database
+     *
+     * @param emails emails of the users
+     * @return list of entities User
+     */
+    @Override
+    public List<User> getUsersByEmails(List<String> emails) {
+        log.info("Enter into getUsersByEmails method with {} emails", emails.size());
+        if (emails.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return userRepository.getUsersByEmails(emails);
+    }
+
     /**
      * The method used for change password for current user
      *
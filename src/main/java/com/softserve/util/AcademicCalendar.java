@@ -0,0 +1,117 @@
+package com.softserve.util;
+
+import com.softserve.entity.Semester;
+import com.softserve.entity.enums.EvenOdd;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.temporal.TemporalAdjusters.nextOrSame;
+import static java.time.temporal.TemporalAdjusters.previousOrSame;
+
+/**
+ * Calendar of the semester which answers which week of the semester the date belongs to and whether the week is
+ * odd or even. Weeks start on Monday and the week with the first day of the semester is the first, odd week
+ */
+public final class AcademicCalendar {
+
+    private final LocalDate startDay;
+    private final LocalDate endDay;
+    private final long firstMonday;
+
+    private AcademicCalendar(LocalDate startDay, LocalDate endDay) {
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.firstMonday = startDay.with(previousOrSame(MONDAY)).toEpochDay();
+    }
+
+    /**
+     * Method builds calendar of the semester
+     *
+     * @param semester semester with start and end days
+     * @return built calendar
+     */
+    public static AcademicCalendar of(Semester semester) {
+        return of(semester.getStartDay(), semester.getEndDay());
+    }
+
+    /**
+     * Method builds calendar of the semester
+     *
+     * @param startDay first day of the semester
+     * @param endDay   last day of the semester
+     * @return built calendar
+     */
+    public static AcademicCalendar of(LocalDate startDay, LocalDate endDay) {
+        return new AcademicCalendar(startDay, endDay);
+    }
+
+    /**
+     * Method checks whether the date is between the first and the last days of the semester inclusive
+     *
+     * @param date the date
+     * @return true if the date is in the semester
+     */
+    public boolean isInSemester(LocalDate date) {
+        return !date.isBefore(startDay) && !date.isAfter(endDay);
+    }
+
+    /**
+     * Method gets index of the week of the date counting from zero for the first week of the semester.
+     * Weeks before the semester have negative indexes
+     *
+     * @param date the date
+     * @return index of the week
+     */
+    public int getWeekIndex(LocalDate date) {
+        return (int) Math.floorDiv(date.toEpochDay() - firstMonday, 7);
+    }
+
+    /**
+     * Method gets parity of the week of the date
+     *
+     * @param date the date
+     * @return ODD or EVEN
+     */
+    public EvenOdd getEvenOdd(LocalDate date) {
+        return Math.floorMod(getWeekIndex(date), 2) == 0 ? EvenOdd.ODD : EvenOdd.EVEN;
+    }
+
+    /**
+     * Method checks whether the lesson which takes place by the weeks of provided parity is held at the date
+     *
+     * @param date    the date
+     * @param evenOdd EVEN, ODD or WEEKLY
+     * @return true if the date is in the semester and the week of the date suits the parity
+     */
+    public boolean isScheduled(LocalDate date, EvenOdd evenOdd) {
+        return isInSemester(date) && (evenOdd == EvenOdd.WEEKLY || getEvenOdd(date) == evenOdd);
+    }
+
+    /**
+     * Method gets all dates of the range within the semester on which the lesson for the day of week
+     * and the parity is held, without checking every date of the range
+     *
+     * @param fromDate  first date of the range
+     * @param toDate    last date of the range
+     * @param dayOfWeek day of week of the lesson
+     * @param evenOdd   EVEN, ODD or WEEKLY
+     * @return ordered list of dates
+     */
+    public List<LocalDate> getDates(LocalDate fromDate, LocalDate toDate, DayOfWeek dayOfWeek, EvenOdd evenOdd) {
+        LocalDate to = toDate.isBefore(endDay) ? toDate : endDay;
+        LocalDate date = (fromDate.isAfter(startDay) ? fromDate : startDay).with(nextOrSame(dayOfWeek));
+        if (evenOdd != EvenOdd.WEEKLY && getEvenOdd(date) != evenOdd) {
+            date = date.plusWeeks(1);
+        }
+        int step = evenOdd == EvenOdd.WEEKLY ? 1 : 2;
+        List<LocalDate> dates = new ArrayList<>();
+        for (; !date.isAfter(to); date = date.plusWeeks(step)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+}
@@ -1,6 +1,5 @@
 package com.softserve.util;
 
-import com.itextpdf.text.BaseColor;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Font;
 import com.itextpdf.text.Phrase;
@@ -13,7 +12,6 @@ import java.io.IOException;
 import java.time.DayOfWeek;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 
 /**
  * Base class for the several table builder types supported
@@ -35,18 +33,18 @@ public abstract class BaseTableBuilder {
     protected final Font headFont;
 
     /**
-     * Constructs a BaseTableBuilder.
+     * Constructs a BaseTableBuilder with the fonts of the shared {@link PdfFontPool}.
      *
      * @throws IOException when the font file could not be read
      * @throws DocumentException when the font is invalid
      */
     protected BaseTableBuilder() throws DocumentException, IOException {
-        this.baseFont = BaseFont.createFont(Objects.requireNonNull(getClass().getClassLoader()
-                .getResource("font/times.ttf")).toString(), BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
-        this.cellFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLACK);
-        this.linkFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLUE);
-        this.titleFont = new Font(baseFont, 14, Font.BOLD, BaseColor.WHITE);
-        this.headFont = new Font(baseFont, 12, Font.BOLD, BaseColor.BLACK);
+        PdfFontPool fontPool = PdfFontPool.getInstance();
+        this.baseFont = fontPool.getBaseFont();
+        this.cellFont = fontPool.getCellFont();
+        this.linkFont = fontPool.getLinkFont();
+        this.titleFont = fontPool.getTitleFont();
+        this.headFont = fontPool.getHeadFont();
         this.translator = Translator.getInstance();
     }
 
@@ -0,0 +1,40 @@
+package com.softserve.util;
+
+import org.springframework.cache.Cache;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads the caches which keep immutable snapshots instead of the entities.
+ * On a hit a new object is restored from the snapshot, so the callers never share the cached state;
+ * on a miss the loaded object is returned as it is, so it stays attached to the current session
+ */
+public final class CachedSnapshots {
+
+    private CachedSnapshots() {
+    }
+
+    /**
+     * Method gets the value from the cache or loads it and caches its snapshot
+     *
+     * @param cache    cache of the snapshots
+     * @param key      key of the value
+     * @param restore  creates the value from the cached snapshot
+     * @param loader   loads the value if it isn't cached
+     * @param snapshot creates the snapshot of the loaded value
+     * @param <T>      type of the value
+     * @param <S>      type of the snapshot
+     * @return cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, S> T get(Cache cache, Object key, Function<S, T> restore, Supplier<T> loader, Function<T, S> snapshot) {
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && cached.get() != null) {
+            return restore.apply((S) cached.get());
+        }
+        T value = loader.get();
+        cache.put(key, snapshot.apply(value));
+        return value;
+    }
+}
@@ -0,0 +1,157 @@
+package com.softserve.util;
+
+import com.softserve.dto.CircuitBreakerStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker of a remote resource. After the given number of consecutive failures the circuit is opened
+ * and the calls are not allowed, so the callers bypass the resource instead of waiting for its timeouts.
+ * When the open duration has passed, a single trial call is allowed (half-open state): its success closes
+ * the circuit and its failure opens it again
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDuration;
+    private final LongSupplier clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong bypassedCalls = new AtomicLong();
+    private final AtomicLong timesOpened = new AtomicLong();
+    private final List<Runnable> closeListeners = new CopyOnWriteArrayList<>();
+    private volatile long openedAt;
+
+    /**
+     * @param name             name of the resource, used in the logs and the stats
+     * @param failureThreshold number of consecutive failures which opens the circuit
+     * @param openDuration     time in milliseconds after which the trial call is allowed
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openDuration) {
+        this(name, failureThreshold, openDuration, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openDuration, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Method checks if the resource can be called. Every refused call is counted as bypassed.
+     * The caller which is allowed to call must report the result by onSuccess or onFailure
+     *
+     * @return true if the resource can be called
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && clock.getAsLong() - openedAt >= openDuration
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            log.info("Circuit of [{}] is half-open, trying the call", name);
+            return true;
+        }
+        bypassedCalls.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Method calls the resource if the circuit allows it and reports the result of the call.
+     * The failure of the call is logged and counted, but isn't passed to the caller
+     *
+     * @param call call of the resource
+     * @return result of the call or empty if the resource was bypassed, the call failed or returned null
+     */
+    public <T> Optional<T> call(Supplier<T> call) {
+        if (!tryAcquire()) {
+            return Optional.empty();
+        }
+        try {
+            T result = call.get();
+            onSuccess();
+            return Optional.ofNullable(result);
+        } catch (RuntimeException e) {
+            log.warn("Call of [{}] failed: {}", name, e.toString());
+            onFailure(e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Method calls the resource if the circuit allows it, see {@link #call(Supplier)}
+     *
+     * @param call call of the resource
+     * @return true if the call was made and succeeded
+     */
+    public boolean run(Runnable call) {
+        return call(() -> {
+            call.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Method reports the successful call
+     */
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Circuit of [{}] is closed", name);
+            closeListeners.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Method reports the failed call
+     *
+     * @param e cause of the failure
+     */
+    public void onFailure(Throwable e) {
+        failures.incrementAndGet();
+        int failuresInRow = consecutiveFailures.incrementAndGet();
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)
+                || failuresInRow >= failureThreshold && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAt = clock.getAsLong();
+            timesOpened.incrementAndGet();
+            log.warn("Circuit of [{}] is open for {} ms after {} failures in a row, last failure: {}",
+                    name, openDuration, failuresInRow, e.toString());
+        }
+    }
+
+    /**
+     * Method adds the listener which is called when the circuit is closed after it was open
+     *
+     * @param listener listener of closing
+     */
+    public void addCloseListener(Runnable listener) {
+        closeListeners.add(listener);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public CircuitBreakerStatsDTO getStats() {
+        return new CircuitBreakerStatsDTO(name, state.get().name(), consecutiveFailures.get(), failures.get(),
+                bypassedCalls.get(), timesOpened.get());
+    }
+}
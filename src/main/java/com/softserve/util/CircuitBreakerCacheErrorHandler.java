@@ -0,0 +1,43 @@
+package com.softserve.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+
+/**
+ * Error handler which does not fail the call when the cache fails. The failure is logged and reported
+ * to the circuit breaker, so the cache is bypassed after repeated failures and the data is taken from the database
+ */
+@Slf4j
+public class CircuitBreakerCacheErrorHandler implements CacheErrorHandler {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerCacheErrorHandler(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Failed to get [{}] from cache [{}]: {}", key, cache.getName(), exception.toString());
+        circuitBreaker.onFailure(exception);
+    }
+
+    @Override
+    public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+        log.warn("Failed to put [{}] to cache [{}]: {}", key, cache.getName(), exception.toString());
+        circuitBreaker.onFailure(exception);
+    }
+
+    @Override
+    public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+        log.warn("Failed to evict [{}] from cache [{}]: {}", key, cache.getName(), exception.toString());
+        circuitBreaker.onFailure(exception);
+    }
+
+    @Override
+    public void handleCacheClearError(RuntimeException exception, Cache cache) {
+        log.warn("Failed to clear cache [{}]: {}", cache.getName(), exception.toString());
+        circuitBreaker.onFailure(exception);
+    }
+}
@@ -7,75 +7,69 @@ import com.softserve.exception.ParseFileException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 public class CsvFileParser {
-    public static List<StudentImportDTO> getStudentsFromFile(MultipartFile file){
-        String fileName = String.join("", "students_",
-                String.valueOf(LocalDateTime.now().getNano()), ".csv");
-
-        File csvFile = new File(fileName);
 
+    public static List<StudentImportDTO> getStudentsFromFile(MultipartFile file) {
         List<StudentImportDTO> students = new ArrayList<>();
-        try {
-            file.transferTo(csvFile);
-
-            try (Reader reader = new FileReader(csvFile, StandardCharsets.UTF_8)) {
-                students = new CsvToBeanBuilder<StudentImportDTO>(reader)
-                        .withType(StudentImportDTO.class)
-                        .build().parse();
-            }
-        } catch (RuntimeException e) {
-            log.error("Error occurred while parsing file {}", csvFile.getName(), e);
-            throw new ParseFileException("Bad file format");
-        } catch (IOException e) {
-            log.error("Error occurred while accessing to file {}", csvFile.getName(), e);
-        } finally {
-            fileDelete(csvFile);
-        }
+        readStudentsInChunks(file, Integer.MAX_VALUE, students::addAll);
         return students;
     }
 
-    private static void fileDelete(File file) {
-        try {
-            Files.delete(file.toPath());
-        } catch (IOException e) {
-            log.error("Error occurred while delete file {}", file.getName(), e);
-        }
+    public static List<TeacherImportDTO> getTeachersFromFile(MultipartFile file) {
+        List<TeacherImportDTO> teachers = new ArrayList<>();
+        readInChunks(file, TeacherImportDTO.class, Integer.MAX_VALUE, teachers::addAll);
+        return teachers;
     }
 
-    public static List<TeacherImportDTO> getTeachersFromFile(MultipartFile file) {
-        String fileName = String.join("", "teachers_",
-                String.valueOf(LocalDateTime.now().getNano()), ".csv");
+    /**
+     * Method reads students from the uploaded file without loading the whole file into memory
+     * and passes them to the consumer by chunks
+     *
+     * @param file      file with students data
+     * @param chunkSize max number of students in one chunk
+     * @param consumer  consumer of the chunks, it is called in the order of the rows in the file
+     */
+    public static void readStudentsInChunks(MultipartFile file, int chunkSize, Consumer<List<StudentImportDTO>> consumer) {
+        readInChunks(file, StudentImportDTO.class, chunkSize, consumer);
+    }
 
-        File csvFile = new File(fileName);
+    private static <T> void readInChunks(MultipartFile file, Class<T> type, int chunkSize, Consumer<List<T>> consumer) {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            Iterator<T> rows = parse(file, () -> new CsvToBeanBuilder<T>(reader).withType(type).build().iterator());
+            List<T> chunk = new ArrayList<>();
+            while (parse(file, rows::hasNext)) {
+                chunk.add(parse(file, rows::next));
+                if (chunk.size() >= chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        } catch (IOException e) {
+            log.error("Error occurred while accessing to file {}", file.getOriginalFilename(), e);
+        }
+    }
 
-        List<TeacherImportDTO> teachers = new ArrayList<>();
+    //only errors of parsing are reported as bad format, errors of the consumer are passed as they are
+    private static <R> R parse(MultipartFile file, Supplier<R> step) {
         try {
-            file.transferTo(csvFile);
-
-            try (Reader reader = new FileReader(csvFile, StandardCharsets.UTF_8)) {
-                teachers = new CsvToBeanBuilder<TeacherImportDTO>(reader)
-                        .withType(TeacherImportDTO.class)
-                        .build().parse();
-            }
+            return step.get();
         } catch (RuntimeException e) {
-            log.error("Error occurred while parsing file {}", csvFile.getName(), e);
+            log.error("Error occurred while parsing file {}", file.getOriginalFilename(), e);
             throw new ParseFileException("Bad file format");
-        } catch (IOException e) {
-            log.error("Error occurred while accessing to file {}", csvFile.getName(), e);
-        } finally {
-            fileDelete(csvFile);
         }
-        return teachers;
     }
 }
@@ -112,7 +112,6 @@ public class GroupTableBuilder extends BaseTableBuilder {
     private PdfPCell createTitleCell(int tableWidth, ScheduleForGroupDTO schedule, Locale language) {
         log.info("Enter into createTableTitleCell method with tableWidth {} and schedule {} and language {}", tableWidth, schedule, language);
 
-        Font titleFont = new Font(baseFont, 14, Font.BOLD, BaseColor.WHITE);
         String scheduleTitle = MessageFormat.format("{0} {1} {2}",
                 StringUtils.capitalize(translator.getTranslation("schedule for", language)),
                 schedule.getGroup().getTitle(),
@@ -0,0 +1,49 @@
+package com.softserve.util;
+
+import com.softserve.dto.ExecutorStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded thread pool that counts the tasks it could not queue. Such tasks are rejected, so that
+ * a full executor never makes the request thread which submits them do the work
+ */
+@Slf4j
+public class MonitoredTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private final String name;
+    private final AtomicLong rejectedTasks = new AtomicLong();
+    private int queueCapacity = Integer.MAX_VALUE;
+
+    public MonitoredTaskExecutor(String name) {
+        this.name = name;
+        setThreadNamePrefix(name + "-");
+        setTaskDecorator(new MdcTaskDecorator());
+        setRejectedExecutionHandler((runnable, executor) -> {
+            rejectedTasks.incrementAndGet();
+            log.warn("Queue of executor {} is full, task is rejected", name);
+            throw new RejectedExecutionException("Queue of executor " + name + " is full");
+        });
+    }
+
+    @Override
+    public void setQueueCapacity(int queueCapacity) {
+        super.setQueueCapacity(queueCapacity);
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Method gets the current load of the executor
+     *
+     * @return sizes of the pool and the queue with the numbers of completed and rejected tasks
+     */
+    public ExecutorStatsDTO getStats() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return new ExecutorStatsDTO(name, executor.getPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                queueCapacity, executor.getCompletedTaskCount(), rejectedTasks.get());
+    }
+}
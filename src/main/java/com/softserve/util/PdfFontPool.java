@@ -0,0 +1,60 @@
+package com.softserve.util;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.pdf.BaseFont;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Application wide pool of the fonts used in pdf reports. The font file is parsed only once
+ * and the same font instances are shared by all table builders
+ */
+@Slf4j
+@Getter
+public final class PdfFontPool {
+    private static final String FONT_PATH = "font/times.ttf";
+
+    private static volatile PdfFontPool pool;
+
+    private final BaseFont baseFont;
+    private final Font cellFont;
+    private final Font linkFont;
+    private final Font titleFont;
+    private final Font headFont;
+
+    private PdfFontPool() throws DocumentException, IOException {
+        this.baseFont = BaseFont.createFont(Objects.requireNonNull(getClass().getClassLoader()
+                .getResource(FONT_PATH)).toString(), BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
+        this.cellFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLACK);
+        this.linkFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLUE);
+        this.titleFont = new Font(baseFont, 14, Font.BOLD, BaseColor.WHITE);
+        this.headFont = new Font(baseFont, 12, Font.BOLD, BaseColor.BLACK);
+    }
+
+    /**
+     * Method returns the pool, loading the fonts on the first call
+     *
+     * @return pool of the fonts
+     * @throws IOException when the font file could not be read
+     * @throws DocumentException when the font is invalid
+     */
+    public static PdfFontPool getInstance() throws DocumentException, IOException {
+        PdfFontPool result = pool;
+        if (result == null) {
+            synchronized (PdfFontPool.class) {
+                result = pool;
+                if (result == null) {
+                    log.info("Loading pdf fonts from {}", FONT_PATH);
+                    result = new PdfFontPool();
+                    pool = result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 
 
@@ -26,24 +27,26 @@ public class PdfReportGenerator {
      * @return ByteArrayOutputStream teacher schedule in byte array format
      */
     public ByteArrayOutputStream teacherScheduleReport(ScheduleForTeacherDTO schedule, Locale language) {
-        log.info("Enter into teacherScheduleReport method with schedule {}", schedule);
+        ByteArrayOutputStream bys = new ByteArrayOutputStream();
+        teacherScheduleReport(schedule, language, bys);
+        return bys;
+    }
 
-        ByteArrayOutputStream bys;
+    /**
+     * Method used for writing pdf with the schedule of the teacher directly into the given stream
+     *
+     * @param schedule for selected teacher and semester
+     * @param language for selected language
+     * @param out      the stream the pdf is written to, it is not closed by the method
+     */
+    public void teacherScheduleReport(ScheduleForTeacherDTO schedule, Locale language, OutputStream out) {
+        log.info("Enter into teacherScheduleReport method with schedule {}", schedule);
         try {
-            Document document = new Document();
-            document.setPageSize(PageSize.A4);
-            document.setPageSize(PageSize.LETTER.rotate());
-            bys = new ByteArrayOutputStream();
-            PdfWriter.getInstance(document, bys);
-            document.open();
-            PdfPTable table = new TeacherTableBuilder().createTeacherTable(schedule, language);
-            document.add(table);
-            document.close();
+            writeTable(new TeacherTableBuilder().createTeacherTable(schedule, language), out);
         } catch (DocumentException | IOException e) {
             log.error(e.getMessage(), e);
             throw new FileDownloadException("Failed to download file");
         }
-        return bys;
     }
 
     /**
@@ -54,24 +57,36 @@ public class PdfReportGenerator {
      * @return ByteArrayOutputStream group schedule in byte array format
      */
     public ByteArrayOutputStream groupScheduleReport(ScheduleForGroupDTO schedule, Locale language) {
-        log.info("Enter into groupScheduleReport method with schedule {}", schedule);
+        ByteArrayOutputStream bys = new ByteArrayOutputStream();
+        groupScheduleReport(schedule, language, bys);
+        return bys;
+    }
 
-        ByteArrayOutputStream bys;
+    /**
+     * Method used for writing pdf with the schedule of the group directly into the given stream
+     *
+     * @param schedule for selected group and semester
+     * @param language for selected language
+     * @param out      the stream the pdf is written to, it is not closed by the method
+     */
+    public void groupScheduleReport(ScheduleForGroupDTO schedule, Locale language, OutputStream out) {
+        log.info("Enter into groupScheduleReport method with schedule {}", schedule);
         try {
-            Document document = new Document();
-            document.setPageSize(PageSize.A4);
-            document.setPageSize(PageSize.LETTER.rotate());
-            bys = new ByteArrayOutputStream();
-            PdfWriter.getInstance(document, bys);
-            document.open();
-            PdfPTable table = new GroupTableBuilder().createGroupTable(schedule, language);
-            document.add(table);
-            document.close();
+            writeTable(new GroupTableBuilder().createGroupTable(schedule, language), out);
         } catch (DocumentException | IOException e) {
             log.error(e.getMessage(), e);
             throw new FileDownloadException("Failed to download file");
         }
-        return bys;
     }
-}
 
+    private void writeTable(PdfPTable table, OutputStream out) throws DocumentException {
+        Document document = new Document();
+        document.setPageSize(PageSize.A4);
+        document.setPageSize(PageSize.LETTER.rotate());
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
+        document.open();
+        document.add(table);
+        document.close();
+    }
+}
@@ -0,0 +1,175 @@
+package com.softserve.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache which bypasses the remote cache while its circuit is open and never fails the call because of it.
+ * Missing values are loaded by the caller (from the database or the near cache in front of this one).
+ * Changes which could not be written while the circuit was open leave the remote cache stale,
+ * so such a cache is cleared as soon as the circuit is closed again
+ */
+@Slf4j
+public class ResilientCache implements Cache {
+
+    private final Cache remote;
+    private final CircuitBreaker circuitBreaker;
+    private final CircuitBreakerCacheErrorHandler errorHandler;
+    private volatile boolean stale;
+
+    public ResilientCache(Cache remote, CircuitBreaker circuitBreaker, CircuitBreakerCacheErrorHandler errorHandler) {
+        this.remote = remote;
+        this.circuitBreaker = circuitBreaker;
+        this.errorHandler = errorHandler;
+        circuitBreaker.addCloseListener(this::clearIfStale);
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!circuitBreaker.tryAcquire()) {
+            return null;
+        }
+        try {
+            ValueWrapper value = remote.get(key);
+            circuitBreaker.onSuccess();
+            return value;
+        } catch (RuntimeException e) {
+            errorHandler.handleCacheGetError(e, this, key);
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object result = value.get();
+        if (result != null && type != null && !type.isInstance(result)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!circuitBreaker.tryAcquire()) {
+            return load(key, valueLoader);
+        }
+        try {
+            T value = remote.get(key, valueLoader);
+            circuitBreaker.onSuccess();
+            return value;
+        } catch (ValueRetrievalException e) {
+            //the loader failed, the cache itself has answered
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            errorHandler.handleCacheGetError(e, this, key);
+            return load(key, valueLoader);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!circuitBreaker.tryAcquire()) {
+            stale = true;
+            return;
+        }
+        try {
+            remote.put(key, value);
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException e) {
+            stale = true;
+            errorHandler.handleCachePutError(e, this, key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (!circuitBreaker.tryAcquire()) {
+            return null;
+        }
+        try {
+            ValueWrapper existing = remote.putIfAbsent(key, value);
+            circuitBreaker.onSuccess();
+            return existing;
+        } catch (RuntimeException e) {
+            errorHandler.handleCachePutError(e, this, key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        if (!circuitBreaker.tryAcquire()) {
+            stale = true;
+            return false;
+        }
+        try {
+            boolean evicted = remote.evictIfPresent(key);
+            circuitBreaker.onSuccess();
+            return evicted;
+        } catch (RuntimeException e) {
+            stale = true;
+            errorHandler.handleCacheEvictError(e, this, key);
+            return false;
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (!circuitBreaker.tryAcquire()) {
+            stale = true;
+            return;
+        }
+        try {
+            remote.clear();
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException e) {
+            stale = true;
+            errorHandler.handleCacheClearError(e, this);
+        }
+    }
+
+    private void clearIfStale() {
+        if (!stale) {
+            return;
+        }
+        stale = false;
+        log.info("Clearing cache [{}] which missed changes while its circuit was open", getName());
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            stale = true;
+            errorHandler.handleCacheClearError(e, this);
+        }
+    }
+
+    private static <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.softserve.util;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager which guards all caches of the remote manager by one circuit breaker, see {@link ResilientCache}
+ */
+public class ResilientCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final CircuitBreaker circuitBreaker;
+    private final CircuitBreakerCacheErrorHandler errorHandler;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager remote, CircuitBreaker circuitBreaker,
+                                 CircuitBreakerCacheErrorHandler errorHandler) {
+        this.remote = remote;
+        this.circuitBreaker = circuitBreaker;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new ResilientCache(remoteCache, circuitBreaker, errorHandler));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+}
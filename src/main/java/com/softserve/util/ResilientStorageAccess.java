@@ -0,0 +1,93 @@
+package com.softserve.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Storage of a region of the Hibernate second-level cache which bypasses Redis while the circuit of the cache
+ * is open and never fails the session because of it. A read which can't be made is a miss, so the entity
+ * is loaded from the database. Locks, updates and evictions which could not be written leave the region stale,
+ * so such a region is cleared as soon as the circuit is closed again, the same way as {@link ResilientCache}
+ */
+@Slf4j
+public class ResilientStorageAccess implements DomainDataStorageAccess {
+
+    private final String regionName;
+    private final StorageAccess storage;
+    private final CircuitBreaker circuitBreaker;
+    private volatile boolean stale;
+
+    public ResilientStorageAccess(String regionName, StorageAccess storage, CircuitBreaker circuitBreaker) {
+        this.regionName = regionName;
+        this.storage = storage;
+        this.circuitBreaker = circuitBreaker;
+        circuitBreaker.addCloseListener(this::clearIfStale);
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        return circuitBreaker.call(() -> storage.getFromCache(key, session)).orElse(null);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        write(() -> storage.putIntoCache(key, value, session));
+    }
+
+    //an entity which isn't put after loading is just loaded once more, the region doesn't become stale
+    @Override
+    public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+        circuitBreaker.run(() -> storage.putIntoCache(key, value, session));
+    }
+
+    @Override
+    public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        write(() -> storage.removeFromCache(key, session));
+    }
+
+    @Override
+    public void clearCache(SharedSessionContractImplementor session) {
+        write(() -> storage.clearCache(session));
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return circuitBreaker.call(() -> storage.contains(key)).orElse(false);
+    }
+
+    @Override
+    public void evictData() {
+        write(storage::evictData);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        write(() -> storage.evictData(key));
+    }
+
+    @Override
+    public void release() {
+        try {
+            storage.release();
+        } catch (RuntimeException e) {
+            log.warn("Region [{}] of the second-level cache can't be released: {}", regionName, e.toString());
+        }
+    }
+
+    private void write(Runnable write) {
+        if (!circuitBreaker.run(write)) {
+            stale = true;
+        }
+    }
+
+    private void clearIfStale() {
+        if (!stale) {
+            return;
+        }
+        stale = false;
+        log.info("Clearing region [{}] of the second-level cache which missed changes while its circuit was open", regionName);
+        write(storage::evictData);
+    }
+}
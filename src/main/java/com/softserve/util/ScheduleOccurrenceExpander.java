@@ -0,0 +1,88 @@
+package com.softserve.util;
+
+import com.softserve.entity.Period;
+import com.softserve.entity.Schedule;
+import com.softserve.entity.Semester;
+import com.softserve.entity.TemporarySchedule;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Expands weekly schedules of the semesters into the lessons of concrete dates and finds the temporary schedule
+ * which replaces every of them. Only the dates on which the schedule takes place are generated, so the used memory
+ * depends on the number of the lessons in the result and not on the number of days in the range
+ */
+public final class ScheduleOccurrenceExpander {
+
+    private static final Comparator<Occurrence> ORDER = Comparator.comparing((Occurrence occurrence) -> occurrence.date)
+            .thenComparing(occurrence -> occurrence.schedule.getPeriod().getName());
+
+    private final TemporaryScheduleOverlay temporarySchedules;
+    private final TemporaryScheduleOverlay vacations;
+    private final Map<Long, AcademicCalendar> calendars = new HashMap<>();
+
+    private ScheduleOccurrenceExpander(TemporaryScheduleOverlay temporarySchedules, TemporaryScheduleOverlay vacations) {
+        this.temporarySchedules = temporarySchedules;
+        this.vacations = vacations;
+    }
+
+    /**
+     * Method builds expander which applies provided temporary schedules and vacations
+     *
+     * @param temporarySchedules temporary schedules which replace the lessons
+     * @param vacations          vacations of the lessons, the teachers or the whole days
+     * @return built expander
+     */
+    public static ScheduleOccurrenceExpander of(List<TemporarySchedule> temporarySchedules, List<TemporarySchedule> vacations) {
+        return new ScheduleOccurrenceExpander(TemporaryScheduleOverlay.of(temporarySchedules), TemporaryScheduleOverlay.of(vacations));
+    }
+
+    /**
+     * Method expands the schedules into the date range
+     *
+     * @param schedules weekly schedules
+     * @param fromDate  first date of the range
+     * @param toDate    last date of the range
+     * @return schedules ordered by the date and the name of the period, with the temporary schedule for every lesson.
+     * Lessons without temporary schedule have empty temporary schedule
+     */
+    public Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> expand(List<Schedule> schedules, LocalDate fromDate, LocalDate toDate) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            Semester semester = schedule.getLesson().getSemester();
+            AcademicCalendar calendar = calendars.computeIfAbsent(semester.getId(), id -> AcademicCalendar.of(semester));
+            for (LocalDate date : calendar.getDates(fromDate, toDate, schedule.getDayOfWeek(), schedule.getEvenOdd())) {
+                occurrences.add(new Occurrence(date, schedule));
+            }
+        }
+        occurrences.sort(ORDER);
+
+        Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> map = new LinkedHashMap<>();
+        for (Occurrence occurrence : occurrences) {
+            map.computeIfAbsent(occurrence.date, date -> new LinkedHashMap<>())
+                    .computeIfAbsent(occurrence.schedule.getPeriod(), period -> new LinkedHashMap<>())
+                    .put(occurrence.schedule, findTemporarySchedule(occurrence.schedule, occurrence.date));
+        }
+        return map;
+    }
+
+    private TemporarySchedule findTemporarySchedule(Schedule schedule, LocalDate date) {
+        Long semesterId = schedule.getLesson().getSemester().getId();
+        return temporarySchedules.findBySchedule(semesterId, schedule.getId(), date)
+                .or(() -> vacations.findBySchedule(semesterId, schedule.getId(), date))
+                .or(() -> vacations.findByTeacherAndDate(semesterId, schedule.getLesson().getTeacher().getId(), date))
+                .or(() -> vacations.findBySemesterAndDate(semesterId, date))
+                .orElseGet(TemporarySchedule::new);
+    }
+
+    private static final class Occurrence {
+        private final LocalDate date;
+        private final Schedule schedule;
+
+        private Occurrence(LocalDate date, Schedule schedule) {
+            this.date = date;
+            this.schedule = schedule;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.softserve.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key: the first caller runs the supplier, the callers which come
+ * while it is running wait for its result instead of running the supplier again.
+ * The result is shared by all the callers of the flight, so it must not be changed by them.
+ * The calls are coalesced within this instance only
+ *
+ * @param <K> type of the key
+ * @param <V> type of the result
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    /**
+     * Method runs the supplier or joins the running call with the same key
+     *
+     * @param key      key of the call
+     * @param supplier computes the result
+     * @return result of the supplier, an exception of the supplier is thrown to all the callers of the flight
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            coalescedCalls.incrementAndGet();
+            return join(running);
+        }
+        try {
+            V result = supplier.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Method checks if the call with the key is running
+     *
+     * @param key key of the call
+     * @return true if the call is running
+     */
+    public boolean isInFlight(K key) {
+        return flights.containsKey(key);
+    }
+
+    /**
+     * @return number of the calls which have got the result of another call
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.softserve.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.CompositeCodec;
+import org.redisson.codec.MarshallingCodec;
+import org.redisson.codec.TypedJsonJacksonCodec;
+import org.redisson.spring.cache.CacheConfig;
+import org.redisson.spring.cache.RedissonSpringCacheManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redisson cache manager which stores the values of the snapshot caches as compact typed binary JSON (Smile) instead of
+ * the java serialization of the whole object graph. The keys are still encoded by the default codec of Redisson,
+ * so the generated keys of the Spring cache abstraction are supported. The snapshot caches are kept in the Redis maps
+ * with their own prefix, so that the entries written by the old format are never read by the new codec
+ */
+public class SnapshotCacheManager extends RedissonSpringCacheManager {
+
+    public static final String SNAPSHOT_PREFIX = "snapshot:";
+
+    //repeated names of teachers, subjects and groups are written once and referenced later
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(new SmileFactory()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES))
+            .registerModule(new JavaTimeModule());
+
+    private final RedissonClient redissonClient;
+    private final Map<String, Codec> codecs;
+
+    /**
+     * @param redissonClient client of Redis
+     * @param config         settings of the caches
+     * @param snapshotTypes  types of the values of the snapshot caches by the name of the cache
+     */
+    public SnapshotCacheManager(RedissonClient redissonClient, Map<String, CacheConfig> config,
+                                Map<String, TypeReference<?>> snapshotTypes) {
+        super(redissonClient, config);
+        this.redissonClient = redissonClient;
+        this.codecs = new HashMap<>();
+        snapshotTypes.forEach((name, type) -> codecs.put(name, codec(type)));
+    }
+
+    /**
+     * Method creates the codec which stores the values of the given type as JSON
+     *
+     * @param type type of the cached values
+     * @return codec for the Redis map of the cache
+     */
+    public static Codec codec(TypeReference<?> type) {
+        Codec valueCodec = new TypedJsonJacksonCodec(type, null, type, OBJECT_MAPPER);
+        return new CompositeCodec(new MarshallingCodec(), valueCodec, valueCodec);
+    }
+
+    @Override
+    protected RMap<Object, Object> getMap(String name, CacheConfig config) {
+        Codec codec = codecs.get(name);
+        if (codec == null) {
+            return super.getMap(name, config);
+        }
+        return redissonClient.getMap(SNAPSHOT_PREFIX + name, codec);
+    }
+
+    @Override
+    protected RMapCache<Object, Object> getMapCache(String name, CacheConfig config) {
+        Codec codec = codecs.get(name);
+        if (codec == null) {
+            return super.getMapCache(name, config);
+        }
+        return redissonClient.getMapCache(SNAPSHOT_PREFIX + name, codec);
+    }
+}
@@ -0,0 +1,128 @@
+package com.softserve.util;
+
+import com.softserve.entity.TemporarySchedule;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Index of temporary schedules which is built once and answers lookups of the temporary schedule
+ * for a cell of the schedule without scanning all temporary schedules. When several temporary schedules
+ * match the same key the first of them in the source list is returned
+ */
+public final class TemporaryScheduleOverlay {
+
+    private final Map<List<Object>, TemporarySchedule> bySchedule = new HashMap<>();
+    private final Map<List<Object>, TemporarySchedule> byGroupAndPeriod = new HashMap<>();
+    private final Map<List<Object>, TemporarySchedule> byTeacherAndDate = new HashMap<>();
+    private final Map<Long, TemporarySchedule> teacherVacations = new HashMap<>();
+    private final Map<List<Object>, TemporarySchedule> bySemesterAndDate = new HashMap<>();
+    private TemporarySchedule semesterVacation;
+
+    private TemporaryScheduleOverlay() {
+    }
+
+    /**
+     * Method builds index of the temporary schedules
+     *
+     * @param temporarySchedules list of temporary schedules
+     * @return built index
+     */
+    public static TemporaryScheduleOverlay of(List<TemporarySchedule> temporarySchedules) {
+        TemporaryScheduleOverlay overlay = new TemporaryScheduleOverlay();
+        for (TemporarySchedule temporarySchedule : temporarySchedules) {
+            overlay.add(temporarySchedule);
+        }
+        return overlay;
+    }
+
+    private void add(TemporarySchedule temporarySchedule) {
+        Long semesterId = temporarySchedule.getSemester() != null ? temporarySchedule.getSemester().getId() : null;
+        if (temporarySchedule.getScheduleId() != null) {
+            bySchedule.putIfAbsent(Arrays.asList(semesterId, temporarySchedule.getScheduleId(), temporarySchedule.getDate()),
+                    temporarySchedule);
+            if (temporarySchedule.getPeriod() != null && temporarySchedule.getGroup() != null) {
+                byGroupAndPeriod.putIfAbsent(Arrays.asList(temporarySchedule.getGroup().getId(),
+                        temporarySchedule.getPeriod().getId(), temporarySchedule.isVacation()), temporarySchedule);
+            }
+            return;
+        }
+        bySemesterAndDate.putIfAbsent(Arrays.asList(semesterId, temporarySchedule.getDate()), temporarySchedule);
+        if (temporarySchedule.isVacation() && semesterVacation == null) {
+            semesterVacation = temporarySchedule;
+        }
+        if (temporarySchedule.getPeriod() == null && temporarySchedule.getTeacher() != null) {
+            Long teacherId = temporarySchedule.getTeacher().getId();
+            byTeacherAndDate.putIfAbsent(Arrays.asList(semesterId, teacherId, temporarySchedule.getDate()), temporarySchedule);
+            if (temporarySchedule.isVacation()) {
+                teacherVacations.putIfAbsent(teacherId, temporarySchedule);
+            }
+        }
+    }
+
+    /**
+     * Method finds temporary schedule which replaces the schedule at the date
+     *
+     * @param semesterId id of the semester
+     * @param scheduleId id of the schedule
+     * @param date       the date
+     * @return Optional temporary schedule
+     */
+    public Optional<TemporarySchedule> findBySchedule(Long semesterId, Long scheduleId, LocalDate date) {
+        return Optional.ofNullable(bySchedule.get(Arrays.asList(semesterId, scheduleId, date)));
+    }
+
+    /**
+     * Method finds temporary schedule of the group at the period
+     *
+     * @param groupId  id of the group
+     * @param periodId id of the period
+     * @param vacation whether the temporary schedule is vacation
+     * @return Optional temporary schedule
+     */
+    public Optional<TemporarySchedule> findByGroupAndPeriod(Long groupId, Long periodId, boolean vacation) {
+        return Optional.ofNullable(byGroupAndPeriod.get(Arrays.asList(groupId, periodId, vacation)));
+    }
+
+    /**
+     * Method finds temporary schedule for the whole day of the teacher at the date
+     *
+     * @param semesterId id of the semester
+     * @param teacherId  id of the teacher
+     * @param date       the date
+     * @return Optional temporary schedule
+     */
+    public Optional<TemporarySchedule> findByTeacherAndDate(Long semesterId, Long teacherId, LocalDate date) {
+        return Optional.ofNullable(byTeacherAndDate.get(Arrays.asList(semesterId, teacherId, date)));
+    }
+
+    /**
+     * Method finds vacation for the whole day of the teacher
+     *
+     * @param teacherId id of the teacher
+     * @return Optional temporary schedule
+     */
+    public Optional<TemporarySchedule> findTeacherVacation(Long teacherId) {
+        return Optional.ofNullable(teacherVacations.get(teacherId));
+    }
+
+    /**
+     * Method finds temporary schedule for the whole semester day at the date
+     *
+     * @param semesterId id of the semester
+     * @param date       the date
+     * @return Optional temporary schedule
+     */
+    public Optional<TemporarySchedule> findBySemesterAndDate(Long semesterId, LocalDate date) {
+        return Optional.ofNullable(bySemesterAndDate.get(Arrays.asList(semesterId, date)));
+    }
+
+    /**
+     * Method finds vacation which is not bound to any schedule
+     *
+     * @return Optional temporary schedule
+     */
+    public Optional<TemporarySchedule> findSemesterVacation() {
+        return Optional.ofNullable(semesterVacation);
+    }
+}
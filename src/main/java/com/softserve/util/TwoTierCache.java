@@ -0,0 +1,134 @@
+package com.softserve.util;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Cache with an in-process level in front of a shared remote cache.
+ * Values are read from the local level first and are taken from the remote cache only when they are missing there.
+ * Every change is written to the remote cache and reported to the listener, so that the other nodes drop
+ * their local copies. The local level keeps the same instances the remote cache returned, the callers
+ * must not change them
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local;
+    private final Consumer<Object> changeListener;
+
+    /**
+     * @param remote         shared cache
+     * @param local          in-process cache
+     * @param changeListener listener of the keys changed by this node, null key means that the whole cache is cleared
+     */
+    public TwoTierCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local,
+                        Consumer<Object> changeListener) {
+        this.remote = remote;
+        this.local = local;
+        this.changeListener = changeListener;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.getIfPresent(key);
+        if (value == null) {
+            value = remote.get(key);
+            if (value != null) {
+                local.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object result = value.get();
+        if (result != null && type != null && !type.isInstance(result)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = local.getIfPresent(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T result = remote.get(key, valueLoader);
+        local.put(key, new SimpleValueWrapper(result));
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.invalidate(key);
+        changeListener.accept(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.invalidate(key);
+        //the other nodes can still keep a local copy of the value which has expired in the remote cache
+        if (existing == null) {
+            changeListener.accept(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        changeListener.accept(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(key);
+        changeListener.accept(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        changeListener.accept(null);
+    }
+
+    /**
+     * Method drops the local copy of the value changed by another node
+     *
+     * @param key key of the changed value, or null if the whole cache was cleared
+     */
+    public void invalidateLocal(Object key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.softserve.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache manager which puts a size bounded in-process cache in front of the caches of the remote manager.
+ * Changes made on one node are broadcast over a Redisson topic, so that the other nodes drop their local copies.
+ * Caches without local configuration are returned by the remote manager as they are
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final String INVALIDATION_TOPIC = "cache:invalidation";
+
+    private final CacheManager remote;
+    private final Map<String, LocalCacheConfig> localConfigs;
+    private final RTopic topic;
+    private final CircuitBreaker circuitBreaker;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote, RedissonClient redissonClient, Map<String, LocalCacheConfig> localConfigs) {
+        this(remote, redissonClient, localConfigs, null);
+    }
+
+    /**
+     * @param remote         shared caches
+     * @param redissonClient client used for broadcasting of the changes
+     * @param localConfigs   settings of the in-process level by the name of the cache
+     * @param circuitBreaker circuit breaker of Redis, the changes are not broadcast while it is open
+     */
+    public TwoTierCacheManager(CacheManager remote, RedissonClient redissonClient, Map<String, LocalCacheConfig> localConfigs,
+                               CircuitBreaker circuitBreaker) {
+        this.remote = remote;
+        this.localConfigs = localConfigs;
+        this.circuitBreaker = circuitBreaker;
+        this.topic = redissonClient.getTopic(INVALIDATION_TOPIC);
+        topic.addListener(CacheInvalidation.class, (channel, invalidation) -> onInvalidation(invalidation));
+        //invalidations sent while the node was not subscribed are lost, so the local copies can't be trusted any more
+        topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                caches.values().forEach(cache -> cache.invalidateLocal(null));
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        LocalCacheConfig config = localConfigs.get(name);
+        if (remoteCache == null || config == null || config.getSize() <= 0) {
+            return remoteCache;
+        }
+        return caches.computeIfAbsent(name, key -> new TwoTierCache(remoteCache,
+                Caffeine.newBuilder()
+                        .maximumSize(config.getSize())
+                        .expireAfterWrite(config.getTtl(), TimeUnit.MILLISECONDS)
+                        .build(),
+                changedKey -> publish(name, changedKey)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    //the other nodes don't get the changes while Redis is down, their local copies expire by the local ttl
+    private void publish(String cacheName, Object key) {
+        if (circuitBreaker == null) {
+            topic.publish(new CacheInvalidation(nodeId, cacheName, key));
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            return;
+        }
+        try {
+            topic.publish(new CacheInvalidation(nodeId, cacheName, key));
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast the change of [{}] in cache [{}]: {}", key, cacheName, e.toString());
+            circuitBreaker.onFailure(e);
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.nodeId)) {
+            return;
+        }
+        TwoTierCache cache = caches.get(invalidation.cacheName);
+        if (cache != null) {
+            log.debug("Invalidating local copy of [{}] in cache [{}]", invalidation.key, invalidation.cacheName);
+            cache.invalidateLocal(invalidation.key);
+        }
+    }
+
+    /**
+     * Settings of the in-process level of the cache
+     */
+    public static class LocalCacheConfig {
+        private final long size;
+        private final long ttl;
+
+        /**
+         * @param size max number of entries kept in memory, the local level is not used if it is 0
+         * @param ttl  time in milliseconds after which the entry is read from the remote cache again
+         */
+        public LocalCacheConfig(long size, long ttl) {
+            this.size = size;
+            this.ttl = ttl;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getTtl() {
+            return ttl;
+        }
+    }
+
+    static class CacheInvalidation implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String nodeId;
+        private final String cacheName;
+        private final Object key;
+
+        private CacheInvalidation(String nodeId, String cacheName, Object key) {
+            this.nodeId = nodeId;
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+    }
+}
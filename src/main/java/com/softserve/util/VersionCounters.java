@@ -0,0 +1,81 @@
+package com.softserve.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versions which are kept in Redis as atomic counters. The calls go through the circuit breaker of the cache,
+ * so while Redis is not available the versions are unknown and the callers go to the database instead.
+ * An increment which could not be made is remembered and made as soon as Redis answers again,
+ * otherwise the data cached for the old version would be served after Redis comes back
+ */
+@Slf4j
+public class VersionCounters {
+
+    private final RedissonClient redissonClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Set<String> missedIncrements = ConcurrentHashMap.newKeySet();
+
+    public VersionCounters(RedissonClient redissonClient, CircuitBreaker circuitBreaker) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Method gets the sum of the versions, it changes whenever any of them is incremented
+     *
+     * @param keys keys of the counters
+     * @return sum of the versions or empty if Redis is not available
+     */
+    public Optional<Long> get(String... keys) {
+        retryMissedIncrements();
+        return circuitBreaker.call(() -> {
+            long sum = 0;
+            for (String key : keys) {
+                sum += redissonClient.getAtomicLong(key).get();
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Method increments the version. Inside of a transaction the version is incremented after commit,
+     * so that nothing can be cached for the new version from the data which is not committed yet.
+     * The failure of the increment is never passed to the caller, the write itself is already done
+     *
+     * @param key key of the counter
+     */
+    public void increment(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    incrementNow(key);
+                }
+            });
+        } else {
+            incrementNow(key);
+        }
+    }
+
+    private void incrementNow(String key) {
+        if (!circuitBreaker.run(() -> redissonClient.getAtomicLong(key).incrementAndGet())) {
+            log.warn("Version [{}] can't be incremented now, it will be incremented when Redis is available", key);
+            missedIncrements.add(key);
+        }
+    }
+
+    private void retryMissedIncrements() {
+        for (String key : missedIncrements) {
+            if (missedIncrements.remove(key)) {
+                incrementNow(key);
+            }
+        }
+    }
+}
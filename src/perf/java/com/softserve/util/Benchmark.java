@@ -0,0 +1,40 @@
+package com.softserve.util;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the time of the task after warming it up, so that the JIT compiled code is measured.
+ * The result of the task is kept, so that the work isn't eliminated as dead code
+ */
+public final class Benchmark {
+
+    private static final int WARM_UP_ROUNDS = 10;
+    private static final int ROUNDS = 20;
+
+    private static volatile Object sink;
+
+    private Benchmark() {
+    }
+
+    /**
+     * Method runs the task several times and measures it
+     *
+     * @param task the measured task
+     * @return median time of one run in microseconds
+     * @throws Exception if the task fails
+     */
+    public static long medianMicros(Callable<?> task) throws Exception {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            sink = task.call();
+        }
+        long[] times = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink = task.call();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[ROUNDS / 2] / 1_000;
+    }
+}
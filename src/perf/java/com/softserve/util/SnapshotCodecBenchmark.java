@@ -0,0 +1,107 @@
+package com.softserve.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.softserve.dto.snapshot.LessonSnapshot;
+import com.softserve.entity.*;
+import com.softserve.entity.enums.LessonType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.codec.MarshallingCodec;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//compares the snapshots with the entities serialized by the default codec of redisson on a semester of lessons
+public class SnapshotCodecBenchmark {
+
+    private static final TypeReference<List<LessonSnapshot>> LESSONS = new TypeReference<List<LessonSnapshot>>() {
+    };
+    private static final int COUNT = 2000;
+    private static final int GROUPS = 100;
+
+    private List<Lesson> createLessons() {
+        Semester semester = new Semester();
+        semester.setId(4L);
+        semester.setDescription("1 semester");
+        semester.setYear(2021);
+        semester.setStartDay(LocalDate.of(2021, 9, 1));
+        semester.setEndDay(LocalDate.of(2021, 12, 31));
+        Set<Group> semesterGroups = new LinkedHashSet<>();
+        for (long i = 1; i <= GROUPS; i++) {
+            semesterGroups.add(Group.builder().id(i).title("Group " + i).sortingOrder((int) i).build());
+        }
+        semester.setGroups(semesterGroups);
+        Department department = new Department(1L, "Department", false);
+        List<Group> groups = new ArrayList<>(semesterGroups);
+        List<Lesson> lessons = new ArrayList<>();
+        for (long i = 0; i < COUNT; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId(i % 40);
+            teacher.setName("Name");
+            teacher.setSurname("Surname " + i % 40);
+            teacher.setPatronymic("Patronymic");
+            teacher.setPosition("docent");
+            teacher.setDepartment(department);
+            Subject subject = new Subject();
+            subject.setId(i % 60);
+            subject.setName("Subject " + i % 60);
+            Lesson lesson = new Lesson();
+            lesson.setId(i);
+            lesson.setHours(2);
+            lesson.setSubjectForSite(subject.getName());
+            lesson.setLinkToMeeting("https://meet.example.com/" + i);
+            lesson.setLessonType(LessonType.LECTURE);
+            lesson.setTeacher(teacher);
+            lesson.setSubject(subject);
+            lesson.setGroup(groups.get((int) (i % groups.size())));
+            lesson.setSemester(semester);
+            lessons.add(lesson);
+        }
+        return lessons;
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws IOException {
+        ByteBuf buf = codec.getMapValueEncoder().encode(value);
+        try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static Object decode(Codec codec, byte[] bytes) throws IOException {
+        ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+        try {
+            return codec.getMapValueDecoder().decode(buf, new State());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void snapshotCodecAgainstEntitySerialization() throws Exception {
+        List<Lesson> lessons = createLessons();
+        Codec entityCodec = new MarshallingCodec();
+        Codec snapshotCodec = SnapshotCacheManager.codec(LESSONS);
+        byte[] entityBytes = encode(entityCodec, lessons);
+        byte[] snapshotBytes = encode(snapshotCodec, LessonSnapshot.of(lessons));
+
+        long entityTime = Benchmark.medianMicros(() -> decode(entityCodec, encode(entityCodec, lessons)));
+        long snapshotTime = Benchmark.medianMicros(() -> decode(snapshotCodec, encode(snapshotCodec, LessonSnapshot.of(lessons))));
+
+        System.out.printf("%d lessons round trip: entities %d bytes, %d us; snapshots %d bytes, %d us%n",
+                COUNT, entityBytes.length, entityTime, snapshotBytes.length, snapshotTime);
+        assertThat(snapshotBytes.length).isLessThan(entityBytes.length);
+    }
+}
@@ -0,0 +1,83 @@
+package com.softserve.util;
+
+import com.softserve.entity.*;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//compares the index with the linear scans of the temporary schedules it replaced for each cell of the schedule
+public class TemporaryScheduleOverlayBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2021, 9, 6);
+    private static final int COUNT = 5000;
+
+    private TemporarySchedule createTemporarySchedule(long id) {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        Group group = new Group();
+        group.setId(id % 100);
+        Period period = new Period();
+        period.setId(id % 7);
+        Teacher teacher = new Teacher();
+        teacher.setId(id % 50);
+        TemporarySchedule temporarySchedule = new TemporarySchedule();
+        temporarySchedule.setId(id);
+        temporarySchedule.setScheduleId(id);
+        temporarySchedule.setSemester(semester);
+        temporarySchedule.setDate(DATE.plusDays(id % 120));
+        temporarySchedule.setVacation(id % 10 == 0);
+        temporarySchedule.setGroup(group);
+        temporarySchedule.setPeriod(period);
+        temporarySchedule.setTeacher(teacher);
+        return temporarySchedule;
+    }
+
+    private List<TemporarySchedule> scan(List<TemporarySchedule> temporarySchedules) {
+        List<TemporarySchedule> found = new ArrayList<>();
+        for (TemporarySchedule cell : temporarySchedules) {
+            found.add(temporarySchedules.stream()
+                    .filter(t -> t.getScheduleId().equals(cell.getScheduleId())
+                            && t.getSemester().getId().equals(cell.getSemester().getId())
+                            && t.getDate().equals(cell.getDate()))
+                    .findFirst().orElse(null));
+            found.add(temporarySchedules.stream()
+                    .filter(t -> t.getGroup().getId().equals(cell.getGroup().getId())
+                            && t.getPeriod().getId().equals(cell.getPeriod().getId())
+                            && t.isVacation() == cell.isVacation())
+                    .findFirst().orElse(null));
+        }
+        return found;
+    }
+
+    private List<TemporarySchedule> lookUp(List<TemporarySchedule> temporarySchedules) {
+        TemporaryScheduleOverlay overlay = TemporaryScheduleOverlay.of(temporarySchedules);
+        List<TemporarySchedule> found = new ArrayList<>();
+        for (TemporarySchedule cell : temporarySchedules) {
+            found.add(overlay.findBySchedule(cell.getSemester().getId(), cell.getScheduleId(), cell.getDate())
+                    .orElse(null));
+            found.add(overlay.findByGroupAndPeriod(cell.getGroup().getId(), cell.getPeriod().getId(), cell.isVacation())
+                    .orElse(null));
+        }
+        return found;
+    }
+
+    @Test
+    public void overlayAgainstLinearScan() throws Exception {
+        List<TemporarySchedule> temporarySchedules = new ArrayList<>();
+        for (long i = 0; i < COUNT; i++) {
+            temporarySchedules.add(createTemporarySchedule(i));
+        }
+        assertThat(lookUp(temporarySchedules)).isEqualTo(scan(temporarySchedules));
+
+        long scanTime = Benchmark.medianMicros(() -> scan(temporarySchedules));
+        long overlayTime = Benchmark.medianMicros(() -> lookUp(temporarySchedules));
+
+        System.out.printf("%d temporary schedules: linear scan %d us, overlay with its building %d us%n",
+                COUNT, scanTime, overlayTime);
+        assertThat(overlayTime).isLessThan(scanTime);
+    }
+}
@@ -58,6 +58,8 @@ public class DBConfigTest {
         properties.put(SHOW_SQL, Objects.requireNonNull(environment.getProperty(SHOW_SQL)));
         properties.put(HBM2DDL_AUTO, Objects.requireNonNull(environment.getProperty(HBM2DDL_AUTO)));
         properties.put(DIALECT, Objects.requireNonNull(environment.getProperty(DIALECT)));
+        properties.put(STATEMENT_BATCH_SIZE, Objects.requireNonNull(environment.getProperty(STATEMENT_BATCH_SIZE)));
+        properties.put(ORDER_INSERTS, Objects.requireNonNull(environment.getProperty(ORDER_INSERTS)));
 
         properties.put(C3P0_MIN_SIZE, Objects.requireNonNull(environment.getProperty(C3P0_MIN_SIZE)));
         properties.put(C3P0_MAX_SIZE, Objects.requireNonNull(environment.getProperty(C3P0_MAX_SIZE)));
@@ -0,0 +1,109 @@
+package com.softserve.config;
+
+import com.softserve.service.UnitTestCategory;
+import com.softserve.util.CircuitBreaker;
+import com.softserve.util.ResilientStorageAccess;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.redisson.api.RedissonClient;
+import org.redisson.jcache.configuration.RedissonConfiguration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class RedissonCacheRegionFactoryTest {
+
+    private static final long TTL = 60_000;
+    private static final String REGION_PREFIX = "hibernate";
+    private static final String REGION_NAME = "com.softserve.entity.Room";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private SessionFactoryOptions options;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache<Object, Object> cache;
+
+    private CircuitBreaker circuitBreaker;
+    private RedissonCacheRegionFactory regionFactory;
+
+    @Before
+    public void setUp() {
+        circuitBreaker = new CircuitBreaker("redis", 3, 30_000);
+        regionFactory = spy(new RedissonCacheRegionFactory(redissonClient, TTL, circuitBreaker));
+        doReturn(cacheManager).when(regionFactory).getCacheManager();
+        when(options.getCacheRegionPrefix()).thenReturn(REGION_PREFIX);
+        when(sessionFactory.getSessionFactoryOptions()).thenReturn(options);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+        regionFactory.start(options, properties);
+    }
+
+    @After
+    public void tearDown() {
+        regionFactory.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void regionIsCreatedInRedisUnderPrefixAndExpiresAfterTtl() {
+        String cacheName = REGION_PREFIX + "." + REGION_NAME;
+        when(cacheManager.createCache(eq(cacheName), any(Configuration.class))).thenReturn(cache);
+
+        regionFactory.createQueryResultsRegionStorageAccess(REGION_NAME, sessionFactory);
+
+        ArgumentCaptor<Configuration<Object, Object>> configurationCaptor = ArgumentCaptor.forClass(Configuration.class);
+        verify(cacheManager).createCache(eq(cacheName), configurationCaptor.capture());
+        RedissonConfiguration<Object, Object> configuration = (RedissonConfiguration<Object, Object>) configurationCaptor.getValue();
+        assertThat(configuration.getRedisson()).isSameAs(redissonClient);
+        MutableConfiguration<Object, Object> jcacheConfiguration = (MutableConfiguration<Object, Object>) configuration.getJcacheConfig();
+        assertThat(jcacheConfiguration.getExpiryPolicyFactory().create().getExpiryForCreation())
+                .isEqualTo(new Duration(TimeUnit.MILLISECONDS, TTL));
+    }
+
+    @Test
+    public void qualifiedRegionNameStartsWithPrefix() {
+        assertThat(regionFactory.qualify(REGION_NAME)).isEqualTo(REGION_PREFIX + "." + REGION_NAME);
+    }
+
+    @Test
+    public void regionIsGuardedByCircuitBreaker() {
+        when(cacheManager.createCache(eq(REGION_PREFIX + "." + REGION_NAME), any(Configuration.class))).thenReturn(cache);
+        when(cache.get(1L)).thenThrow(new IllegalStateException("Redis is down"));
+
+        StorageAccess storageAccess = regionFactory.createTimestampsRegionStorageAccess(REGION_NAME, sessionFactory);
+
+        assertThat(storageAccess).isInstanceOf(ResilientStorageAccess.class);
+        assertThat(storageAccess.getFromCache(1L, null)).isNull();
+    }
+}
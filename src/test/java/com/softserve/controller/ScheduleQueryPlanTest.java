@@ -0,0 +1,93 @@
+package com.softserve.controller;
+
+import com.softserve.config.DBConfigTest;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hot schedule queries can be answered from indexes. The seeded tables are too small
+ * for the planner to prefer an index, so sequential scans are switched off and the plan must still
+ * not fall back to them
+ */
+@Category(IntegrationTestCategory.class)
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = {DBConfigTest.class})
+@Sql(value = "classpath:create-schedule-before.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class ScheduleQueryPlanTest {
+
+    @Autowired
+    private SessionFactory sessionFactory;
+
+    private List<String> explain(String sql) {
+        List<String> plan = new ArrayList<>();
+        try (Session session = sessionFactory.openSession()) {
+            session.doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET enable_seqscan = off");
+                    try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+                        while (resultSet.next()) {
+                            plan.add(resultSet.getString(1));
+                        }
+                    } finally {
+                        statement.execute("RESET enable_seqscan");
+                    }
+                }
+            });
+        }
+        return plan;
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = String.join("\n", explain(sql));
+        assertThat(plan).doesNotContain("Seq Scan").contains(index);
+    }
+
+    @Test
+    public void schedulesOfGroupInSemesterUseLessonIndex() {
+        assertUsesIndex("select s.id from schedules s join lessons l on s.lesson_id = l.id " +
+                "where l.semester_id = 4 and l.group_id = 4", "idx_lessons_semester_group");
+    }
+
+    @Test
+    public void schedulesOfTeacherInSemesterUseLessonIndex() {
+        assertUsesIndex("select s.id from schedules s join lessons l on s.lesson_id = l.id " +
+                "where l.semester_id = 4 and l.teacher_id = 4", "idx_lessons_semester_teacher");
+    }
+
+    @Test
+    public void schedulesAtPeriodOfDayUseScheduleIndex() {
+        assertUsesIndex("select s.id from schedules s " +
+                "where s.period_id = 4 and s.day_of_week = 'MONDAY' and s.evenodd = 'ODD'", "idx_schedules_period_day_evenodd");
+    }
+
+    @Test
+    public void schedulesOfRoomUseScheduleIndex() {
+        assertUsesIndex("select s.id from schedules s where s.room_id = 4", "idx_schedules_room_day_period");
+    }
+
+    @Test
+    public void temporarySchedulesOfSemesterUseDateIndex() {
+        assertUsesIndex("select t.id from temporary_schedule t " +
+                "where t.semester_id = 4 and t.date between '2020-01-20' and '2020-02-20'", "idx_temporary_schedule_semester_date");
+    }
+
+    @Test
+    public void temporarySchedulesOfTeacherUseDateIndex() {
+        assertUsesIndex("select t.id from temporary_schedule t " +
+                "where t.teacher_id = 4 and t.date between '2020-01-20' and '2020-02-20'", "idx_temporary_schedule_teacher_date");
+    }
+}
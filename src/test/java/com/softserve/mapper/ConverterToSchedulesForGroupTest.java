@@ -0,0 +1,136 @@
+package com.softserve.mapper;
+
+import com.softserve.dto.ClassesInScheduleForGroupDTO;
+import com.softserve.dto.LessonsInScheduleDTO;
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.entity.*;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.service.UnitTestCategory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ConverterToSchedulesForGroupTest {
+    @Mock
+    private LessonsInScheduleMapper lessonsInScheduleMapper;
+
+    private ConverterToSchedulesForGroup converter;
+
+    private Semester semester;
+    private Period firstPeriod;
+    private Period secondPeriod;
+    private Group firstGroup;
+    private Group secondGroup;
+
+    @Before
+    public void setUp() {
+        converter = new ConverterToSchedulesForGroup(new GroupMapperImpl(), new PeriodMapperImpl(),
+                lessonsInScheduleMapper, new RoomForScheduleMapperImpl());
+
+        firstPeriod = new Period();
+        firstPeriod.setId(1L);
+        firstPeriod.setName("1");
+        firstPeriod.setStartTime(LocalTime.of(8, 0));
+        secondPeriod = new Period();
+        secondPeriod.setId(2L);
+        secondPeriod.setName("2");
+        secondPeriod.setStartTime(LocalTime.of(10, 0));
+
+        semester = new Semester();
+        semester.setId(1L);
+        semester.setDaysOfWeek(new HashSet<>(Arrays.asList(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY)));
+        semester.setPeriods(new LinkedHashSet<>(Arrays.asList(firstPeriod, secondPeriod)));
+
+        firstGroup = new Group();
+        firstGroup.setId(1L);
+        firstGroup.setTitle("first");
+        firstGroup.setSortingOrder(1);
+        secondGroup = new Group();
+        secondGroup.setId(2L);
+        secondGroup.setTitle("second");
+        secondGroup.setSortingOrder(2);
+    }
+
+    private void mockLessonMapping() {
+        when(lessonsInScheduleMapper.lessonToLessonsInScheduleDTO(any(Lesson.class)))
+                .thenAnswer(invocation -> {
+                    LessonsInScheduleDTO lessonsInScheduleDTO = new LessonsInScheduleDTO();
+                    lessonsInScheduleDTO.setSubjectForSite(invocation.<Lesson>getArgument(0).getSubjectForSite());
+                    return lessonsInScheduleDTO;
+                });
+    }
+
+    private Schedule createSchedule(Group group, DayOfWeek day, Period period, EvenOdd evenOdd, String subject) {
+        Lesson lesson = new Lesson();
+        lesson.setGroup(group);
+        lesson.setSubjectForSite(subject);
+        Room room = new Room();
+        room.setId(1L);
+        room.setName("room");
+        Schedule schedule = new Schedule();
+        schedule.setLesson(lesson);
+        schedule.setDayOfWeek(day);
+        schedule.setPeriod(period);
+        schedule.setEvenOdd(evenOdd);
+        schedule.setRoom(room);
+        return schedule;
+    }
+
+    @Test
+    public void getBySemesterFillsAllDaysAndPeriodsOrderedByGroup() {
+        mockLessonMapping();
+        List<Schedule> schedules = Arrays.asList(
+                createSchedule(secondGroup, DayOfWeek.MONDAY, firstPeriod, EvenOdd.WEEKLY, "math"),
+                createSchedule(firstGroup, DayOfWeek.WEDNESDAY, secondPeriod, EvenOdd.ODD, "history"));
+
+        List<ScheduleForGroupDTO> result = converter.getBySemester(semester, schedules);
+
+        assertThat(result).extracting(s -> s.getGroup().getId()).containsExactly(1L, 2L);
+        assertThat(result.get(0).getDays()).extracting("day")
+                .containsExactly(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+        assertThat(result.get(0).getDays().get(0).getClasses()).hasSize(2);
+
+        ClassesInScheduleForGroupDTO history = result.get(0).getDays().get(1).getClasses().get(1);
+        assertThat(history.getWeeks().getEven()).isNull();
+        assertThat(history.getWeeks().getOdd().getSubjectForSite()).isEqualTo("history");
+        assertThat(history.getWeeks().getOdd().getRoom().getName()).isEqualTo("room");
+
+        ClassesInScheduleForGroupDTO math = result.get(1).getDays().get(0).getClasses().get(0);
+        assertThat(math.getWeeks().getEven().getSubjectForSite()).isEqualTo("math");
+        assertThat(math.getWeeks().getOdd().getSubjectForSite()).isEqualTo("math");
+        assertThat(math.getWeeks().getEven()).isNotSameAs(math.getWeeks().getOdd());
+    }
+
+    @Test
+    public void getWithClassesOnlyKeepsOnlyDaysAndPeriodsWithClasses() {
+        mockLessonMapping();
+        List<Schedule> schedules = Arrays.asList(
+                createSchedule(firstGroup, DayOfWeek.WEDNESDAY, secondPeriod, EvenOdd.EVEN, "history"),
+                createSchedule(firstGroup, DayOfWeek.WEDNESDAY, firstPeriod, EvenOdd.ODD, "math"));
+
+        List<ScheduleForGroupDTO> result = converter.getWithClassesOnly(schedules);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getDays()).extracting("day").containsExactly(DayOfWeek.WEDNESDAY);
+        assertThat(result.get(0).getDays().get(0).getClasses())
+                .extracting(c -> c.getPeriod().getId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void getWithClassesOnlyReturnsEmptyListIfThereAreNoSchedules() {
+        assertThat(converter.getWithClassesOnly(Collections.emptyList())).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.softserve.mapper;
+
+import com.softserve.dto.DaysOfWeekWithClassesForTeacherDTO;
+import com.softserve.entity.*;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.service.UnitTestCategory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTestCategory.class)
+public class ConverterToSchedulesForTeacherTest {
+
+    private ConverterToSchedulesForTeacher converter;
+
+    private Period firstPeriod;
+    private Period secondPeriod;
+
+    @Before
+    public void setUp() {
+        converter = new ConverterToSchedulesForTeacher(new PeriodMapperImpl(), new LessonForTeacherScheduleMapperImpl());
+
+        firstPeriod = new Period();
+        firstPeriod.setId(1L);
+        firstPeriod.setName("1");
+        firstPeriod.setStartTime(LocalTime.of(8, 0));
+        secondPeriod = new Period();
+        secondPeriod.setId(2L);
+        secondPeriod.setName("2");
+        secondPeriod.setStartTime(LocalTime.of(10, 0));
+    }
+
+    private Schedule createSchedule(Long lessonId, DayOfWeek day, Period period, EvenOdd evenOdd, String roomName) {
+        Group group = new Group();
+        group.setId(lessonId);
+        Lesson lesson = new Lesson();
+        lesson.setId(lessonId);
+        lesson.setGroup(group);
+        Room room = new Room();
+        room.setName(roomName);
+        Schedule schedule = new Schedule();
+        schedule.setLesson(lesson);
+        schedule.setDayOfWeek(day);
+        schedule.setPeriod(period);
+        schedule.setEvenOdd(evenOdd);
+        schedule.setRoom(room);
+        return schedule;
+    }
+
+    @Test
+    public void getDaysSplitsSchedulesByWeeksOrderedByDayAndPeriod() {
+        List<Schedule> schedules = Arrays.asList(
+                createSchedule(1L, DayOfWeek.FRIDAY, secondPeriod, EvenOdd.ODD, "101"),
+                createSchedule(2L, DayOfWeek.MONDAY, secondPeriod, EvenOdd.WEEKLY, "102"),
+                createSchedule(3L, DayOfWeek.MONDAY, firstPeriod, EvenOdd.EVEN, "103"));
+
+        List<DaysOfWeekWithClassesForTeacherDTO> days = converter.getDays(schedules);
+
+        assertThat(days).extracting("day").containsExactly(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        assertThat(days.get(0).getEvenWeek().getPeriods()).extracting(c -> c.getPeriod().getId()).containsExactly(1L, 2L);
+        assertThat(days.get(0).getOddWeek().getPeriods()).extracting(c -> c.getPeriod().getId()).containsExactly(2L);
+        assertThat(days.get(0).getOddWeek().getPeriods().get(0).getLessons().get(0).getRoom()).isEqualTo("102");
+        assertThat(days.get(1).getEvenWeek().getPeriods()).isEmpty();
+        assertThat(days.get(1).getOddWeek().getPeriods().get(0).getLessons()).extracting("id").containsExactly(1L);
+    }
+
+    @Test
+    public void getDaysShowsEveryGroupedLessonOnce() {
+        List<Schedule> schedules = Arrays.asList(
+                createSchedule(2L, DayOfWeek.MONDAY, firstPeriod, EvenOdd.WEEKLY, "101"),
+                createSchedule(1L, DayOfWeek.MONDAY, firstPeriod, EvenOdd.WEEKLY, "101"),
+                createSchedule(1L, DayOfWeek.MONDAY, firstPeriod, EvenOdd.EVEN, "101"));
+
+        List<DaysOfWeekWithClassesForTeacherDTO> days = converter.getDays(schedules);
+
+        assertThat(days.get(0).getEvenWeek().getPeriods().get(0).getLessons()).extracting("id").containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void getDaysReturnsEmptyListIfThereAreNoSchedules() {
+        assertThat(converter.getDays(Collections.emptyList())).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package com.softserve.security.jwt;
+
+import com.softserve.service.UnitTestCategory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class JwtPrincipalCacheTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RMapCache<Object, Object> redisCache;
+    @Mock
+    private Function<String, JwtUser> loader;
+
+    private JwtPrincipalCache jwtPrincipalCache;
+    private JwtUser user;
+
+    @Before
+    public void setUp() {
+        when(redissonClient.getMapCache("jwtPrincipals")).thenReturn(redisCache);
+        jwtPrincipalCache = new JwtPrincipalCache(redissonClient, new MockEnvironment());
+        user = new JwtUser(1L, "user@mail.com", "password",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")), true);
+    }
+
+    @Test
+    public void getLoadsPrincipalOnlyOnce() {
+        when(loader.apply("user@mail.com")).thenReturn(user);
+
+        assertThat(jwtPrincipalCache.get("user@mail.com", loader)).isSameAs(user);
+        assertThat(jwtPrincipalCache.get("user@mail.com", loader)).isSameAs(user);
+
+        verify(loader, times(1)).apply("user@mail.com");
+        verify(redisCache).fastPut(eq("user@mail.com"), eq(user), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void getTakesPrincipalFromRedisIfItIsNotInMemory() {
+        when(redisCache.get("user@mail.com")).thenReturn(user);
+
+        assertThat(jwtPrincipalCache.get("user@mail.com", loader)).isSameAs(user);
+
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    public void evictRemovesPrincipalFromBothCaches() {
+        when(loader.apply("user@mail.com")).thenReturn(user);
+        jwtPrincipalCache.get("user@mail.com", loader);
+
+        jwtPrincipalCache.evict("user@mail.com");
+        jwtPrincipalCache.get("user@mail.com", loader);
+
+        verify(redisCache).fastRemove("user@mail.com");
+        verify(loader, times(2)).apply("user@mail.com");
+    }
+
+    @Test
+    public void principalIsLoadedIfRedisIsNotAvailable() {
+        when(redisCache.get("user@mail.com")).thenThrow(new IllegalStateException("redis is down"));
+        when(loader.apply("user@mail.com")).thenReturn(user);
+
+        assertThat(jwtPrincipalCache.get("user@mail.com", loader)).isSameAs(user);
+    }
+}
@@ -0,0 +1,174 @@
+package com.softserve.service;
+
+import com.softserve.entity.Group;
+import com.softserve.entity.Semester;
+import com.softserve.service.impl.CacheWarmUpServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.env.Environment;
+
+import java.util.LinkedHashSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class CacheWarmUpServiceTest {
+
+    @Mock
+    private SemesterService semesterService;
+    @Mock
+    private GroupService groupService;
+    @Mock
+    private LessonService lessonService;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private ScheduleService scheduleService;
+    @Mock
+    private Environment environment;
+
+    private CacheWarmUpServiceImpl cacheWarmUpService;
+
+    @Before
+    public void setUp() {
+        when(environment.getProperty(eq("cache.warmup.enabled"), eq(Boolean.class), anyBoolean())).thenReturn(true);
+        when(environment.getProperty(eq("cache.warmup.timeout"), eq(Long.class), anyLong())).thenReturn(60000L);
+        cacheWarmUpService = new CacheWarmUpServiceImpl(semesterService, groupService, lessonService, roomService,
+                scheduleService, Runnable::run, environment);
+    }
+
+    private Semester createSemester(Long id, Long... groupIds) {
+        Semester semester = new Semester();
+        semester.setId(id);
+        semester.setGroups(new LinkedHashSet<>());
+        for (Long groupId : groupIds) {
+            Group group = new Group();
+            group.setId(groupId);
+            semester.getGroups().add(group);
+        }
+        return semester;
+    }
+
+    @Test
+    public void warmUpLoadsCurrentAndDefaultSemesters() {
+        when(semesterService.getCurrentSemester()).thenReturn(createSemester(1L, 10L));
+        when(semesterService.getDefaultSemester()).thenReturn(createSemester(2L));
+        assertThat(cacheWarmUpService.isReady()).isFalse();
+
+        cacheWarmUpService.onContextRefreshed();
+
+        verify(semesterService).getAll();
+        verify(groupService).getGroupsForCurrentSemester();
+        verify(groupService).getGroupsForDefaultSemester();
+        verify(roomService).getAll();
+        verify(lessonService).getLessonsBySemester(1L);
+        verify(lessonService).getLessonsBySemester(2L);
+        verify(scheduleService).getFullScheduleForSemester(1L);
+        verify(scheduleService).getFullScheduleForSemester(2L);
+        verify(scheduleService).getFullScheduleForGroup(1L, null);
+        verify(scheduleService).getFullScheduleForGroup(1L, 10L);
+        verify(scheduleService).getAllSchedulesForTeachers(2L);
+        assertThat(cacheWarmUpService.isReady()).isTrue();
+        assertThat(cacheWarmUpService.getStatus().getState()).isEqualTo("COMPLETED");
+        assertThat(cacheWarmUpService.getStatus().getCompletedTasks()).isEqualTo(12);
+    }
+
+    @Test
+    public void sameCurrentAndDefaultSemesterIsWarmedUpOnce() {
+        Semester semester = createSemester(1L);
+        when(semesterService.getCurrentSemester()).thenReturn(semester);
+        when(semesterService.getDefaultSemester()).thenReturn(semester);
+
+        cacheWarmUpService.warmUp();
+
+        verify(scheduleService).getFullScheduleForSemester(1L);
+        verify(lessonService).getLessonsBySemester(1L);
+    }
+
+    @Test
+    public void failedTaskDoesNotStopWarmUp() {
+        when(semesterService.getCurrentSemester()).thenReturn(createSemester(1L));
+        when(semesterService.getDefaultSemester()).thenReturn(createSemester(1L));
+        when(roomService.getAll()).thenThrow(new IllegalStateException("Redis is down"));
+
+        cacheWarmUpService.warmUp();
+
+        verify(scheduleService).getFullScheduleForSemester(1L);
+        assertThat(cacheWarmUpService.isReady()).isTrue();
+        assertThat(cacheWarmUpService.getStatus().getFailedTasks()).isEqualTo(1);
+    }
+
+    @Test
+    public void warmUpRunsOnlyOnce() {
+        when(semesterService.getCurrentSemester()).thenReturn(createSemester(1L));
+        when(semesterService.getDefaultSemester()).thenReturn(createSemester(1L));
+
+        cacheWarmUpService.onContextRefreshed();
+        cacheWarmUpService.onContextRefreshed();
+
+        verify(semesterService).getAll();
+        verify(roomService).getAll();
+        assertThat(cacheWarmUpService.getStatus().getTotalTasks()).isEqualTo(7);
+    }
+
+    @Test
+    public void tasksWhichDoNotFitIntoExecutorAreSkipped() {
+        when(semesterService.getCurrentSemester()).thenReturn(createSemester(1L));
+        when(semesterService.getDefaultSemester()).thenReturn(createSemester(1L));
+        AtomicInteger accepted = new AtomicInteger();
+        Executor executor = task -> {
+            if (accepted.getAndIncrement() > 0) {
+                throw new RejectedExecutionException("Queue of executor warmup is full");
+            }
+            task.run();
+        };
+        cacheWarmUpService = new CacheWarmUpServiceImpl(semesterService, groupService, lessonService, roomService,
+                scheduleService, executor, environment);
+
+        cacheWarmUpService.warmUp();
+
+        verify(semesterService).getAll();
+        verifyNoInteractions(roomService, scheduleService);
+        assertThat(cacheWarmUpService.getStatus().getState()).isEqualTo("COMPLETED");
+        assertThat(cacheWarmUpService.getStatus().getSkippedTasks()).isEqualTo(7);
+    }
+
+    @Test
+    public void warmUpWhichCanNotBeStartedIsFailed() {
+        cacheWarmUpService = new CacheWarmUpServiceImpl(semesterService, groupService, lessonService, roomService,
+                scheduleService, task -> {
+            throw new RejectedExecutionException("Queue of executor warmup is full");
+        }, environment);
+
+        cacheWarmUpService.warmUp();
+
+        verifyNoInteractions(semesterService);
+        assertThat(cacheWarmUpService.isReady()).isTrue();
+        assertThat(cacheWarmUpService.getStatus().getState()).isEqualTo("FAILED");
+    }
+
+    @Test
+    public void warmUpWhichIsNotOverInTimeIsTimedOut() throws InterruptedException {
+        when(environment.getProperty(eq("cache.warmup.timeout"), eq(Long.class), anyLong())).thenReturn(10L);
+        cacheWarmUpService = new CacheWarmUpServiceImpl(semesterService, groupService, lessonService, roomService,
+                scheduleService, task -> { }, environment);
+
+        cacheWarmUpService.warmUp();
+
+        for (int i = 0; i < 100 && !cacheWarmUpService.isReady(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(cacheWarmUpService.getStatus().getState()).isEqualTo("TIMED_OUT");
+    }
+}
@@ -27,6 +27,9 @@ public class DepartmentServiceTest {
     @Mock
     private DepartmentRepository repository;
 
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
     @InjectMocks
     private DepartmentServiceImpl service;
 
@@ -122,6 +125,7 @@ public class DepartmentServiceTest {
         assertThat(actual).isEqualToComparingFieldByField(expected);
         verify(repository).update(expected);
         verify(repository).isExistsByNameIgnoringId(expected.getName(), expected.getId());
+        verify(resourceVersionService).bumpVersion(ResourceVersionService.TEACHERS);
     }
 
     @Test(expected = FieldAlreadyExistsException.class)
@@ -7,6 +7,8 @@ import com.softserve.exception.EntityNotFoundException;
 import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.repository.GroupRepository;
 import com.softserve.service.impl.GroupServiceImpl;
+import com.softserve.service.impl.ResourceVersionServiceImpl;
+import com.softserve.util.CircuitBreaker;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -15,8 +17,11 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static java.util.Collections.singletonList;
@@ -33,6 +38,12 @@ public class GroupServiceTest {
     @Mock
     private SemesterService semesterService;
 
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
     @InjectMocks
     private GroupServiceImpl groupService;
 
@@ -160,6 +171,8 @@ public class GroupServiceTest {
         assertThat(actual).isEqualToComparingFieldByField(expected);
         verify(groupRepository).isExistsByTitleIgnoringId(expected.getTitle(), expected.getId());
         verify(groupRepository, times(1)).update(expected);
+        verify(scheduleSnapshotService).bumpAllVersions();
+        verify(resourceVersionService).bumpVersion(ResourceVersionService.SEMESTERS);
     }
 
     @Test(expected = FieldAlreadyExistsException.class)
@@ -178,6 +191,33 @@ public class GroupServiceTest {
 
         assertThat(actual).isEqualToComparingFieldByField(expected);
         verify(groupRepository).delete(expected);
+        verify(scheduleSnapshotService).bumpAllVersions();
+        verify(resourceVersionService).bumpVersion(ResourceVersionService.SEMESTERS);
+    }
+
+    //the version of the semesters is kept in a counter which works like the one in Redis
+    private ResourceVersionService createResourceVersionService() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RAtomicLong semestersVersion = mock(RAtomicLong.class);
+        AtomicLong version = new AtomicLong();
+        when(redissonClient.getAtomicLong("resourceVersion:semesters")).thenReturn(semestersVersion);
+        when(semestersVersion.get()).thenAnswer(invocation -> version.get());
+        when(semestersVersion.incrementAndGet()).thenAnswer(invocation -> version.incrementAndGet());
+        return new ResourceVersionServiceImpl(redissonClient, scheduleSnapshotService,
+                new CircuitBreaker("redis", 3, 30_000));
+    }
+
+    @Test
+    public void renameOfGroupChangesETagOfSemesters() {
+        ResourceVersionService versions = createResourceVersionService();
+        GroupServiceImpl service = new GroupServiceImpl(groupRepository, semesterService, scheduleSnapshotService, versions);
+        when(groupRepository.isExistsByTitleIgnoringId(group.getTitle(), group.getId())).thenReturn(false);
+        when(groupRepository.update(group)).thenReturn(group);
+        Optional<String> before = versions.getETag(ResourceVersionService.SEMESTERS);
+
+        service.update(group);
+
+        assertThat(versions.getETag(ResourceVersionService.SEMESTERS)).isNotEqualTo(before);
     }
 
     @Test
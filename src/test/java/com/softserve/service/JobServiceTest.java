@@ -0,0 +1,110 @@
+package com.softserve.service;
+
+import com.softserve.dto.ExecutorStatsDTO;
+import com.softserve.dto.JobStatusDTO;
+import com.softserve.dto.enums.JobStatus;
+import com.softserve.service.impl.JobServiceImpl;
+import com.softserve.util.MonitoredTaskExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTestCategory.class)
+public class JobServiceTest {
+
+    private MonitoredTaskExecutor importExecutor;
+    private MonitoredTaskExecutor mailExecutor;
+    private JobServiceImpl jobService;
+
+    @Before
+    public void setUp() {
+        importExecutor = createExecutor("import");
+        mailExecutor = createExecutor("mail");
+        Map<String, MonitoredTaskExecutor> executors = new HashMap<>();
+        executors.put("mailExecutor", mailExecutor);
+        executors.put("importExecutor", importExecutor);
+        jobService = new JobServiceImpl(executors);
+    }
+
+    @After
+    public void tearDown() {
+        importExecutor.shutdown();
+        mailExecutor.shutdown();
+    }
+
+    private MonitoredTaskExecutor createExecutor(String name) {
+        MonitoredTaskExecutor executor = new MonitoredTaskExecutor(name);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        return executor;
+    }
+
+    @Test
+    public void trackedJobIsRunningUntilItIsCompleted() {
+        CompletableFuture<List<String>> job = new CompletableFuture<>();
+
+        JobStatusDTO status = jobService.track("students import", job);
+
+        assertThat(status.getStatus()).isEqualTo(JobStatus.RUNNING);
+        job.complete(Arrays.asList("first", "second"));
+        JobStatusDTO done = jobService.getStatus(status.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(JobStatus.DONE);
+        assertThat(done.getResult()).isEqualTo(Arrays.asList("first", "second"));
+    }
+
+    @Test
+    public void failedJobKeepsTheError() {
+        CompletableFuture<Object> job = new CompletableFuture<>();
+
+        JobStatusDTO status = jobService.track("students import", job);
+        job.completeExceptionally(new IllegalStateException("Bad file format"));
+
+        JobStatusDTO failed = jobService.getStatus(status.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo("Bad file format");
+    }
+
+    @Test
+    public void getStatusReturnsEmptyOptionalForUnknownJob() {
+        assertThat(jobService.getStatus("unknown")).isEmpty();
+    }
+
+    @Test
+    public void executorsStatsCountTasksThatDidNotFitIntoQueue() {
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        importExecutor.execute(blocking);
+        importExecutor.execute(blocking);
+        //the thread and the queue are busy, so the task is rejected
+        assertThatThrownBy(() -> importExecutor.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+
+        List<ExecutorStatsDTO> stats = jobService.getExecutorsStats();
+
+        assertThat(stats).extracting("name").containsExactly("import", "mail");
+        assertThat(stats.get(0).getRejectedTasks()).isEqualTo(1);
+        assertThat(stats.get(0).getQueueCapacity()).isEqualTo(1);
+        assertThat(stats.get(1).getRejectedTasks()).isZero();
+    }
+}
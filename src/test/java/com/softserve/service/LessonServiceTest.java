@@ -6,18 +6,19 @@ import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.repository.LessonRepository;
 import com.softserve.service.impl.LessonServiceImpl;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -38,6 +39,40 @@ public class LessonServiceTest {
     @Mock
     private SemesterService semesterService;
 
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private final Map<String, Cache> caches = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        lenient().when(cacheManager.getCache(anyString()))
+                .thenAnswer(invocation -> caches.computeIfAbsent(invocation.getArgument(0), ConcurrentMapCache::new));
+    }
+
+    private Semester createCurrentSemester() {
+        Semester semester = new Semester();
+        semester.setId(4L);
+        semester.setCurrentSemester(true);
+        return semester;
+    }
+
+    private Lesson createLesson(Long id, Long teacherId, Long groupId, Semester semester) {
+        Teacher teacher = new Teacher();
+        teacher.setId(teacherId);
+        Group group = new Group();
+        group.setId(groupId);
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setTeacher(teacher);
+        lesson.setGroup(group);
+        lesson.setSemester(semester);
+        return lesson;
+    }
+
     @Test
     public void getLessonById() {
         Semester semester = new Semester();
@@ -101,6 +136,7 @@ public class LessonServiceTest {
         lesson.setSubjectForSite("");
         lesson.setLinkToMeeting("");
 
+        when(semesterService.getCurrentSemester()).thenReturn(createCurrentSemester());
         when(lessonRepository.countLessonDuplicates(lesson)).thenReturn(0L);
         when(lessonRepository.save(lesson)).thenReturn(lesson);
         when(subjectService.getById(subject.getId())).thenReturn(subject);
@@ -254,6 +290,7 @@ public class LessonServiceTest {
 
         List<Integer> expectedResults = List.of(2,3,4);
 
+        when(semesterService.getById(7L)).thenReturn(semester);
         when(lessonRepository.updateLinkToMeeting(lessonWithSubjectAndType)).thenReturn(2);
         when(lessonRepository.updateLinkToMeeting(lessonWithSubject)).thenReturn(3);
         when(lessonRepository.updateLinkToMeeting(lesson)).thenReturn(4);
@@ -267,5 +304,112 @@ public class LessonServiceTest {
         verify(lessonRepository).updateLinkToMeeting(lessonWithSubjectAndType);
         verify(lessonRepository).updateLinkToMeeting(lessonWithSubject);
         verify(lessonRepository).updateLinkToMeeting(lesson);
+        verify(lessonRepository, never()).getLessonByTeacher(anyLong(), anyLong());
+    }
+
+    @Test
+    public void lessonsOfTeacherAndGroupWithSameIdAreCachedSeparately() {
+        Semester semester = createCurrentSemester();
+        List<Lesson> teacherLessons = List.of(createLesson(1L, 5L, 1L, semester));
+        List<Lesson> groupLessons = List.of(createLesson(2L, 1L, 5L, semester));
+        when(semesterService.getCurrentSemester()).thenReturn(semester);
+        when(lessonRepository.getLessonByTeacher(5L, 4L)).thenReturn(teacherLessons);
+        when(lessonRepository.getAllForGroup(5L, 4L)).thenReturn(groupLessons);
+        when(semesterService.getById(4L)).thenReturn(semester);
+
+        assertEquals(teacherLessons, lessonService.getLessonByTeacher(5L));
+        assertEquals(groupLessons, lessonService.getAllForGroup(5L));
+        List<Lesson> cachedTeacherLessons = lessonService.getLessonByTeacher(5L);
+        List<Lesson> cachedGroupLessons = lessonService.getAllForGroup(5L);
+        assertEquals(1, cachedTeacherLessons.size());
+        assertEquals(Long.valueOf(1L), cachedTeacherLessons.get(0).getId());
+        assertEquals(Long.valueOf(5L), cachedTeacherLessons.get(0).getTeacher().getId());
+        assertEquals(semester, cachedTeacherLessons.get(0).getSemester());
+        assertEquals(1, cachedGroupLessons.size());
+        assertEquals(Long.valueOf(2L), cachedGroupLessons.get(0).getId());
+        assertEquals(Long.valueOf(5L), cachedGroupLessons.get(0).getGroup().getId());
+
+        verify(lessonRepository, times(1)).getLessonByTeacher(5L, 4L);
+        verify(lessonRepository, times(1)).getAllForGroup(5L, 4L);
+    }
+
+    @Test
+    public void updateEvictsOnlyLessonsOfChangedTeachersAndGroups() {
+        Semester semester = createCurrentSemester();
+        Lesson lesson = createLesson(1L, 10L, 1L, semester);
+        when(semesterService.getCurrentSemester()).thenReturn(semester);
+        when(lessonRepository.getLessonByTeacher(anyLong(), eq(4L))).thenReturn(new ArrayList<>());
+        when(lessonRepository.getAllForGroup(anyLong(), eq(4L))).thenReturn(new ArrayList<>());
+        when(lessonRepository.countLessonDuplicatesWithIgnoreId(lesson)).thenReturn(0L);
+        when(lessonRepository.getTeacherIdById(1L)).thenReturn(Optional.of(12L));
+        when(lessonRepository.getGroupIdById(1L)).thenReturn(Optional.of(1L));
+        when(lessonRepository.update(lesson)).thenReturn(lesson);
+        for (long id : new long[]{10L, 11L, 12L}) {
+            lessonService.getLessonByTeacher(id);
+        }
+        lessonService.getAllForGroup(1L);
+        lessonService.getAllForGroup(2L);
+
+        lessonService.update(lesson);
+        for (long id : new long[]{10L, 11L, 12L}) {
+            lessonService.getLessonByTeacher(id);
+        }
+        lessonService.getAllForGroup(1L);
+        lessonService.getAllForGroup(2L);
+
+        verify(lessonRepository, times(2)).getLessonByTeacher(10L, 4L);
+        verify(lessonRepository, times(1)).getLessonByTeacher(11L, 4L);
+        verify(lessonRepository, times(2)).getLessonByTeacher(12L, 4L);
+        verify(lessonRepository, times(2)).getAllForGroup(1L, 4L);
+        verify(lessonRepository, times(1)).getAllForGroup(2L, 4L);
+    }
+
+    @Test
+    public void deleteLessonBySemesterIdEvictsLessonsOfSemesterWithoutLoadingThem() {
+        Semester semester = createCurrentSemester();
+        Group group = new Group();
+        group.setId(1L);
+        semester.setGroups(new LinkedHashSet<>(Collections.singletonList(group)));
+        when(semesterService.getCurrentSemester()).thenReturn(semester);
+        when(semesterService.getById(4L)).thenReturn(semester);
+        when(lessonRepository.getLessonByTeacher(10L, 4L)).thenReturn(new ArrayList<>());
+        when(lessonRepository.getAllForGroup(anyLong(), eq(4L))).thenReturn(new ArrayList<>());
+        lessonService.getLessonByTeacher(10L);
+        lessonService.getAllForGroup(1L);
+        lessonService.getAllForGroup(2L);
+
+        lessonService.deleteLessonBySemesterId(4L);
+        lessonService.getLessonByTeacher(10L);
+        lessonService.getAllForGroup(1L);
+        lessonService.getAllForGroup(2L);
+
+        verify(lessonRepository).deleteLessonBySemesterId(4L);
+        verify(lessonRepository, never()).getLessonsBySemester(anyLong());
+        verify(lessonRepository, times(2)).getLessonByTeacher(10L, 4L);
+        verify(lessonRepository, times(2)).getAllForGroup(1L, 4L);
+        verify(lessonRepository, times(1)).getAllForGroup(2L, 4L);
+    }
+
+    @Test
+    public void evictLessonsEvictsOnlyListsOfTheirTeachersAndGroups() {
+        Semester semester = createCurrentSemester();
+        when(semesterService.getCurrentSemester()).thenReturn(semester);
+        when(lessonRepository.getLessonByTeacher(anyLong(), eq(4L))).thenReturn(new ArrayList<>());
+        when(lessonRepository.getAllForGroup(anyLong(), eq(4L))).thenReturn(new ArrayList<>());
+        lessonService.getLessonByTeacher(10L);
+        lessonService.getLessonByTeacher(11L);
+        lessonService.getAllForGroup(1L);
+        lessonService.getAllForGroup(2L);
+
+        lessonService.evictLessons(4L, Collections.singletonList(createLesson(1L, 10L, 1L, semester)));
+        lessonService.getLessonByTeacher(10L);
+        lessonService.getLessonByTeacher(11L);
+        lessonService.getAllForGroup(1L);
+        lessonService.getAllForGroup(2L);
+
+        verify(lessonRepository, times(2)).getLessonByTeacher(10L, 4L);
+        verify(lessonRepository, times(1)).getLessonByTeacher(11L, 4L);
+        verify(lessonRepository, times(2)).getAllForGroup(1L, 4L);
+        verify(lessonRepository, times(1)).getAllForGroup(2L, 4L);
     }
 }
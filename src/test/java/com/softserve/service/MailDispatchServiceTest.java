@@ -0,0 +1,168 @@
+package com.softserve.service;
+
+import com.softserve.dto.MailDispatchStatusDTO;
+import com.softserve.dto.MailRecipientStatusDTO;
+import com.softserve.dto.MailWithAttachmentDTO;
+import com.softserve.dto.enums.MailStatus;
+import com.softserve.service.impl.MailDispatchServiceImpl;
+import com.softserve.util.MonitoredTaskExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.mail.MessagingException;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class MailDispatchServiceTest {
+
+    @Mock
+    private MailService mailService;
+
+    private MonitoredTaskExecutor executor;
+    private MailDispatchServiceImpl mailDispatchService;
+
+    @Before
+    public void setUp() {
+        executor = new MonitoredTaskExecutor("mail");
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("mail.dispatch.rate", "0")
+                .withProperty("mail.dispatch.attempts", "3")
+                .withProperty("mail.dispatch.backoff", "1");
+        mailDispatchService = new MailDispatchServiceImpl(mailService, executor, environment);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private MailWithAttachmentDTO createMail(String receiver) {
+        return MailWithAttachmentDTO.builder()
+                .receiver(receiver)
+                .subject("Schedule")
+                .text("Schedule for teacher")
+                .fileName("schedule.pdf")
+                .attachment(ByteArrayOutputStream::new)
+                .build();
+    }
+
+    private List<MailRecipientStatusDTO> awaitFinished(String id) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            List<MailRecipientStatusDTO> recipients = mailDispatchService.getStatus(id)
+                    .map(MailDispatchStatusDTO::getRecipients).orElseThrow();
+            if (recipients.stream().allMatch(r -> r.getStatus() == MailStatus.SENT || r.getStatus() == MailStatus.FAILED)) {
+                return recipients;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Mails were not sent in time");
+    }
+
+    @Test
+    public void dispatchSendsEveryMailAndReportsItsStatus() throws Exception {
+        MailDispatchStatusDTO status = mailDispatchService.dispatch(
+                Arrays.asList(createMail("first@gmail.com"), createMail("second@gmail.com")));
+
+        List<MailRecipientStatusDTO> recipients = awaitFinished(status.getId());
+
+        assertThat(recipients).extracting("receiver").containsExactly("first@gmail.com", "second@gmail.com");
+        assertThat(recipients).extracting("status").containsOnly(MailStatus.SENT);
+        verify(mailService, times(2)).send(anyString(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void dispatchRetriesTransientFailures() throws Exception {
+        doThrow(new MessagingException("timeout")).doNothing()
+                .when(mailService).send(anyString(), eq("first@gmail.com"), anyString(), anyString(), any());
+
+        MailDispatchStatusDTO status = mailDispatchService.dispatch(Arrays.asList(createMail("first@gmail.com")));
+
+        MailRecipientStatusDTO recipient = awaitFinished(status.getId()).get(0);
+        assertThat(recipient.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(recipient.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    public void failureOfOneMailDoesNotStopOthers() throws Exception {
+        doThrow(new MessagingException("mailbox unavailable"))
+                .when(mailService).send(anyString(), eq("first@gmail.com"), anyString(), anyString(), any());
+
+        MailDispatchStatusDTO status = mailDispatchService.dispatch(
+                Arrays.asList(createMail("first@gmail.com"), createMail("second@gmail.com")));
+
+        List<MailRecipientStatusDTO> recipients = awaitFinished(status.getId());
+        assertThat(recipients.stream().map(MailRecipientStatusDTO::getStatus).collect(Collectors.toList()))
+                .containsExactly(MailStatus.FAILED, MailStatus.SENT);
+        assertThat(recipients.get(0).getAttempts()).isEqualTo(3);
+        assertThat(recipients.get(0).getError()).isEqualTo("mailbox unavailable");
+    }
+
+    @Test
+    public void failedReceiversAreReportedAfterTheMails() throws Exception {
+        MailDispatchStatusDTO status = mailDispatchService.dispatch(Arrays.asList(createMail("first@gmail.com")),
+                Collections.singletonMap("teacher 20", "Teacher doesn't have an account"));
+
+        List<MailRecipientStatusDTO> recipients = awaitFinished(status.getId());
+        assertThat(recipients).extracting("receiver").containsExactly("first@gmail.com", "teacher 20");
+        assertThat(recipients).extracting("status").containsExactly(MailStatus.SENT, MailStatus.FAILED);
+        assertThat(recipients.get(1).getError()).isEqualTo("Teacher doesn't have an account");
+        verify(mailService, times(1)).send(anyString(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void mailsWhichDoNotFitIntoQueueAreReportedAsFailed() throws Exception {
+        MonitoredTaskExecutor smallExecutor = new MonitoredTaskExecutor("dispatch");
+        smallExecutor.setCorePoolSize(1);
+        smallExecutor.setMaxPoolSize(1);
+        smallExecutor.setQueueCapacity(1);
+        smallExecutor.initialize();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(mailService).send(anyString(), anyString(), anyString(), anyString(), any());
+        MailDispatchServiceImpl service = new MailDispatchServiceImpl(mailService, smallExecutor,
+                new MockEnvironment().withProperty("mail.dispatch.rate", "0"));
+        try {
+            service.dispatch(Arrays.asList(createMail("first@gmail.com")));
+            sending.await(5, TimeUnit.SECONDS);
+
+            MailDispatchStatusDTO status = service.dispatch(
+                    Arrays.asList(createMail("second@gmail.com"), createMail("third@gmail.com")));
+
+            assertThat(status.getRecipients()).extracting("status").containsExactly(MailStatus.QUEUED, MailStatus.FAILED);
+            assertThat(status.getRecipients().get(1).getError()).isEqualTo("Dispatch queue is full");
+        } finally {
+            release.countDown();
+            smallExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void getStatusReturnsEmptyOptionalForUnknownDispatch() {
+        assertThat(mailDispatchService.getStatus("unknown")).isEmpty();
+    }
+}
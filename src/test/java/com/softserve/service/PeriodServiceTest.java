@@ -30,6 +30,12 @@ public class PeriodServiceTest {
     @Mock
     private PeriodRepository periodRepository;
 
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
     @InjectMocks
     private PeriodServiceImpl periodService;
 
@@ -231,6 +237,19 @@ public class PeriodServiceTest {
         verify(periodRepository, times(1)).getAll();
         verify(periodRepository, times(1)).findById(anyLong());
         verify(periodRepository, times(1)).update(period);
+        verify(scheduleSnapshotService).bumpAllVersions();
+        verify(resourceVersionService).bumpVersion(ResourceVersionService.SEMESTERS);
+    }
+
+    @Test
+    public void deletePeriodChangesVersionsOfSchedulesAndSemesters() {
+        Period period = new Period();
+        period.setId(1L);
+        when(periodRepository.delete(period)).thenReturn(period);
+
+        assertEquals(period, periodService.delete(period));
+        verify(scheduleSnapshotService).bumpAllVersions();
+        verify(resourceVersionService).bumpVersion(ResourceVersionService.SEMESTERS);
     }
 
     @Test(expected = FieldAlreadyExistsException.class)
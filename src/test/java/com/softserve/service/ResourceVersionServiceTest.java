@@ -0,0 +1,123 @@
+package com.softserve.service;
+
+import com.softserve.service.impl.ResourceVersionServiceImpl;
+import com.softserve.util.CircuitBreaker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceVersionServiceTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+    @Mock
+    private RAtomicLong teachersVersion;
+    @Mock
+    private RAtomicLong semestersVersion;
+
+    private ResourceVersionServiceImpl resourceVersionService;
+
+    @Before
+    public void setUp() {
+        resourceVersionService = new ResourceVersionServiceImpl(redissonClient, scheduleSnapshotService,
+                new CircuitBreaker("redis", 3, 30_000));
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void getETagContainsVersionOfResource() {
+        when(redissonClient.getAtomicLong("resourceVersion:teachers")).thenReturn(teachersVersion);
+        when(teachersVersion.get()).thenReturn(3L);
+
+        assertThat(resourceVersionService.getETag(ResourceVersionService.TEACHERS)).hasValue("\"teachers-3\"");
+    }
+
+    @Test
+    public void scheduleETagChangesWithScheduleTeachersAndSemesters() {
+        when(redissonClient.getAtomicLong("resourceVersion:teachers")).thenReturn(teachersVersion);
+        when(redissonClient.getAtomicLong("resourceVersion:semesters")).thenReturn(semestersVersion);
+        when(scheduleSnapshotService.getVersion(1L))
+                .thenReturn(Optional.of(5L), Optional.of(6L), Optional.of(6L), Optional.of(6L));
+        when(teachersVersion.get()).thenReturn(1L, 1L, 2L, 2L);
+        when(semestersVersion.get()).thenReturn(1L, 1L, 1L, 2L);
+
+        String first = resourceVersionService.getScheduleETag(1L, "group:1").orElse(null);
+        String afterScheduleChange = resourceVersionService.getScheduleETag(1L, "group:1").orElse(null);
+        String afterTeacherChange = resourceVersionService.getScheduleETag(1L, "group:1").orElse(null);
+        String afterSemesterChange = resourceVersionService.getScheduleETag(1L, "group:1").orElse(null);
+
+        assertThat(first).startsWith("\"schedule-1-5-1-1-").endsWith("-group:1\"");
+        assertThat(afterScheduleChange).isNotEqualTo(first);
+        assertThat(afterTeacherChange).isNotEqualTo(afterScheduleChange);
+        assertThat(afterSemesterChange).isNotEqualTo(afterTeacherChange);
+    }
+
+    @Test
+    public void bumpVersionIncrementsVersionAfterCommit() {
+        when(redissonClient.getAtomicLong("resourceVersion:semesters")).thenReturn(semestersVersion);
+        TransactionSynchronizationManager.initSynchronization();
+
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
+
+        verify(semestersVersion, never()).incrementAndGet();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(semestersVersion).incrementAndGet();
+    }
+
+    @Test
+    public void bumpVersionWithoutTransactionIncrementsVersionAtOnce() {
+        when(redissonClient.getAtomicLong("resourceVersion:teachers")).thenReturn(teachersVersion);
+
+        resourceVersionService.bumpVersion(ResourceVersionService.TEACHERS);
+
+        verify(teachersVersion).incrementAndGet();
+        verify(scheduleSnapshotService).bumpAllVersions();
+    }
+
+    @Test
+    public void noETagIsGivenIfVersionIsNotAvailable() {
+        when(redissonClient.getAtomicLong("resourceVersion:teachers")).thenReturn(teachersVersion);
+        when(teachersVersion.get()).thenThrow(new IllegalStateException("Redis is down"));
+        when(scheduleSnapshotService.getVersion(1L)).thenReturn(Optional.of(1L));
+
+        assertThat(resourceVersionService.getETag(ResourceVersionService.TEACHERS)).isEmpty();
+        assertThat(resourceVersionService.getScheduleETag(1L, "full")).isEmpty();
+    }
+
+    @Test
+    public void failedBumpAfterCommitIsNotThrownAndIsRetriedWhenRedisAnswers() {
+        when(redissonClient.getAtomicLong("resourceVersion:semesters")).thenReturn(semestersVersion);
+        when(semestersVersion.incrementAndGet()).thenThrow(new IllegalStateException("Redis is down")).thenReturn(1L);
+        when(semestersVersion.get()).thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        resourceVersionService.bumpVersion(ResourceVersionService.SEMESTERS);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(resourceVersionService.getETag(ResourceVersionService.SEMESTERS)).hasValue("\"semesters-1\"");
+        verify(semestersVersion, times(2)).incrementAndGet();
+    }
+}
@@ -1,9 +1,12 @@
 package com.softserve.service;
 
+import com.softserve.dto.RoomForScheduleInfoDTO;
 import com.softserve.entity.Room;
 import com.softserve.entity.RoomType;
 import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.mapper.RoomForScheduleInfoMapperImpl;
 import com.softserve.repository.RoomRepository;
 import com.softserve.service.impl.RoomServiceImpl;
 import org.junit.Test;
@@ -11,10 +14,16 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -27,6 +36,15 @@ public class RoomServiceTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Mock
+    private ScheduleOccupancyService scheduleOccupancyService;
+
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @Spy
+    private RoomForScheduleInfoMapperImpl roomForScheduleInfoMapper;
+
     @InjectMocks
     private RoomServiceImpl roomService;
 
@@ -126,6 +144,7 @@ public class RoomServiceTest {
         assertEquals(updatedRoom, room);
         verify(roomRepository, times(1)).update(updatedRoom);
         verify(roomRepository, times(1)).countRoomDuplicates(any(Room.class));
+        verify(scheduleSnapshotService).bumpAllVersions();
     }
 
     @Test(expected = EntityAlreadyExistsException.class)
@@ -153,4 +172,26 @@ public class RoomServiceTest {
         verify(roomRepository, times(1)).update(updatedRoom);
         verify(roomRepository, times(1)).countRoomDuplicates(any(Room.class));
     }
+
+    @Test
+    public void getAllRoomsForCreatingScheduleMarksBusyRoomsAsNotAvailable() {
+        Room firstRoom = new Room();
+        firstRoom.setId(1L);
+        firstRoom.setName("1 Room");
+        Room secondRoom = new Room();
+        secondRoom.setId(2L);
+        secondRoom.setName("2 Room");
+        Room thirdRoom = new Room();
+        thirdRoom.setId(3L);
+        thirdRoom.setName("3 Room");
+
+        when(roomRepository.getAll()).thenReturn(Arrays.asList(firstRoom, secondRoom, thirdRoom));
+        when(scheduleOccupancyService.getBusyRoomIds(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L)).thenReturn(Set.of(2L));
+
+        List<RoomForScheduleInfoDTO> rooms = roomService.getAllRoomsForCreatingSchedule(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L);
+
+        assertThat(rooms).extracting(RoomForScheduleInfoDTO::getId).containsExactly(1L, 3L, 2L);
+        assertThat(rooms).extracting(RoomForScheduleInfoDTO::isAvailable).containsExactly(true, true, false);
+        verify(roomRepository, never()).getAvailableRoomsForSchedule(anyLong(), any(), any(), anyLong());
+    }
 }
@@ -0,0 +1,124 @@
+package com.softserve.service;
+
+import com.softserve.entity.*;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.repository.RoomRepository;
+import com.softserve.repository.ScheduleRepository;
+import com.softserve.service.impl.ScheduleOccupancyServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.env.Environment;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduleOccupancyServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+    @Mock
+    private Environment environment;
+
+    private ScheduleOccupancyServiceImpl scheduleOccupancyService;
+
+    @Before
+    public void setUp() {
+        scheduleOccupancyService = new ScheduleOccupancyServiceImpl(scheduleRepository, roomRepository,
+                scheduleSnapshotService, environment);
+    }
+
+    private Schedule createSchedule(Long groupId, Long teacherId, Long roomId, DayOfWeek day, Long periodId,
+                                    EvenOdd evenOdd, boolean groupDisabled) {
+        Group group = new Group();
+        group.setId(groupId);
+        group.setDisable(groupDisabled);
+        Teacher teacher = new Teacher();
+        teacher.setId(teacherId);
+        Lesson lesson = new Lesson();
+        lesson.setGroup(group);
+        lesson.setTeacher(teacher);
+        lesson.setSubject(new Subject());
+        lesson.setSemester(new Semester());
+        Room room = new Room();
+        room.setId(roomId);
+        Period period = new Period();
+        period.setId(periodId);
+        Schedule schedule = new Schedule();
+        schedule.setLesson(lesson);
+        schedule.setRoom(room);
+        schedule.setDayOfWeek(day);
+        schedule.setPeriod(period);
+        schedule.setEvenOdd(evenOdd);
+        return schedule;
+    }
+
+    private void mockSchedules(Schedule... schedules) {
+        when(scheduleSnapshotService.getVersion(1L)).thenReturn(Optional.of(1L));
+        when(scheduleRepository.getAllSchedulesWithDetailsBySemester(1L)).thenReturn(Arrays.asList(schedules));
+    }
+
+    @Test
+    public void weeklyScheduleTakesBothHalvesOfTheWeek() {
+        mockSchedules(createSchedule(1L, 1L, 1L, DayOfWeek.MONDAY, 1L, EvenOdd.WEEKLY, false));
+
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L, 1L)).isTrue();
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.ODD, 1L, 1L)).isTrue();
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.TUESDAY, EvenOdd.ODD, 1L, 1L)).isFalse();
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.ODD, 2L, 1L)).isFalse();
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.ODD, 1L, 2L)).isFalse();
+        verify(scheduleRepository, times(1)).getAllSchedulesWithDetailsBySemester(1L);
+        verify(scheduleRepository, never()).conflictForGroupInSchedule(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void evenScheduleTakesOnlyEvenWeek() {
+        mockSchedules(createSchedule(1L, 2L, 3L, DayOfWeek.FRIDAY, 4L, EvenOdd.EVEN, false));
+
+        assertThat(scheduleOccupancyService.isTeacherBusy(1L, DayOfWeek.FRIDAY, EvenOdd.EVEN, 4L, 2L)).isTrue();
+        assertThat(scheduleOccupancyService.isTeacherBusy(1L, DayOfWeek.FRIDAY, EvenOdd.ODD, 4L, 2L)).isFalse();
+        assertThat(scheduleOccupancyService.isTeacherBusy(1L, DayOfWeek.FRIDAY, EvenOdd.WEEKLY, 4L, 2L)).isTrue();
+    }
+
+    @Test
+    public void roomsAreTakenBySchedulesOfDisabledGroups() {
+        mockSchedules(createSchedule(1L, 1L, 1L, DayOfWeek.MONDAY, 1L, EvenOdd.ODD, true),
+                createSchedule(2L, 2L, 2L, DayOfWeek.MONDAY, 1L, EvenOdd.EVEN, false));
+
+        assertThat(scheduleOccupancyService.getBusyRoomIds(1L, DayOfWeek.MONDAY, EvenOdd.WEEKLY, 1L)).containsOnly(1L, 2L);
+        assertThat(scheduleOccupancyService.getBusyRoomIds(1L, DayOfWeek.MONDAY, EvenOdd.ODD, 1L)).containsOnly(1L);
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.ODD, 1L, 1L)).isFalse();
+    }
+
+    @Test
+    public void indexIsRebuiltWhenScheduleVersionIsChanged() {
+        when(scheduleSnapshotService.getVersion(1L)).thenReturn(Optional.of(1L), Optional.of(2L));
+        List<Schedule> schedules = Arrays.asList(createSchedule(1L, 1L, 1L, DayOfWeek.MONDAY, 1L, EvenOdd.WEEKLY, false));
+        when(scheduleRepository.getAllSchedulesWithDetailsBySemester(1L)).thenReturn(List.of(), schedules);
+
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L, 1L)).isFalse();
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L, 1L)).isTrue();
+    }
+
+    @Test
+    public void databaseIsUsedIfIndexIsNotAvailable() {
+        when(scheduleSnapshotService.getVersion(1L)).thenReturn(Optional.empty());
+        when(scheduleRepository.conflictForGroupInSchedule(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L, 1L)).thenReturn(1L);
+
+        assertThat(scheduleOccupancyService.isGroupBusy(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, 1L, 1L)).isTrue();
+    }
+}
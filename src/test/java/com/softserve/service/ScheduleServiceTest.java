@@ -1,12 +1,16 @@
 package com.softserve.service;
 
 import com.softserve.dto.DaysOfWeekWithClassesForTeacherDTO;
+import com.softserve.dto.MailDispatchStatusDTO;
 import com.softserve.dto.ScheduleForTeacherDTO;
 import com.softserve.dto.SemesterDTO;
 import com.softserve.dto.TeacherDTO;
 import com.softserve.entity.*;
 import com.softserve.entity.enums.EvenOdd;
 import com.softserve.exception.EntityNotFoundException;
+import com.softserve.mapper.ConverterToSchedulesForTeacher;
+import com.softserve.mapper.LessonForTeacherScheduleMapperImpl;
+import com.softserve.mapper.PeriodMapperImpl;
 import com.softserve.mapper.TeacherMapper;
 import com.softserve.repository.ScheduleRepository;
 import com.softserve.service.impl.ScheduleServiceImpl;
@@ -16,11 +20,14 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.mail.MessagingException;
 import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -44,9 +51,18 @@ public class ScheduleServiceTest {
     @Mock
     private MailService mailService;
     @Mock
+    private MailDispatchService mailDispatchService;
+    @Mock
     private TeacherMapper teacherMapper;
     @Mock
     private TemporaryScheduleService temporaryScheduleService;
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+    @Mock
+    private ScheduleOccupancyService scheduleOccupancyService;
+    @Spy
+    private ConverterToSchedulesForTeacher converterToSchedulesForTeacher =
+            new ConverterToSchedulesForTeacher(new PeriodMapperImpl(), new LessonForTeacherScheduleMapperImpl());
 
     @InjectMocks
     private ScheduleServiceImpl scheduleServiceImpl;
@@ -141,30 +157,72 @@ public class ScheduleServiceTest {
         verify(scheduleRepository, times(1)).update(updatedSchedule);
     }
 
+    private Teacher createTeacher(Long id, Long userId) {
+        Teacher teacher = new Teacher();
+        teacher.setId(id);
+        teacher.setDisable(false);
+        teacher.setUserId(userId);
+        return teacher;
+    }
+
+    private ScheduleForTeacherDTO createScheduleForTeacher(Long teacherId) {
+        TeacherDTO teacherDTO = new TeacherDTO();
+        teacherDTO.setId(teacherId);
+        ScheduleForTeacherDTO scheduleForTeacherDTO = new ScheduleForTeacherDTO();
+        scheduleForTeacherDTO.setTeacher(teacherDTO);
+        return scheduleForTeacherDTO;
+    }
+
     @Test
     public void sendScheduleToTeachers() throws MessagingException {
         User user = new User();
         user.setId(1L);
         user.setEmail("Test@gmail.com");
-        Teacher teacher = new Teacher();
-        teacher.setId(10L);
-        teacher.setDisable(false);
-        teacher.setUserId(1L);
         Semester semester = new Semester();
         semester.setId(4L);
-        TeacherDTO teacherDTO = new TeacherDTO();
-        List<DayOfWeek> dayOfWeeks = new ArrayList<>();
         Long[] id = new Long[]{10L, 20L, 30L, 40L};
-        dayOfWeeks.add(DayOfWeek.MONDAY);
-        dayOfWeeks.add(DayOfWeek.TUESDAY);
-        when(teacherService.getById(anyLong())).thenReturn(teacher);
+        List<Teacher> teachers = new ArrayList<>();
+        List<ScheduleForTeacherDTO> schedules = new ArrayList<>();
+        for (Long teacherId : id) {
+            teachers.add(createTeacher(teacherId, 1L));
+            schedules.add(createScheduleForTeacher(teacherId));
+        }
+        when(teacherService.getAll()).thenReturn(teachers);
         when(semesterService.getById(anyLong())).thenReturn(semester);
-        when(userService.getById(anyLong())).thenReturn(user);
-        when(teacherMapper.teacherToTeacherDTO(any())).thenReturn(teacherDTO);
-        when(scheduleRepository.getDaysWhenTeacherHasClassesBySemester(anyLong(), anyLong())).thenReturn(dayOfWeeks);
-        doNothing().when(mailService).send(anyString(), anyString(), anyString(), anyString(),any());
-        scheduleServiceImpl.sendScheduleToTeachers(4L, id, Locale.ENGLISH);
-        verify(mailService, times(id.length)).send(anyString(), anyString(), anyString(), anyString(),any());
+        when(userService.getUsersByIds(anyList())).thenReturn(Collections.singletonList(user));
+        doReturn(schedules).when(scheduleSnapshotService).get(eq(4L), startsWith("teachers:"), any(), any());
+        MailDispatchStatusDTO status = new MailDispatchStatusDTO();
+        when(mailDispatchService.dispatch(anyList(), anyMap())).thenReturn(status);
+        assertEquals(status, scheduleServiceImpl.sendScheduleToTeachers(4L, id, Locale.ENGLISH));
+        verify(mailDispatchService).dispatch(argThat(mails -> mails.size() == id.length
+                && mails.stream().allMatch(mail -> mail.getReceiver().equals("Test@gmail.com"))), eq(Collections.emptyMap()));
+        verify(teacherService, never()).getById(anyLong());
+        verify(userService, never()).getById(anyLong());
+        verify(mailService, never()).send(anyString(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void sendScheduleToTeachersReportsTeachersWithoutAccountAndUnknownTeachersAsFailed() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("Test@gmail.com");
+        Semester semester = new Semester();
+        semester.setId(4L);
+        when(teacherService.getAll()).thenReturn(Arrays.asList(createTeacher(10L, 1L), createTeacher(20L, null)));
+        when(semesterService.getById(anyLong())).thenReturn(semester);
+        when(userService.getUsersByIds(Collections.singletonList(1L))).thenReturn(Collections.singletonList(user));
+        doReturn(Collections.emptyList()).when(scheduleSnapshotService).get(eq(4L), startsWith("teachers:"), any(), any());
+        doReturn(createScheduleForTeacher(10L)).when(scheduleSnapshotService).get(eq(4L), startsWith("teacher:10:"), any(), any());
+        MailDispatchStatusDTO status = new MailDispatchStatusDTO();
+        when(mailDispatchService.dispatch(anyList(), anyMap())).thenReturn(status);
+
+        assertEquals(status, scheduleServiceImpl.sendScheduleToTeachers(4L, new Long[]{10L, 20L, 99L}, Locale.ENGLISH));
+
+        Map<String, String> failedReceivers = new LinkedHashMap<>();
+        failedReceivers.put("teacher 20", "Teacher doesn't have an account");
+        failedReceivers.put("teacher 99", "Teacher doesn't exist");
+        verify(mailDispatchService).dispatch(argThat(mails -> mails.size() == 1
+                && mails.get(0).getReceiver().equals("Test@gmail.com")), eq(failedReceivers));
     }
 
     @Test
@@ -180,20 +238,73 @@ public class ScheduleServiceTest {
         TeacherDTO teacherDTO = new TeacherDTO();
         Map<EvenOdd, Map<DayOfWeek, List<TemporarySchedule>>> temporarySchedules = new HashMap<>();
         temporarySchedules.put(EvenOdd.EVEN,new HashMap<>());
-        List<DayOfWeek> dayOfWeeks = new ArrayList<>();
-        dayOfWeeks.add(DayOfWeek.MONDAY);
-        dayOfWeeks.add(DayOfWeek.TUESDAY);
         when(teacherService.getById(1L)).thenReturn(teacher);
         when(semesterService.getById(1L)).thenReturn(semester);
         when(userService.getById(1L)).thenReturn(user);
         when(teacherMapper.teacherToTeacherDTO(any())).thenReturn(teacherDTO);
-        when(scheduleRepository.getDaysWhenTeacherHasClassesBySemester(anyLong(), anyLong())).thenReturn(dayOfWeeks);
+        when(scheduleRepository.getSchedulesForTeacherBySemester(anyLong(), anyLong())).thenReturn(new ArrayList<>());
         when(temporaryScheduleService.getTemporaryScheduleForEvenOddWeeks(any())).thenReturn(temporarySchedules);
+        when(scheduleSnapshotService.get(anyLong(), anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
         doNothing().when(mailService).send(anyString(), anyString(), anyString(), anyString(),any());
         scheduleServiceImpl.sendScheduleToTeacher(1L, 1L, Locale.ENGLISH);
         verify(mailService, times(1)).send(anyString(), anyString(), anyString(), anyString(),any());
     }
 
+    private Schedule createTeacherSchedule(Long id, DayOfWeek day, EvenOdd evenOdd) {
+        Group group = new Group();
+        group.setId(id);
+        Semester semester = new Semester();
+        semester.setId(1L);
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setGroup(group);
+        lesson.setSemester(semester);
+        Period period = new Period();
+        period.setId(id);
+        period.setStartTime(LocalTime.of(8, 0).plusHours(id));
+        Room room = new Room();
+        room.setName("Room " + id);
+        Schedule schedule = new Schedule();
+        schedule.setId(id);
+        schedule.setLesson(lesson);
+        schedule.setDayOfWeek(day);
+        schedule.setEvenOdd(evenOdd);
+        schedule.setPeriod(period);
+        schedule.setRoom(room);
+        return schedule;
+    }
+
+    private void getScheduleForTeacherWithSchedules(List<Schedule> schedules) {
+        reset(scheduleRepository, temporaryScheduleService);
+        when(scheduleRepository.getSchedulesForTeacherBySemester(1L, 1L)).thenReturn(schedules);
+        when(temporaryScheduleService.getTemporaryScheduleForEvenOddWeeks(1L)).thenReturn(new HashMap<>());
+
+        ScheduleForTeacherDTO scheduleForTeacherDTO = scheduleServiceImpl.getScheduleForTeacher(1L, 1L);
+
+        assertEquals(schedules.stream().map(Schedule::getDayOfWeek).distinct().count(), scheduleForTeacherDTO.getDays().size());
+        verify(scheduleRepository).getSchedulesForTeacherBySemester(1L, 1L);
+        verifyNoMoreInteractions(scheduleRepository);
+        verify(temporaryScheduleService).getTemporaryScheduleForEvenOddWeeks(1L);
+    }
+
+    @Test
+    public void getScheduleForTeacherQueriesDatabaseSameNumberOfTimesForAnySchedule() {
+        when(semesterService.getById(1L)).thenReturn(new Semester());
+        when(teacherService.getById(1L)).thenReturn(new Teacher());
+        when(teacherMapper.teacherToTeacherDTO(any())).thenReturn(new TeacherDTO());
+        when(scheduleSnapshotService.get(anyLong(), anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+
+        getScheduleForTeacherWithSchedules(Collections.singletonList(createTeacherSchedule(1L, DayOfWeek.MONDAY, EvenOdd.ODD)));
+
+        List<Schedule> schedules = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            schedules.add(createTeacherSchedule(i, DayOfWeek.of((int) (i % 5) + 1), i % 2 == 0 ? EvenOdd.EVEN : EvenOdd.WEEKLY));
+        }
+        getScheduleForTeacherWithSchedules(schedules);
+    }
+
     @Test
     public void scheduleForGroupedLessons() {
         Group group = new Group();
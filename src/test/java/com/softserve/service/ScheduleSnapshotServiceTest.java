@@ -0,0 +1,219 @@
+package com.softserve.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.softserve.dto.PeriodDTO;
+import com.softserve.dto.ScheduleFullDTO;
+import com.softserve.dto.SemesterDTO;
+import com.softserve.service.impl.ScheduleSnapshotServiceImpl;
+import com.softserve.util.CircuitBreaker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduleSnapshotServiceTest {
+
+    private static final TypeReference<ScheduleFullDTO> TYPE = new TypeReference<ScheduleFullDTO>() {};
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private Environment environment;
+    @Mock
+    private RBucket<Object> bucket;
+    @Mock
+    private RAtomicLong version;
+    @Mock
+    private RAtomicLong allVersion;
+    @Mock
+    private Supplier<ScheduleFullDTO> loader;
+
+    private ScheduleSnapshotServiceImpl scheduleSnapshotService;
+
+    @Before
+    public void setUp() {
+        when(environment.getProperty("ttl", Long.class)).thenReturn(1000L);
+        lenient().when(redissonClient.getAtomicLong("scheduleSnapshot:version:all")).thenReturn(allVersion);
+        scheduleSnapshotService = new ScheduleSnapshotServiceImpl(redissonClient, environment,
+                new CircuitBreaker("redis", 3, 30_000));
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ScheduleFullDTO createSchedule() {
+        PeriodDTO period = new PeriodDTO();
+        period.setId(1L);
+        period.setName("1");
+        period.setStartTime(LocalTime.of(8, 30));
+        period.setEndTime(LocalTime.of(9, 50));
+        SemesterDTO semester = new SemesterDTO();
+        semester.setId(1L);
+        semester.setStartDay(LocalDate.of(2021, 9, 1));
+        semester.setEndDay(LocalDate.of(2021, 12, 31));
+        semester.setDaysOfWeek(new TreeSet<>(Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)));
+        semester.setPeriods(new LinkedHashSet<>(Arrays.asList(period)));
+        ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
+        scheduleFullDTO.setSemester(semester);
+        scheduleFullDTO.setSchedule(new ArrayList<>());
+        return scheduleFullDTO;
+    }
+
+    @Test
+    public void getBuildsAndStoresSnapshotOfCurrentVersionIfItIsNotCached() {
+        ScheduleFullDTO schedule = createSchedule();
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(version.get()).thenReturn(3L);
+        when(redissonClient.getBucket(eq("scheduleSnapshot:1:3:full"), any())).thenReturn(bucket);
+        when(loader.get()).thenReturn(schedule);
+
+        ScheduleFullDTO result = scheduleSnapshotService.get(1L, "full", TYPE, loader);
+
+        assertThat(result).isSameAs(schedule);
+        ArgumentCaptor<Object> json = ArgumentCaptor.forClass(Object.class);
+        verify(bucket).set(json.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        assertThat((String) json.getValue()).contains("\"semester_classes\"");
+    }
+
+    @Test
+    public void getReturnsCachedSnapshotWithoutBuildingIt() {
+        ScheduleFullDTO schedule = createSchedule();
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(redissonClient.getBucket(eq("scheduleSnapshot:1:0:full"), any())).thenReturn(bucket);
+        when(loader.get()).thenReturn(schedule);
+        scheduleSnapshotService.get(1L, "full", TYPE, loader);
+        ArgumentCaptor<Object> json = ArgumentCaptor.forClass(Object.class);
+        verify(bucket).set(json.capture(), anyLong(), any());
+        when(bucket.get()).thenReturn(json.getValue());
+
+        ScheduleFullDTO result = scheduleSnapshotService.get(1L, "full", TYPE, loader);
+
+        assertThat(result).isNotSameAs(schedule);
+        assertThat(result.getSemester().getStartDay()).isEqualTo(schedule.getSemester().getStartDay());
+        assertThat(result.getSemester().getDaysOfWeek()).isEqualTo(schedule.getSemester().getDaysOfWeek());
+        assertThat(result.getSemester().getPeriods()).isEqualTo(schedule.getSemester().getPeriods());
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    public void snapshotCloseToExpiryIsRebuiltEarly() {
+        ScheduleFullDTO schedule = createSchedule();
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(redissonClient.getBucket(eq("scheduleSnapshot:1:0:full"), any())).thenReturn(bucket);
+        //expires in a second, but took much longer than that to build
+        when(bucket.get()).thenReturn((System.currentTimeMillis() + 1000) + ";1000000000;{\"schedule\":[]}");
+        when(loader.get()).thenReturn(schedule);
+
+        ScheduleFullDTO result = scheduleSnapshotService.get(1L, "full", TYPE, loader);
+
+        assertThat(result).isSameAs(schedule);
+        verify(bucket).set(anyString(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void cachedSnapshotIsReturnedIfEarlyRebuildFails() {
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(redissonClient.getBucket(eq("scheduleSnapshot:1:0:full"), any())).thenReturn(bucket);
+        when(bucket.get()).thenReturn((System.currentTimeMillis() + 1000) + ";1000000000;{\"schedule\":[]}");
+        when(loader.get()).thenThrow(new IllegalStateException("Database is not available"));
+
+        ScheduleFullDTO result = scheduleSnapshotService.get(1L, "full", TYPE, loader);
+
+        assertThat(result.getSchedule()).isEmpty();
+        verify(bucket, never()).set(any(), anyLong(), any());
+    }
+
+    @Test
+    public void bumpVersionIncrementsVersionOfSemester() {
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+
+        scheduleSnapshotService.bumpVersion(1L);
+
+        verify(version).incrementAndGet();
+    }
+
+    @Test
+    public void bumpAllVersionsChangesVersionOfEverySemester() {
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(version.get()).thenReturn(3L);
+        when(allVersion.get()).thenReturn(0L, 1L);
+        long before = scheduleSnapshotService.getVersion(1L).orElse(0L);
+
+        scheduleSnapshotService.bumpAllVersions();
+
+        verify(allVersion).incrementAndGet();
+        assertThat(scheduleSnapshotService.getVersion(1L)).hasValueSatisfying(after -> assertThat(after).isGreaterThan(before));
+    }
+
+    @Test
+    public void snapshotIsBuiltWithoutCacheIfVersionIsNotAvailable() {
+        ScheduleFullDTO schedule = createSchedule();
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(version.get()).thenThrow(new IllegalStateException("Redis is down"));
+        when(loader.get()).thenReturn(schedule);
+
+        ScheduleFullDTO result = scheduleSnapshotService.get(1L, "full", TYPE, loader);
+
+        assertThat(result).isSameAs(schedule);
+        verify(redissonClient, never()).getBucket(anyString(), any());
+    }
+
+    @Test
+    public void builtSnapshotIsReturnedIfItCanNotBeStored() {
+        ScheduleFullDTO schedule = createSchedule();
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(redissonClient.getBucket(eq("scheduleSnapshot:1:0:full"), any())).thenReturn(bucket);
+        when(bucket.get()).thenThrow(new IllegalStateException("Redis is down"));
+        doThrow(new IllegalStateException("Redis is down")).when(bucket).set(any(), anyLong(), any());
+        when(loader.get()).thenReturn(schedule);
+
+        ScheduleFullDTO result = scheduleSnapshotService.get(1L, "full", TYPE, loader);
+
+        assertThat(result).isSameAs(schedule);
+    }
+
+    @Test
+    public void failedBumpAfterCommitIsNotThrownAndIsRetriedWhenRedisAnswers() {
+        when(redissonClient.getAtomicLong("scheduleSnapshot:version:1")).thenReturn(version);
+        when(version.incrementAndGet()).thenThrow(new IllegalStateException("Redis is down")).thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        scheduleSnapshotService.bumpVersion(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(version, times(1)).incrementAndGet();
+
+        scheduleSnapshotService.getVersion(1L);
+
+        verify(version, times(2)).incrementAndGet();
+    }
+}
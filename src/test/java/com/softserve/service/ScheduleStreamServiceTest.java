@@ -0,0 +1,136 @@
+package com.softserve.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.dto.*;
+import com.softserve.entity.Room;
+import com.softserve.entity.RoomType;
+import com.softserve.entity.Schedule;
+import com.softserve.entity.Semester;
+import com.softserve.mapper.ConverterToSchedulesInRoom;
+import com.softserve.mapper.SemesterMapper;
+import com.softserve.service.impl.ScheduleStreamServiceImpl;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduleStreamServiceTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private ScheduleService scheduleService;
+    @Mock
+    private SemesterService semesterService;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private SemesterMapper semesterMapper;
+    @Mock
+    private ConverterToSchedulesInRoom converterToSchedulesInRoom;
+
+    @InjectMocks
+    private ScheduleStreamServiceImpl scheduleStreamService;
+
+    private ScheduleForGroupDTO createScheduleForGroup(Long groupId) {
+        ScheduleForGroupDTO scheduleForGroupDTO = new ScheduleForGroupDTO();
+        scheduleForGroupDTO.setGroup(new GroupDTO(groupId, false, "group " + groupId));
+        scheduleForGroupDTO.setDays(Collections.emptyList());
+        return scheduleForGroupDTO;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void writeFullScheduleForSemesterWritesTheSameJsonAsScheduleFullDTO() throws Exception {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        SemesterDTO semesterDTO = new SemesterDTO();
+        semesterDTO.setId(1L);
+        semesterDTO.setStartDay(LocalDate.of(2021, 9, 1));
+        List<ScheduleForGroupDTO> schedules = Arrays.asList(createScheduleForGroup(1L), createScheduleForGroup(2L));
+        when(semesterService.getById(1L)).thenReturn(semester);
+        when(semesterMapper.semesterToSemesterDTO(semester)).thenReturn(semesterDTO);
+        doAnswer(invocation -> {
+            schedules.forEach(invocation.<Consumer<ScheduleForGroupDTO>>getArgument(1));
+            return null;
+        }).when(scheduleService).forEachScheduleForGroupInSemester(eq(1L), any(Consumer.class));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scheduleStreamService.writeFullScheduleForSemester(1L, out);
+
+        ScheduleFullDTO expected = new ScheduleFullDTO();
+        expected.setSemester(semesterDTO);
+        expected.setSchedule(schedules);
+        assertThat(out.toString("UTF-8")).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void writeFullScheduleForSemesterWritesNothingWhileSchedulesAreBuilt() throws Exception {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        when(semesterService.getById(1L)).thenReturn(semester);
+        when(semesterMapper.semesterToSemesterDTO(semester)).thenReturn(new SemesterDTO());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> writtenWhileBuilding = new ArrayList<>();
+        doAnswer(invocation -> {
+            Consumer<ScheduleForGroupDTO> consumer = invocation.getArgument(1);
+            consumer.accept(createScheduleForGroup(1L));
+            writtenWhileBuilding.add(out.size());
+            consumer.accept(createScheduleForGroup(2L));
+            writtenWhileBuilding.add(out.size());
+            return null;
+        }).when(scheduleService).forEachScheduleForGroupInSemester(eq(1L), any(Consumer.class));
+
+        scheduleStreamService.writeFullScheduleForSemester(1L, out);
+
+        assertThat(writtenWhileBuilding).containsExactly(0, 0);
+        assertThat(out.toString("UTF-8")).contains("group 1", "group 2");
+    }
+
+    @Test
+    public void writeFullScheduleForRoomsWritesRoomsInOrder() throws Exception {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        Room usedRoom = new Room();
+        usedRoom.setId(1L);
+        usedRoom.setType(new RoomType());
+        Room emptyRoom = new Room();
+        emptyRoom.setId(2L);
+        emptyRoom.setType(new RoomType());
+        List<Schedule> schedules = Collections.singletonList(new Schedule());
+        Map<Room, List<Schedule>> roomSchedules = new LinkedHashMap<>();
+        roomSchedules.put(usedRoom, schedules);
+        ScheduleForRoomDTO usedRoomDTO = new ScheduleForRoomDTO();
+        usedRoomDTO.setRoomId(1L);
+        ScheduleForRoomDTO emptyRoomDTO = new ScheduleForRoomDTO();
+        emptyRoomDTO.setRoomId(2L);
+        when(semesterService.getById(1L)).thenReturn(semester);
+        when(roomService.getAllOrdered()).thenReturn(Arrays.asList(usedRoom, emptyRoom));
+        when(scheduleService.getAllOrdered(1L)).thenReturn(roomSchedules);
+        when(converterToSchedulesInRoom.getForRoom(usedRoom, semester, schedules)).thenReturn(usedRoomDTO);
+        when(converterToSchedulesInRoom.getForRoom(emptyRoom, semester, null)).thenReturn(emptyRoomDTO);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scheduleStreamService.writeFullScheduleForRooms(1L, out);
+
+        assertThat(out.toString("UTF-8"))
+                .isEqualTo(objectMapper.writeValueAsString(Arrays.asList(usedRoomDTO, emptyRoomDTO)));
+    }
+}
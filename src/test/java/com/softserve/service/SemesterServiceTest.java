@@ -8,12 +8,16 @@ import com.softserve.repository.GroupRepository;
 import com.softserve.repository.ScheduleRepository;
 import com.softserve.repository.SemesterRepository;
 import com.softserve.service.impl.SemesterServiceImpl;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -22,6 +26,7 @@ import java.util.*;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @Category(UnitTestCategory.class)
@@ -37,9 +42,29 @@ public class SemesterServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private LessonService lessonService;
+
     @InjectMocks
     private SemesterServiceImpl semesterService;
 
+    private final Map<String, Cache> caches = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        lenient().when(cacheManager.getCache(anyString()))
+                .thenAnswer(invocation -> caches.computeIfAbsent(invocation.getArgument(0), ConcurrentMapCache::new));
+    }
+
     @Test
     public void getSemesterById() {
         Semester semester = new Semester();
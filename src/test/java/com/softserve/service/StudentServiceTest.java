@@ -33,13 +33,13 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @Category(UnitTestCategory.class)
 @RunWith(JUnitParamsRunner.class)
@@ -268,111 +268,87 @@ public class StudentServiceTest {
         Group group = new Group();
         group.setId(10L);
         GroupDTO groupDTO = new GroupDTO();
-        group.setId(10L);
-
-        List<StudentImportDTO> expectedStudents = new ArrayList<>();
-
-        StudentImportDTO studentImportDTO1 = new StudentImportDTO();
-        studentImportDTO1.setName("Hanna");
-        studentImportDTO1.setSurname("Romaniuk");
-        studentImportDTO1.setPatronymic("Stepanivna");
-        studentImportDTO1.setEmail("romaniuk@gmail.com");
-
-        StudentImportDTO studentImportDTO1Mapped = new StudentImportDTO();
-        studentImportDTO1Mapped.setId(1L);
-        studentImportDTO1Mapped.setName("Hanna");
-        studentImportDTO1Mapped.setSurname("Romaniuk");
-        studentImportDTO1Mapped.setPatronymic("Stepanivna");
-        studentImportDTO1Mapped.setEmail("romaniuk@gmail.com");
-        studentImportDTO1Mapped.setGroupDTO(groupDTO);
-
-        StudentImportDTO studentImportDTO2 = new StudentImportDTO();
-        studentImportDTO2.setId(null);
-        studentImportDTO2.setName("Oleksandr");
-        studentImportDTO2.setSurname("Boichuk");
-        studentImportDTO2.setPatronymic("Ivanovych");
-        studentImportDTO2.setEmail("");
-        studentImportDTO2.setGroupDTO(null);
-        studentImportDTO2.setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
-
-        StudentImportDTO studentImportDTO3 = new StudentImportDTO();
-        studentImportDTO3.setName("Viktor");
-        studentImportDTO3.setSurname("Hanushchak");
-        studentImportDTO3.setPatronymic("Mykolaiovych");
-        studentImportDTO3.setEmail("hanushchak@bigmir.net");
-
-        StudentImportDTO studentImportDTO3Mapped = new StudentImportDTO();
-        studentImportDTO3Mapped.setId(1L);
-        studentImportDTO3Mapped.setName("Viktor");
-        studentImportDTO3Mapped.setSurname("Hanushchak");
-        studentImportDTO3Mapped.setPatronymic("Mykolaiovych");
-        studentImportDTO3Mapped.setEmail("hanushchak@bigmir.net");
-        studentImportDTO3Mapped.setGroupDTO(groupDTO);
-
-        expectedStudents.add(studentImportDTO1);
-        expectedStudents.add(studentImportDTO2);
-        expectedStudents.add(studentImportDTO3);
-
-        Student student1 = new Student();
-        student1.setName("Hanna");
-        student1.setSurname("Romaniuk");
-        student1.setPatronymic("Stepanivna");
-        StudentDTO studentDTO1 = new StudentDTO();
-        studentDTO1.setName("Hanna");
-        studentDTO1.setSurname("Romaniuk");
-        studentDTO1.setPatronymic("Stepanivna");
-        studentDTO1.setEmail("romaniuk@gmail.com");
-        Student student1registered = new Student();
-        student1registered.setName("Hanna");
-        student1registered.setSurname("Romaniuk");
-        student1registered.setPatronymic("Stepanivna");
-        student1registered.setUser(userWithId1L);
-        student1registered.setGroup(group);
-
-
-        Student student3 = new Student();
-        student3.setName("Viktor");
-        student3.setSurname("Hanushchak");
-        student3.setPatronymic("Mykolaiovych");
-        StudentDTO studentDTO3 = new StudentDTO();
-        studentDTO3.setName("Viktor");
-        studentDTO3.setSurname("Hanushchak");
-        studentDTO3.setPatronymic("Mykolaiovych");
-        studentDTO3.setEmail("hanushchak@bigmir.net");
-        Student student3registered = new Student();
-        student3registered.setName("Viktor");
-        student3registered.setSurname("Hanushchak");
-        student3registered.setPatronymic("Mykolaiovych");
-        student3registered.setUser(userWithId2L);
-        student3registered.setGroup(group);
-
-
-        when(studentMapper.studentImportDTOToStudent(studentImportDTO1)).thenReturn(student1);
-        when(studentMapper.studentImportDTOToStudent(studentImportDTO3)).thenReturn(student3);
-
-        when(studentMapper.studentDTOToStudent(studentDTO1)).thenReturn(student1);
-        when(userService.automaticRegistration(studentDTO1.getEmail(), Role.ROLE_STUDENT)).thenReturn(userWithId1L);
-        when(studentMapper.studentDTOToStudent(studentDTO3)).thenReturn(student3);
-        when(userService.automaticRegistration(studentDTO3.getEmail(), Role.ROLE_STUDENT)).thenReturn(userWithId2L);
-
-        when(studentService.save(studentDTO1)).thenReturn(student1);
-        when(studentService.save(studentDTO3)).thenReturn(student3);
+        groupDTO.setId(10L);
 
         when(groupService.getById(anyLong())).thenReturn(group);
         when(groupMapper.groupToGroupDTO(group)).thenReturn(groupDTO);
-
-        when(studentMapper.studentImportDTOToStudent(studentImportDTO1)).thenReturn(student1);
-        when(studentMapper.studentToStudentImportDTO(student1registered)).thenReturn(studentImportDTO1);
-        when(studentMapper.studentImportDTOToStudent(studentImportDTO3)).thenReturn(student3);
-        when(studentMapper.studentToStudentImportDTO(student3registered)).thenReturn(studentImportDTO3);
+        when(userService.getUsersByEmails(anyList())).thenReturn(singletonList(userWithId2L));
+        when(userService.automaticRegistration("romaniuk@gmail.com", Role.ROLE_STUDENT)).thenReturn(userWithId1L);
+        when(studentMapper.studentImportDTOToStudent(any(StudentImportDTO.class))).thenAnswer(invocation -> {
+            StudentImportDTO studentImportDTO = invocation.getArgument(0);
+            Student student = new Student();
+            student.setName(studentImportDTO.getName());
+            student.setSurname(studentImportDTO.getSurname());
+            student.setPatronymic(studentImportDTO.getPatronymic());
+            return student;
+        });
+        when(studentMapper.studentToStudentImportDTO(any(Student.class))).thenAnswer(invocation -> {
+            Student student = invocation.getArgument(0);
+            StudentImportDTO studentImportDTO = new StudentImportDTO();
+            studentImportDTO.setName(student.getName());
+            studentImportDTO.setSurname(student.getSurname());
+            studentImportDTO.setPatronymic(student.getPatronymic());
+            return studentImportDTO;
+        });
 
         List<StudentImportDTO> actualStudents = studentService.saveFromFile(multipartFile, 4L).getNow(new ArrayList<>());
+
         assertNotNull(actualStudents);
-        assertEquals(expectedStudents, actualStudents);
-        verify(studentRepository).save(student1);
-        verify(studentRepository).save(student3);
-        verify(studentRepository).getExistingStudent(student1);
-        verify(studentRepository).getExistingStudent(student3);
+        assertThat(actualStudents).extracting(StudentImportDTO::getSurname)
+                .containsExactly("Romaniuk", "Boichuk", "Hanushchak");
+        assertThat(actualStudents).extracting(StudentImportDTO::getImportSaveStatus)
+                .containsExactly(ImportSaveStatus.SAVED, ImportSaveStatus.VALIDATION_ERROR, ImportSaveStatus.SAVED);
+        assertThat(actualStudents.get(0).getGroupDTO()).isEqualTo(groupDTO);
+        assertThat(actualStudents.get(2).getEmail()).isEqualTo("hanushchak@bigmir.net");
+        verify(groupService).getById(4L);
+        verify(userService).getUsersByEmails(asList("romaniuk@gmail.com", "hanushchak@bigmir.net"));
+        verify(studentRepository).getStudentsBySurnames(asList("Romaniuk", "Boichuk", "Hanushchak"));
+        verify(studentRepository).getEmailsInUse(asList("romaniuk@gmail.com", "hanushchak@bigmir.net"));
+        verify(userService).automaticRegistration("romaniuk@gmail.com", Role.ROLE_STUDENT);
+        verify(studentRepository, times(2)).save(any(Student.class));
+    }
+
+    @Test
+    public void importStudentsFromFileReportsExistingStudentFoundInChunk() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("romaniuk@gmail.com");
+        user.setRole(Role.ROLE_STUDENT);
+
+        Group group = new Group();
+        group.setId(10L);
+
+        Student existing = new Student();
+        existing.setId(7L);
+        existing.setName("Hanna");
+        existing.setSurname("Romaniuk");
+        existing.setPatronymic("Stepanivna");
+        existing.setUser(user);
+        existing.setGroup(group);
+
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv",
+                ("\"surname\",\"name\",\"patronymic\",\"email\"\n"
+                        + "\"Romaniuk\",\"Hanna\",\"Stepanivna\",\"romaniuk@gmail.com\"\n").getBytes());
+
+        when(groupService.getById(anyLong())).thenReturn(group);
+        when(userService.getUsersByEmails(anyList())).thenReturn(singletonList(user));
+        when(studentRepository.getStudentsBySurnames(anyList())).thenReturn(singletonList(existing));
+        when(studentMapper.studentImportDTOToStudent(any(StudentImportDTO.class))).thenAnswer(invocation -> {
+            StudentImportDTO studentImportDTO = invocation.getArgument(0);
+            Student student = new Student();
+            student.setName(studentImportDTO.getName());
+            student.setSurname(studentImportDTO.getSurname());
+            student.setPatronymic(studentImportDTO.getPatronymic());
+            return student;
+        });
+        when(studentMapper.studentToStudentImportDTO(existing)).thenReturn(new StudentImportDTO());
+
+        List<StudentImportDTO> actualStudents = studentService.saveFromFile(file, 10L).getNow(new ArrayList<>());
+
+        assertThat(actualStudents).extracting(StudentImportDTO::getImportSaveStatus)
+                .containsExactly(ImportSaveStatus.ALREADY_EXIST);
+        verify(studentRepository, never()).save(any(Student.class));
+        verify(studentRepository, never()).findById(anyLong());
     }
 
     private Object[] parametersToTestImport() throws IOException {
@@ -30,6 +30,9 @@ public class SubjectServiceTest {
     @Mock
     SubjectRepository subjectRepository;
 
+    @Mock
+    ScheduleSnapshotService scheduleSnapshotService;
+
     @InjectMocks
     SubjectServiceImpl subjectService;
 
@@ -52,6 +52,9 @@ public class TeacherServiceTest {
     @Mock
     MailService mailService;
 
+    @Mock
+    ResourceVersionService resourceVersionService;
+
     @InjectMocks
     TeacherServiceImpl teacherService;
 
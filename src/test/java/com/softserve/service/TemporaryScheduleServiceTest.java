@@ -0,0 +1,115 @@
+package com.softserve.service;
+
+import com.softserve.entity.Semester;
+import com.softserve.entity.Subject;
+import com.softserve.entity.TemporarySchedule;
+import com.softserve.exception.EntityNotFoundException;
+import com.softserve.repository.TemporaryScheduleRepository;
+import com.softserve.service.impl.TemporaryScheduleServiceImpl;
+import com.softserve.util.temporary_notification.DeletePeriodVacationNotify;
+import com.softserve.util.temporary_notification.DeleteTeacherVacationNotify;
+import com.softserve.util.temporary_notification.DeleteVacationNotify;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class TemporaryScheduleServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2021, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2021, 9, 7);
+
+    @Mock
+    private TemporaryScheduleRepository temporaryScheduleRepository;
+    @Mock
+    private SemesterService semesterService;
+    @Mock
+    private GroupService groupService;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private PeriodService periodService;
+    @Mock
+    private SubjectService subjectService;
+    @Mock
+    private TeacherService teacherService;
+    @Mock
+    private ScheduleService scheduleService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private DeleteVacationNotify deleteVacationNotify;
+    @Mock
+    private DeleteTeacherVacationNotify deleteTeacherVacationNotify;
+    @Mock
+    private DeletePeriodVacationNotify deletePeriodVacationNotify;
+    @Mock
+    private ScheduleSnapshotService scheduleSnapshotService;
+
+    @InjectMocks
+    private TemporaryScheduleServiceImpl temporaryScheduleService;
+
+    private TemporarySchedule createTemporarySchedule(boolean vacation) {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        TemporarySchedule temporarySchedule = new TemporarySchedule();
+        temporarySchedule.setSemester(semester);
+        temporarySchedule.setVacation(vacation);
+        return temporarySchedule;
+    }
+
+    @Test
+    public void addRangeChecksEveryRuleOnceAndSavesDatesWithoutConflicts() {
+        TemporarySchedule vacation = createTemporarySchedule(true);
+        when(temporaryScheduleRepository.getDatesOfVacationByDateRange(FROM, TO, 1L, false))
+                .thenReturn(Collections.singletonList(FROM.plusDays(1)));
+        when(temporaryScheduleRepository.getDatesOfVacationByDateRange(FROM, TO, 1L, true))
+                .thenReturn(Arrays.asList(FROM.plusDays(1), FROM.plusDays(4)));
+
+        List<String> messages = temporaryScheduleService.addRange(FROM, TO, vacation);
+
+        assertThat(messages).containsExactly(
+                "2021-09-02 Please remove temporary schedule before add vacation",
+                "2021-09-05 Vacation with this date already exists");
+        ArgumentCaptor<TemporarySchedule> saved = ArgumentCaptor.forClass(TemporarySchedule.class);
+        verify(temporaryScheduleRepository, times(5)).save(saved.capture());
+        assertThat(saved.getAllValues().stream().map(TemporarySchedule::getDate).collect(Collectors.toList()))
+                .containsExactly(FROM, FROM.plusDays(2), FROM.plusDays(3), FROM.plusDays(5), TO);
+        verify(temporaryScheduleRepository).getDatesOfVacationByDateRange(FROM, TO, 1L, false);
+        verify(temporaryScheduleRepository).getDatesOfVacationByDateRange(FROM, TO, 1L, true);
+        verify(scheduleSnapshotService).bumpVersion(1L);
+    }
+
+    @Test
+    public void addRangeSkipsWholeRangeIfReferencedElementNotFound() {
+        TemporarySchedule temporarySchedule = createTemporarySchedule(false);
+        Subject subject = new Subject();
+        subject.setId(10L);
+        temporarySchedule.setSubject(subject);
+        when(subjectService.getById(anyLong())).thenThrow(new EntityNotFoundException(Subject.class, "id", "10"));
+
+        List<String> messages = temporaryScheduleService.addRange(FROM, TO, temporarySchedule);
+
+        assertThat(messages).hasSize(7);
+        verify(temporaryScheduleRepository).getDatesOfVacationByDateRange(FROM, TO, 1L, true);
+        verify(temporaryScheduleRepository).getDatesOfTemporarySchedule(temporarySchedule, FROM, TO);
+        verify(temporaryScheduleRepository, never()).save(any(TemporarySchedule.class));
+        verify(scheduleSnapshotService, never()).bumpVersion(anyLong());
+    }
+}
@@ -7,6 +7,7 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.exception.IncorrectEmailException;
 import com.softserve.exception.IncorrectPasswordException;
 import com.softserve.repository.UserRepository;
+import com.softserve.security.jwt.JwtPrincipalCache;
 import com.softserve.service.impl.MailServiceImpl;
 import com.softserve.service.impl.UserServiceImpl;
 import com.softserve.util.PasswordGeneratingUtil;
@@ -39,6 +40,12 @@ public class UserServiceTest {
     @Mock
     private MailServiceImpl mailService;
 
+    @Mock
+    private JwtPrincipalCache jwtPrincipalCache;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -115,6 +122,23 @@ public class UserServiceTest {
         verify(userRepository, times(1)).update(oldUser);
         verify(userRepository, times(1)).findById(anyLong());
         verify(userRepository, times(1)).findByEmail(oldUser.getEmail());
+        verify(jwtPrincipalCache).evict("oldEmail@mail.com");
+        verify(jwtPrincipalCache).evict("update@mail.com");
+        verify(resourceVersionService, never()).bumpVersion(anyString());
+    }
+
+    @Test
+    public void updateOfTeacherUserChangesVersionOfTeachers() {
+        User user = new User();
+        user.setEmail("teacher@mail.com");
+        user.setId(1L);
+        user.setRole(Role.ROLE_TEACHER);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.update(user)).thenReturn(user);
+
+        userService.update(user);
+
+        verify(resourceVersionService).bumpVersion(ResourceVersionService.TEACHERS);
     }
 
     @Test(expected = FieldAlreadyExistsException.class)
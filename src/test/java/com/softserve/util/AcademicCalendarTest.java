@@ -0,0 +1,68 @@
+package com.softserve.util;
+
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.service.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTestCategory.class)
+public class AcademicCalendarTest {
+
+    private static final LocalDate START_DAY = LocalDate.of(2021, 9, 1);
+    private static final LocalDate END_DAY = LocalDate.of(2021, 12, 31);
+
+    private final AcademicCalendar calendar = AcademicCalendar.of(START_DAY, END_DAY);
+
+    @Test
+    public void firstWeekOfSemesterIsOdd() {
+        assertThat(calendar.getWeekIndex(START_DAY)).isEqualTo(0);
+        assertThat(calendar.getWeekIndex(LocalDate.of(2021, 9, 5))).isEqualTo(0);
+        assertThat(calendar.getWeekIndex(LocalDate.of(2021, 9, 6))).isEqualTo(1);
+        assertThat(calendar.getEvenOdd(START_DAY)).isEqualTo(EvenOdd.ODD);
+        assertThat(calendar.getEvenOdd(LocalDate.of(2021, 9, 6))).isEqualTo(EvenOdd.EVEN);
+        assertThat(calendar.getWeekIndex(LocalDate.of(2021, 8, 29))).isEqualTo(-1);
+    }
+
+    @Test
+    public void parityMatchesDayCountingFormula() {
+        for (LocalDate date = START_DAY.minusWeeks(3); !date.isAfter(END_DAY.plusWeeks(3)); date = date.plusDays(1)) {
+            int countStartDate = START_DAY.getDayOfWeek().getValue();
+            int countEndDate = date.getDayOfWeek().getValue();
+            long countDays = ChronoUnit.DAYS.between(START_DAY.minusDays(countStartDate), date.plusDays(7 - countEndDate));
+            EvenOdd expected = (countDays / 7) % 2 != 0 ? EvenOdd.ODD : EvenOdd.EVEN;
+
+            assertThat(calendar.getEvenOdd(date)).as(date.toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void getDatesReturnsOnlyDatesOfSemesterWithSuitableParity() {
+        LocalDate from = LocalDate.of(2021, 8, 25);
+        LocalDate to = LocalDate.of(2021, 9, 30);
+
+        assertThat(calendar.getDates(from, to, DayOfWeek.MONDAY, EvenOdd.ODD))
+                .containsExactly(LocalDate.of(2021, 9, 13), LocalDate.of(2021, 9, 27));
+        assertThat(calendar.getDates(from, to, DayOfWeek.MONDAY, EvenOdd.EVEN))
+                .containsExactly(LocalDate.of(2021, 9, 6), LocalDate.of(2021, 9, 20));
+        assertThat(calendar.getDates(from, to, DayOfWeek.WEDNESDAY, EvenOdd.WEEKLY))
+                .containsExactly(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 8), LocalDate.of(2021, 9, 15),
+                        LocalDate.of(2021, 9, 22), LocalDate.of(2021, 9, 29));
+        assertThat(calendar.getDates(END_DAY.plusDays(1), END_DAY.plusWeeks(2), DayOfWeek.MONDAY, EvenOdd.WEEKLY)).isEmpty();
+    }
+
+    @Test
+    public void isScheduledChecksSemesterRangeAndParity() {
+        assertThat(calendar.isScheduled(LocalDate.of(2021, 9, 13), EvenOdd.ODD)).isTrue();
+        assertThat(calendar.isScheduled(LocalDate.of(2021, 9, 13), EvenOdd.EVEN)).isFalse();
+        assertThat(calendar.isScheduled(LocalDate.of(2021, 9, 13), EvenOdd.WEEKLY)).isTrue();
+        assertThat(calendar.isScheduled(LocalDate.of(2021, 8, 30), EvenOdd.ODD)).isFalse();
+        assertThat(calendar.isInSemester(END_DAY)).isTrue();
+        assertThat(calendar.isInSemester(END_DAY.plusDays(1))).isFalse();
+    }
+}
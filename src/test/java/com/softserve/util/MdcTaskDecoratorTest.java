@@ -0,0 +1,45 @@
+package com.softserve.util;
+
+import com.softserve.service.UnitTestCategory;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTestCategory.class)
+public class MdcTaskDecoratorTest {
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+
+    @After
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    public void decoratedTaskSeesContextOfSubmittingThread() throws InterruptedException {
+        MDC.put("user", "manager@mail.com");
+        AtomicReference<String> user = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> user.set(MDC.get("user")));
+
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        assertThat(user.get()).isEqualTo("manager@mail.com");
+    }
+
+    @Test
+    public void contextOfRunningThreadIsRestoredAfterTask() {
+        Runnable task = decorator.decorate(() -> assertThat(MDC.get("user")).isNull());
+        MDC.put("user", "worker");
+
+        task.run();
+
+        assertThat(MDC.get("user")).isEqualTo("worker");
+    }
+}
@@ -0,0 +1,21 @@
+package com.softserve.util;
+
+import com.itextpdf.text.DocumentException;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PdfFontPoolTest {
+
+    @Test
+    public void getInstanceLoadsFontsOnlyOnce() throws DocumentException, IOException {
+        PdfFontPool first = PdfFontPool.getInstance();
+        PdfFontPool second = PdfFontPool.getInstance();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getCellFont().getBaseFont()).isSameAs(first.getBaseFont());
+        assertThat(second.getTitleFont().getBaseFont()).isSameAs(first.getBaseFont());
+    }
+}
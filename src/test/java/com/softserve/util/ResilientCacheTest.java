@@ -0,0 +1,111 @@
+package com.softserve.util;
+
+import com.softserve.service.UnitTestCategory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ResilientCacheTest {
+
+    private static final long OPEN_DURATION = 30_000;
+
+    @Mock
+    private Cache remote;
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+    private ResilientCache cache;
+
+    @Before
+    public void setUp() {
+        lenient().when(remote.getName()).thenReturn("lessons");
+        circuitBreaker = new CircuitBreaker("redis", 3, OPEN_DURATION, now::get);
+        cache = new ResilientCache(remote, circuitBreaker, new CircuitBreakerCacheErrorHandler(circuitBreaker));
+    }
+
+    private void openCircuit() {
+        when(remote.get(1L)).thenThrow(new IllegalStateException("Redis is down"));
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(1L)).isNull();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void repeatedFailuresOpenCircuitAndRemoteCacheIsBypassed() {
+        openCircuit();
+
+        assertThat(cache.get(1L)).isNull();
+        cache.put(2L, "value");
+
+        verify(remote, times(3)).get(1L);
+        verify(remote, never()).put(any(), any());
+        assertThat(circuitBreaker.getStats().getBypassedCalls()).isEqualTo(2);
+        assertThat(circuitBreaker.getStats().getTimesOpened()).isEqualTo(1);
+    }
+
+    @Test
+    public void valueIsLoadedWithoutRemoteCacheWhileCircuitIsOpen() {
+        openCircuit();
+
+        assertThat(cache.get(2L, () -> "loaded")).isEqualTo("loaded");
+
+        verify(remote, never()).get(eq(2L), any(Callable.class));
+    }
+
+    @Test
+    public void successfulTrialClosesCircuitAndClearsCacheWhichMissedChanges() {
+        openCircuit();
+        cache.evict(2L);
+        now.addAndGet(OPEN_DURATION);
+        when(remote.get(3L)).thenReturn(null);
+
+        assertThat(cache.get(3L)).isNull();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(remote, never()).evictIfPresent(2L);
+        verify(remote).clear();
+    }
+
+    @Test
+    public void failedTrialOpensCircuitAgain() {
+        openCircuit();
+        now.addAndGet(OPEN_DURATION);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getStats().getTimesOpened()).isEqualTo(2);
+        verify(remote, times(4)).get(1L);
+    }
+
+    @Test
+    public void failureOfLoaderIsNotFailureOfCache() {
+        ResilientCache workingCache = new ResilientCache(new ConcurrentMapCache("lessons"), circuitBreaker,
+                new CircuitBreakerCacheErrorHandler(circuitBreaker));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> workingCache.get(1L, () -> {
+                throw new IllegalArgumentException("Not found");
+            })).isInstanceOf(Cache.ValueRetrievalException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getStats().getFailures()).isZero();
+    }
+}
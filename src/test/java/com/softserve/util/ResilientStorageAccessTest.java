@@ -0,0 +1,83 @@
+package com.softserve.util;
+
+import com.softserve.service.UnitTestCategory;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class ResilientStorageAccessTest {
+
+    private static final long OPEN_DURATION = 30_000;
+
+    @Mock
+    private StorageAccess storage;
+
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+    private ResilientStorageAccess storageAccess;
+
+    @Before
+    public void setUp() {
+        circuitBreaker = new CircuitBreaker("redis", 3, OPEN_DURATION, now::get);
+        storageAccess = new ResilientStorageAccess("hibernate.com.softserve.entity.Room", storage, circuitBreaker);
+    }
+
+    private void openCircuit() {
+        when(storage.getFromCache(1L, null)).thenThrow(new IllegalStateException("Redis is down"));
+        for (int i = 0; i < 3; i++) {
+            assertThat(storageAccess.getFromCache(1L, null)).isNull();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void failedReadsAreMissesAndOpenCircuit() {
+        openCircuit();
+
+        assertThat(storageAccess.getFromCache(1L, null)).isNull();
+        assertThat(storageAccess.contains(1L)).isFalse();
+        storageAccess.putIntoCache(2L, "room", null);
+
+        verify(storage, times(3)).getFromCache(1L, null);
+        verify(storage, never()).contains(any());
+        verify(storage, never()).putIntoCache(any(), any(), any());
+    }
+
+    @Test
+    public void regionWhichMissedChangesIsClearedWhenCircuitIsClosed() {
+        openCircuit();
+        storageAccess.removeFromCache(2L, null);
+        now.addAndGet(OPEN_DURATION);
+        when(storage.getFromCache(3L, null)).thenReturn("room");
+
+        assertThat(storageAccess.getFromCache(3L, null)).isEqualTo("room");
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(storage, never()).removeFromCache(any(), any());
+        verify(storage).evictData();
+    }
+
+    @Test
+    public void missedPutAfterLoadDoesNotClearRegion() {
+        openCircuit();
+        storageAccess.putFromLoad(2L, "room", null);
+        now.addAndGet(OPEN_DURATION);
+        when(storage.getFromCache(3L, null)).thenReturn(null);
+
+        storageAccess.getFromCache(3L, null);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(storage, never()).evictData();
+    }
+}
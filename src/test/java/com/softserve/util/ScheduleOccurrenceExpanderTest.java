@@ -0,0 +1,102 @@
+package com.softserve.util;
+
+import com.softserve.entity.*;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.service.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTestCategory.class)
+public class ScheduleOccurrenceExpanderTest {
+
+    private static final LocalDate FROM = LocalDate.of(2021, 9, 1);
+    private static final LocalDate TO = LocalDate.of(2021, 9, 15);
+
+    private final Semester semester = createSemester();
+    private final Teacher teacher = createTeacher();
+
+    private Semester createSemester() {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        semester.setStartDay(LocalDate.of(2021, 9, 1));
+        semester.setEndDay(LocalDate.of(2021, 12, 31));
+        return semester;
+    }
+
+    private Teacher createTeacher() {
+        Teacher teacher = new Teacher();
+        teacher.setId(1L);
+        return teacher;
+    }
+
+    private Schedule createSchedule(Long id, DayOfWeek dayOfWeek, EvenOdd evenOdd, String periodName) {
+        Period period = new Period();
+        period.setId(id);
+        period.setName(periodName);
+        Lesson lesson = new Lesson();
+        lesson.setSemester(semester);
+        lesson.setTeacher(teacher);
+        Schedule schedule = new Schedule();
+        schedule.setId(id);
+        schedule.setDayOfWeek(dayOfWeek);
+        schedule.setEvenOdd(evenOdd);
+        schedule.setPeriod(period);
+        schedule.setLesson(lesson);
+        return schedule;
+    }
+
+    private TemporarySchedule createTemporarySchedule(Long id, Long scheduleId, LocalDate date, boolean vacation) {
+        TemporarySchedule temporarySchedule = new TemporarySchedule();
+        temporarySchedule.setId(id);
+        temporarySchedule.setScheduleId(scheduleId);
+        temporarySchedule.setSemester(semester);
+        temporarySchedule.setDate(date);
+        temporarySchedule.setVacation(vacation);
+        return temporarySchedule;
+    }
+
+    @Test
+    public void expandGivesLessonsOfDatesOrderedByDateAndPeriod() {
+        Schedule evenMonday = createSchedule(1L, DayOfWeek.MONDAY, EvenOdd.EVEN, "2 pair");
+        Schedule weeklyWednesdaySecond = createSchedule(2L, DayOfWeek.WEDNESDAY, EvenOdd.WEEKLY, "2 pair");
+        Schedule weeklyWednesdayFirst = createSchedule(3L, DayOfWeek.WEDNESDAY, EvenOdd.WEEKLY, "1 pair");
+
+        Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> result = ScheduleOccurrenceExpander
+                .of(Collections.emptyList(), Collections.emptyList())
+                .expand(Arrays.asList(evenMonday, weeklyWednesdaySecond, weeklyWednesdayFirst), FROM, TO);
+
+        assertThat(result.keySet()).containsExactly(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 6),
+                LocalDate.of(2021, 9, 8), LocalDate.of(2021, 9, 15));
+        assertThat(result.get(LocalDate.of(2021, 9, 1)).keySet())
+                .containsExactly(weeklyWednesdayFirst.getPeriod(), weeklyWednesdaySecond.getPeriod());
+        assertThat(result.get(LocalDate.of(2021, 9, 6)).get(evenMonday.getPeriod())).containsOnlyKeys(evenMonday);
+        assertThat(result.get(LocalDate.of(2021, 9, 6)).get(evenMonday.getPeriod()).get(evenMonday).getId()).isNull();
+    }
+
+    @Test
+    public void expandAppliesTemporarySchedulesAndVacations() {
+        Schedule weeklyWednesday = createSchedule(2L, DayOfWeek.WEDNESDAY, EvenOdd.WEEKLY, "1 pair");
+        TemporarySchedule replacement = createTemporarySchedule(10L, 2L, LocalDate.of(2021, 9, 8), false);
+        TemporarySchedule dayOff = createTemporarySchedule(11L, null, LocalDate.of(2021, 9, 15), true);
+
+        Map<LocalDate, Map<Period, Map<Schedule, TemporarySchedule>>> result = ScheduleOccurrenceExpander
+                .of(Collections.singletonList(replacement), Collections.singletonList(dayOff))
+                .expand(Collections.singletonList(weeklyWednesday), FROM, TO);
+
+        assertThat(result.get(LocalDate.of(2021, 9, 1)).get(weeklyWednesday.getPeriod()).get(weeklyWednesday).getId()).isNull();
+        assertThat(result.get(LocalDate.of(2021, 9, 8)).get(weeklyWednesday.getPeriod()).get(weeklyWednesday)).isSameAs(replacement);
+        assertThat(result.get(LocalDate.of(2021, 9, 15)).get(weeklyWednesday.getPeriod()).get(weeklyWednesday)).isSameAs(dayOff);
+    }
+
+    @Test
+    public void expandOfEmptySchedulesIsEmpty() {
+        assertThat(ScheduleOccurrenceExpander.of(Collections.emptyList(), Collections.emptyList())
+                .expand(Collections.emptyList(), FROM, TO)).isEmpty();
+    }
+}
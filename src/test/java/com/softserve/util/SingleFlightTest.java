@@ -0,0 +1,101 @@
+package com.softserve.util;
+
+import com.softserve.service.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Category(UnitTestCategory.class)
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    private void awaitCoalescedCalls(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getCoalescedCalls() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.getCoalescedCalls()).isEqualTo(count);
+    }
+
+    @Test
+    public void concurrentCallsWithSameKeyShareOneComputation() throws Exception {
+        int callers = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("semester:1", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "schedule";
+            })));
+            started.await();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("semester:1", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            awaitCoalescedCalls(callers - 1);
+            assertThat(singleFlight.isInFlight("semester:1")).isTrue();
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("schedule");
+            }
+            assertThat(computations.get()).isEqualTo(1);
+            assertThat(singleFlight.isInFlight("semester:1")).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failureIsThrownToAllCallersOfFlightAndNextCallComputesAgain() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("teacher:1", () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Database is not available");
+            }));
+            started.await();
+            Future<String> follower = executor.submit(() -> singleFlight.execute("teacher:1", () -> "other"));
+            awaitCoalescedCalls(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(singleFlight.execute("teacher:1", () -> "rebuilt")).isEqualTo("rebuilt");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void callsWithDifferentKeysAreNotCoalesced() {
+        assertThat(singleFlight.execute("group:1", () -> singleFlight.execute("group:2", () -> "nested"))).isEqualTo("nested");
+        assertThat(singleFlight.getCoalescedCalls()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package com.softserve.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.softserve.dto.snapshot.LessonSnapshot;
+import com.softserve.dto.snapshot.SemesterSnapshot;
+import com.softserve.entity.*;
+import com.softserve.entity.enums.LessonType;
+import com.softserve.service.UnitTestCategory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.codec.MarshallingCodec;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTestCategory.class)
+public class SnapshotCacheManagerTest {
+
+    private static final TypeReference<List<LessonSnapshot>> LESSONS = new TypeReference<List<LessonSnapshot>>() {
+    };
+
+    private Semester createSemester(int groups) {
+        Semester semester = new Semester();
+        semester.setId(4L);
+        semester.setDescription("1 semester");
+        semester.setYear(2021);
+        semester.setStartDay(LocalDate.of(2021, 9, 1));
+        semester.setEndDay(LocalDate.of(2021, 12, 31));
+        semester.setCurrentSemester(true);
+        semester.setDaysOfWeek(new LinkedHashSet<>(Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY)));
+        Set<Period> periods = new LinkedHashSet<>();
+        for (long i = 1; i <= 6; i++) {
+            periods.add(new Period(i, LocalTime.of(7 + (int) i, 0), LocalTime.of(8 + (int) i, 20), i + " pair"));
+        }
+        semester.setPeriods(periods);
+        Set<Group> semesterGroups = new LinkedHashSet<>();
+        for (long i = 1; i <= groups; i++) {
+            semesterGroups.add(Group.builder().id(i).title("Group " + i).sortingOrder((int) i).build());
+        }
+        semester.setGroups(semesterGroups);
+        return semester;
+    }
+
+    private List<Lesson> createLessons(Semester semester, int count) {
+        Department department = new Department(1L, "Department", false);
+        List<Group> groups = new ArrayList<>(semester.getGroups());
+        List<Lesson> lessons = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId(i % 40);
+            teacher.setName("Name");
+            teacher.setSurname("Surname " + i % 40);
+            teacher.setPatronymic("Patronymic");
+            teacher.setPosition("docent");
+            teacher.setDepartment(department);
+            Subject subject = new Subject();
+            subject.setId(i % 60);
+            subject.setName("Subject " + i % 60);
+            Lesson lesson = new Lesson();
+            lesson.setId(i);
+            lesson.setHours(2);
+            lesson.setSubjectForSite(subject.getName());
+            lesson.setLinkToMeeting("https://meet.example.com/" + i);
+            lesson.setLessonType(LessonType.LECTURE);
+            lesson.setTeacher(teacher);
+            lesson.setSubject(subject);
+            lesson.setGroup(groups.get((int) (i % groups.size())));
+            lesson.setSemester(semester);
+            lessons.add(lesson);
+        }
+        return lessons;
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws IOException {
+        ByteBuf buf = codec.getMapValueEncoder().encode(value);
+        try {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static Object decode(Codec codec, byte[] bytes) throws IOException {
+        ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+        try {
+            return codec.getMapValueDecoder().decode(buf, new State());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void semesterIsRestoredFromCodedSnapshot() throws IOException {
+        Semester semester = createSemester(3);
+        Codec codec = SnapshotCacheManager.codec(new TypeReference<SemesterSnapshot>() {
+        });
+
+        SemesterSnapshot snapshot = (SemesterSnapshot) decode(codec, encode(codec, SemesterSnapshot.of(semester)));
+        Semester restored = snapshot.toSemester();
+
+        assertThat(snapshot).isEqualTo(SemesterSnapshot.of(semester));
+        assertThat(restored).isNotSameAs(semester);
+        assertThat(restored.getStartDay()).isEqualTo(semester.getStartDay());
+        assertThat(restored.getDaysOfWeek()).containsExactlyElementsOf(semester.getDaysOfWeek());
+        assertThat(restored.getPeriods()).extracting(Period::getStartTime)
+                .containsExactlyElementsOf(semester.getPeriods().stream().map(Period::getStartTime)::iterator);
+        assertThat(restored.getGroups()).extracting(Group::getTitle).containsExactly("Group 1", "Group 2", "Group 3");
+    }
+
+    @Test
+    public void lessonsAreRestoredWithResolvedSemester() throws IOException {
+        Semester semester = createSemester(2);
+        List<Lesson> lessons = createLessons(semester, 3);
+        Codec codec = SnapshotCacheManager.codec(LESSONS);
+
+        @SuppressWarnings("unchecked")
+        List<LessonSnapshot> snapshots = (List<LessonSnapshot>) decode(codec, encode(codec, LessonSnapshot.of(lessons)));
+        List<Lesson> restored = LessonSnapshot.toLessons(snapshots, id -> semester);
+
+        assertThat(snapshots).isEqualTo(LessonSnapshot.of(lessons));
+        assertThat(restored).extracting(Lesson::getId).containsExactly(0L, 1L, 2L);
+        assertThat(restored.get(1).getTeacher().getDepartment().getName()).isEqualTo("Department");
+        assertThat(restored.get(1).getGroup().getTitle()).isEqualTo("Group 2");
+        assertThat(restored.get(2).getSubject().getName()).isEqualTo("Subject 2");
+        assertThat(restored.get(0).getSemester()).isSameAs(semester);
+    }
+
+    //the snapshots of a semester of lessons are smaller than the entities serialized by the default codec of redisson
+    @Test
+    public void snapshotsAreSmallerThanSerializedEntities() throws IOException {
+        Semester semester = createSemester(100);
+        List<Lesson> lessons = createLessons(semester, 2000);
+
+        byte[] entityBytes = encode(new MarshallingCodec(), lessons);
+        byte[] snapshotBytes = encode(SnapshotCacheManager.codec(LESSONS), LessonSnapshot.of(lessons));
+
+        assertThat(snapshotBytes.length).isLessThan(entityBytes.length);
+    }
+}
@@ -0,0 +1,116 @@
+package com.softserve.util;
+
+import com.softserve.entity.*;
+import com.softserve.service.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(UnitTestCategory.class)
+public class TemporaryScheduleOverlayTest {
+
+    private static final LocalDate DATE = LocalDate.of(2021, 9, 6);
+
+    private TemporarySchedule createTemporarySchedule(Long id, Long scheduleId, Long groupId, Long periodId,
+                                                      Long teacherId, LocalDate date, boolean vacation) {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        TemporarySchedule temporarySchedule = new TemporarySchedule();
+        temporarySchedule.setId(id);
+        temporarySchedule.setScheduleId(scheduleId);
+        temporarySchedule.setSemester(semester);
+        temporarySchedule.setDate(date);
+        temporarySchedule.setVacation(vacation);
+        if (groupId != null) {
+            Group group = new Group();
+            group.setId(groupId);
+            temporarySchedule.setGroup(group);
+        }
+        if (periodId != null) {
+            Period period = new Period();
+            period.setId(periodId);
+            temporarySchedule.setPeriod(period);
+        }
+        if (teacherId != null) {
+            Teacher teacher = new Teacher();
+            teacher.setId(teacherId);
+            temporarySchedule.setTeacher(teacher);
+        }
+        return temporarySchedule;
+    }
+
+    @Test
+    public void findByScheduleComparesIdsByValue() {
+        TemporaryScheduleOverlay overlay = TemporaryScheduleOverlay.of(Collections.singletonList(
+                createTemporarySchedule(1L, 1000L, 1L, 1L, 1L, DATE, false)));
+
+        assertThat(overlay.findBySchedule(1L, Long.valueOf(1000L), DATE)).map(TemporarySchedule::getId).hasValue(1L);
+        assertThat(overlay.findBySchedule(1L, 1000L, DATE.plusDays(1))).isEmpty();
+        assertThat(overlay.findBySchedule(2L, 1000L, DATE)).isEmpty();
+    }
+
+    @Test
+    public void firstMatchingTemporaryScheduleWins() {
+        TemporaryScheduleOverlay overlay = TemporaryScheduleOverlay.of(Arrays.asList(
+                createTemporarySchedule(1L, 10L, 1L, 200L, 1L, DATE, false),
+                createTemporarySchedule(2L, 11L, 1L, 200L, 1L, DATE, false),
+                createTemporarySchedule(3L, 12L, 1L, 200L, 1L, DATE, true)));
+
+        assertThat(overlay.findByGroupAndPeriod(1L, 200L, false)).map(TemporarySchedule::getId).hasValue(1L);
+        assertThat(overlay.findByGroupAndPeriod(1L, 200L, true)).map(TemporarySchedule::getId).hasValue(3L);
+        assertThat(overlay.findByGroupAndPeriod(2L, 200L, false)).isEmpty();
+    }
+
+    @Test
+    public void vacationsWithoutScheduleAreFoundByTeacherAndSemester() {
+        TemporaryScheduleOverlay overlay = TemporaryScheduleOverlay.of(Arrays.asList(
+                createTemporarySchedule(1L, null, null, null, 500L, DATE, true),
+                createTemporarySchedule(2L, null, null, null, null, DATE.plusDays(1), true)));
+
+        assertThat(overlay.findTeacherVacation(500L)).map(TemporarySchedule::getId).hasValue(1L);
+        assertThat(overlay.findByTeacherAndDate(1L, 500L, DATE)).map(TemporarySchedule::getId).hasValue(1L);
+        assertThat(overlay.findByTeacherAndDate(1L, 500L, DATE.plusDays(1))).isEmpty();
+        assertThat(overlay.findSemesterVacation()).map(TemporarySchedule::getId).hasValue(1L);
+        assertThat(overlay.findBySemesterAndDate(1L, DATE.plusDays(1))).map(TemporarySchedule::getId).hasValue(2L);
+        assertThat(overlay.findTeacherVacation(501L)).isEmpty();
+    }
+
+    @Test
+    public void emptyOverlayFindsNothing() {
+        TemporaryScheduleOverlay overlay = TemporaryScheduleOverlay.of(Collections.emptyList());
+
+        assertThat(overlay.findBySchedule(1L, 1L, DATE)).isEmpty();
+        assertThat(overlay.findSemesterVacation()).isEmpty();
+    }
+
+    //the index finds the same temporary schedules as the linear scan it replaced on a semester sized set of them
+    @Test
+    public void indexedLookupFindsSameSchedulesAsLinearScan() {
+        int count = 5000;
+        List<TemporarySchedule> temporarySchedules = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            temporarySchedules.add(createTemporarySchedule(i, i, i % 100, i % 7, i % 50, DATE.plusDays(i % 120), i % 10 == 0));
+        }
+
+        List<TemporarySchedule> scanned = new ArrayList<>();
+        for (TemporarySchedule cell : temporarySchedules) {
+            scanned.add(temporarySchedules.stream()
+                    .filter(t -> t.getScheduleId().equals(cell.getScheduleId())
+                            && t.getSemester().getId().equals(cell.getSemester().getId())
+                            && t.getDate().equals(cell.getDate()))
+                    .findFirst().orElse(null));
+        }
+
+        TemporaryScheduleOverlay overlay = TemporaryScheduleOverlay.of(temporarySchedules);
+        List<TemporarySchedule> indexed = new ArrayList<>();
+        for (TemporarySchedule cell : temporarySchedules) {
+            indexed.add(overlay.findBySchedule(cell.getSemester().getId(), cell.getScheduleId(), cell.getDate()).orElse(null));
+        }
+
+        assertThat(indexed).isEqualTo(scanned);
+    }
+}
@@ -0,0 +1,122 @@
+package com.softserve.util;
+
+import com.softserve.service.UnitTestCategory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Category(UnitTestCategory.class)
+@RunWith(MockitoJUnitRunner.class)
+public class TwoTierCacheManagerTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RTopic topic;
+
+    private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("lessons", "semesterList");
+    private TwoTierCacheManager cacheManager;
+    private MessageListener<TwoTierCacheManager.CacheInvalidation> invalidationListener;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        cacheManager = new TwoTierCacheManager(remote, redissonClient,
+                Map.of("lessons", new TwoTierCacheManager.LocalCacheConfig(2, 60_000)));
+        ArgumentCaptor<MessageListener<TwoTierCacheManager.CacheInvalidation>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(TwoTierCacheManager.CacheInvalidation.class), listener.capture());
+        invalidationListener = listener.getValue();
+    }
+
+    @Test
+    public void cachesWithoutLocalConfigAreReturnedAsTheyAre() {
+        assertThat(cacheManager.getCache("semesterList")).isSameAs(remote.getCache("semesterList"));
+        assertThat(cacheManager.getCache("lessons")).isInstanceOf(TwoTierCache.class);
+    }
+
+    @Test
+    public void valuesAreReadFromLocalLevelAfterFirstRead() {
+        Cache cache = cacheManager.getCache("lessons");
+        ConcurrentMapCache remoteCache = (ConcurrentMapCache) remote.getCache("lessons");
+        remoteCache.put(1L, "first");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("first");
+        //the value changed behind the manager is not seen until the local copy is invalidated
+        remoteCache.put(1L, "second");
+        assertThat(cache.get(1L, String.class)).isEqualTo("first");
+        assertThat(cache.get(2L, () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get(2L, () -> "loaded again")).isEqualTo("loaded");
+    }
+
+    @Test
+    public void changesAreWrittenToRemoteCacheAndBroadcast() {
+        Cache cache = cacheManager.getCache("lessons");
+        cache.get(1L, () -> "first");
+
+        cache.put(1L, "second");
+        cache.evict(2L);
+        cache.clear();
+
+        assertThat(remote.getCache("lessons").get(1L)).isNull();
+        verify(topic, times(3)).publish(any(TwoTierCacheManager.CacheInvalidation.class));
+    }
+
+    @Test
+    public void successfulPutIfAbsentIsBroadcast() {
+        Cache cache = cacheManager.getCache("lessons");
+
+        assertThat(cache.putIfAbsent(1L, "first")).isNull();
+        assertThat(cache.putIfAbsent(1L, "second").get()).isEqualTo("first");
+
+        assertThat(remote.getCache("lessons").get(1L, String.class)).isEqualTo("first");
+        verify(topic, times(1)).publish(any(TwoTierCacheManager.CacheInvalidation.class));
+    }
+
+    @Test
+    public void invalidationFromAnotherNodeDropsLocalCopy() {
+        Cache cache = cacheManager.getCache("lessons");
+        ArgumentCaptor<TwoTierCacheManager.CacheInvalidation> published = ArgumentCaptor.forClass(TwoTierCacheManager.CacheInvalidation.class);
+        TwoTierCacheManager otherNode = new TwoTierCacheManager(remote, redissonClient,
+                Map.of("lessons", new TwoTierCacheManager.LocalCacheConfig(2, 60_000)));
+        cache.get(1L, () -> "first");
+
+        otherNode.getCache("lessons").put(1L, "second");
+        verify(topic).publish(published.capture());
+        invalidationListener.onMessage("cache:invalidation", published.getValue());
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("second");
+    }
+
+    @Test
+    public void ownInvalidationsAreIgnored() {
+        Cache cache = cacheManager.getCache("lessons");
+        ArgumentCaptor<TwoTierCacheManager.CacheInvalidation> published = ArgumentCaptor.forClass(TwoTierCacheManager.CacheInvalidation.class);
+        cache.evict(1L);
+        verify(topic).publish(published.capture());
+        cache.get(1L, () -> "first");
+        remote.getCache("lessons").put(1L, "second");
+
+        invalidationListener.onMessage("cache:invalidation", published.getValue());
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("first");
+    }
+}